@@ -4,8 +4,11 @@ import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
 import com.csse3200.game.files.UserSettings;
+import com.csse3200.game.logging.GameEventLog;
 import com.csse3200.game.screens.*;
 import com.csse3200.game.screens.HelpScreen.*;
+import com.csse3200.game.services.AssetCache;
+import com.csse3200.game.services.ProfilerService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,10 +21,19 @@ import static com.badlogic.gdx.Gdx.app;
  */
 public class GdxGame extends Game {
   private static final Logger logger = LoggerFactory.getLogger(GdxGame.class);
+  /** Time in milliseconds spent preloading the next level each frame, kept short so menus stay smooth */
+  private static final int PRELOAD_BUDGET_MS = 4;
   public int currentLevel = 0;
+  private AssetCache assetCache;
+  private LevelPreloader levelPreloader;
+  private final ProfilerService profiler = new ProfilerService();
+
   @Override
   public void create() {
     logger.info("Creating game");
+    GameEventLog.installCrashHandler();
+    assetCache = new AssetCache();
+    levelPreloader = new LevelPreloader(assetCache);
     loadSettings();
 
     // Sets background to light yellow
@@ -50,12 +62,54 @@ public class GdxGame extends Game {
       currentScreen.dispose();
     }
     setScreen(newScreen(screenType));
+    // Only now, so assets the old and new screens share aren't unloaded and loaded again
+    assetCache.unloadUnused();
+    logger.debug(
+        "Asset cache: {} loads, {} hits", assetCache.getLoadCount(), assetCache.getHitCount());
+  }
+
+  @Override
+  public void render() {
+    profiler.begin(ProfilerService.ASSETS);
+    levelPreloader.update(PRELOAD_BUDGET_MS);
+    profiler.end(ProfilerService.ASSETS);
+    super.render();
+    profiler.endFrame();
+  }
+
+  /**
+   * Get the profiler shared between screens. Screens register it with the service locator so their
+   * subsystems are timed, see {@link ProfilerService}.
+   * @return profiler
+   */
+  public ProfilerService getProfiler() {
+    return profiler;
+  }
+
+  /**
+   * Get the asset cache shared between screens, see {@link AssetCache}.
+   * @return asset cache
+   */
+  public AssetCache getAssetCache() {
+    return assetCache;
+  }
+
+  /**
+   * Get the preloader which gets the next level ready while the menus are showing, see
+   * {@link LevelPreloader}.
+   * @return level preloader
+   */
+  public LevelPreloader getLevelPreloader() {
+    return levelPreloader;
   }
 
   @Override
   public void dispose() {
     logger.debug("Disposing of current screen");
     getScreen().dispose();
+    levelPreloader.dispose();
+    GameEventLog.flushNow();
+    assetCache.dispose();
   }
 
   /**
@@ -1,6 +1,10 @@
 package com.csse3200.game.ai.tasks;
 
 import com.csse3200.game.components.Component;
+import com.csse3200.game.events.EventKey;
+import com.csse3200.game.logging.LogGate;
+import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -11,15 +15,31 @@ import java.util.*;
  * highest priority task each frame. Tasks can be made up of smaller sub-tasks. A negative priority
  * indicates that the task should not be run.
  *
+ * <p>Task priorities are cached. A task is only asked for its priority again once its
+ * {@link PriorityTask#getPriorityInterval() priority interval} has passed (every frame by default),
+ * or when the cache is invalidated. The cache is invalidated when the entity's health changes, when
+ * the running task finishes or fails, and when the {@link #INVALIDATE_PRIORITY} event is triggered.
+ *
  * <p>This is a simple implementation of Goal-Oriented Action Planning (GOAP), a common AI decision
  * algorithm in games that's more powerful than Finite State Machines (FSMs) (State pattern).
  */
 public class AITaskComponent extends Component implements TaskRunner {
   private static final Logger logger = LoggerFactory.getLogger(AITaskComponent.class);
+  /** Trigger this event on the entity to have every task's priority re-evaluated next update */
+  public static final String INVALIDATE_PRIORITY = "invalidatePriority";
+  private static final int INVALIDATE_PRIORITY_EVENT = EventKey.intern(INVALIDATE_PRIORITY);
+  private static final int UPDATE_HEALTH_EVENT = EventKey.intern("updateHealth");
+  private static final long STALE = Long.MIN_VALUE;
 
   private final List<PriorityTask> priorityTasks = new ArrayList<>(2);
   private final List<PriorityTask> priorityTasksToBeRestored = new ArrayList<>(2);
   private PriorityTask currentTask;
+  // Cached priority of each task in priorityTasks, and the game time it should next be evaluated
+  private int[] cachedPriorities = new int[2];
+  private long[] nextEvaluations = new long[2];
+  private int evaluationCount = 0;
+  private GameTime timeSource;
+
   /**
    * Add a priority task to the list of tasks. This task will be run only when it has the highest
    * priority, and can be stopped to run a higher priority task.
@@ -31,10 +51,17 @@ public class AITaskComponent extends Component implements TaskRunner {
     logger.debug("{} Adding task {}", this, task);
     priorityTasks.add(task);
     task.create(this);
+    invalidatePriorities();
 
     return this;
   }
 
+  @Override
+  public void create() {
+    entity.getEvents().addListener(INVALIDATE_PRIORITY_EVENT, this::invalidatePriorities);
+    entity.getEvents().addListener(UPDATE_HEALTH_EVENT, (Integer health) -> invalidatePriorities());
+  }
+
   /**
    * Get a task from the list of tasks. This can be used to get a reference to
    * a task to modify it. This is inspired from Entity.getComponent().
@@ -49,7 +76,9 @@ public class AITaskComponent extends Component implements TaskRunner {
         return task.cast(priorityTask);
       }
     }
-    logger.info("Task {} not found", task);
+    if (LogGate.HOT_PATHS) {
+      logger.debug("Task {} not found", task);
+    }
     return null;
   }
 
@@ -59,15 +88,20 @@ public class AITaskComponent extends Component implements TaskRunner {
    */
   @Override
   public void update() {
-    PriorityTask desiredtask = getHighestPriorityTask();
-    if (desiredtask == null || desiredtask.getPriority() < 0) {
+    int index = getHighestPriorityIndex();
+    if (index < 0 || cachedPriorities[index] < 0) {
       return;
     }
 
+    PriorityTask desiredtask = priorityTasks.get(index);
     if (desiredtask != currentTask) {
       changeTask(desiredtask);
     }
     currentTask.update();
+    if (currentTask != null && currentTask.getStatus() != Task.Status.ACTIVE) {
+      // Finishing or failing usually changes which task should run
+      invalidatePriorities();
+    }
   }
 
   @Override
@@ -77,35 +111,79 @@ public class AITaskComponent extends Component implements TaskRunner {
     }
   }
 
+  /** Stop the running task, so the highest priority task is started again on reuse. */
+  @Override
+  public void reset() {
+    if (currentTask != null) {
+      currentTask.stop();
+      currentTask = null;
+    }
+    invalidatePriorities();
+  }
+
   /**
-   * Empties the priorityTasks List. Disposes all of the entity's tasks.
+   * Empties the priorityTasks List. Disposes all of the entity's tasks, stopping the running one so
+   * it cancels its timers.
    */
   public void disposeAll() {
-    currentTask = null;
+    if (currentTask != null) {
+      currentTask.stop();
+      currentTask = null;
+    }
     priorityTasksToBeRestored.addAll(priorityTasks);
     priorityTasks.clear();
   }
 
   /**
-   * Restores the priorityTasks List. Adds all of the entity's disposed tasks 
+   * Restores the priorityTasks List. Adds all of the entity's disposed tasks
    * back into priorityTasks.
    */
   public void restore() {
     priorityTasks.addAll(priorityTasksToBeRestored);
     priorityTasksToBeRestored.clear();
+    invalidatePriorities();
     this.update();
   }
 
-  public PriorityTask getHighestPriorityTask() {
-    try {
-      return Collections.max(priorityTasks, Comparator.comparingInt(PriorityTask::getPriority));
-    } catch (NoSuchElementException e) {
-      return null;
+  /**
+   * Re-evaluate the priority of every task on the next update, regardless of their intervals. Call
+   * this when something happens that a cached priority may depend on.
+   */
+  public void invalidatePriorities() {
+    if (nextEvaluations.length < priorityTasks.size()) {
+      int capacity = Math.max(priorityTasks.size(), nextEvaluations.length * 2);
+      cachedPriorities = Arrays.copyOf(cachedPriorities, capacity);
+      nextEvaluations = new long[capacity];
+    }
+    Arrays.fill(nextEvaluations, STALE);
+  }
+
+  /**
+   * Re-evaluate the priority of a single task on the next update.
+   *
+   * @param task task whose priority may have changed
+   */
+  public void invalidatePriority(PriorityTask task) {
+    int index = priorityTasks.indexOf(task);
+    if (index >= 0 && index < nextEvaluations.length) {
+      nextEvaluations[index] = STALE;
     }
   }
 
+  /** @return number of times any task has been asked for its priority. Useful for profiling. */
+  public int getEvaluationCount() {
+    return evaluationCount;
+  }
+
+  public PriorityTask getHighestPriorityTask() {
+    int index = getHighestPriorityIndex();
+    return index < 0 ? null : priorityTasks.get(index);
+  }
+
   public void changeTask(PriorityTask desiredTask) {
-    logger.debug("{} Changing to task {}", this, desiredTask);
+    if (LogGate.HOT_PATHS) {
+      logger.debug("{} Changing to task {}", this, desiredTask);
+    }
     if (currentTask != null) {
       currentTask.stop();
     }
@@ -114,4 +192,52 @@ public class AITaskComponent extends Component implements TaskRunner {
       desiredTask.start();
     }
   }
+
+  /**
+   * Find the task with the highest priority, re-evaluating any priorities which are due. Ties go to
+   * the task added first.
+   *
+   * @return index of the highest priority task, or -1 if there are no tasks
+   */
+  private int getHighestPriorityIndex() {
+    int taskCount = priorityTasks.size();
+    if (nextEvaluations.length < taskCount) {
+      invalidatePriorities();
+    }
+
+    long now = STALE;
+    int highest = -1;
+    for (int i = 0; i < taskCount; i++) {
+      PriorityTask task = priorityTasks.get(i);
+      float interval = task.getPriorityInterval();
+      if (interval > 0f && now == STALE) {
+        now = getTime();
+      }
+
+      if (interval <= 0f || now == STALE) {
+        cachedPriorities[i] = task.getPriority();
+        evaluationCount++;
+      } else if (now >= nextEvaluations[i]) {
+        cachedPriorities[i] = task.getPriority();
+        nextEvaluations[i] = now + (long) (interval * 1000);
+        evaluationCount++;
+      }
+
+      if (highest < 0 || cachedPriorities[i] > cachedPriorities[highest]) {
+        highest = i;
+      }
+    }
+    return highest;
+  }
+
+  /** @return current game time, or STALE if there is no time source to cache priorities against */
+  private long getTime() {
+    if (timeSource == null) {
+      timeSource = ServiceLocator.getTimeSource();
+      if (timeSource == null) {
+        return STALE;
+      }
+    }
+    return timeSource.getTime();
+  }
 }
@@ -6,4 +6,20 @@ package com.csse3200.game.ai.tasks;
  */
 public interface PriorityTask extends Task {
   int getPriority();
+
+  /**
+   * How often the AI task component should ask for this task's priority. Tasks with an expensive
+   * getPriority(), e.g. ones which raycast, can return their scan interval so the priority is cached
+   * in between.
+   *
+   * <p>Tasks which only look for targets once per scan interval should return that interval, since
+   * their priority can't change in between. The cached priority is still re-evaluated early when the
+   * task finishes or fails, or when the entity triggers
+   * {@link AITaskComponent#INVALIDATE_PRIORITY}.
+   *
+   * @return seconds between priority evaluations, or 0 to evaluate every frame
+   */
+  default float getPriorityInterval() {
+    return 0f;
+  }
 }
@@ -5,6 +5,9 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Disposable;
 import com.csse3200.game.areas.terrain.TerrainComponent;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.factories.EngineerFactory;
+import com.csse3200.game.services.GameEndService;
+import com.csse3200.game.services.LaneService;
 import com.csse3200.game.services.ServiceLocator;
 
 import java.util.ArrayList;
@@ -17,6 +20,8 @@ import java.util.List;
  * <p>Support for enabling/disabling game areas could be added by making this a Component instead.
  */
 public abstract class GameArea implements Disposable {
+  private static final int ENGINEER_SPAWN_X = 1;
+
   protected TerrainComponent terrain;
   protected List<Entity> areaEntities;
 
@@ -67,4 +72,25 @@ public abstract class GameArea implements Disposable {
     entity.setPosition(worldPos);
     spawnEntity(entity);
   }
+
+  /**
+   * Spawns an engineer at the start of a lane whenever the lane service finds mobs in it with no
+   * towers or engineers to stop them, up to the game end service's engineer count. Does nothing if
+   * no lane service is registered.
+   */
+  protected void spawnEngineersInUndefendedLanes() {
+    LaneService laneService = ServiceLocator.getLaneService();
+    if (laneService == null) {
+      return;
+    }
+    int maxEngineers = ServiceLocator.getGameEndService().getEngineerCount();
+    laneService.getEvents().addListener("undefendedChanged", (Integer lane, Boolean undefended) -> {
+      GameEndService gameEndService = ServiceLocator.getGameEndService();
+      if (Boolean.TRUE.equals(undefended) && gameEndService.getNumSpawnedEngineers() < maxEngineers) {
+        Entity engineer = EngineerFactory.createEngineer();
+        spawnEntityAt(engineer, new GridPoint2(ENGINEER_SPAWN_X, lane), false, false);
+        gameEndService.incrementNumSpawnedEngineers();
+      }
+    });
+  }
 }
\ No newline at end of file
@@ -0,0 +1,235 @@
+package com.csse3200.game.areas;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.badlogic.gdx.utils.OrderedSet;
+import com.csse3200.game.components.maingame.MainGameDisplay;
+import com.csse3200.game.entities.configs.AssetGroupConfig;
+import com.csse3200.game.entities.configs.LevelAssetsConfig;
+import com.csse3200.game.entities.factories.WaveFactory;
+import com.csse3200.game.files.FileLoader;
+import com.csse3200.game.screens.TowerType;
+import com.csse3200.game.services.AssetCache;
+import com.csse3200.game.services.ResourceService;
+import com.csse3200.game.services.StagedAssetLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The assets a level needs, worked out from the level asset manifest (configs/levelAssets.json).
+ * The manifest lists the assets every level shares, and the assets each type of mob and tower
+ * needs. A level's dependencies are the assets of the mobs and boss its waves can spawn and of the
+ * towers the player can build, so atlases for mobs from other levels are never loaded.
+ *
+ * <p>Example use:
+ *
+ * <pre>
+ * LevelAssets assets = LevelAssets.resolve(GameLevelData.getSelectedLevel(), ServiceLocator.getTowerTypes());
+ * assets.getShared().load(resourceService);
+ * assets.getDependencies().load(resourceService);
+ * </pre>
+ */
+public class LevelAssets {
+  private static final Logger logger = LoggerFactory.getLogger(LevelAssets.class);
+  private static final String MANIFEST = "configs/levelAssets.json";
+  private static LevelAssetsConfig manifest;
+
+  private final LevelAssetsConfig config;
+  private final AssetSet shared = new AssetSet();
+  private final AssetSet dependencies = new AssetSet();
+  private final ObjectSet<String> mobs = new ObjectSet<>();
+
+  LevelAssets(LevelAssetsConfig config) {
+    this.config = config;
+    shared.add(config.common);
+  }
+
+  /**
+   * Work out the assets a level needs.
+   *
+   * @param selectedLevel level selected by the user (0 desert, 1 ice, 2 lava)
+   * @param selectedTowers towers selected by the user. The game's default towers are always included.
+   * @return the level's assets
+   */
+  public static LevelAssets resolve(int selectedLevel, Array<TowerType> selectedTowers) {
+    LevelAssets assets = new LevelAssets(getManifest());
+    for (String mob : WaveFactory.getMobTypes(WaveFactory.getDifficulty(selectedLevel))) {
+      assets.addMob(mob);
+    }
+    for (TowerType tower : MainGameDisplay.DEFAULT_TOWERS) {
+      assets.addTower(tower);
+    }
+    for (TowerType tower : selectedTowers) {
+      assets.addTower(tower);
+    }
+    logger.debug("Level {} needs {} shared and {} level assets for mobs {}",
+        selectedLevel, assets.shared.size(), assets.dependencies.size(), assets.mobs);
+    return assets;
+  }
+
+  /**
+   * Read the manifest ahead of time if it hasn't been read yet, so resolving a level doesn't read
+   * it on the render thread. Safe to call from a background job.
+   */
+  public static void loadManifest() {
+    getManifest();
+  }
+
+  private static synchronized LevelAssetsConfig getManifest() {
+    if (manifest == null) {
+      manifest = FileLoader.readClass(LevelAssetsConfig.class, MANIFEST);
+      if (manifest == null) {
+        manifest = new LevelAssetsConfig();
+      }
+    }
+    return manifest;
+  }
+
+  /**
+   * Add the assets of a mob and any mobs it spawns. Mobs without a group in the manifest are
+   * spawned as the default mob.
+   *
+   * @param mob name of the mob, as used in the waves
+   */
+  void addMob(String mob) {
+    AssetGroupConfig group = config.mobs.get(mob);
+    if (group == null) {
+      mob = config.defaultMob;
+      group = config.mobs.get(mob);
+    }
+    if (group == null || !mobs.add(mob)) {
+      return;
+    }
+    dependencies.add(group);
+    for (String spawned : group.mobs) {
+      addMob(spawned);
+    }
+  }
+
+  /**
+   * Add the assets of a tower.
+   *
+   * @param tower type of tower
+   */
+  void addTower(TowerType tower) {
+    AssetGroupConfig group = config.towers.get(tower.name());
+    if (group != null) {
+      dependencies.add(group);
+    }
+  }
+
+  /** @return assets every level needs, such as terrain, projectiles and interface assets */
+  public AssetSet getShared() {
+    return shared;
+  }
+
+  /** @return assets this level's mobs, boss and towers need */
+  public AssetSet getDependencies() {
+    return dependencies;
+  }
+
+  /** @return names of the mobs whose assets are included */
+  public ObjectSet<String> getMobs() {
+    return mobs;
+  }
+
+  /** A set of assets to load together, without duplicates. */
+  public static class AssetSet {
+    private final OrderedSet<String> textures = new OrderedSet<>();
+    private final OrderedSet<String> textureAtlases = new OrderedSet<>();
+    private final OrderedSet<String> sounds = new OrderedSet<>();
+    private final OrderedSet<String> music = new OrderedSet<>();
+
+    private void add(AssetGroupConfig group) {
+      addAll(textures, group.textures);
+      addAll(textureAtlases, group.textureAtlases);
+      addAll(sounds, group.sounds);
+      addAll(music, group.music);
+    }
+
+    private static void addAll(OrderedSet<String> set, String[] assetNames) {
+      for (String assetName : assetNames) {
+        set.add(assetName);
+      }
+    }
+
+    /**
+     * @param assetName asset name
+     * @return true if the asset is in this set
+     */
+    public boolean contains(String assetName) {
+      return textures.contains(assetName)
+          || textureAtlases.contains(assetName)
+          || sounds.contains(assetName)
+          || music.contains(assetName);
+    }
+
+    /** @return number of assets in this set */
+    public int size() {
+      return textures.size + textureAtlases.size + sounds.size + music.size;
+    }
+
+    /** @return texture atlas filenames in this set */
+    public String[] getTextureAtlases() {
+      return toArray(textureAtlases);
+    }
+
+    /**
+     * Add the assets to a loading stage.
+     *
+     * @param stage stage to load the assets in
+     */
+    public void queue(StagedAssetLoader.Stage stage) {
+      stage.textures(toArray(textures))
+          .textureAtlases(toArray(textureAtlases))
+          .sounds(toArray(sounds))
+          .music(toArray(music));
+    }
+
+    /**
+     * Queue the assets to be loaded by a resource service.
+     *
+     * @param resourceService service to load the assets with
+     */
+    public void load(ResourceService resourceService) {
+      resourceService.loadTextures(toArray(textures));
+      resourceService.loadTextureAtlases(toArray(textureAtlases));
+      resourceService.loadSounds(toArray(sounds));
+      resourceService.loadMusic(toArray(music));
+    }
+
+    /**
+     * Unload the assets from a resource service.
+     *
+     * @param resourceService service the assets were loaded with
+     */
+    public void unload(ResourceService resourceService) {
+      resourceService.unloadAssets(toArray(textures));
+      resourceService.unloadAssets(toArray(textureAtlases));
+      resourceService.unloadAssets(toArray(sounds));
+      resourceService.unloadAssets(toArray(music));
+    }
+
+    /**
+     * Keep the assets loaded in a shared cache between levels.
+     *
+     * @param assetCache cache to retain the assets in
+     */
+    public void retain(AssetCache assetCache) {
+      retainAll(assetCache, textures);
+      retainAll(assetCache, textureAtlases);
+      retainAll(assetCache, sounds);
+      retainAll(assetCache, music);
+    }
+
+    private static void retainAll(AssetCache assetCache, OrderedSet<String> set) {
+      for (String assetName : set) {
+        assetCache.retain(assetName);
+      }
+    }
+
+    private static String[] toArray(OrderedSet<String> set) {
+      return set.orderedItems().toArray(String.class);
+    }
+  }
+}
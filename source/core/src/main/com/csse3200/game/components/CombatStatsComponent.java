@@ -4,6 +4,7 @@ import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.Melee;
 import com.csse3200.game.entities.Weapon;
 import com.csse3200.game.entities.configs.ProjectileConfig;
+import com.csse3200.game.events.EventKey;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.security.SecureRandom;
@@ -31,7 +32,7 @@ public class CombatStatsComponent extends Component {
   private static final String HEALTH_MID = "midHealth";
   private static final String HEALTH_LOW = "lowHealth";
   private static final String HIT_EVENT = "hitStart";
-  private static final String UPDATE_HEALTH_EVENT = "updateHealth";
+  private static final int UPDATE_HEALTH_EVENT = EventKey.intern("updateHealth");
   private int health;
   private int baseAttack;
   private int fullHealth;
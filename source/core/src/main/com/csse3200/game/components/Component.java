@@ -1,6 +1,7 @@
 package com.csse3200.game.components;
 
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.logging.LogGate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,6 +44,23 @@ public class Component {
     // No action by default.
   }
 
+  /**
+   * Called instead of dispose() when a pooled entity is returned to its pool. Clear any state left
+   * over from the last use and detach from the world, but keep anything set up in create() (e.g.
+   * listeners, physics bodies) so it can be reused. See {@link com.csse3200.game.entities.EntityPool}
+   */
+  public void reset() {
+    // No action by default.
+  }
+
+  /**
+   * Called instead of create() when a pooled entity is registered again after being reset. Reattach
+   * anything that was detached in reset().
+   */
+  public void reuse() {
+    // No action by default.
+  }
+
   /**
    * Set the entity to which this component belongs. This is called by the Entity, and should not be
    * set manually.
@@ -50,7 +68,9 @@ public class Component {
    * @param entity The entity to which the component is attached.
    */
   public void setEntity(Entity entity) {
-    logger.debug("Attaching {} to {}", this, entity);
+    if (LogGate.HOT_PATHS) {
+      logger.debug("Attaching {} to {}", this, entity);
+    }
     this.entity = entity;
   }
 
@@ -70,7 +90,9 @@ public class Component {
    * @param enabled Should component be enabled
    */
   public void setEnabled(boolean enabled) {
-    logger.debug("Setting enabled={} on {}", enabled, this);
+    if (LogGate.HOT_PATHS) {
+      logger.debug("Setting enabled={} on {}", enabled, this);
+    }
     this.enabled = enabled;
   }
 
@@ -4,7 +4,8 @@ import com.badlogic.gdx.utils.ObjectMap;
 
 /**
  * Internal type system for components. Used to generate unique IDs for each component type at
- * runtime, allowing entities to get components by type.
+ * runtime, allowing entities to get components by type. Also records whether a type needs updating,
+ * so the entity service only updates components which override update() or earlyUpdate().
  */
 public class ComponentType {
   private static final ObjectMap<Class<? extends Component>, ComponentType> componentTypes =
@@ -12,11 +13,13 @@ public class ComponentType {
   private static int nextId = 0;
 
   private final int id;
+  private final boolean hasUpdate;
+  private final boolean hasEarlyUpdate;
 
   public static ComponentType getFrom(Class<? extends Component> type) {
     ComponentType componentType = componentTypes.get(type);
     if (componentType == null) {
-      componentType = new ComponentType();
+      componentType = new ComponentType(type);
       componentTypes.put(type, componentType);
     }
     return componentType;
@@ -26,8 +29,29 @@ public class ComponentType {
     return id;
   }
 
-  private ComponentType() {
+  /** @return true if components of this type override update() */
+  public boolean hasUpdate() {
+    return hasUpdate;
+  }
+
+  /** @return true if components of this type override earlyUpdate() */
+  public boolean hasEarlyUpdate() {
+    return hasEarlyUpdate;
+  }
+
+  private ComponentType(Class<? extends Component> type) {
     id = nextId;
     nextId++;
+    hasUpdate = overrides(type, "update");
+    hasEarlyUpdate = overrides(type, "earlyUpdate");
+  }
+
+  private static boolean overrides(Class<? extends Component> type, String method) {
+    try {
+      return type.getMethod(method).getDeclaringClass() != Component.class;
+    } catch (NoSuchMethodException e) {
+      // Can't happen, since every component has the method. Update it to be safe
+      return true;
+    }
   }
 }
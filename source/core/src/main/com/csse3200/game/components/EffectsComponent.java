@@ -7,10 +7,9 @@ import com.csse3200.game.entities.Entity;
 import com.csse3200.game.physics.BodyUserData;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.components.HitboxComponent;
+import com.csse3200.game.services.AreaDamageService;
 import com.csse3200.game.services.ServiceLocator;
 
-import com.badlogic.gdx.utils.Array;
-
 /**
  * This component applies an effect from the ProjectileEffects enum. This consists of fireball, burn,
  * slow, and stun. Component also handles the targeting of specific layers and an area of effect
@@ -19,7 +18,7 @@ import com.badlogic.gdx.utils.Array;
 public class EffectsComponent extends Component {
     private final float radius;
     private final ProjectileEffects effect;
-    private final boolean aoe;
+    private boolean aoe;
     private HitboxComponent hitboxComponent;
     private final short targetLayer;
     private ArrayList<Entity> stunnedEntities = new ArrayList<>();
@@ -43,6 +42,19 @@ public class EffectsComponent extends Component {
         hitboxComponent = entity.getComponent(HitboxComponent.class);
     }
 
+    @Override
+    public void reset() {
+        stunnedEntities.clear();
+    }
+
+    /**
+     * Set whether the effect is applied to everything in range, or only the entity hit.
+     * @param aoe true for an area of effect
+     */
+    public void setAoe(boolean aoe) {
+        this.aoe = aoe;
+    }
+
     private void onCollisionStart(Fixture me, Fixture other) {
         // Nothing to do in collision start
     }
@@ -96,7 +108,8 @@ public class EffectsComponent extends Component {
     }
 
     /**
-     * Used for aoe projectiles to apply effects to all entities within the area of effect (radius).
+     * Used for aoe projectiles to apply effects to all entities within the area of effect (radius). The effects are
+     * applied by the {@link AreaDamageService} at the end of the tick.
      * @param effect effect to be applied to entities within radius
      */
     public void applyAoeEffect(ProjectileEffects effect) {
@@ -108,25 +121,8 @@ public class EffectsComponent extends Component {
             return;
         }
 
-        Array<Entity> nearbyEntities = ServiceLocator.getEntityService().getNearbyEntities(hostEntity, radius);
-
-        // Iterate through nearby entities and apply effects
-        for (int i = 0; i < nearbyEntities.size; i++) {
-            Entity targetEntity = nearbyEntities.get(i);
-
-            HitboxComponent targetHitbox = targetEntity.getComponent(HitboxComponent.class);
-            if (targetHitbox == null) { return; }
-            if (!PhysicsLayer.contains(targetLayer, targetHitbox.getLayer())) {
-                // Doesn't match our target layer, ignore
-                return;
-            }
-
-            // apply effect
-            EffectComponent effectComponent = targetEntity.getComponent(EffectComponent.class);
-            if (effectComponent == null) {
-                return;
-            }
-            effectComponent.applyEffect(effect, hostEntity, targetEntity);
-        }
+        ServiceLocator.getAreaDamageService()
+                .submit(hostEntity, radius, AreaDamageService.ANY_LANE, targetLayer)
+                .setEffect(effect);
     }
-}
\ No newline at end of file
+}
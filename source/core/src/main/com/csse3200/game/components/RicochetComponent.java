@@ -79,6 +79,14 @@ public class RicochetComponent extends Component {
     ServiceLocator.getEntityService().register(newProjectile);
   }
 
+  /**
+   * Set how many times the projectile has already bounced.
+   * @param bounceCount Bounce count of the projectile
+   */
+  public void setBounceCount(int bounceCount) {
+    this.bounceCount = bounceCount;
+  }
+
   private int getRandomNumFrom(int min, int max) {
     return (int) (Math.random() * (max - min) + min);
   }
@@ -69,4 +69,13 @@ public class SplitFireworksComponent extends Component {
       ServiceLocator.getEntityService().register(newProjectile);
     }
   }
+
+  /**
+   * Set the amount of projectiles that the projectile splits into.
+   *
+   * @param amount Amount of projectiles that is split after collision event.
+   */
+  public void setAmount(int amount) {
+    this.amount = amount;
+  }
 }
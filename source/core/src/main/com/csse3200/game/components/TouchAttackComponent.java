@@ -26,6 +26,7 @@ import com.csse3200.game.physics.components.PhysicsComponent;
  * if target entity has a PhysicsComponent.
  */
 public class TouchAttackComponent extends Component {
+  private final short initialTargetLayer;
   private short targetLayer;
   private float knockbackForce = 0f;
   private boolean disposeOnHit = false;
@@ -39,6 +40,7 @@ public class TouchAttackComponent extends Component {
    */
   public TouchAttackComponent(short targetLayer) {
     this.targetLayer = targetLayer;
+    this.initialTargetLayer = targetLayer;
   }
 
   /**
@@ -49,6 +51,7 @@ public class TouchAttackComponent extends Component {
    */
   public TouchAttackComponent(short targetLayer, float knockback) {
     this.targetLayer = targetLayer;
+    this.initialTargetLayer = targetLayer;
     this.knockbackForce = knockback;
   }
 
@@ -62,6 +65,7 @@ public class TouchAttackComponent extends Component {
    */
   public TouchAttackComponent(short targetLayer, float knockback, boolean disposeOnHit) {
     this.targetLayer = targetLayer;
+    this.initialTargetLayer = targetLayer;
     this.knockbackForce = knockback;
     this.disposeOnHit = disposeOnHit;
   }
@@ -118,6 +122,12 @@ public class TouchAttackComponent extends Component {
     }
   }
 
+  /** Target the layer given when created again, in case it was changed, e.g. by a deflection. */
+  @Override
+  public void reset() {
+    targetLayer = initialTargetLayer;
+  }
+
   public void setDisposeOnHit(boolean disposeOnHit) {
     this.disposeOnHit = disposeOnHit;
   }
@@ -60,6 +60,8 @@ public class CurrencyDisplay extends UIComponent {
         table.row();
         table.add(crystalsTb).width(crystalsTb.getWidth() * 0.5f).height(crystalsTb.getHeight() * 0.5f);
         stage.addActor(table);
+        ServiceLocator.getCurrencyService().getEvents().addListener("scrapsChanged", this::onScrapsChanged);
+        ServiceLocator.getCurrencyService().getEvents().addListener("crystalsChanged", this::onCrystalsChanged);
 
         scrapsTb.setPosition(table.getX() - 200f, Gdx.graphics.getHeight() - 205f);
         scrapsTb.addAction(new SequenceAction(Actions.moveTo(table.getX() + 20f, Gdx.graphics.getHeight() - 205f,
@@ -76,7 +78,8 @@ public class CurrencyDisplay extends UIComponent {
                 drawable, drawable, drawable, getSkin().getFont(DEFAULT_FONT));
 
         // create button
-        TextButton tb = new TextButton(String.format("%d", value), style);
+        TextButton tb = new TextButton("", style);
+        tb.getLabel().setText(value);
         tb.setDisabled(true);
         tb.getLabel().setAlignment(Align.right);
 
@@ -92,12 +95,19 @@ public class CurrencyDisplay extends UIComponent {
     }
 
     /**
-     * Updates the currency (Scraps) value on the UI component
+     * Updates the currency (Scraps) value on the UI component. Also updated automatically whenever the amount
+     * changes.
      */
     public void updateScrapsStats() {
-        int value = ServiceLocator.getCurrencyService().getScrap().getAmount();
-        CharSequence text = String.format("%d", value);
-        scrapsTb.getLabel().setText(text);
+        onScrapsChanged(ServiceLocator.getCurrencyService().getScrap().getAmount());
+    }
+
+    private void onScrapsChanged(Integer value) {
+        if (scrapsTb == null) { // not created, e.g. when running headless
+            return;
+        }
+        // Only allocates a string if the value differs from what's shown
+        scrapsTb.getLabel().setText(value);
     }
 
     /**
@@ -111,12 +121,18 @@ public class CurrencyDisplay extends UIComponent {
     }
 
     /**
-     * Updates the currency (Crystals) value on the UI component
+     * Updates the currency (Crystals) value on the UI component. Also updated automatically whenever the amount
+     * changes.
      */
     public void updateCrystalsStats() {
-        int value = ServiceLocator.getCurrencyService().getCrystal().getAmount();
-        CharSequence text = String.format("%d", value);
-        crystalsTb.getLabel().setText(text);
+        onCrystalsChanged(ServiceLocator.getCurrencyService().getCrystal().getAmount());
+    }
+
+    private void onCrystalsChanged(Integer value) {
+        if (crystalsTb == null) { // not created, e.g. when running headless
+            return;
+        }
+        crystalsTb.getLabel().setText(value);
     }
 
     /**
@@ -128,6 +144,9 @@ public class CurrencyDisplay extends UIComponent {
      * @param offset value to offset the height of the label by
      */
     public void currencyPopUp(float x , float y, int amount, int offset) {
+        if (stage == null) { // not created, e.g. when running headless
+            return;
+        }
         Label label;
         if (amount > 0) {
             // play sound and set the volume
@@ -19,6 +19,7 @@ import com.csse3200.game.ui.UIComponent;
 
 public class EngineerCountDisplay extends UIComponent {
     private TextButton engineerTb;
+    private boolean warningShown = false;
 
     private static final String DEFAULT_FONT = "determination_mono_18";
 
@@ -45,8 +46,8 @@ public class EngineerCountDisplay extends UIComponent {
         TextButton.TextButtonStyle style = new TextButton.TextButtonStyle(
                 drawable, drawable, drawable, getSkin().getFont(DEFAULT_FONT));
 
-        String text = String.format("%d", ServiceLocator.getGameEndService().getEngineerCount());
-        engineerTb = new TextButton(text, style);
+        engineerTb = new TextButton("", style);
+        engineerTb.getLabel().setText(ServiceLocator.getGameEndService().getEngineerCount());
         engineerTb.setDisabled(true);
         engineerTb.getLabel().setAlignment(Align.right);
         engineerTb.setTouchable(Touchable.enabled);
@@ -58,6 +59,7 @@ public class EngineerCountDisplay extends UIComponent {
 
         table.add(engineerTb).width(engineerTb.getWidth() * 0.5f).height(engineerTb.getHeight() * 0.5f);
         stage.addActor(table);
+        ServiceLocator.getGameEndService().getEvents().addListener("engineerCountChanged", this::onCountChanged);
 
         // Animate the engineer count label
         engineerTb.setPosition(table.getX() - 200f, Gdx.graphics.getHeight() - 145f);
@@ -66,14 +68,17 @@ public class EngineerCountDisplay extends UIComponent {
     }
 
     /**
-     * Updates the engineer count on the UI component
+     * Updates the engineer count on the UI component. Also updated automatically whenever the count changes.
      */
     public void updateCount() {
+        onCountChanged(ServiceLocator.getGameEndService().getEngineerCount());
+    }
+
+    private void onCountChanged(Integer currentCount) {
         if (engineerTb != null) { // fix for null pointer exception
-            int currentCount = ServiceLocator.getGameEndService().getEngineerCount();
-            String text = String.format("%d", currentCount);
-            engineerTb.getLabel().setText(text);
-            if (currentCount < ServiceLocator.getGameEndService().getThreshold()) {
+            engineerTb.getLabel().setText(currentCount);
+            if (!warningShown && currentCount < ServiceLocator.getGameEndService().getThreshold()) {
+                warningShown = true;
 //            engineerTb.addAction(Actions.color(Color.RED, 0.5f, Interpolation.swingIn));
                 engineerTb.addAction(Actions.forever(new SequenceAction(Actions.fadeOut(0.5f),
                         Actions.fadeIn(0.5f))));
@@ -3,15 +3,23 @@ package com.csse3200.game.components.gamearea;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.csse3200.game.rendering.RenderService;
+import com.csse3200.game.services.ProfilerService;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.ui.UIComponent;
 
 /**
- * Displays performance stats about the game for debugging purposes.
+ * Displays performance stats about the game for debugging purposes: frame rate, memory, draw calls
+ * and the min/avg/p99 time per frame of each profiled subsystem, see {@link ProfilerService}. The
+ * text is rebuilt a few times a second into a reused builder, rather than every frame.
  */
 public class PerformanceDisplay extends UIComponent {
   private static final float Z_INDEX = 5f;
+  private static final long REFRESH_MILLIS = 250L;
+  private final StringBuilder stats = new StringBuilder(512);
   private Label profileLabel;
+  private long lastRefresh = 0L;
 
   @Override
   public void create() {
@@ -28,24 +36,55 @@ public class PerformanceDisplay extends UIComponent {
   public void draw(SpriteBatch batch) {
     if (ServiceLocator.getRenderService().getDebug().getActive()) {
       profileLabel.setVisible(true);
-      profileLabel.setText(getStats());
+      if (TimeUtils.timeSinceMillis(lastRefresh) >= REFRESH_MILLIS) {
+        lastRefresh = TimeUtils.millis();
+        profileLabel.setText(getStats());
+      }
 
       int screenHeight = stage.getViewport().getScreenHeight();
       float offsetX = 5f;
       float offsetY = 180f;
-      profileLabel.setPosition(offsetX, screenHeight - offsetY);
+      profileLabel.setPosition(offsetX, screenHeight - offsetY - profileLabel.getPrefHeight());
     } else {
       profileLabel.setVisible(false);
     }
   }
 
-  private String getStats() {
-    String message = "Debug\n";
-    message =
-        message
-            .concat(String.format("FPS: %d fps%n", Gdx.graphics.getFramesPerSecond()))
-            .concat(String.format("RAM: %d MB%n", Gdx.app.getJavaHeap() / 1000000));
-    return message;
+  private StringBuilder getStats() {
+    RenderService renderService = ServiceLocator.getRenderService();
+    stats.setLength(0);
+    stats.append("Debug\n")
+        .append("FPS: ").append(Gdx.graphics.getFramesPerSecond()).append(" fps\n")
+        .append("RAM: ").append(Gdx.app.getJavaHeap() / 1000000).append(" MB\n")
+        .append("Draw calls: ").append(renderService.getLastDrawCalls()).append('\n')
+        .append("Texture switches: ").append(renderService.getLastTextureSwitches()).append('\n');
+
+    ProfilerService profiler = ServiceLocator.getProfilerService();
+    if (profiler == null) {
+      return stats;
+    }
+    stats.append("ms per frame (min/avg/p99)\n");
+    for (int i = 0; i < profiler.getScopeCount(); i++) {
+      if (profiler.getSampleCount(i) == 0) {
+        continue;
+      }
+      stats.append(profiler.getName(i)).append(": ");
+      appendMillis(profiler.getMin(i)).append(" / ");
+      appendMillis(profiler.getAverage(i)).append(" / ");
+      appendMillis(profiler.getPercentile(i, 99f)).append('\n');
+    }
+    return stats;
+  }
+
+  /** Append a time in milliseconds to two decimal places, without creating garbage. */
+  private StringBuilder appendMillis(long nanos) {
+    long hundredths = nanos / 10000;
+    stats.append(hundredths / 100).append('.');
+    long fraction = hundredths % 100;
+    if (fraction < 10) {
+      stats.append('0');
+    }
+    return stats.append(fraction);
   }
 
   @Override
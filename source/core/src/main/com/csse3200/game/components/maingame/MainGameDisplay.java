@@ -32,6 +32,14 @@ public class MainGameDisplay extends UIComponent {
     private static final Logger logger = LoggerFactory.getLogger(MainGameDisplay.class);
     private static final float Z_INDEX = 2f;
     private static final String SHORTCUT_FONT = "small";
+    /** Tower defaults, in case towers haven't been set in the tower select screen */
+    public static final TowerType[] DEFAULT_TOWERS = {
+            TowerType.TNT,
+            TowerType.DROID,
+            TowerType.INCOME,
+            TowerType.WALL,
+            TowerType.WEAPON
+    };
     private final Table towerTable = new Table();
     private final Table buttonTable = new Table();
     private final Table progressTable = new Table();
@@ -163,15 +171,6 @@ public class MainGameDisplay extends UIComponent {
     }
 
     private void setTowers() {
-        // Stores tower defaults, in case towers haven't been set in the tower select screen
-        TowerType[] defaultTowers = {
-                TowerType.TNT,
-                TowerType.DROID,
-                TowerType.INCOME,
-                TowerType.WALL,
-                TowerType.WEAPON
-        };
-
         // Fetch the selected tower types if set
         towers = new Array<>();
 
@@ -182,9 +181,9 @@ public class MainGameDisplay extends UIComponent {
         // If no towers set, populate with default towers
         if (towers.isEmpty() || towers.size < 5) {
 //            if (towers.isEmpty()) {
-//                towers.addAll(defaultTowers);
+//                towers.addAll(DEFAULT_TOWERS);
 //            } else {
-            for (TowerType tower : defaultTowers) {
+            for (TowerType tower : DEFAULT_TOWERS) {
                 if (towers.size < 5 && !towers.contains(tower, true)) {
                     towers.add(tower);
                 }
@@ -9,12 +9,16 @@ import com.badlogic.gdx.scenes.scene2d.actions.SequenceAction;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
+import com.badlogic.gdx.utils.StringBuilder;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.WaveService;
 import com.csse3200.game.ui.ButtonFactory;
 import com.csse3200.game.ui.UIComponent;
 
 /**
  * Displays a button to represent the remaining mobs left in the current wave and a button to skip to the next wave.
+ * The mob count only changes when the wave service announces a new count, and the timer text only changes once a
+ * second. Both reuse a single text buffer rather than building new strings.
  */
 public class UIElementsDisplay extends UIComponent {
     private static final float Z_INDEX = 2f;
@@ -22,6 +26,9 @@ public class UIElementsDisplay extends UIComponent {
     private TextButton remainingMobsButton;
     private TextButton timerButton;
     private long time = 0;
+    private boolean timerShowing = false;
+    private int timerSeconds = -1;
+    private final StringBuilder text = new StringBuilder();
 
     @Override
     public void create() {
@@ -34,8 +41,17 @@ public class UIElementsDisplay extends UIComponent {
      */
     private void addActors() {
 
-        remainingMobsButton = ButtonFactory.createButton("Mobs:"
-                + ServiceLocator.getWaveService().getEnemyCount());
+        WaveService waveService = ServiceLocator.getWaveService();
+        remainingMobsButton = ButtonFactory.createButton("Mobs:" + waveService.getEnemyCount());
+        remainingMobsButton.addListener(
+                new ChangeListener() {
+                    @Override
+                    public void changed(ChangeEvent event, Actor actor) {
+                        ServiceLocator.getWaveService().toggleDelay();
+                    }
+                }
+        );
+        waveService.getEvents().addListener("enemyCountChanged", this::onEnemyCountChanged);
 
         remainingMobsButton.setPosition(Gdx.graphics.getWidth(), Gdx.graphics.getHeight() - 230f);
         remainingMobsButton.addAction(new SequenceAction(Actions.moveTo(Gdx.graphics.getWidth() - 217f,
@@ -53,18 +69,20 @@ public class UIElementsDisplay extends UIComponent {
     }
 
     /**
-     * This method updates the mob count button as mobs die in the game
+     * This method updates the mob count button to the wave service's enemy count. The button is also updated
+     * automatically whenever the count changes.
      */
     public void updateMobCount() {
-        remainingMobsButton.setText("Mobs:" + ServiceLocator.getWaveService().getEnemyCount());
-        remainingMobsButton.addListener(
-                new ChangeListener() {
-                    @Override
-                    public void changed(ChangeEvent event, Actor actor) {
-                        ServiceLocator.getWaveService().toggleDelay();
-                    }
-                }
-        );
+        onEnemyCountChanged(ServiceLocator.getWaveService().getEnemyCount());
+    }
+
+    private void onEnemyCountChanged(Integer enemyCount) {
+        if (remainingMobsButton == null) { // not created, e.g. when running headless
+            return;
+        }
+        text.setLength(0);
+        text.append("Mobs:").append(enemyCount);
+        remainingMobsButton.getLabel().setText(text);
     }
 
     /**
@@ -78,37 +96,48 @@ public class UIElementsDisplay extends UIComponent {
         timerButton.addAction(new SequenceAction(Actions.moveTo(Gdx.graphics.getWidth() - 435f,
                 Gdx.graphics.getHeight() - 300f, 1f, Interpolation.fastSlow)));
         timerButton.setDisabled(true);
+        timerShowing = true;
+        timerSeconds = -1;
         buttonTable.row();
         buttonTable.add(timerButton);
     }
 
     /**
-     * This method updates the text for timer button.
+     * This method updates the text for timer button. Called every frame, but the text is only changed when the
+     * number of seconds shown changes.
      */
     public void updateTimerButton() {
-        if (!(ServiceLocator.getWaveService().getGamePaused())) {
-            int totalSecs = (int) ((ServiceLocator.getWaveService().getNextWaveTime()
-                    - ServiceLocator.getTimeSource().getTime()) / 1000);
-
-            int seconds = totalSecs % 60;
-            int minutes = (totalSecs % 3600) / 60;
-            String finalTime = String.format("%02d:%02d", minutes, seconds);
-            if (ServiceLocator.getTimeSource().getTime() < ServiceLocator.getWaveService().getNextWaveTime()) {
-                if (!findActor(timerButton)) {
-                    remainingMobsButton.setDisabled(false);
-                    createTimerButton();
-                }
-                timerButton.setText("Next wave in: " + finalTime);
-                time = ServiceLocator.getTimeSource().getTime();
-            } else {
-                if (ServiceLocator.getTimeSource().getTime() <  time + 2000) {
-                    ServiceLocator.getMapService().shakeCameraMap();
-                    ServiceLocator.getMapService().shakeCameraGrid();
-                }
+        WaveService waveService = ServiceLocator.getWaveService();
+        if (waveService.getGamePaused() || timerButton == null) {
+            return;
+        }
+        long now = ServiceLocator.getTimeSource().getTime();
+        long nextWaveTime = waveService.getNextWaveTime();
+        if (now < nextWaveTime) {
+            if (!timerShowing) {
+                remainingMobsButton.setDisabled(false);
+                createTimerButton();
+            }
+            int totalSecs = (int) ((nextWaveTime - now) / 1000);
+            if (totalSecs != timerSeconds) {
+                timerSeconds = totalSecs;
+                text.setLength(0);
+                text.append("Next wave in: ")
+                        .append((totalSecs % 3600) / 60, 2)
+                        .append(':')
+                        .append(totalSecs % 60, 2);
+                timerButton.getLabel().setText(text);
+            }
+            time = now;
+        } else {
+            if (now < time + 2000) {
+                ServiceLocator.getMapService().shakeCameraMap();
+                ServiceLocator.getMapService().shakeCameraGrid();
+            }
+            if (timerShowing) {
+                timerShowing = false;
                 remainingMobsButton.setDisabled(true);
                 timerButton.addAction(new SequenceAction(Actions.fadeOut(1f), Actions.removeActor()));
-                stage.act();
-                stage.draw();
             }
         }
     }
@@ -83,6 +83,9 @@ public class DeflectingComponent extends Component {
     // Obtain projectile entity.
     Entity projectile = ((BodyUserData) other.getBody().getUserData()).entity;
 
+    // Its tasks and scale are replaced below, so it can't be handed out again as a new projectile
+    projectile.detachFromPool();
+
     // Disposes all tasks for the curr projectile. At this curr time, it assumes
     // projectile only has one significant task, and that is the TrajectTask.
     projectile.getComponent(AITaskComponent.class).dispose(); // stop task
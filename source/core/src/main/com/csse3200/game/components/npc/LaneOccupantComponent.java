@@ -0,0 +1,72 @@
+package com.csse3200.game.components.npc;
+
+import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.components.Component;
+import com.csse3200.game.services.LaneService;
+import com.csse3200.game.services.ServiceLocator;
+
+/**
+ * Keeps the entity's position in the {@link LaneService} up to date, so towers can find it without
+ * raycasting and lanes know whether they are defended. Entities are indexed by the x position of
+ * their center and the lane of their bottom edge. Does nothing if there is no lane service
+ * registered.
+ */
+public class LaneOccupantComponent extends Component {
+  private final LaneService.Kind kind;
+  private final Vector2 position = new Vector2();
+  private final Vector2 center = new Vector2();
+  private LaneService laneService;
+  private LaneService.Occupant occupant;
+
+  /** Create a component for a mob */
+  public LaneOccupantComponent() {
+    this(LaneService.Kind.MOB);
+  }
+
+  /**
+   * @param kind what the entity is
+   */
+  public LaneOccupantComponent(LaneService.Kind kind) {
+    this.kind = kind;
+  }
+
+  @Override
+  public void create() {
+    laneService = ServiceLocator.getLaneService();
+    if (laneService != null) {
+      updatePosition();
+      occupant = laneService.add(entity, kind, center.x, position.y);
+    }
+  }
+
+  @Override
+  public void update() {
+    if (occupant != null) {
+      updatePosition();
+      laneService.move(occupant, center.x, position.y);
+    }
+  }
+
+  @Override
+  public void dispose() {
+    if (occupant != null) {
+      laneService.remove(occupant);
+      occupant = null;
+    }
+  }
+
+  /** @return what the entity is indexed as */
+  public LaneService.Kind getKind() {
+    return kind;
+  }
+
+  /** @return lane the entity is indexed in, or -1 if it isn't indexed */
+  public int getLane() {
+    return occupant == null ? -1 : occupant.getLane();
+  }
+
+  private void updatePosition() {
+    entity.getPosition(position);
+    entity.getCenterPosition(center);
+  }
+}
@@ -1,44 +1,33 @@
 package com.csse3200.game.components.pausemenu;
 
 import com.csse3200.game.components.Component;
-import com.csse3200.game.entities.Entity;
-import com.badlogic.gdx.utils.Array;
-import com.csse3200.game.entities.factories.PauseMenuFactory;
 import com.csse3200.game.services.ServiceLocator;
 
 /**
- * Handles the pausing/resuming of time when the pause menu is brought up/put away.
+ * Handles the pausing/resuming of time when the pause menu is brought up/put away. Pausing the game
+ * time stops the simulation, so no entities need to be disabled.
  */
 public class PauseMenuTimeStopComponent extends Component {
-    private Array<Entity> freezeList;
     public PauseMenuTimeStopComponent() {
         // Not implemented
     }
 
     /**
-     * Handles the pausing of the game entities when the pause menu is made.
+     * Pauses the game when the pause menu is made.
      */
     @Override
     public void create() {
         ServiceLocator.getWaveService().toggleGamePause();
-        freezeList = ServiceLocator.getEntityService().getEntities();
-        for (Entity pauseTarget : freezeList) {
-            if (pauseTarget.getId() != getEntity().getId()) {
-                // ZA WARUDO! TOKI WO TOMARE!
-                pauseTarget.setEnabled(false);
-            }
-        }
+        // ZA WARUDO! TOKI WO TOMARE!
+        ServiceLocator.getTimeSource().setPaused(true);
     }
 
     /**
-     * Handles the un-pausing of the game entities when the pause menu is closed.
-     * Also notifies the pause menu factory that the pause menu is being disposed.
+     * Resumes the game when the pause menu is closed.
      */
     @Override
     public void dispose() {
         ServiceLocator.getWaveService().toggleGamePause();
-        for (Entity pauseTarget : freezeList) {
-                pauseTarget.setEnabled(true);
-        }
+        ServiceLocator.getTimeSource().setPaused(false);
     }
 }
@@ -5,6 +5,7 @@ import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.ai.tasks.PriorityTask;
 import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.currency.Scrap;
+import com.csse3200.game.logging.LogGate;
 import com.csse3200.game.rendering.AnimationRenderComponent;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ServiceLocator;
@@ -62,7 +63,9 @@ public class CurrencyTask extends DefaultTask implements PriorityTask {
     public void update() {
         if (timeSource.getTime() >= endTime) {
             updateTowerState();
-            logger.info(String.format("Interval: %d", interval));
+            if (LogGate.HOT_PATHS) {
+                logger.debug("Interval: {}", interval);
+            }
             endTime = timeSource.getTime() + (interval * 1000L); // reset end time
 
         }
@@ -97,7 +100,9 @@ public class CurrencyTask extends DefaultTask implements PriorityTask {
      * Updates the currency based on time intervals.
      */
     public void updateCurrency() {
-        logger.info("Updating currency");
+        if (LogGate.HOT_PATHS) {
+            logger.debug("Updating currency");
+        }
         ServiceLocator.getCurrencyService().getScrap().modify(currencyAmount);
 
         Vector2 coordinates = this.owner.getEntity().getCenterPosition();
@@ -126,7 +131,7 @@ public class CurrencyTask extends DefaultTask implements PriorityTask {
 
     public void changeInterval(int newInterval) {
         interval = newInterval;
-        logger.info("Interval changed to: " + interval);
+        logger.info("Interval changed to: {}", interval);
     }
 
     public void setInterval(int interval) {
@@ -9,6 +9,7 @@ import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.raycast.RaycastHit;
 import com.csse3200.game.rendering.AnimationRenderComponent;
 import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.LaneService;
 import com.csse3200.game.services.ServiceLocator;
 
 import static java.lang.Math.round;
@@ -40,6 +41,8 @@ public class DroidCombatTask extends DefaultTask implements PriorityTask {
     private Vector2 towerPosition = new Vector2(10, 10); // initial placeholder value - will be overwritten
     private final Vector2 maxRangePosition = new Vector2();
     private PhysicsEngine physics;
+    private LaneService laneService;
+    private int lane;
     private GameTime timeSource;
     private long endTime;
     private final RaycastHit hit = new RaycastHit();
@@ -58,6 +61,7 @@ public class DroidCombatTask extends DefaultTask implements PriorityTask {
         this.maxRange = maxRange;
         this.fireRateInterval = 1;
         physics = ServiceLocator.getPhysicsService().getPhysics();
+        laneService = ServiceLocator.getLaneService();
         timeSource = ServiceLocator.getTimeSource();
     }
 
@@ -69,6 +73,7 @@ public class DroidCombatTask extends DefaultTask implements PriorityTask {
         super.start();
         // Set the tower's coordinates
         this.towerPosition = owner.getEntity().getCenterPosition();
+        this.lane = LaneService.getLane(owner.getEntity().getPosition().y);
         this.maxRangePosition.set(towerPosition.x + maxRange, towerPosition.y);
         // Default to idle mode
         owner.getEntity().getEvents().trigger(WALK);
@@ -141,11 +146,20 @@ public class DroidCombatTask extends DefaultTask implements PriorityTask {
         return isTargetVisible() ? priority : 0;
     }
 
+    @Override
+    public float getPriorityInterval() {
+        return INTERVAL;
+    }
+
     /**
      * Uses a raycast to determine whether there are any targets in detection range
      * @return true if a target is visible, false otherwise
      */
     public boolean isTargetVisible() {
+        if (laneService != null) {
+            // Mobs in this lane are indexed by x, which is much cheaper than raycasting
+            return laneService.hasTargetInRange(lane, towerPosition.x, maxRangePosition.x);
+        }
         // If there is an obstacle in the path to the max range point, mobs visible.
         boolean top = physics.raycast(towerPosition.add(0f,0.4f), maxRangePosition.add(0f,0.4f), TARGET, hit);
         boolean bottom = physics.raycast(towerPosition.sub(0f,0.4f), maxRangePosition.sub(0f,0.4f), TARGET, hit);
@@ -12,6 +12,7 @@ import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.raycast.RaycastHit;
 import com.csse3200.game.rendering.AnimationRenderComponent;
 import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.LaneService;
 import com.csse3200.game.services.ServiceLocator;
 
 import static java.lang.Math.round;
@@ -38,7 +39,10 @@ public class FireTowerCombatTask extends DefaultTask  implements PriorityTask {
     private float fireRateInterval;
     private Vector2 towerPosition = new Vector2(10, 10);
     private final Vector2 maxRangePosition = new Vector2();
+    private final Vector2 entityPosition = new Vector2();
     private PhysicsEngine physics;
+    private LaneService laneService;
+    private int lane;
     private GameTime timeSource;
     private long endTime;
     private final RaycastHit hit = new RaycastHit();
@@ -57,6 +61,7 @@ public class FireTowerCombatTask extends DefaultTask  implements PriorityTask {
         this.maxRange = maxRange;
         this.fireRateInterval = 1;
         physics = ServiceLocator.getPhysicsService().getPhysics();
+        laneService = ServiceLocator.getLaneService();
         timeSource = ServiceLocator.getTimeSource();
     }
 
@@ -68,6 +73,7 @@ public class FireTowerCombatTask extends DefaultTask  implements PriorityTask {
         super.start();
         // get the tower coordinates
         this.towerPosition = owner.getEntity().getCenterPosition().sub(0.125f,0.125f);
+        this.lane = LaneService.getLane(owner.getEntity().getPosition().y);
         this.maxRangePosition.set(towerPosition.x  + maxRange, towerPosition.y);
         owner.getEntity().getEvents().addListener("addFireRate",this::changeFireRateInterval);
         //default to idle state
@@ -132,11 +138,20 @@ public class FireTowerCombatTask extends DefaultTask  implements PriorityTask {
         return !isTargetVisible() ? 0 : priority;
     }
 
+    @Override
+    public float getPriorityInterval() {
+        return INTERVAL;
+    }
+
     /**
      * detects targets from the centre of the tower to maxRange in a straight line.
      * @return true if mobs are present and false otherwise.
      */
     public boolean isTargetVisible() {
+        if (laneService != null) {
+            // Mobs in this lane are indexed by x, which is much cheaper than raycasting
+            return laneService.hasTargetInRange(lane, towerPosition.x, maxRangePosition.x);
+        }
         boolean top = physics.raycast(towerPosition.add(0f,0.4f), maxRangePosition.add(0f,0.4f), TARGET, hit);
         boolean bottom = physics.raycast(towerPosition.sub(0f,0.4f), maxRangePosition.sub(0f,0.4f), TARGET, hit);
         return top || bottom;
@@ -198,9 +213,9 @@ public class FireTowerCombatTask extends DefaultTask  implements PriorityTask {
             } else {
                 owner.getEntity().getEvents().trigger(ATTACK);
                 Entity newProjectile = ProjectileFactory.createEffectProjectile(PhysicsLayer.NPC,
-                        new Vector2(100, owner.getEntity().getPosition().y), new Vector2(2f, 2f), ProjectileEffects.BURN, false);
-                newProjectile.setPosition((float) (owner.getEntity().getPosition().x + 0.25),
-                        (owner.getEntity().getPosition().y));
+                        new Vector2(100, owner.getEntity().getPosition(entityPosition).y), new Vector2(2f, 2f), ProjectileEffects.BURN, false);
+                newProjectile.setPosition((float) (owner.getEntity().getPosition(entityPosition).x + 0.25),
+                        (owner.getEntity().getPosition(entityPosition).y));
                 ServiceLocator.getEntityService().register(newProjectile);
             }
         }
@@ -38,6 +38,7 @@ public class FireworksTowerCombatTask extends DefaultTask implements PriorityTas
     private final float maxRange;
     private Vector2 towerPosition = new Vector2(10, 10);
     private final Vector2 maxRangePosition = new Vector2();
+    private final Vector2 entityPosition = new Vector2();
     private PhysicsEngine physics;
     private GameTime timeSource;
     private float fireRateInterval;
@@ -119,9 +120,9 @@ public class FireworksTowerCombatTask extends DefaultTask implements PriorityTas
                     if (isTargetVisible()) {
                         owner.getEntity().getEvents().trigger(ATTACK);
                         Entity newProjectile = ProjectileFactory.createSplitFireWorksFireball(PhysicsLayer.NPC,
-                                new Vector2(100, owner.getEntity().getPosition().y), new Vector2(2f, 2f), 3);
-                        newProjectile.setPosition((float) (owner.getEntity().getPosition().x + 0.25),
-                                (owner.getEntity().getPosition().y));
+                                new Vector2(100, owner.getEntity().getPosition(entityPosition).y), new Vector2(2f, 2f), 3);
+                        newProjectile.setPosition((float) (owner.getEntity().getPosition(entityPosition).x + 0.25),
+                                (owner.getEntity().getPosition(entityPosition).y));
                         ServiceLocator.getEntityService().register(newProjectile);
                     } else {
                         owner.getEntity().getEvents().trigger(IDLE);
@@ -163,6 +164,11 @@ public class FireworksTowerCombatTask extends DefaultTask implements PriorityTas
         return !isTargetVisible() ? 0 : priority;
     }
 
+    @Override
+    public float getPriorityInterval() {
+        return INTERVAL;
+    }
+
     /**
      * Searches for enemies/mobs in a straight line from the centre of the tower to maxRange in a straight line.
      * @return true if targets are detected, false otherwise
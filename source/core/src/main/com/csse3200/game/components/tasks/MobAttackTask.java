@@ -34,6 +34,8 @@ public class MobAttackTask extends DefaultTask implements PriorityTask {
 
   private final int priority;
   private final Vector2 maxRangePosition = new Vector2();
+  private final Vector2 entityPosition = new Vector2();
+  private final Vector2 rayEnd = new Vector2();
   private final PhysicsEngine physics;
   private GameTime timeSource;
 
@@ -122,8 +124,8 @@ public class MobAttackTask extends DefaultTask implements PriorityTask {
             attackComp.onCollisionStart(hitboxComp.getFixture(), target);
             this.owner.getEntity().getEvents().trigger("meleeStart");
         } else {
-            Entity newProjectile = ProjectileFactory.createMobBall(PhysicsLayer.HUMANS, new Vector2(0, owner.getEntity().getPosition().y), new Vector2(2f,2f));
-            newProjectile.setPosition(owner.getEntity().getPosition().x, owner.getEntity().getPosition().y);
+            Entity newProjectile = ProjectileFactory.createMobBall(PhysicsLayer.HUMANS, new Vector2(0, owner.getEntity().getPosition(entityPosition).y), new Vector2(2f,2f));
+            newProjectile.setPosition(owner.getEntity().getPosition(entityPosition).x, owner.getEntity().getPosition(entityPosition).y);
             newProjectile.setScale(-1f, 1f);
             ServiceLocator.getEntityService().register(newProjectile);
 
@@ -177,8 +179,9 @@ public class MobAttackTask extends DefaultTask implements PriorityTask {
    * @return true if a target is visible, false otherwise
    */
   private boolean isTargetVisible() {
-    Vector2 newVector = new Vector2(owner.getEntity().getPosition().x - 10f, owner.getEntity().getPosition().y - 2f);
-    return physics.raycast(owner.getEntity().getPosition(), newVector, TARGET_LAYER, hit);
+    Vector2 from = owner.getEntity().getPosition(entityPosition);
+    rayEnd.set(from.x - 10f, from.y - 2f);
+    return physics.raycast(from, rayEnd, TARGET_LAYER, hit);
   }
 
   /**
@@ -204,7 +207,8 @@ public class MobAttackTask extends DefaultTask implements PriorityTask {
   }
 
   private void setTarget() {
-    Vector2 newVector = new Vector2(owner.getEntity().getPosition().x - 10f, owner.getEntity().getPosition().y - 2f);
-    target = physics.raycastGetHit(owner.getEntity().getPosition(), newVector, TARGET_LAYER);
+    Vector2 from = owner.getEntity().getPosition(entityPosition);
+    rayEnd.set(from.x - 10f, from.y - 2f);
+    target = physics.raycastGetHit(from, rayEnd, TARGET_LAYER);
   }
 }
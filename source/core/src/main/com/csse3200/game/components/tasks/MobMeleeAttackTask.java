@@ -34,6 +34,8 @@ public class MobMeleeAttackTask extends DefaultTask implements PriorityTask {
 
   private final int priority;
   private final Vector2 maxRangePosition = new Vector2();
+  private final Vector2 entityPosition = new Vector2();
+  private final Vector2 rayEnd = new Vector2();
   private final PhysicsEngine physics;
   private GameTime timeSource;
   private long endTime;
@@ -125,8 +127,8 @@ public class MobMeleeAttackTask extends DefaultTask implements PriorityTask {
           attackComp.onCollisionStart(hitboxComp.getFixture(), target);
           this.owner.getEntity().getEvents().trigger(FIRING);
         } else {
-          Entity newProjectile = ProjectileFactory.createMobBall(PhysicsLayer.HUMANS, new Vector2(0, owner.getEntity().getPosition().y), new Vector2(2f,2f));
-          newProjectile.setPosition(owner.getEntity().getPosition().x, owner.getEntity().getPosition().y);
+          Entity newProjectile = ProjectileFactory.createMobBall(PhysicsLayer.HUMANS, new Vector2(0, owner.getEntity().getPosition(entityPosition).y), new Vector2(2f,2f));
+          newProjectile.setPosition(owner.getEntity().getPosition(entityPosition).x, owner.getEntity().getPosition(entityPosition).y);
           newProjectile.setScale(-0.0f, 0.0f);
           ServiceLocator.getEntityService().register(newProjectile);
 
@@ -180,8 +182,9 @@ public class MobMeleeAttackTask extends DefaultTask implements PriorityTask {
    * @return true if a target is visible, false otherwise
    */
   private boolean isTargetVisible() {
-    Vector2 newVector = new Vector2(owner.getEntity().getPosition().x - 100f, owner.getEntity().getPosition().y - 2f);
-    return physics.raycast(owner.getEntity().getPosition(), newVector, TARGET_LAYER, hit);
+    Vector2 from = owner.getEntity().getPosition(entityPosition);
+    rayEnd.set(from.x - 100f, from.y - 2f);
+    return physics.raycast(from, rayEnd, TARGET_LAYER, hit);
   }
 
   /**
@@ -208,7 +211,8 @@ public class MobMeleeAttackTask extends DefaultTask implements PriorityTask {
   }
 
   private void setTarget() {
-    Vector2 newVector = new Vector2(owner.getEntity().getPosition().x - 100f, owner.getEntity().getPosition().y - 2f);
-    target = physics.raycastGetHit(owner.getEntity().getPosition(), newVector, TARGET_LAYER);
+    Vector2 from = owner.getEntity().getPosition(entityPosition);
+    rayEnd.set(from.x - 100f, from.y - 2f);
+    target = physics.raycastGetHit(from, rayEnd, TARGET_LAYER);
   }
 }
@@ -2,7 +2,6 @@ package com.csse3200.game.components.tasks.MobTask;
 
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Timer;
 import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.ai.tasks.PriorityTask;
 import com.csse3200.game.components.CombatStatsComponent;
@@ -17,7 +16,9 @@ import com.csse3200.game.physics.components.HitboxComponent;
 import com.csse3200.game.physics.components.PhysicsMovementComponent;
 import com.csse3200.game.rendering.AnimationRenderComponent;
 import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.GameTimer;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.TimerService;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -57,6 +58,7 @@ public class MobTask extends DefaultTask implements PriorityTask {
     private GameTime gameTime;
     private long lastTimeAttacked;
     private long dodgeEndTime;
+    private GameTimer meleeTimer;
 
     // Flags
     boolean melee;
@@ -112,6 +114,14 @@ public class MobTask extends DefaultTask implements PriorityTask {
         lastTimeAttacked = gameTime.getTime();
         dodgeEndTime = gameTime.getTime();
 
+        TimerService timerService = ServiceLocator.getTimerService();
+        if (timerService == null) {
+            throw new IllegalStateException("MobTask requires a registered TimerService");
+        }
+        if (meleeTimer == null) {
+            meleeTimer = timerService.create(this::meleeCooldownEnded);
+        }
+
         if (melee) {
             mob.getComponent(PhysicsMovementComponent.class).setSpeed(MELEE_MOB_SPEED);
             mob.getComponent(PhysicsMovementComponent.class).setNormalSpeed(MELEE_MOB_SPEED);
@@ -121,6 +131,17 @@ public class MobTask extends DefaultTask implements PriorityTask {
         }
     }
 
+    /**
+     * stops the mob sequence and cancels any pending melee cooldown
+     */
+    @Override
+    public void stop() {
+        super.stop();
+        if (meleeTimer != null) {
+            meleeTimer.cancel();
+        }
+    }
+
     /**
      * handles the sequencing of melee and range mobs and detects death state
      */
@@ -268,15 +289,17 @@ public class MobTask extends DefaultTask implements PriorityTask {
         }
         CombatStatsComponent targetCombatStats = target.getComponent(CombatStatsComponent.class);
         targetCombatStats.hit(MELEE_DAMAGE);
-        Timer.schedule(new Timer.Task() {
-            @Override
-            public void run() {
-                if (!targetInRange) {
-                    return; // stop if target in range
-                }
-                meleeFlag = true; // toggle melee flag off
-            }
-        }, MELEE_ATTACK_SPEED);
+        meleeTimer.schedule(MELEE_ATTACK_SPEED / 1000f);
+    }
+
+    /**
+     * Run by the melee timer once the attack cooldown is over
+     */
+    private void meleeCooldownEnded() {
+        if (!targetInRange) {
+            return; // stop if target not in range
+        }
+        meleeFlag = true; // toggle melee flag on
     }
 
     /**
@@ -19,7 +19,8 @@ public class MovementTask extends DefaultTask {
   private Vector2 target;
   private float stopDistance = 0.01f;
   private long lastTimeMoved;
-  private Vector2 lastPos;
+  private final Vector2 lastPos = new Vector2();
+  private final Vector2 currentPos = new Vector2();
   private PhysicsMovementComponent movementComponent;
 
   public MovementTask(Vector2 target) {
@@ -40,7 +41,7 @@ public class MovementTask extends DefaultTask {
     movementComponent.setMoving(true);
     logger.debug("Starting movement towards {}", target);
     lastTimeMoved = gameTime.getTime();
-    lastPos = owner.getEntity().getPosition();
+    owner.getEntity().getPosition(lastPos);
   }
 
   @Override
@@ -67,13 +68,13 @@ public class MovementTask extends DefaultTask {
   }
 
   private boolean isAtTarget() {
-    return owner.getEntity().getPosition().dst(target) <= stopDistance;
+    return owner.getEntity().getPosition(currentPos).dst(target) <= stopDistance;
   }
 
   private void checkIfStuck() {
     if (didMove()) {
       lastTimeMoved = gameTime.getTime();
-      lastPos = owner.getEntity().getPosition();
+      owner.getEntity().getPosition(lastPos);
     } else if (gameTime.getTimeSince(lastTimeMoved) > 500L) {
       movementComponent.setMoving(false);
       status = Status.FAILED;
@@ -82,6 +83,6 @@ public class MovementTask extends DefaultTask {
   }
 
   private boolean didMove() {
-    return owner.getEntity().getPosition().dst2(lastPos) > 0.001f;
+    return owner.getEntity().getPosition(currentPos).dst2(lastPos) > 0.001f;
   }
 }
@@ -11,6 +11,7 @@ import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.raycast.RaycastHit;
 import com.csse3200.game.rendering.AnimationRenderComponent;
 import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.LaneService;
 import com.csse3200.game.services.ServiceLocator;
 
 import static java.lang.Math.round;
@@ -37,7 +38,10 @@ public class RicochetTowerCombatTask extends DefaultTask implements PriorityTask
     private final float maxRange;
     private Vector2 towerPosition = new Vector2(10, 10);
     private final Vector2 maxRangePosition = new Vector2();
+    private final Vector2 entityPosition = new Vector2();
     private PhysicsEngine physics;
+    private LaneService laneService;
+    private int lane;
     private GameTime timeSource;
     private float fireRateInterval;
     private long endTime;
@@ -59,6 +63,7 @@ public class RicochetTowerCombatTask extends DefaultTask implements PriorityTask
         this.maxRange = maxRange;
         this.fireRateInterval = 1;
         physics = ServiceLocator.getPhysicsService().getPhysics();
+        laneService = ServiceLocator.getLaneService();
         timeSource = ServiceLocator.getTimeSource();
     }
 
@@ -70,6 +75,7 @@ public class RicochetTowerCombatTask extends DefaultTask implements PriorityTask
         super.start();
         // Get the tower coordinates
         this.towerPosition = owner.getEntity().getCenterPosition().sub(0.25f, 0.25f);
+        this.lane = LaneService.getLane(owner.getEntity().getPosition().y);
         this.maxRangePosition.set(towerPosition.x + maxRange, towerPosition.y);
         // Set the default state to IDLE state
         owner.getEntity().getEvents().trigger(IDLE);
@@ -120,9 +126,9 @@ public class RicochetTowerCombatTask extends DefaultTask implements PriorityTask
                         owner.getEntity().getEvents().trigger(ATTACK);
                         Entity newProjectile = ProjectileFactory.createRicochetFireball(PhysicsLayer.NPC,
                                 // NEED TO DO USER TESTING TO FIGURE OUT THE BOUNCE COUNT
-                                new Vector2(100, owner.getEntity().getPosition().y), new Vector2(2f, 2f), 3);
-                        newProjectile.setPosition((float) (owner.getEntity().getPosition().x + 0.25),
-                                (owner.getEntity().getPosition().y));
+                                new Vector2(100, owner.getEntity().getPosition(entityPosition).y), new Vector2(2f, 2f), 3);
+                        newProjectile.setPosition((float) (owner.getEntity().getPosition(entityPosition).x + 0.25),
+                                (owner.getEntity().getPosition(entityPosition).y));
                         ServiceLocator.getEntityService().register(newProjectile);
                     }
                 }
@@ -170,11 +176,20 @@ public class RicochetTowerCombatTask extends DefaultTask implements PriorityTask
         return !isTargetVisible() ? 0 : priority;
     }
 
+    @Override
+    public float getPriorityInterval() {
+        return INTERVAL;
+    }
+
     /**
      * Searches for enemies/mobs in a straight line from the centre of the tower to maxRange in a straight line.
      * @return true if targets are detected, false otherwise
      */
     public boolean isTargetVisible() {
+        if (laneService != null) {
+            // Mobs in this lane are indexed by x, which is much cheaper than raycasting
+            return laneService.hasTargetInRange(lane, towerPosition.x, maxRangePosition.x);
+        }
         boolean top = physics.raycast(towerPosition.add(0f,0.4f), maxRangePosition.add(0f,0.4f), TARGET, hit);
         boolean bottom = physics.raycast(towerPosition.sub(0f,0.4f), maxRangePosition.sub(0f,0.4f), TARGET, hit);
         return top || bottom;
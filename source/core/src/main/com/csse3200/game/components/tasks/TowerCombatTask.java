@@ -6,17 +6,19 @@ import com.csse3200.game.ai.tasks.PriorityTask;
 import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.factories.ProjectileFactory;
+import com.csse3200.game.logging.GameEventLog;
+import com.csse3200.game.logging.LogGate;
 import com.csse3200.game.physics.PhysicsEngine;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.raycast.RaycastHit;
 import com.csse3200.game.rendering.AnimationRenderComponent;
-import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.GameTimer;
+import com.csse3200.game.services.LaneService;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.TimerService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import static java.lang.Math.round;
-
 /**
  * The TowerCombatTask runs the AI for the WeaponTower class. The tower will scan for targets in a straight line
  * from its center point until a point at (x + maxRange, y), where x,y are the cooridinates of the tower's center
@@ -39,9 +41,11 @@ public class TowerCombatTask extends DefaultTask implements PriorityTask {
     private final float maxRange;
     private Vector2 towerPosition = new Vector2(10, 10); // initial placeholder value - will be overwritten
     private final Vector2 maxRangePosition = new Vector2();
+    private final Vector2 entityPosition = new Vector2();
     private final PhysicsEngine physics;
-    private final GameTime timeSource;
-    private long endTime;
+    private final LaneService laneService;
+    private int lane;
+    private GameTimer scanTimer;
     private final RaycastHit hit = new RaycastHit();
     private static final Logger logger = LoggerFactory.getLogger(TowerCombatTask.class);
     private boolean shoot = true;
@@ -60,7 +64,7 @@ public class TowerCombatTask extends DefaultTask implements PriorityTask {
         this.maxRange = maxRange;
         this.fireRateInterval = 1;
         physics = ServiceLocator.getPhysicsService().getPhysics();
-        timeSource = ServiceLocator.getTimeSource();
+        laneService = ServiceLocator.getLaneService();
     }
 
     /**
@@ -74,7 +78,7 @@ public class TowerCombatTask extends DefaultTask implements PriorityTask {
         this.maxRange = maxRange;
         this.fireRateInterval = 1/fireRate;
         physics = ServiceLocator.getPhysicsService().getPhysics();
-        timeSource = ServiceLocator.getTimeSource();
+        laneService = ServiceLocator.getLaneService();
     }
 
     /**
@@ -85,28 +89,34 @@ public class TowerCombatTask extends DefaultTask implements PriorityTask {
         super.start();
         // Set the tower's coordinates
         this.towerPosition = owner.getEntity().getCenterPosition();
+        this.lane = LaneService.getLane(owner.getEntity().getPosition().y);
         this.maxRangePosition.set(towerPosition.x + maxRange, towerPosition.y);
         // Default to idle mode
         owner.getEntity().getEvents().trigger(IDLE);
         // Set up listener to change fire rate
         owner.getEntity().getEvents().addListener("addFireRate",this::changeFireRateInterval);
-        logger.info("TowerCombatTask started");
-        endTime = timeSource.getTime() + (INTERVAL * 500);
+        if (LogGate.HOT_PATHS) {
+            logger.debug("TowerCombatTask started");
+        }
+        // Scans run on a game time timer, so the task costs nothing on frames in between
+        TimerService timerService = ServiceLocator.getTimerService();
+        if (timerService == null) {
+            throw new IllegalStateException("TowerCombatTask requires a registered TimerService");
+        }
+        if (scanTimer == null) {
+            scanTimer = timerService.create(this::scan);
+        }
+        scanTimer.schedule(INTERVAL * 0.5f);
     }
 
     /**
-     * The update method is what is run every time the TaskRunner in the AiTaskComponent calls update().
-     * triggers events depending on the presence or otherwise of targets in the detection range
+     * Run by the scan timer. Triggers events depending on the presence or otherwise of targets in the detection
+     * range, then waits for the next shot while firing, or the next scan otherwise.
      */
-    @Override
-    public void update() {
-        if (timeSource.getTime() >= endTime) {
-            updateTowerState();
-            if (towerState == STATE.FIRING) {
-                endTime = timeSource.getTime() + round(fireRateInterval * 1000);
-            } else {
-                endTime = timeSource.getTime() + (INTERVAL * 1000);
-            }
+    private void scan() {
+        updateTowerState();
+        if (status == Status.ACTIVE) {
+            scanTimer.schedule(towerState == STATE.FIRING ? fireRateInterval : INTERVAL);
         }
     }
 
@@ -137,6 +147,9 @@ public class TowerCombatTask extends DefaultTask implements PriorityTask {
     @Override
     public void stop() {
         super.stop();
+        if (scanTimer != null) {
+            scanTimer.cancel();
+        }
         owner.getEntity().getEvents().trigger(STOW);
     }
 
@@ -146,23 +159,12 @@ public class TowerCombatTask extends DefaultTask implements PriorityTask {
      */
     @Override
     public int getPriority() {
-        return isTargetVisible() ? getActivePriority() : getInactivePriority();
-    }
-
-    /**
-     * Fetches the active priority of the Task if a target is visible.
-     * @return (int) active priority if a target is visible, -1 otherwise
-     */
-    private int getActivePriority() {
-        return !isTargetVisible() ? 0 : priority;
+        return isTargetVisible() ? priority : 0;
     }
 
-    /**
-     * Fetches the inactive priority of the Task if a target is not visible.
-     * @return (int) -1 if a target is not visible, active priority otherwise
-     */
-    private int getInactivePriority() {
-        return isTargetVisible() ? priority : 0;
+    @Override
+    public float getPriorityInterval() {
+        return INTERVAL;
     }
 
     /**
@@ -170,6 +172,10 @@ public class TowerCombatTask extends DefaultTask implements PriorityTask {
      * @return true if a target is visible, false otherwise
      */
     private boolean isTargetVisible() {
+        if (laneService != null) {
+            // Mobs in this lane are indexed by x, which is much cheaper than raycasting
+            return laneService.hasTargetInRange(lane, towerPosition.x, maxRangePosition.x);
+        }
         // If there is an obstacle in the path to the max range point, mobs visible.
         boolean top = physics.raycast(towerPosition.add(0f,0.4f), maxRangePosition.add(0f,0.4f), TARGET, hit);
         boolean bottom = physics.raycast(towerPosition.sub(0f,0.4f), maxRangePosition.sub(0f,0.4f), TARGET, hit);
@@ -182,7 +188,10 @@ public class TowerCombatTask extends DefaultTask implements PriorityTask {
      * @param newInterval The rate at which the tower should fire projectiles in shots per second.
      */
     private void changeFireRateInterval(int newInterval) {
-        logger.info(String.format("Changing fire rate to: %d", newInterval));
+        GameEventLog.record(GameEventLog.Type.FIRE_RATE_CHANGED, owner.getEntity().getId(), newInterval);
+        if (LogGate.HOT_PATHS) {
+            logger.debug("Changing fire rate to: {}", newInterval);
+        }
         fireRateInterval = 1 / ((float) newInterval / 5);
     }
 
@@ -233,9 +242,9 @@ public class TowerCombatTask extends DefaultTask implements PriorityTask {
                 owner.getEntity().getEvents().trigger(FIRING);
                 // this might be changed to an event which gets triggered everytime the tower enters the firing state
 
-                Entity newProjectile = ProjectileFactory.createFireBall(PhysicsLayer.NPC, new Vector2(100, owner.getEntity().getPosition().y), new Vector2(2f, 2f));
+                Entity newProjectile = ProjectileFactory.createFireBall(PhysicsLayer.NPC, new Vector2(100, owner.getEntity().getPosition(entityPosition).y), new Vector2(2f, 2f));
                 newProjectile.setScale(1.1f, 0.8f);
-                newProjectile.setPosition((float) (owner.getEntity().getPosition().x + 0.5), (owner.getEntity().getPosition().y));
+                newProjectile.setPosition((float) (owner.getEntity().getPosition(entityPosition).x + 0.5), (owner.getEntity().getPosition(entityPosition).y));
                 ServiceLocator.getEntityService().register(newProjectile);
             }
         }
@@ -30,6 +30,7 @@ public class TrajectTask extends DefaultTask implements PriorityTask {
   @Override
   public void start() {
     super.start();
+    projectileState = STATE.START;
     movementTask = new MovementTask(destination);
     movementTask.create(owner);
     movementTask.start();
@@ -40,6 +41,15 @@ public class TrajectTask extends DefaultTask implements PriorityTask {
     this.owner.getEntity().getEvents().trigger("startMobBoss");
   }
 
+  /**
+   * Change where the projectile heads towards. Takes effect the next time the task is started.
+   *
+   * @param destination The destination that the projectile will move towards.
+   */
+  public void setDestination(Vector2 destination) {
+    this.destination = destination;
+  }
+
   /**
    * Switches the state to FINAL if it is START.
    */
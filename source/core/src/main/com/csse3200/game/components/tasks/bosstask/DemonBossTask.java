@@ -3,7 +3,6 @@ package com.csse3200.game.components.tasks.bosstask;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.Timer;
 import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.ai.tasks.PriorityTask;
 import com.csse3200.game.components.CombatStatsComponent;
@@ -87,24 +86,18 @@ public class DemonBossTask extends DefaultTask implements PriorityTask {
         demon.getComponent(PhysicsMovementComponent.class).setSpeed(DEMON_SPEED); // set speed
         demon.getComponent(PhysicsMovementComponent.class).setNormalSpeed(DEMON_SPEED);
 
-        Timer.schedule(new Timer.Task() {
-            @Override
-            public void run() {
-                changeState(DemonState.TRANSFORM);
-                animate();
-                demon.getEvents().trigger("demon_spawn_sound");
-                startFlag = true;
-            }
+        ServiceLocator.getTimerService().schedule(() -> {
+            changeState(DemonState.TRANSFORM);
+            animate();
+            demon.getEvents().trigger("demon_spawn_sound");
+            startFlag = true;
         }, 0.1f);
 
         // shift demon's boundary left every 30s
         for (int i = 1; i < 6; i++) {
-            Timer.schedule(new Timer.Task() {
-                @Override
-                public void run() {
-                    xLeftBoundary -= 2;
-                    xRightBoundary -= 2;
-                }
+            ServiceLocator.getTimerService().schedule(() -> {
+                xLeftBoundary -= 2;
+                xRightBoundary -= 2;
             }, MOVE_FORWARD_DELAY * i);
         }
     }
@@ -275,11 +268,8 @@ public class DemonBossTask extends DefaultTask implements PriorityTask {
         demon.getEvents().trigger("demon_roar_sound");
 
         // play landing sound
-        Timer.schedule(new Timer.Task() {
-            @Override
-            public void run() {
-                demon.getEvents().trigger("demon_landing_sound");
-            }
+        ServiceLocator.getTimerService().schedule(() -> {
+            demon.getEvents().trigger("demon_landing_sound");
         }, 1.8f);
 
         jumpTask = new MovementTask(finalPos);
@@ -386,20 +376,12 @@ public class DemonBossTask extends DefaultTask implements PriorityTask {
             Vector2 destination = new Vector2(x, y);
 
             // Create burn projectiles
-            Timer.schedule(new Timer.Task() {
-                @Override
-                public void run() {
-                  // service locator getting a service could be anything here.
-                  if(ServiceLocator.getTimeSource() == null) {
-                    stop();
-                    return; // prevent current iteration from running.
-                  }
-                    Entity projectile = ProjectileFactory.createEffectProjectile(PhysicsLayer.HUMANS, destination,
-                            new Vector2(2, 2), effect, aoe);
-                    projectile.setPosition(demon.getPosition().x, demon.getPosition().y);
-                    projectile.setScale(-1f, 1f);
-                    ServiceLocator.getEntityService().register(projectile);
-                }
+            ServiceLocator.getTimerService().schedule(() -> {
+                Entity projectile = ProjectileFactory.createEffectProjectile(PhysicsLayer.HUMANS, destination,
+                        new Vector2(2, 2), effect, aoe);
+                projectile.setPosition(demon.getPosition().x, demon.getPosition().y);
+                projectile.setScale(-1f, 1f);
+                ServiceLocator.getEntityService().register(projectile);
             }, delay * i + BREATH_ANIM_TIME);
         }
     }
@@ -431,12 +413,9 @@ public class DemonBossTask extends DefaultTask implements PriorityTask {
                 PhysicsLayer.HUMANS);
         CombatStatsComponent targetCombatStats = target.
                 getComponent(CombatStatsComponent.class);
-        Timer.schedule(new Timer.Task() {
-            @Override
-            public void run() {
-                demon.getEvents().trigger("demon_cleave_sound");
-                targetCombatStats.hit(CLEAVE_DAMAGE);
-            }
+        ServiceLocator.getTimerService().schedule(() -> {
+            demon.getEvents().trigger("demon_cleave_sound");
+            targetCombatStats.hit(CLEAVE_DAMAGE);
         }, 2f);
     }
 
@@ -446,21 +425,15 @@ public class DemonBossTask extends DefaultTask implements PriorityTask {
     private void halfHealth() {
         changeState(DemonState.CAST);
         isHealing = true;
-        Timer.schedule(new Timer.Task() {
-            @Override
-            public void run() {
-                isHealing = false;
-            }
+        ServiceLocator.getTimerService().schedule(() -> {
+            isHealing = false;
         }, (float) HEAL_TIMES / 2);
 
         // add health every 10s
         for (int i = 0; i < HEAL_TIMES; i++) {
-            Timer.schedule(new Timer.Task() {
-                @Override
-                public void run() {
-                    demon.getEvents().trigger("demon_heal_sound");
-                    demon.getComponent(CombatStatsComponent.class).addHealth(HEALTH_TO_ADD);
-                }
+            ServiceLocator.getTimerService().schedule(() -> {
+                demon.getEvents().trigger("demon_heal_sound");
+                demon.getComponent(CombatStatsComponent.class).addHealth(HEALTH_TO_ADD);
             }, (float) i /2);
         }
     }
@@ -469,9 +442,7 @@ public class DemonBossTask extends DefaultTask implements PriorityTask {
         for (int i = 0; i < SLIMES_SPAWNED; i++) {
             demon.getEvents().trigger("spawn_demon_slime");
             int finalI = i;
-            Timer.schedule(new Timer.Task() {
-                @Override
-                public void run() {
+            ServiceLocator.getTimerService().schedule(() -> {
                 Entity slime = MobBossFactory.createSlimeyBoy(100);
                 float angle = MathUtils.random(0f, MathUtils.PI2);
                 float distance = MathUtils.random(0f, SPAWN_RADIUS);
@@ -494,7 +465,6 @@ public class DemonBossTask extends DefaultTask implements PriorityTask {
                 if (finalI == SLIMES_SPAWNED - 1) {
                     isSpawning = false;
                 }
-                }
             }, (float) (i + 1) * 2);
         }
     }
@@ -3,7 +3,6 @@ package com.csse3200.game.components.tasks.bosstask;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.Timer;
 import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.ai.tasks.PriorityTask;
 import com.csse3200.game.components.CombatStatsComponent;
@@ -73,23 +72,17 @@ public class IceBabyTask extends DefaultTask implements PriorityTask {
         currentPos = iceBaby.getPosition();
         iceBaby.getComponent(PhysicsMovementComponent.class).setSpeed(ICEBABY_SPEED);
         iceBaby.getComponent(PhysicsMovementComponent.class).setNormalSpeed(ICEBABY_SPEED);
-        Timer.schedule(new Timer.Task() {
-            @Override
-            public void run() {
-                changeState(STATE.INTRO);
-                animate();
-                startFlag = true;
-            }
+        ServiceLocator.getTimerService().schedule(() -> {
+            changeState(STATE.INTRO);
+            animate();
+            startFlag = true;
         }, 0.1f);
 
         // shift demon's boundary left every 30s
         for (int i = 1; i < 6; i++) {
-            Timer.schedule(new Timer.Task() {
-                @Override
-                public void run() {
-                    xLeftBoundary -= 2;
-                    xRightBoundary -= 2;
-                }
+            ServiceLocator.getTimerService().schedule(() -> {
+                xLeftBoundary -= 2;
+                xRightBoundary -= 2;
             }, MOVE_FORWARD_DELAY * i);
         }
 
@@ -251,11 +244,8 @@ public class IceBabyTask extends DefaultTask implements PriorityTask {
                 PhysicsLayer.HUMANS);
         CombatStatsComponent targetCombatStats = target.
                 getComponent(CombatStatsComponent.class);
-        Timer.schedule(new Timer.Task() {
-            @Override
-            public void run() {
-                targetCombatStats.hit(ATK3_DAMAGE);
-            }
+        ServiceLocator.getTimerService().schedule(() -> {
+            targetCombatStats.hit(ATK3_DAMAGE);
         }, 2f);
     }
 
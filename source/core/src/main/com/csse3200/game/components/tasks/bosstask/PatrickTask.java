@@ -2,7 +2,6 @@ package com.csse3200.game.components.tasks.bosstask;
 
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Timer;
 import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.ai.tasks.PriorityTask;
 import com.csse3200.game.components.CombatStatsComponent;
@@ -67,15 +66,12 @@ public class PatrickTask extends DefaultTask implements PriorityTask {
         patrick.getComponent(PhysicsMovementComponent.class).setNormalSpeed(PATRICK_SPEED);
 
         // give game time to load
-        Timer.schedule(new Timer.Task() {
-            @Override
-            public void run() {
-                changeState(PatrickState.APPEAR);
-                patrick.getEvents().trigger("patrick_appear_sound");
-                patrick.getEvents().trigger("patrick_spawn_sound");
-                startFlag = true;
-                spawnFlag = true;
-            }
+        ServiceLocator.getTimerService().schedule(() -> {
+            changeState(PatrickState.APPEAR);
+            patrick.getEvents().trigger("patrick_appear_sound");
+            patrick.getEvents().trigger("patrick_spawn_sound");
+            startFlag = true;
+            spawnFlag = true;
         }, 0.1f);
     }
 
@@ -126,11 +122,8 @@ public class PatrickTask extends DefaultTask implements PriorityTask {
                     meleeAttack();
                     spawnFlag = false;
                 } else if (meleeFlag) {
-                    Timer.schedule(new Timer.Task() {
-                        @Override
-                        public void run() {
-                            patrick.getEvents().trigger("patrick_hit_sound");
-                        }
+                    ServiceLocator.getTimerService().schedule(() -> {
+                        patrick.getEvents().trigger("patrick_hit_sound");
                     }, 1f);
                     changeState(PatrickState.ATTACK);
                     meleeFlag = false;
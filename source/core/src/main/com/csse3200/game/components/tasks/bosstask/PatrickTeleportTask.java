@@ -1,11 +1,11 @@
 package com.csse3200.game.components.tasks.bosstask;
 
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Timer;
 import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.rendering.AnimationRenderComponent;
+import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,12 +36,9 @@ public class PatrickTeleportTask extends DefaultTask {
         health = combatStats.getHealth();
         changeState(PatrickState.CAST);
         patrick.getEvents().trigger("patrick_thunder_sound");
-        Timer.schedule(new Timer.Task() {
-            @Override
-            public void run() {
-                patrick.getEvents().trigger(
-                        "patrick_cast_sound");
-            }
+        ServiceLocator.getTimerService().schedule(() -> {
+            patrick.getEvents().trigger(
+                    "patrick_cast_sound");
         }, 0.3f);
     }
 
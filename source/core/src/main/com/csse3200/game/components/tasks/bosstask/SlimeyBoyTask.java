@@ -3,7 +3,6 @@ package com.csse3200.game.components.tasks.bosstask;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.Timer;
 import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.ai.tasks.PriorityTask;
 import com.csse3200.game.components.CombatStatsComponent;
@@ -64,11 +63,8 @@ public class SlimeyBoyTask extends DefaultTask implements PriorityTask {
         slimey.getComponent(PhysicsMovementComponent.class).setSpeed(SLIMEY_SPEED); // set speed
         changeState(SlimeState.TRANSFORM);
         slimey.getEvents().trigger("demon_death_sound");
-        Timer.schedule(new Timer.Task() {
-            @Override
-            public void run() {
-                slimey.getEvents().trigger("slime_pop_sound");
-            }
+        ServiceLocator.getTimerService().schedule(() -> {
+            slimey.getEvents().trigger("slime_pop_sound");
         }, 6f);
     }
 
@@ -9,7 +9,9 @@ import com.csse3200.game.physics.PhysicsEngine;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.raycast.RaycastHit;
 import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.GameTimer;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.TimerService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,7 +42,7 @@ public class EngineerCombatTask extends DefaultTask implements PriorityTask {
     private final Vector2 maxRangePosition = new Vector2();
     private PhysicsEngine physics;
     private GameTime timeSource;
-    private long endTime;
+    private GameTimer scanTimer;
     private long reloadTime;
 
     private static final Logger logger = LoggerFactory.getLogger(EngineerCombatTask.class);
@@ -77,19 +79,14 @@ public class EngineerCombatTask extends DefaultTask implements PriorityTask {
         // Default to idle mode
         owner.getEntity().getEvents().trigger(IDLE_RIGHT);
         
-        endTime = timeSource.getTime() + (INTERVAL * 500);
-    }
-    
-    /**
-     * The update method is what is run every time the TaskRunner in the AiTaskComponent calls update().
-     * triggers events depending on the presence or otherwise of targets in the detection range
-     */
-    @Override
-    public void update() {
-        if (timeSource.getTime() >= endTime) {
-            updateEngineerState();
-            endTime = timeSource.getTime() + (INTERVAL * 1000);
+        TimerService timerService = ServiceLocator.getTimerService();
+        if (timerService == null) {
+            throw new IllegalStateException("EngineerCombatTask requires a registered TimerService");
+        }
+        if (scanTimer == null) {
+            scanTimer = timerService.create(this::updateEngineerState);
         }
+        scanTimer.scheduleRepeating(INTERVAL * 0.5f, INTERVAL);
     }
     
     /**
@@ -149,6 +146,9 @@ public class EngineerCombatTask extends DefaultTask implements PriorityTask {
     @Override
     public void stop() {
         super.stop();
+        if (scanTimer != null) {
+            scanTimer.cancel();
+        }
     }
 
     /**
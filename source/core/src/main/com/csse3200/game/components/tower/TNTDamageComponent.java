@@ -1,29 +1,21 @@
 package com.csse3200.game.components.tower;
 
-import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.physics.box2d.Body;
-import com.badlogic.gdx.physics.box2d.Fixture;
-import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.components.Component;
-import com.csse3200.game.entities.Entity;
-import com.csse3200.game.physics.BodyUserData;
-import com.csse3200.game.physics.PhysicsLayer;
-import com.csse3200.game.physics.components.HitboxComponent;
-import com.csse3200.game.physics.components.PhysicsComponent;
-import com.csse3200.game.physics.components.PhysicsMovementComponent;
+import com.csse3200.game.services.AreaDamageService;
 import com.csse3200.game.services.ServiceLocator;
 
 /**
  * Class responsible for applying damage and knock-back to nearby entities when triggered.
- * Utilizes HitboxComponent and CombatStatsComponent for functionality.
+ * Utilizes CombatStatsComponent for functionality, and the AreaDamageService to find and hit targets.
  */
 public class TNTDamageComponent extends Component {
+    // Targets must be within a lane of the TNT
+    private static final float LANE_BAND = 1f;
     private short targetLayer;
     private float knockbackForce = 0f;
     private float radius;
     private CombatStatsComponent combatStats;
-    private HitboxComponent hitboxComponent;
 
     /**
      * Default constructor for creating a component without knockback.
@@ -54,77 +46,16 @@ public class TNTDamageComponent extends Component {
     public void create() {
         entity.getEvents().addListener("TNTDamageStart", this::applyTNTDamage);
         combatStats = entity.getComponent(CombatStatsComponent.class);
-        hitboxComponent = entity.getComponent(HitboxComponent.class);
     }
 
     /**
-     * Scans all nearby entities within a given radius and applies damage and knockback to them.
+     * Requests damage and knockback for every target within the radius and in the same lane. The damage is dealt
+     * by the {@link AreaDamageService} at the end of the tick.
      */
     private void applyTNTDamage() {
-        // Fetch nearby entities
-        Array<Entity> allEntities = ServiceLocator.getEntityService().getEntities();
-
-        for (int i = 0; i < allEntities.size; i++) {
-            Entity otherEntity = allEntities.get(i);
-
-            Vector2 positionSource = entity.getPosition();
-            Vector2 positionOther = otherEntity.getPosition();
-
-            if (positionSource.dst(positionOther) <= radius && positionSource.y -1 <= positionOther.y && positionSource.y +1 >= positionOther.y) {
-                HitboxComponent sourceHitbox = entity.getComponent(HitboxComponent.class);
-                HitboxComponent otherHitbox = otherEntity.getComponent(HitboxComponent.class);
-
-                // Check for null components and log specifics
-                if (sourceHitbox == null || otherHitbox == null || entity == otherEntity) {
-
-                    continue;
-                }
-
-                applyDamage(sourceHitbox.getFixture(), otherHitbox.getFixture());
-            }
-        }
-    }
-
-
-    /**
-     * Applies damage and knockback to a specific entity based on their physics fixtures.
-     *
-     * @param me The fixture representing this entity.
-     * @param other The fixture representing the target entity.
-     */
-    private void applyDamage(Fixture me, Fixture other) {
-        if (hitboxComponent.getFixture() != me) {
-            // Not triggered by hitbox, ignore
-            return;
-        }
-
-        if (!PhysicsLayer.contains(targetLayer, other.getFilterData().categoryBits)) {
-            // Doesn't match our target layer, ignore
-            return;
-        }
-
-        // Try to attack target.
-        Entity target = ((BodyUserData) other.getBody().getUserData()).entity;
-        CombatStatsComponent targetStats = target.getComponent(CombatStatsComponent.class);
-        if (targetStats != null) {
-            targetStats.hit(combatStats);
-        }
-
-        // apply knock-back
-        PhysicsComponent physicsComponent = target.getComponent(PhysicsComponent.class);
-        PhysicsMovementComponent movementComponent = target.getComponent(PhysicsMovementComponent.class);
-
-        if (physicsComponent != null && knockbackForce > 0f) {
-            // Disable regular movement temporarily
-            if (movementComponent != null) {
-                movementComponent.applyKnockback(0.5f);  // Disable movement for 0.5 seconds
-            }
-
-            Body targetBody = physicsComponent.getBody();
-            Vector2 direction = target.getCenterPosition().sub(entity.getCenterPosition()).nor();
-            direction.y = 0;
-            Vector2 impulse = direction.scl(knockbackForce);
-            targetBody.applyLinearImpulse(impulse, targetBody.getWorldCenter(), true);
-        }
+        ServiceLocator.getAreaDamageService()
+                .submit(entity, radius, LANE_BAND, targetLayer)
+                .setDamage(combatStats)
+                .setKnockback(knockbackForce);
     }
-}
\ No newline at end of file
+}
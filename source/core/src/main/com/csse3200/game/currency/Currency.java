@@ -1,5 +1,8 @@
 package com.csse3200.game.currency;
 
+import com.csse3200.game.events.EventHandler;
+import com.csse3200.game.logging.GameEventLog;
+import com.csse3200.game.logging.LogGate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -14,6 +17,8 @@ public abstract class Currency {
 
     private final String name;
 
+    private final EventHandler events = new EventHandler();
+
     /**
      * Constructor for the currency object.
      * @param logoFilePath the file path of the logo
@@ -32,7 +37,19 @@ public abstract class Currency {
     }
 
     public void setAmount(int amount) {
-        this.amount = amount;
+        if (this.amount != amount) {
+            this.amount = amount;
+            events.trigger("amountChanged", amount);
+        }
+    }
+
+    /**
+     * Events announcing changes to the currency: amountChanged (Integer) with the new amount.
+     *
+     * @return the currency's events
+     */
+    public EventHandler getEvents() {
+        return events;
     }
 
     /**
@@ -52,8 +69,11 @@ public abstract class Currency {
      * @param addedAmount The amount the currency will be incremented by.
      */
     public void modify(int addedAmount) {
-        logger.debug(String.format("Modifying %s by %d", this.getClass().getSimpleName(), addedAmount));
-        this.amount += addedAmount;
+        GameEventLog.record(GameEventLog.Type.CURRENCY_MODIFIED, GameEventLog.NO_ENTITY, addedAmount);
+        if (LogGate.HOT_PATHS) {
+            logger.debug("Modifying {} by {}", getClass().getSimpleName(), addedAmount);
+        }
+        setAmount(this.amount + addedAmount);
     }
 
     /**
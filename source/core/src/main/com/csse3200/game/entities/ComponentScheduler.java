@@ -0,0 +1,216 @@
+package com.csse3200.game.entities;
+
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.components.Component;
+import com.csse3200.game.components.ComponentType;
+import com.csse3200.game.services.ProfilerService;
+
+/**
+ * Keeps the components of registered entities which need updating in dense arrays, one per
+ * component type, and updates them type by type. Components which don't override update() or
+ * earlyUpdate() (see {@link ComponentType#hasUpdate()}) are never added, so they cost nothing each
+ * frame. Used by the entity service.
+ *
+ * <p>Each entity keeps a {@link Slot} per list its components are in, holding the component's index
+ * in that list, so removing it is a swap with the last component. Components removed while updating
+ * are skipped for the rest of the update and taken out of their lists once it finishes, so no
+ * component is moved behind the loop and misses its update.
+ */
+class ComponentScheduler {
+  // Indexed by component type id. Null for types with nothing to update
+  private final Array<Array<Slot>> earlyUpdates = new Array<>(true, 32);
+  private final Array<Array<Slot>> updates = new Array<>(true, 32);
+  // Slots removed during update(), taken out of their lists once it finishes
+  private final Array<Slot> pendingRemovals = new Array<>(false, 16, Slot.class);
+  private boolean updating = false;
+
+  /**
+   * Start updating an entity's created components.
+   *
+   * @param entity registered entity
+   */
+  void add(Entity entity) {
+    if (entity.schedulerSlots == null) {
+      entity.schedulerSlots = createSlots(entity.getCreatedComponents());
+    }
+    Slot[] slots = entity.schedulerSlots;
+    for (int i = 0; i < slots.length; i++) {
+      Slot slot = slots[i];
+      if (slot.removing) {
+        // Removed earlier in this update, so it is still in its list
+        slot.removing = false;
+      } else if (slot.index < 0) {
+        slot.index = slot.list.size;
+        slot.list.add(slot);
+      }
+    }
+  }
+
+  /**
+   * Stop updating an entity's components.
+   *
+   * @param entity entity being unregistered
+   */
+  void remove(Entity entity) {
+    Slot[] slots = entity.schedulerSlots;
+    if (slots == null) {
+      return;
+    }
+    for (int i = 0; i < slots.length; i++) {
+      Slot slot = slots[i];
+      if (slot.index < 0 || slot.removing) {
+        continue;
+      }
+      if (updating) {
+        slot.removing = true;
+        pendingRemovals.add(slot);
+      } else {
+        removeNow(slot);
+      }
+    }
+  }
+
+  /**
+   * Early update every component, then update every component, each in component type order.
+   *
+   * @param profiler profiler to time each component type with, or null to not time them
+   */
+  void update(ProfilerService profiler) {
+    updating = true;
+    try {
+      run(earlyUpdates, true, profiler);
+      run(updates, false, profiler);
+    } finally {
+      updating = false;
+      for (int i = 0; i < pendingRemovals.size; i++) {
+        Slot slot = pendingRemovals.get(i);
+        // Skip slots which were added again after being removed
+        if (slot.removing) {
+          slot.removing = false;
+          removeNow(slot);
+        }
+      }
+      pendingRemovals.clear();
+    }
+  }
+
+  /**
+   * @return number of components which are updated each frame, including early updates
+   */
+  int getScheduledCount() {
+    return count(earlyUpdates) + count(updates);
+  }
+
+  /** Stop updating every component. */
+  void clear() {
+    clear(earlyUpdates);
+    clear(updates);
+    pendingRemovals.clear();
+  }
+
+  private static void run(Array<Array<Slot>> lists, boolean early, ProfilerService profiler) {
+    for (int t = 0; t < lists.size; t++) {
+      Array<Slot> list = lists.get(t);
+      if (list == null || list.size == 0) {
+        continue;
+      }
+      int scope = profiler != null ? profiler.getScope(list.first().component) : -1;
+      if (profiler != null) {
+        profiler.begin(scope);
+      }
+      // Not cached, since components added during the loop (e.g. new projectiles) update this frame
+      for (int i = 0; i < list.size; i++) {
+        Slot slot = list.get(i);
+        Component component = slot.component;
+        if (slot.removing || !component.getEntity().isEnabled()) {
+          continue;
+        }
+        if (early) {
+          component.triggerEarlyUpdate();
+        } else {
+          component.triggerUpdate();
+        }
+      }
+      if (profiler != null) {
+        profiler.end(scope);
+      }
+    }
+  }
+
+  private Slot[] createSlots(Array<Component> components) {
+    Array<Slot> slots = new Array<>(false, components.size, Slot.class);
+    for (int i = 0; i < components.size; i++) {
+      Component component = components.get(i);
+      ComponentType type = ComponentType.getFrom(component.getClass());
+      if (type.hasEarlyUpdate()) {
+        slots.add(new Slot(component, getList(earlyUpdates, type.getId())));
+      }
+      if (type.hasUpdate()) {
+        slots.add(new Slot(component, getList(updates, type.getId())));
+      }
+    }
+    return slots.toArray();
+  }
+
+  /** Take a slot out of its list, moving the last slot into its place. */
+  private static void removeNow(Slot slot) {
+    Array<Slot> list = slot.list;
+    Slot last = list.pop();
+    if (last != slot) {
+      list.set(slot.index, last);
+      last.index = slot.index;
+    }
+    slot.index = -1;
+  }
+
+  private static Array<Slot> getList(Array<Array<Slot>> lists, int typeId) {
+    if (typeId >= lists.size) {
+      lists.setSize(typeId + 1);
+    }
+    Array<Slot> list = lists.get(typeId);
+    if (list == null) {
+      list = new Array<>(false, 16, Slot.class);
+      lists.set(typeId, list);
+    }
+    return list;
+  }
+
+  private static void clear(Array<Array<Slot>> lists) {
+    for (int t = 0; t < lists.size; t++) {
+      Array<Slot> list = lists.get(t);
+      if (list == null) {
+        continue;
+      }
+      for (int i = 0; i < list.size; i++) {
+        list.get(i).index = -1;
+        list.get(i).removing = false;
+      }
+      list.clear();
+    }
+  }
+
+  private static int count(Array<Array<Slot>> lists) {
+    int count = 0;
+    for (int t = 0; t < lists.size; t++) {
+      Array<Slot> list = lists.get(t);
+      if (list != null) {
+        count += list.size;
+      }
+    }
+    return count;
+  }
+
+  /** A component's place in one of the scheduler's lists. */
+  static class Slot {
+    private final Component component;
+    private final Array<Slot> list;
+    // Index in the list, or -1 if not in it
+    private int index = -1;
+    private boolean removing = false;
+
+    private Slot(Component component, Array<Slot> list) {
+      this.component = component;
+      this.list = list;
+    }
+  }
+}
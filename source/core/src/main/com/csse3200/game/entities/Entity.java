@@ -6,6 +6,7 @@ import com.badlogic.gdx.utils.IntMap;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.components.ComponentType;
 import com.csse3200.game.events.EventHandler;
+import com.csse3200.game.events.EventKey;
 import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,7 +28,7 @@ import org.slf4j.LoggerFactory;
 public class Entity {
   private static final Logger logger = LoggerFactory.getLogger(Entity.class);
   private static int nextId = 0;
-  private static final String EVT_NAME_POS = "setPosition";
+  private static final int EVT_POS = EventKey.intern("setPosition");
 
   private final int id;
   private final IntMap<Component> components;
@@ -35,6 +36,8 @@ public class Entity {
   private boolean enabled = true;
   private boolean created = false;
   private Vector2 position = Vector2.Zero.cpy();
+  // Position at the start of the current simulation tick, for interpolated rendering
+  private final Vector2 previousPosition = new Vector2();
   private Vector2 scale = new Vector2(1, 1);
   private Array<Component> createdComponents;
 
@@ -43,6 +46,23 @@ public class Entity {
   // Check if the entity is flagged for deletion
   private boolean isFlaggedForDelete = false;
 
+  // Spatial index bookkeeping, managed by the entity service
+  SpatialHashGrid spatialIndex;
+  int spatialCellKey;
+  boolean spatiallyIndexed = false;
+
+  // Index in the entity service's array while registered, -1 otherwise. Managed by the service
+  int serviceIndex = -1;
+  // Whether the entity service is updating this entity's components
+  boolean scheduled = false;
+  // Where the entity's components are in the scheduler's lists, once scheduled
+  ComponentScheduler.Slot[] schedulerSlots;
+  boolean queuedForDelete = false;
+
+  // Pool this entity is returned to when disposed, if any. See EntityPool
+  EntityPool pool;
+  private boolean released = false;
+
   public Entity() {
     id = nextId;
     nextId++;
@@ -51,6 +71,11 @@ public class Entity {
     eventHandler = new EventHandler();
   }
 
+  /** @return true if the entity is enabled, see {@link #setEnabled(boolean)} */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
   /**
    * Enable or disable an entity. Disabled entities do not run update() or earlyUpdate() on their
    * components, but can still be disposed.
@@ -71,6 +96,34 @@ public class Entity {
     return position.cpy(); // Cpy gives us pass-by-value to prevent bugs
   }
 
+  /**
+   * Copy the entity's game position into the given vector. Use this over {@link #getPosition()} in
+   * code which runs every frame, since it does not allocate.
+   *
+   * @param out vector to store the position in
+   * @return out, for chaining
+   */
+  public Vector2 getPosition(Vector2 out) {
+    return out.set(position);
+  }
+
+  /**
+   * Copy the entity's position, interpolated between the last two simulation ticks, into the given
+   * vector. Used to render smooth movement when frames are drawn between ticks.
+   *
+   * @param out vector to store the position in
+   * @param alpha fraction of a tick passed since the last tick, between 0 and 1
+   * @return out, for chaining
+   */
+  public Vector2 getInterpolatedPosition(Vector2 out, float alpha) {
+    return out.set(previousPosition).lerp(position, alpha);
+  }
+
+  /** Remember the current position as the start of a tick. Called by the entity service. */
+  void savePreviousPosition() {
+    previousPosition.set(position);
+  }
+
   /**
    * Set the entity's game position.
    *
@@ -78,7 +131,10 @@ public class Entity {
    */
   public void setPosition(Vector2 position) {
     this.position = position.cpy();
-    getEvents().trigger(EVT_NAME_POS, position.cpy());
+    // Moved directly rather than by the simulation, so don't interpolate from the old position
+    previousPosition.set(position);
+    updateSpatialIndex();
+    getEvents().trigger(EVT_POS, position.cpy());
   }
 
   /**
@@ -90,7 +146,9 @@ public class Entity {
   public void setPosition(float x, float y) {
     this.position.x = x;
     this.position.y = y;
-    getEvents().trigger(EVT_NAME_POS, position.cpy());
+    previousPosition.set(x, y);
+    updateSpatialIndex();
+    getEvents().trigger(EVT_POS, position.cpy());
   }
 
   /**
@@ -101,8 +159,25 @@ public class Entity {
    */
   public void setPosition(Vector2 position, boolean notify) {
     this.position = position;
+    updateSpatialIndex();
     if (notify) {
-      getEvents().trigger(EVT_NAME_POS, position);
+      getEvents().trigger(EVT_POS, position);
+    }
+  }
+
+  /**
+   * Get the entity's position without copying it. Only for use by the entity service, which reads
+   * positions many times per frame. The returned vector must not be modified.
+   *
+   * @return position
+   */
+  Vector2 peekPosition() {
+    return position;
+  }
+
+  private void updateSpatialIndex() {
+    if (spatialIndex != null) {
+      spatialIndex.update(this);
     }
   }
 
@@ -115,6 +190,17 @@ public class Entity {
     return scale.cpy(); // Cpy gives us pass-by-value to prevent bugs
   }
 
+  /**
+   * Copy the entity's scale into the given vector. Use this over {@link #getScale()} in code which
+   * runs every frame, since it does not allocate.
+   *
+   * @param out vector to store the scale in
+   * @return out, for chaining
+   */
+  public Vector2 getScale(Vector2 out) {
+    return out.set(scale);
+  }
+
   /**
    * Set the entity's scale.
    *
@@ -163,7 +249,17 @@ public class Entity {
    * @return center position
    */
   public Vector2 getCenterPosition() {
-    return getPosition().mulAdd(getScale(), 0.5f);
+    return getCenterPosition(new Vector2());
+  }
+
+  /**
+   * Copy the entity's center position into the given vector, without allocating.
+   *
+   * @param out vector to store the center position in
+   * @return out, for chaining
+   */
+  public Vector2 getCenterPosition(Vector2 out) {
+    return out.set(position).mulAdd(scale, 0.5f);
   }
 
   /**
@@ -216,19 +312,40 @@ public class Entity {
     }
   }
 
-  /** Dispose of the entity. This will dispose of all components on this entity. */
+  /**
+   * Dispose of the entity. This will dispose of all components on this entity. Pooled entities are
+   * reset and returned to their pool instead, if it has room.
+   */
   public void dispose() {
+    if (pool != null && created && (released || pool.free(this))) {
+      return;
+    }
     for (Component component : createdComponents) {
       component.dispose();
     }
     ServiceLocator.getEntityService().unregister(this);
   }
 
+  /**
+   * Stop returning this entity to its {@link EntityPool} when it's disposed, e.g. after changing it
+   * in a way its components' reset() doesn't undo. It will be disposed as normal instead.
+   */
+  public void detachFromPool() {
+    pool = null;
+  }
+
   /**
    * Create the entity and start running. This is called when the entity is registered in the world,
    * and should not be called manually.
    */
   public void create() {
+    if (released) {
+      released = false;
+      for (int i = 0; i < createdComponents.size; i++) {
+        createdComponents.get(i).reuse();
+      }
+      return;
+    }
     if (created) {
       logger.error(
           "{} was created twice. Entity should only be registered with the entity service once.",
@@ -243,21 +360,45 @@ public class Entity {
   }
 
   /**
-   * Perform an early update on all components. This is called by the entity service and should not
-   * be called manually.
+   * @return components created when the entity was registered, or null if it hasn't been created
+   */
+  Array<Component> getCreatedComponents() {
+    return createdComponents;
+  }
+
+  /**
+   * Reset the entity so it can be reused by an {@link EntityPool}. Components are reset and the
+   * entity is unregistered, but components, listeners and physics bodies are kept. The next time
+   * it is registered, its components are reused rather than created. This is called by the pool,
+   * and should not be called manually.
+   */
+  void reset() {
+    for (int i = 0; i < createdComponents.size; i++) {
+      createdComponents.get(i).reset();
+    }
+    ServiceLocator.getEntityService().unregister(this);
+    scale.set(1f, 1f);
+    enabled = true;
+    isFlaggedForDelete = false;
+    released = true;
+  }
+
+  /**
+   * Perform an early update on all components. The entity service updates registered entities'
+   * components by type instead, so this is only needed for entities updated on their own.
    */
   public void earlyUpdate() {
     if (!enabled) {
       return;
     }
-    for (Component component : createdComponents) {
-      component.triggerEarlyUpdate();
+    for (int i = 0; i < createdComponents.size; i++) {
+      createdComponents.get(i).triggerEarlyUpdate();
     }
   }
 
   /**
-   * Perform an update on all components. This is called by the entity service and should not be
-   * called manually.
+   * Perform an update on all components. The entity service updates registered entities'
+   * components by type instead, so this is only needed for entities updated on their own.
    */
   public void update() {
     if (!enabled) {
@@ -302,11 +443,18 @@ public class Entity {
     return isFlaggedForDelete;
   }
   /**
-   * Flag the entity for deletion. This will be deleted at the end of the frame.
+   * Flag the entity for deletion. This will be deleted once the physics world has finished stepping.
    * @param condition true to flag for deletion, false to unflag
    */
   public void setFlagForDelete(boolean condition) {
     this.isFlaggedForDelete = condition;
+    if (condition && !queuedForDelete && serviceIndex >= 0) {
+      EntityService entityService = ServiceLocator.getEntityService();
+      if (entityService != null) {
+        queuedForDelete = true;
+        entityService.queueDestruction(this);
+      }
+    }
   }
 
   @Override
@@ -0,0 +1,137 @@
+package com.csse3200.game.entities;
+
+import com.badlogic.gdx.utils.Array;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holds entities which have been disposed so they can be reused rather than rebuilt. Useful for
+ * short-lived entities which are spawned many times a second with the same components, such as
+ * projectiles, where building a new entity each time means a new physics body, fixtures, animations
+ * and listeners.
+ *
+ * <p>An entity attached to a pool is returned to it when disposed (e.g. after being flagged for
+ * deletion). Its components are {@link com.csse3200.game.components.Component#reset() reset} and it
+ * is unregistered, but it keeps its components, listeners and physics body. When it is registered
+ * again, its components are {@link com.csse3200.game.components.Component#reuse() reused} instead of
+ * created.
+ *
+ * <p>Example use:
+ *
+ * <pre>
+ * Entity projectile = pool.obtain();
+ * if (projectile == null) {
+ *   projectile = buildProjectile();
+ *   pool.attach(projectile);
+ * }
+ * // Configure per-use state, e.g. position and target
+ * ServiceLocator.getEntityService().register(projectile);
+ * </pre>
+ */
+public class EntityPool {
+  private static final Logger logger = LoggerFactory.getLogger(EntityPool.class);
+
+  private final String name;
+  private final int capacity;
+  private final Array<Entity> freeEntities;
+  private boolean open = true;
+  private int obtainCount = 0;
+  private int reuseCount = 0;
+
+  /**
+   * Create an entity pool.
+   *
+   * @param name name of the pool, used for logging
+   * @param capacity maximum number of free entities to hold. Entities disposed while the pool is full
+   *     are disposed as normal.
+   */
+  public EntityPool(String name, int capacity) {
+    this.name = name;
+    this.capacity = capacity;
+    this.freeEntities = new Array<>(false, Math.min(capacity, 16));
+  }
+
+  /**
+   * Take a free entity from the pool.
+   *
+   * @return a reset entity ready to be configured and registered, or null if the pool is empty and
+   *     a new entity should be built and attached
+   */
+  public Entity obtain() {
+    obtainCount++;
+    if (!open || freeEntities.isEmpty()) {
+      return null;
+    }
+    reuseCount++;
+    return freeEntities.pop();
+  }
+
+  /**
+   * Attach a newly built entity to this pool, so it is returned here when disposed.
+   *
+   * @param entity entity to attach
+   */
+  public void attach(Entity entity) {
+    entity.pool = this;
+  }
+
+  /**
+   * Return an entity to the pool. Called by the entity when it is disposed.
+   *
+   * @param entity entity being disposed
+   * @return true if the entity was reset and kept, false if it should be disposed as normal
+   */
+  boolean free(Entity entity) {
+    if (!open || freeEntities.size >= capacity) {
+      return false;
+    }
+    entity.reset();
+    freeEntities.add(entity);
+    return true;
+  }
+
+  /**
+   * Dispose every free entity and stop accepting entities. Entities still in use will be disposed as
+   * normal. Should be called before the physics world the entities belong to is disposed.
+   */
+  public void close() {
+    open = false;
+    logger.debug(
+        "Closing pool {}: {} obtained, {} reused, {} free",
+        name,
+        obtainCount,
+        reuseCount,
+        freeEntities.size);
+    for (int i = 0; i < freeEntities.size; i++) {
+      Entity entity = freeEntities.get(i);
+      entity.pool = null;
+      entity.dispose();
+    }
+    freeEntities.clear();
+  }
+
+  /** @return number of free entities in the pool */
+  public int getFreeCount() {
+    return freeEntities.size;
+  }
+
+  /** @return number of times an entity has been requested from the pool */
+  public int getObtainCount() {
+    return obtainCount;
+  }
+
+  /** @return number of requests which were served by a reused entity */
+  public int getReuseCount() {
+    return reuseCount;
+  }
+
+  /** @return true if the pool is still accepting entities */
+  public boolean isOpen() {
+    return open;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("EntityPool{name=%s, free=%d}", name, freeEntities.size);
+  }
+}
@@ -5,10 +5,10 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.components.HitboxComponent;
+import com.csse3200.game.services.ProfilerService;
 import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import java.util.Comparator;
 
 /**
  * Provides a global access point for entities to register themselves. This allows for iterating
@@ -22,6 +22,12 @@ public class EntityService {
   private static final int INITIAL_CAPACITY = 16;
   private final Array<Entity> entities = new Array<>(false, INITIAL_CAPACITY);
   private static final float MAX_RADIUS = 50f;
+  // Spatial index cells are one tile, so each cell sits within a single lane
+  private static final float SPATIAL_CELL_SIZE = 1f;
+  private static final short ANY_LAYER = PhysicsLayer.NONE;
+  private final SpatialHashGrid spatialIndex = new SpatialHashGrid(SPATIAL_CELL_SIZE);
+  private final Array<Entity> destroyQueue = new Array<>(false, INITIAL_CAPACITY);
+  private final ComponentScheduler scheduler = new ComponentScheduler();
   public static void removeEntity(Entity clickedEntity) {
     clickedEntity.dispose();
   }
@@ -32,8 +38,15 @@ public class EntityService {
    */
   public void register(Entity entity) {
     logger.debug("Registering {} in entity service", entity);
+    entity.serviceIndex = entities.size;
     entities.add(entity);
+    entity.spatialIndex = spatialIndex;
+    spatialIndex.insert(entity);
     entity.create();
+    if (entity.getCreatedComponents() != null && !entity.scheduled) {
+      scheduler.add(entity);
+      entity.scheduled = true;
+    }
   }
 
   /**
@@ -42,17 +55,82 @@ public class EntityService {
    */
   public void unregister(Entity entity) {
     logger.debug("Unregistering {} in entity service", entity);
-    entities.removeValue(entity, true);
+    int index = entity.serviceIndex;
+    if (index < 0 || index >= entities.size || entities.get(index) != entity) {
+      // The stored index should always be right, but never leave a disposed entity registered
+      index = entities.indexOf(entity, true);
+    }
+    if (index >= 0) {
+      // Move the last entity into the gap rather than shifting the array
+      Entity last = entities.pop();
+      if (last != entity) {
+        entities.set(index, last);
+        last.serviceIndex = index;
+      }
+    }
+    entity.serviceIndex = -1;
+    spatialIndex.remove(entity);
+    entity.spatialIndex = null;
+    if (entity.scheduled) {
+      scheduler.remove(entity);
+      entity.scheduled = false;
+    }
+  }
+
+  /**
+   * Queue an entity to be disposed after the next physics step. Called when an entity is flagged
+   * for deletion, and should not be called manually.
+   * @param entity flagged entity
+   */
+  void queueDestruction(Entity entity) {
+    destroyQueue.add(entity);
+  }
+
+  /**
+   * Dispose every registered entity which was flagged for deletion since the last call. Called by
+   * the physics engine after each world step, so the cost depends on how many entities die rather
+   * than how many exist.
+   */
+  public void destroyFlaggedEntities() {
+    // Disposing can flag more entities (e.g. from collision end events), which are handled here too
+    for (int i = 0; i < destroyQueue.size; i++) {
+      Entity entity = destroyQueue.get(i);
+      entity.queuedForDelete = false;
+      // Skip entities which were unflagged, or already disposed some other way
+      if (entity.getFlagForDelete() && entity.serviceIndex >= 0) {
+        entity.dispose();
+      }
+    }
+    destroyQueue.clear();
+  }
+
+  /**
+   * Remember the position of every entity at the start of a simulation tick, so rendering can
+   * interpolate between ticks. Should be called before physics is stepped for the tick.
+   */
+  public void savePreviousPositions() {
+    for (int i = 0; i < entities.size; i++) {
+      entities.get(i).savePreviousPosition();
+    }
   }
 
   /**
-   * Update all registered entities. Should only be called from the main game loop.
+   * Update all registered entities. Components are updated type by type, and only types which
+   * override update() or earlyUpdate() are visited, see {@link ComponentScheduler}. Should only be
+   * called from the main game loop.
    */
   public void update() {
+    ProfilerService profiler = ServiceLocator.getProfilerService();
+    if (profiler != null) {
+      profiler.begin(ProfilerService.ENTITIES);
+    }
+    scheduler.update(profiler != null && profiler.isComponentTiming() ? profiler : null);
     for (int i = 0; i < entities.size; i++) {
-      Entity entity = entities.get(i);
-      entity.earlyUpdate();
-      entity.update();
+      // Catch any movement that bypassed setPosition, e.g. physics bodies
+      spatialIndex.update(entities.get(i));
+    }
+    if (profiler != null) {
+      profiler.end(ProfilerService.ENTITIES);
     }
 //    for (Entity entity : entities) {
 //      entity.earlyUpdate();
@@ -64,9 +142,19 @@ public class EntityService {
    * Dispose all entities.
    */
   public void dispose() {
-    for (Entity entity : entities) {
-      entity.dispose();
+    // Backwards, since disposing an entity removes it from the array
+    for (int i = entities.size - 1; i >= 0; i--) {
+      if (i < entities.size) {
+        entities.get(i).dispose();
+      }
     }
+    destroyQueue.clear();
+    scheduler.clear();
+  }
+
+  /** @return number of components updated each frame, counting early updates separately */
+  int getScheduledCount() {
+    return scheduler.getScheduledCount();
   }
 
   /**
@@ -98,21 +186,19 @@ public class EntityService {
    * @return An array containing entities within the given radius.
    */
   public Array<Entity> getNearbyEntities(Entity source, float radius) {
-    Array<Entity> nearbyEntities = new Array<>();
-    Array<Entity> allEntities = ServiceLocator.getEntityService().getEntities();
-    for (int i = 0; i < allEntities.size; i++) {
-      Entity otherEntity = allEntities.get(i);
-
-      if (source == otherEntity) continue; // Skip the source entity
-
-      Vector2 positionSource = source.getPosition();
-      Vector2 positionOther = otherEntity.getPosition();
+    return getNearbyEntities(source, radius, new Array<>());
+  }
 
-      if (positionSource.dst(positionOther) <= radius) {
-        nearbyEntities.add(otherEntity);
-      }
-    }
-    return nearbyEntities;
+  /**
+   * Get entities within a certain radius of a given entity, without allocating a result array.
+   *
+   * @param source The reference entity to check distance from.
+   * @param radius The radius within which to fetch entities.
+   * @param out Array the entities within the given radius are added to.
+   * @return out, for chaining
+   */
+  public Array<Entity> getNearbyEntities(Entity source, float radius, Array<Entity> out) {
+    return getEntitiesInLayer(source, radius, ANY_LAYER, out);
   }
 
   /**
@@ -124,20 +210,40 @@ public class EntityService {
    * @return An array containing entities within the given radius.
    */
   public Array<Entity> getEntitiesInLayer(Entity source, float radius, short layer) {
-    Array<Entity> entitiesInLayer = new Array<>();
-    Array<Entity> allEntities = getNearbyEntities(source, radius);
+    return getEntitiesInLayer(source, radius, layer, new Array<>());
+  }
 
-    for (int i = 0; i < allEntities.size; i++) {
-      Entity targetEntity = allEntities.get(i);
+  /**
+   * Get entities of a layer within a certain radius of a given entity, without allocating a result
+   * array.
+   *
+   * @param source The reference entity to check distance from.
+   * @param radius The radius within which to fetch entities.
+   * @param layer Desired layer for entities to be in
+   * @param out Array the matching entities are added to.
+   * @return out, for chaining
+   */
+  public Array<Entity> getEntitiesInLayer(
+      Entity source, float radius, short layer, Array<Entity> out) {
+    Vector2 sourcePos = source.peekPosition();
+    spatialIndex.query(sourcePos.x, sourcePos.y, radius, source, layer, out);
+    return out;
+  }
 
-      // check targets layer
-      HitboxComponent targetHitbox = targetEntity.getComponent(HitboxComponent.class);
-      if (targetHitbox == null || (!PhysicsLayer.contains(layer, targetHitbox.getLayer()))) {
-        continue;
-      }
-      entitiesInLayer.add(targetEntity);
-    }
-    return entitiesInLayer;
+  /**
+   * Get entities of a layer within a certain radius of a point, without allocating a result array.
+   *
+   * @param position The point to check distance from.
+   * @param radius The radius within which to fetch entities.
+   * @param layer Desired layer for entities to be in
+   * @param exclude Entity to leave out of the results, may be null.
+   * @param out Array the matching entities are added to.
+   * @return out, for chaining
+   */
+  public Array<Entity> getEntitiesInLayer(
+      Vector2 position, float radius, short layer, Entity exclude, Array<Entity> out) {
+    spatialIndex.query(position.x, position.y, radius, exclude, layer, out);
+    return out;
   }
 
   /**
@@ -147,33 +253,43 @@ public class EntityService {
    * @return closest entity of correct layer
    */
   public Entity getClosestEntityOfLayer(Entity source, short layer) {
-    Entity closestHuman = null;
-    Vector2 sourcePos = source.getPosition();
-    float closestDistance = MAX_RADIUS;
-    Array<Entity> entitiesInLayer = getEntitiesInLayer(source, MAX_RADIUS, layer);
-
-    for (int i = 0; i < entitiesInLayer.size; i++) {
-      Entity targetEntity = entitiesInLayer.get(i);
-
-      // check how close target is to source
-      Vector2 targetPosition = targetEntity.getPosition();
-      float distance = sourcePos.dst(targetPosition);
-      if (distance < closestDistance) {
-        closestHuman = targetEntity;
-        closestDistance = distance;
-      }
+    Vector2 sourcePos = source.peekPosition();
+    return spatialIndex.closest(sourcePos.x, sourcePos.y, MAX_RADIUS, source, layer);
+  }
+
+  /**
+   * Check whether an entity's hitbox is on one of the given layers.
+   *
+   * @param entity entity to check
+   * @param layer layer mask, or {@link #ANY_LAYER} to accept any entity
+   * @return true if the entity matches
+   */
+  static boolean matchesLayer(Entity entity, short layer) {
+    if (layer == ANY_LAYER) {
+      return true;
     }
-    return closestHuman;
+    HitboxComponent hitbox = entity.getComponent(HitboxComponent.class);
+    return hitbox != null && PhysicsLayer.contains(layer, hitbox.getLayer());
   }
-  
+
+  /**
+   * Find the entity on the lowest layer which covers a position. The registry isn't sorted, since
+   * that would move entities away from their stored indices.
+   *
+   * @param x The x-coordinate of the position to check.
+   * @param y The y-coordinate of the position to check.
+   * @return The Entity found at the specified position, or null if no Entity is present.
+   */
   public Entity getEntityAtPosition(float x, float y) {
-    entities.sort(Comparator.comparingInt(Entity::getLayer));
-    for (Entity entity : entities) {
-      if (entityContainsPosition(entity, x, y)) {
-        return entity;
+    Entity found = null;
+    for (int i = 0; i < entities.size; i++) {
+      Entity entity = entities.get(i);
+      if ((found == null || entity.getLayer() < found.getLayer())
+          && entityContainsPosition(entity, x, y)) {
+        found = entity;
       }
     }
-    return null;
+    return found;
   }
 
   /**
@@ -184,13 +300,18 @@ public class EntityService {
    * @return The Entity found at the specified position, or null if no Entity is present.
    */
   public Entity checkEntityAtPosition(int x, int y) {
-    entities.sort(Comparator.comparingInt(Entity::getLayer));
-    for (Entity entity : entities) {
-      if (entity.getPosition().x == x && entity.getPosition().y == y) {
-        return entity;
+    Entity found = null;
+    for (int i = 0; i < entities.size; i++) {
+      Entity entity = entities.get(i);
+      if (found != null && entity.getLayer() >= found.getLayer()) {
+        continue;
+      }
+      Vector2 position = entity.peekPosition();
+      if (position.x == x && position.y == y) {
+        found = entity;
       }
     }
-    return null;
+    return found;
   }
 
 
@@ -0,0 +1,248 @@
+package com.csse3200.game.entities;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
+
+/**
+ * Uniform grid spatial index over registered entities. The map is tile based, with each lane being
+ * one tile high, so a cell size of one tile keeps every cell inside a single lane. Entities are
+ * bucketed by their position (bottom left corner), matching the distance checks that the entity
+ * service has always used.
+ *
+ * <p>Radius queries only visit the cells overlapping the query circle, so their cost depends on how
+ * crowded the area around the source is rather than on the total number of entities.
+ *
+ * <p>This is owned by the {@link EntityService} and kept up to date from {@link Entity#setPosition}
+ * and once per frame after physics has moved the entities. It should not be used directly.
+ */
+class SpatialHashGrid {
+  private static final int INITIAL_CELL_CAPACITY = 4;
+
+  private final float cellSize;
+  private final IntMap<Array<Entity>> cells = new IntMap<>();
+  private final Array<Array<Entity>> freeCells = new Array<>(false, 16);
+  private int size = 0;
+
+  // Bounds of every cell that has ever been occupied. Used to clamp large queries to the map.
+  private int minCellX = Integer.MAX_VALUE;
+  private int minCellY = Integer.MAX_VALUE;
+  private int maxCellX = Integer.MIN_VALUE;
+  private int maxCellY = Integer.MIN_VALUE;
+
+  // Number of entities examined by the last query. Useful for measuring query cost.
+  private int lastCandidateCount = 0;
+
+  /**
+   * Create a spatial index.
+   *
+   * @param cellSize width and height of a grid cell in world units
+   */
+  SpatialHashGrid(float cellSize) {
+    this.cellSize = cellSize;
+  }
+
+  /**
+   * Add an entity to the index at its current position. Entities without a position are ignored.
+   *
+   * @param entity entity to add
+   */
+  void insert(Entity entity) {
+    Vector2 position = entity.peekPosition();
+    if (position == null || entity.spatiallyIndexed) {
+      return;
+    }
+    int key = keyFor(position.x, position.y);
+    addToCell(key, entity);
+    entity.spatialCellKey = key;
+    entity.spatiallyIndexed = true;
+    size++;
+  }
+
+  /**
+   * Remove an entity from the index.
+   *
+   * @param entity entity to remove
+   */
+  void remove(Entity entity) {
+    if (!entity.spatiallyIndexed) {
+      return;
+    }
+    removeFromCell(entity.spatialCellKey, entity);
+    entity.spatiallyIndexed = false;
+    size--;
+  }
+
+  /**
+   * Move an entity into the correct cell for its current position. This is cheap when the entity
+   * is still inside the same cell, so it can be called every frame.
+   *
+   * @param entity entity which may have moved
+   */
+  void update(Entity entity) {
+    if (!entity.spatiallyIndexed) {
+      return;
+    }
+    Vector2 position = entity.peekPosition();
+    int key = keyFor(position.x, position.y);
+    if (key == entity.spatialCellKey) {
+      return;
+    }
+    removeFromCell(entity.spatialCellKey, entity);
+    addToCell(key, entity);
+    entity.spatialCellKey = key;
+  }
+
+  /**
+   * Find all entities within a radius of a point.
+   *
+   * @param x x coordinate of the centre
+   * @param y y coordinate of the centre
+   * @param radius search radius
+   * @param exclude entity to leave out of the results, may be null
+   * @param layer physics layer mask that results must match, or 0 to skip the layer check
+   * @param out array the results are added to
+   */
+  void query(float x, float y, float radius, Entity exclude, short layer, Array<Entity> out) {
+    lastCandidateCount = 0;
+    if (size == 0) {
+      return;
+    }
+    float radius2 = radius * radius;
+    int fromX = Math.max(cellCoord(x - radius), minCellX);
+    int toX = Math.min(cellCoord(x + radius), maxCellX);
+    int fromY = Math.max(cellCoord(y - radius), minCellY);
+    int toY = Math.min(cellCoord(y + radius), maxCellY);
+
+    for (int cx = fromX; cx <= toX; cx++) {
+      for (int cy = fromY; cy <= toY; cy++) {
+        Array<Entity> cell = cells.get(pack(cx, cy));
+        if (cell == null) {
+          continue;
+        }
+        for (int i = 0; i < cell.size; i++) {
+          Entity candidate = cell.get(i);
+          lastCandidateCount++;
+          if (candidate == exclude || !EntityService.matchesLayer(candidate, layer)) {
+            continue;
+          }
+          Vector2 position = candidate.peekPosition();
+          if (Vector2.dst2(x, y, position.x, position.y) <= radius2) {
+            out.add(candidate);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Find the closest entity to a point within a radius.
+   *
+   * @param x x coordinate of the centre
+   * @param y y coordinate of the centre
+   * @param radius search radius, exclusive
+   * @param exclude entity to leave out of the search, may be null
+   * @param layer physics layer mask the result must match, or 0 to skip the layer check
+   * @return closest matching entity, or null if none are in range
+   */
+  Entity closest(float x, float y, float radius, Entity exclude, short layer) {
+    lastCandidateCount = 0;
+    if (size == 0) {
+      return null;
+    }
+    Entity closest = null;
+    float closestDistance2 = radius * radius;
+    int fromX = Math.max(cellCoord(x - radius), minCellX);
+    int toX = Math.min(cellCoord(x + radius), maxCellX);
+    int fromY = Math.max(cellCoord(y - radius), minCellY);
+    int toY = Math.min(cellCoord(y + radius), maxCellY);
+
+    for (int cx = fromX; cx <= toX; cx++) {
+      for (int cy = fromY; cy <= toY; cy++) {
+        Array<Entity> cell = cells.get(pack(cx, cy));
+        if (cell == null) {
+          continue;
+        }
+        for (int i = 0; i < cell.size; i++) {
+          Entity candidate = cell.get(i);
+          lastCandidateCount++;
+          if (candidate == exclude || !EntityService.matchesLayer(candidate, layer)) {
+            continue;
+          }
+          Vector2 position = candidate.peekPosition();
+          float distance2 = Vector2.dst2(x, y, position.x, position.y);
+          if (distance2 < closestDistance2) {
+            closest = candidate;
+            closestDistance2 = distance2;
+          }
+        }
+      }
+    }
+    return closest;
+  }
+
+  /** @return number of indexed entities */
+  int size() {
+    return size;
+  }
+
+  /** @return number of entities examined by the most recent query */
+  int getLastCandidateCount() {
+    return lastCandidateCount;
+  }
+
+  /** Remove every entity from the index. */
+  void clear() {
+    for (Array<Entity> cell : cells.values()) {
+      for (int i = 0; i < cell.size; i++) {
+        cell.get(i).spatiallyIndexed = false;
+      }
+      cell.clear();
+      freeCells.add(cell);
+    }
+    cells.clear();
+    size = 0;
+  }
+
+  private void addToCell(int key, Entity entity) {
+    Array<Entity> cell = cells.get(key);
+    if (cell == null) {
+      cell = freeCells.isEmpty() ? new Array<>(false, INITIAL_CELL_CAPACITY) : freeCells.pop();
+      cells.put(key, cell);
+
+      int cx = key >> 16;
+      int cy = (short) key;
+      minCellX = Math.min(minCellX, cx);
+      maxCellX = Math.max(maxCellX, cx);
+      minCellY = Math.min(minCellY, cy);
+      maxCellY = Math.max(maxCellY, cy);
+    }
+    cell.add(entity);
+  }
+
+  private void removeFromCell(int key, Entity entity) {
+    Array<Entity> cell = cells.get(key);
+    if (cell == null) {
+      return;
+    }
+    cell.removeValue(entity, true);
+    if (cell.isEmpty()) {
+      cells.remove(key);
+      freeCells.add(cell);
+    }
+  }
+
+  private int keyFor(float x, float y) {
+    return pack(cellCoord(x), cellCoord(y));
+  }
+
+  private int cellCoord(float value) {
+    return MathUtils.floor(value / cellSize);
+  }
+
+  /** Pack two cell coordinates into a single int key. Coordinates must fit in a short. */
+  private static int pack(int cx, int cy) {
+    return (cx << 16) | (cy & 0xFFFF);
+  }
+}
@@ -0,0 +1,14 @@
+package com.csse3200.game.entities.configs;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+
+/**
+ * Defines an animation in an entity's texture atlas, to be loaded by the NPC Factory.
+ */
+public class AnimationConfig {
+  /** Name of the animation's regions in the atlas */
+  public String name;
+  /** Time to show each frame for in seconds */
+  public float frameDuration = 0.1f;
+  public Animation.PlayMode playMode = Animation.PlayMode.NORMAL;
+}
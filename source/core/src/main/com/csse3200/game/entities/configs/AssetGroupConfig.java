@@ -0,0 +1,13 @@
+package com.csse3200.game.entities.configs;
+
+/**
+ * Defines a group of assets in the level asset manifest, e.g. the assets one type of mob needs.
+ */
+public class AssetGroupConfig {
+  public String[] textures = {};
+  public String[] textureAtlases = {};
+  public String[] sounds = {};
+  public String[] music = {};
+  /** Other mobs this group can spawn, whose assets are needed too */
+  public String[] mobs = {};
+}
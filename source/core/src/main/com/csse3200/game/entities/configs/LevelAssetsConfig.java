@@ -0,0 +1,17 @@
+package com.csse3200.game.entities.configs;
+
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Defines the level asset manifest, which lists the assets every level needs and the assets each
+ * mob and tower needs, to be loaded by LevelAssets.
+ */
+public class LevelAssetsConfig {
+  public AssetGroupConfig common = new AssetGroupConfig();
+  /** Mob spawned for mob names without a group, as the game area does */
+  public String defaultMob = "Xeno";
+  /** Asset groups by mob name, as used in the waves */
+  public ObjectMap<String, AssetGroupConfig> mobs = new ObjectMap<>();
+  /** Asset groups by tower type name */
+  public ObjectMap<String, AssetGroupConfig> towers = new ObjectMap<>();
+}
@@ -0,0 +1,11 @@
+package com.csse3200.game.entities.configs;
+
+/**
+ * Defines the appearance of a type of mob, to be loaded by the NPC Factory. The animations are
+ * built from the atlas once per level and shared by every mob of the type.
+ */
+public class MobArchetypeConfig {
+  /** Texture atlas with the mob's animations */
+  public String atlas;
+  public AnimationConfig[] animations = {};
+}
@@ -1,5 +1,7 @@
 package com.csse3200.game.entities.configs;
 
+import com.badlogic.gdx.utils.ObjectMap;
+
 import java.util.ArrayList;
 
 /**
@@ -20,4 +22,7 @@ public class NPCConfigs {
 
   public MobBossConfigs mobBoss = new MobBossConfigs();
 
+  /** Appearance of each type of mob, by archetype name */
+  public ObjectMap<String, MobArchetypeConfig> archetypes = new ObjectMap<>();
+
 }
@@ -6,6 +6,7 @@ import com.csse3200.game.ai.tasks.AITaskComponent;
 import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.components.EffectComponent;
 import com.csse3200.game.components.TouchAttackComponent;
+import com.csse3200.game.components.npc.LaneOccupantComponent;
 import com.csse3200.game.components.player.HumanAnimationController;
 import com.csse3200.game.components.tasks.human.HumanWanderTask;
 import com.csse3200.game.entities.Entity;
@@ -18,6 +19,7 @@ import com.csse3200.game.physics.components.HitboxComponent;
 import com.csse3200.game.physics.components.PhysicsComponent;
 import com.csse3200.game.physics.components.PhysicsMovementComponent;
 import com.csse3200.game.rendering.AnimationRenderComponent;
+import com.csse3200.game.services.LaneService;
 
 /**
  * Factory to create non-playable human character (NPC) entities with predefined components.
@@ -108,7 +110,8 @@ public class EngineerFactory {
                     .addComponent(new ColliderComponent())
                     .addComponent(new EffectComponent(false))
                     .addComponent(new HitboxComponent().setLayer(PhysicsLayer.ENGINEER))
-                    .addComponent(new TouchAttackComponent(PhysicsLayer.NPC, 1.5f));
+                    .addComponent(new TouchAttackComponent(PhysicsLayer.NPC, 1.5f))
+                    .addComponent(new LaneOccupantComponent(LaneService.Kind.ENGINEER));
     
     
     PhysicsUtils.setScaledCollider(human, 0.9f, 0.4f);
@@ -1,12 +1,11 @@
 package com.csse3200.game.entities.factories;
 
-import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.csse3200.game.ai.tasks.AITaskComponent;
 import com.csse3200.game.components.*;
 import com.csse3200.game.components.bosses.DemonAnimationController;
 import com.csse3200.game.components.bosses.PatrickAnimationController;
 import com.csse3200.game.components.bosses.IceBabyAnimationController;
+import com.csse3200.game.components.npc.LaneOccupantComponent;
 import com.csse3200.game.components.tasks.bosstask.*;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.configs.NPCConfigs;
@@ -14,7 +13,6 @@ import com.csse3200.game.files.FileLoader;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.components.*;
 import com.csse3200.game.rendering.AnimationRenderComponent;
-import com.csse3200.game.services.ServiceLocator;
 
 /**
  * Where all entities of mob bosses are created
@@ -34,18 +32,7 @@ public class MobBossFactory {
         Entity demon = createBaseBoss();
 
         // Animation
-        AnimationRenderComponent animator = new AnimationRenderComponent(
-                ServiceLocator.getResourceService().getAsset("images/mobboss/demon.atlas",
-                        TextureAtlas.class));
-        animator.addAnimation("demon_cast_spell", 0.2f, Animation.PlayMode.LOOP);
-        animator.addAnimation("demon_cleave", 0.2f, Animation.PlayMode.NORMAL);
-        animator.addAnimation("demon_death", 0.2f, Animation.PlayMode.NORMAL);
-        animator.addAnimation("demon_fire_breath", 0.2f, Animation.PlayMode.NORMAL);
-        animator.addAnimation("demon_idle", 0.2f, Animation.PlayMode.LOOP);
-        animator.addAnimation("demon_smash", 0.2f, Animation.PlayMode.NORMAL);
-        animator.addAnimation("demon_take_hit", 0.2f, Animation.PlayMode.NORMAL);
-        animator.addAnimation("demon_walk", 0.2f, Animation.PlayMode.LOOP);
-        animator.addAnimation("transform", 0.2f, Animation.PlayMode.NORMAL);
+        AnimationRenderComponent animator = NPCFactory.createAnimator("DemonBoss");
 
         // Adds AI task 
         AITaskComponent aiTaskComponent = new AITaskComponent()
@@ -75,15 +62,7 @@ public class MobBossFactory {
         Entity slimeyBoy = createBaseBoss();
 
         // Animation
-        AnimationRenderComponent animator = new AnimationRenderComponent(
-                ServiceLocator.getResourceService().getAsset("images/mobboss/demon.atlas",
-                        TextureAtlas.class));
-        animator.addAnimation("idle", 0.2f, Animation.PlayMode.LOOP);
-        animator.addAnimation("move", 0.2f, Animation.PlayMode.LOOP);
-        animator.addAnimation("projectile_explosion", 0.2f, Animation.PlayMode.LOOP);
-        animator.addAnimation("projectile_idle", 0.2f, Animation.PlayMode.LOOP);
-        animator.addAnimation("take_hit", 0.2f, Animation.PlayMode.LOOP);
-        animator.addAnimation("transform", 0.2f, Animation.PlayMode.REVERSED);
+        AnimationRenderComponent animator = NPCFactory.createAnimator("SlimeyBoy");
 
         // Adds AI task
         AITaskComponent aiTaskComponent = new AITaskComponent()
@@ -113,15 +92,7 @@ public class MobBossFactory {
         Entity patrick = createBaseBoss();
 
         // Animation
-        AnimationRenderComponent animator = new AnimationRenderComponent(
-                ServiceLocator.getResourceService().getAsset("images/mobboss/patrick.atlas", TextureAtlas.class));
-        animator.addAnimation("patrick_attack", 0.2f, Animation.PlayMode.NORMAL);
-        animator.addAnimation("patrick_cast", 0.2f, Animation.PlayMode.NORMAL);
-        animator.addAnimation("patrick_death", 0.2f, Animation.PlayMode.REVERSED);
-        animator.addAnimation("patrick_hurt", 0.2f, Animation.PlayMode.NORMAL);
-        animator.addAnimation("patrick_idle", 0.2f, Animation.PlayMode.NORMAL);
-        animator.addAnimation("patrick_spell", 0.2f, Animation.PlayMode.NORMAL);
-        animator.addAnimation("patrick_walk", 0.2f, Animation.PlayMode.LOOP);
+        AnimationRenderComponent animator = NPCFactory.createAnimator("PatrickBoss");
 
         // Adds AI task
         AITaskComponent aiTaskComponent = new AITaskComponent()
@@ -150,9 +121,7 @@ public class MobBossFactory {
         Entity patrick = createBaseBoss();
 
         // Animation
-        AnimationRenderComponent animator = new AnimationRenderComponent(
-                ServiceLocator.getResourceService().getAsset("images/mobboss/patrick.atlas", TextureAtlas.class));
-        animator.addAnimation("patrick_death", 0.2f, Animation.PlayMode.NORMAL);
+        AnimationRenderComponent animator = NPCFactory.createAnimator("PatrickDead");
 
         // Adds AI task
         AITaskComponent aiTaskComponent = new AITaskComponent()
@@ -183,17 +152,7 @@ public class MobBossFactory {
         AITaskComponent aiTaskComponent = new AITaskComponent()
                 .addTask(new IceBabyTask());
 
-        AnimationRenderComponent animator = new AnimationRenderComponent(
-                ServiceLocator.getResourceService().getAsset("images/mobboss/iceBaby.atlas", TextureAtlas.class));
-        animator.addAnimation("idle", 0.2f, Animation.PlayMode.NORMAL);
-        animator.addAnimation("1_atk", 0.2f, Animation.PlayMode.NORMAL);
-        animator.addAnimation("2_atk", 0.2f, Animation.PlayMode.NORMAL);
-        animator.addAnimation("3_atk", 0.2f, Animation.PlayMode.NORMAL);
-        animator.addAnimation("death", 0.2f, Animation.PlayMode.NORMAL);
-        animator.addAnimation("intro_or_revive", 0.2f, Animation.PlayMode.NORMAL);
-        animator.addAnimation("stagger", 0.2f, Animation.PlayMode.NORMAL);
-        animator.addAnimation("take_hit", 0.2f, Animation.PlayMode.NORMAL);
-        animator.addAnimation("walk", 0.2f, Animation.PlayMode.NORMAL);
+        AnimationRenderComponent animator = NPCFactory.createAnimator("IceBoss");
 
         iceBaby.addComponent(aiTaskComponent);
 
@@ -223,7 +182,8 @@ public class MobBossFactory {
                 .addComponent(new EffectComponent(false))
                 .addComponent(new PhysicsMovementComponent())
                 .addComponent(new HitboxComponent().setLayer(PhysicsLayer.NPC))
-                .addComponent(new TouchAttackComponent(PhysicsLayer.HUMANS, 1.5f));
+                .addComponent(new TouchAttackComponent(PhysicsLayer.HUMANS, 1.5f))
+                .addComponent(new LaneOccupantComponent());
 
 //        PhysicsUtils.setScaledCollider(boss, 0.9f, 0.4f);
     }
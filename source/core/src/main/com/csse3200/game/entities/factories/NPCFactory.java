@@ -3,6 +3,7 @@ package com.csse3200.game.entities.factories;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.ObjectMap;
 import com.csse3200.game.ai.tasks.AITaskComponent;
 import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.components.EffectComponent;
@@ -26,26 +27,119 @@ import com.csse3200.game.physics.components.HitboxComponent;
 import com.csse3200.game.physics.components.PhysicsComponent;
 import com.csse3200.game.physics.components.PhysicsMovementComponent;
 import com.csse3200.game.rendering.AnimationRenderComponent;
+import com.csse3200.game.rendering.AnimationTable;
 import com.csse3200.game.rendering.TextureRenderComponent;
+import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Currency;
+import java.util.function.IntFunction;
 
 /**
  * Factory to create non-playable character (NPC) entities with predefined components.
  *
  * <p>Each NPC entity type should have a creation method that returns a corresponding entity.
  * Predefined entity properties can be loaded from configs stored as json files which are defined in
- * "NPCConfigs".
+ * "NPCConfigs". The animations of each type of mob are listed as archetypes in configs/NPCs.json,
+ * and are found in the mob's atlas once per level rather than for every mob, see
+ * {@link #createAnimator(String)}.
  *
  * <p>If needed, this factory can be separated into more specific factories for entities with
  * similar characteristics.
  */
 public class NPCFactory {
-  private static final NPCConfigs configs =
-      FileLoader.readClass(NPCConfigs.class, "configs/NPCs.json");
+  private static final Logger logger = LoggerFactory.getLogger(NPCFactory.class);
+  private static final String CONFIG_FILE = "configs/NPCs.json";
+  private static final NPCConfigs configs = FileLoader.readClass(NPCConfigs.class, CONFIG_FILE);
   private static final String DEFAULT = "default";
+  private static final String DEFAULT_MOB = "Xeno";
+  /** Animation tables of the level being played, by archetype name */
+  private static final ObjectMap<String, AnimationTable> animationTables = new ObjectMap<>();
+  /** Creation methods by the mob names used in waves */
+  private static final ObjectMap<String, IntFunction<Entity>> mobs = new ObjectMap<>();
+
+  static {
+    mobs.put("Xeno", NPCFactory::createXenoGrunt);
+    mobs.put("SplittingWaterSlime", NPCFactory::createSplittingWaterSlime);
+    mobs.put("DodgingDragon", NPCFactory::createDodgingDragonKnight);
+    mobs.put("FireWorm", NPCFactory::createFireWorm);
+    mobs.put("Skeleton", NPCFactory::createSkeleton);
+    mobs.put("Wizard", NPCFactory::createWizard);
+    mobs.put("WaterQueen", NPCFactory::createWaterQueen);
+    mobs.put("Coat", NPCFactory::createCoat);
+    mobs.put("NightBorne", NPCFactory::createNightBorne);
+    mobs.put("SplittingNightBorne", NPCFactory::createSplittingNightBorne);
+    mobs.put("ArcaneArcher", NPCFactory::createDodgingArcaneArcher);
+    mobs.put("FireBoss", MobBossFactory::createDemonBoss);
+    mobs.put("IceBoss", MobBossFactory::createIceBoss);
+    mobs.put("PatrickBoss", MobBossFactory::createPatrickBoss);
+  }
+
+  /**
+   * Creates a mob by the name used in waves, e.g. "Skeleton". Mobs with unknown names are created
+   * as xeno grunts.
+   *
+   * @param name name of the mob
+   * @param health health of the mob
+   * @return entity
+   */
+  public static Entity createMob(String name, int health) {
+    IntFunction<Entity> creator = mobs.get(name);
+    if (creator == null) {
+      creator = mobs.get(DEFAULT_MOB);
+    }
+    return creator.apply(health);
+  }
+
+  /**
+   * Build the animation tables of every mob archetype whose atlas is loaded, so the first mob of
+   * each type spawned in a wave doesn't have to. Should be called once a level's assets are loaded.
+   */
+  public static void prepareArchetypes() {
+    animationTables.clear();
+    ResourceService resourceService = ServiceLocator.getResourceService();
+    for (ObjectMap.Entry<String, MobArchetypeConfig> entry : configs.archetypes) {
+      if (resourceService.isLoaded(entry.value.atlas)) {
+        getAnimationTable(entry.key);
+      }
+    }
+    logger.debug("Prepared {} mob archetypes", animationTables.size);
+  }
+
+  /**
+   * Creates an animator with the animations of a mob archetype from configs/NPCs.json. The
+   * animations are only found in the atlas for the first mob of each archetype, and are shared by
+   * the mobs created after it.
+   *
+   * @param archetype name of the archetype, e.g. "WaterSlime"
+   * @return animator
+   * @throws IllegalArgumentException if there is no such archetype
+   */
+  public static AnimationRenderComponent createAnimator(String archetype) {
+    return new AnimationRenderComponent(getAnimationTable(archetype));
+  }
+
+  private static AnimationTable getAnimationTable(String archetype) {
+    MobArchetypeConfig config = configs.archetypes.get(archetype);
+    if (config == null) {
+      throw new IllegalArgumentException("No mob archetype " + archetype + " in " + CONFIG_FILE);
+    }
+    TextureAtlas atlas = ServiceLocator.getResourceService().getAsset(config.atlas, TextureAtlas.class);
+    AnimationTable table = animationTables.get(archetype);
+    // Built again if the atlas has been loaded again since, e.g. for another level
+    if (table == null || table.getAtlas() != atlas) {
+      table = new AnimationTable(atlas);
+      for (AnimationConfig animation : config.animations) {
+        table.addAnimation(animation.name, animation.frameDuration, animation.playMode);
+      }
+      animationTables.put(archetype, table);
+    }
+    return table;
+  }
 
   /**
    * Creates a ghost entity.
@@ -105,13 +199,7 @@ public class NPCFactory {
     Entity skeleton = createBaseNPC();
     ArrayList<Currency> drops = new ArrayList<>();
 
-    AnimationRenderComponent animator =
-            new AnimationRenderComponent(
-                    ServiceLocator.getResourceService().getAsset("images/mobs/skeleton.atlas", TextureAtlas.class));
-    animator.addAnimation("skeleton_walk", 0.1f, Animation.PlayMode.LOOP);
-    animator.addAnimation("skeleton_attack", 0.1f);
-    animator.addAnimation("skeleton_death", 0.1f);
-    animator.addAnimation(DEFAULT, 0.1f);
+    AnimationRenderComponent animator = createAnimator("Skeleton");
 
     AITaskComponent aiTaskComponent = new AITaskComponent()
             .addTask(new MobTask(MobType.SKELETON));
@@ -137,13 +225,7 @@ public class NPCFactory {
     Entity wizard = createBaseNPC();
     ArrayList<Currency> drops = new ArrayList<>();
 
-    AnimationRenderComponent animator =
-            new AnimationRenderComponent(
-                    ServiceLocator.getResourceService().getAsset("images/mobs/wizard.atlas", TextureAtlas.class));
-    animator.addAnimation("wizard_run", 0.1f, Animation.PlayMode.LOOP);
-    animator.addAnimation("wizard_attack", 0.1f);
-    animator.addAnimation("wizard_death", 0.1f);
-    animator.addAnimation(DEFAULT, 0.1f);
+    AnimationRenderComponent animator = createAnimator("Wizard");
     AITaskComponent aiTaskComponent = new AITaskComponent()
             .addTask(new MobTask(MobType.WIZARD));
 
@@ -167,13 +249,7 @@ public class NPCFactory {
     Entity waterQueen = createBaseNPC();
     ArrayList<Currency> drops = new ArrayList<>();
 
-    AnimationRenderComponent animator =
-            new AnimationRenderComponent(
-                    ServiceLocator.getResourceService().getAsset("images/mobs/water_queen.atlas", TextureAtlas.class));
-    animator.addAnimation("water_queen_walk", 0.1f, Animation.PlayMode.LOOP);
-    animator.addAnimation("water_queen_attack", 0.1f);
-    animator.addAnimation("water_queen_death", 0.1f);
-    animator.addAnimation(DEFAULT, 0.1f);
+    AnimationRenderComponent animator = createAnimator("WaterQueen");
 
     AITaskComponent aiTaskComponent = new AITaskComponent()
             .addTask(new MobTask(MobType.WATER_QUEEN));
@@ -198,13 +274,7 @@ public class NPCFactory {
     Entity waterSlime = createBaseNPC();
     ArrayList<Currency> drops = new ArrayList<>();
 
-    AnimationRenderComponent animator =
-            new AnimationRenderComponent(
-                    ServiceLocator.getResourceService().getAsset("images/mobs/water_slime.atlas", TextureAtlas.class));
-    animator.addAnimation("water_slime_walk", 0.1f, Animation.PlayMode.LOOP);
-    animator.addAnimation("water_slime_attack", 0.1f);
-    animator.addAnimation("water_slime_death", 0.2f);
-    animator.addAnimation(DEFAULT, 0.1f);
+    AnimationRenderComponent animator = createAnimator("WaterSlime");
 
     AITaskComponent aiTaskComponent = new AITaskComponent()
             .addTask(new MobTask(MobType.WATER_SLIME));
@@ -229,13 +299,7 @@ public class NPCFactory {
     Entity fireWorm = createBaseNPC();
     ArrayList<Currency> drops = new ArrayList<>();
 
-    AnimationRenderComponent animator =
-            new AnimationRenderComponent(
-                    ServiceLocator.getResourceService().getAsset("images/mobs/fire_worm.atlas", TextureAtlas.class));
-    animator.addAnimation("fire_worm_walk", 0.1f, Animation.PlayMode.LOOP);
-    animator.addAnimation("fire_worm_attack", 0.1f);
-    animator.addAnimation("fire_worm_death", 0.1f);
-    animator.addAnimation(DEFAULT, 0.1f);
+    AnimationRenderComponent animator = createAnimator("FireWorm");
 
     AITaskComponent aiTaskComponent = new AITaskComponent()
             .addTask(new MobTask(MobType.FIRE_WORM));
@@ -260,13 +324,7 @@ public class NPCFactory {
     Entity dragonKnight = createBaseNPC();
     ArrayList<Currency> drops = new ArrayList<>();
 
-    AnimationRenderComponent animator =
-            new AnimationRenderComponent(
-                    ServiceLocator.getResourceService().getAsset("images/mobs/dragon_knight.atlas", TextureAtlas.class));
-    animator.addAnimation("dragon_knight_run", 0.1f, Animation.PlayMode.LOOP);
-    animator.addAnimation("dragon_knight_attack", 0.1f);
-    animator.addAnimation("dragon_knight_death", 0.1f);
-    animator.addAnimation(DEFAULT, 0.1f);
+    AnimationRenderComponent animator = createAnimator("DragonKnight");
 
     AITaskComponent aiTaskComponent = new AITaskComponent()
             .addTask(new MobTask(MobType.DRAGON_KNIGHT));
@@ -287,13 +345,7 @@ public class NPCFactory {
     Entity coat = createBaseNPC();
     ArrayList<Currency> drops = new ArrayList<>();
 
-    AnimationRenderComponent animator =
-            new AnimationRenderComponent(
-                    ServiceLocator.getResourceService().getAsset("images/mobs/coat.atlas", TextureAtlas.class));
-    animator.addAnimation("coat_run", 0.1f, Animation.PlayMode.LOOP);
-    animator.addAnimation("coat_attack", 0.1f);
-    animator.addAnimation("coat_death", 0.1f);
-    animator.addAnimation(DEFAULT, 0.1f);
+    AnimationRenderComponent animator = createAnimator("Coat");
 
     AITaskComponent aiTaskComponent = new AITaskComponent()
             .addTask(new MobTask(MobType.COAT));
@@ -314,13 +366,7 @@ public class NPCFactory {
     Entity coat = createBaseNPC();
     ArrayList<Currency> drops = new ArrayList<>();
 
-    AnimationRenderComponent animator =
-            new AnimationRenderComponent(
-                    ServiceLocator.getResourceService().getAsset("images/mobs/night_borne.atlas", TextureAtlas.class));
-    animator.addAnimation("night_borne_run", 0.1f, Animation.PlayMode.LOOP);
-    animator.addAnimation("night_borne_attack", 0.1f);
-    animator.addAnimation("night_borne_death", 0.1f);
-    animator.addAnimation(DEFAULT, 0.1f);
+    AnimationRenderComponent animator = createAnimator("NightBorne");
 
     AITaskComponent aiTaskComponent = new AITaskComponent()
             .addTask(new MobTask(MobType.NIGHT_BORNE));
@@ -341,13 +387,7 @@ public class NPCFactory {
     Entity coat = createBaseNPC();
     ArrayList<Currency> drops = new ArrayList<>();
 
-    AnimationRenderComponent animator =
-            new AnimationRenderComponent(
-                    ServiceLocator.getResourceService().getAsset("images/mobs/rocky.atlas", TextureAtlas.class));
-    animator.addAnimation("rocky_move", 0.1f, Animation.PlayMode.LOOP);
-    animator.addAnimation("rocky_attack", 0.1f);
-    animator.addAnimation("night_borne_death", 0.1f);
-    animator.addAnimation(DEFAULT, 0.1f);
+    AnimationRenderComponent animator = createAnimator("Rocky");
 
     AITaskComponent aiTaskComponent = new AITaskComponent()
             .addTask(new MobTask(MobType.NIGHT_BORNE));
@@ -368,13 +408,7 @@ public class NPCFactory {
     Entity coat = createBaseNPC();
     ArrayList<Currency> drops = new ArrayList<>();
 
-    AnimationRenderComponent animator =
-            new AnimationRenderComponent(
-                    ServiceLocator.getResourceService().getAsset("images/mobs/necromancer.atlas", TextureAtlas.class));
-    animator.addAnimation("necromancer_walk", 0.1f, Animation.PlayMode.LOOP);
-    animator.addAnimation("necromancer_attack", 0.1f);
-    animator.addAnimation("necromancer_death", 0.1f);
-    animator.addAnimation(DEFAULT, 0.1f);
+    AnimationRenderComponent animator = createAnimator("Necromancer");
 
     AITaskComponent aiTaskComponent = new AITaskComponent()
             .addTask(new MobTask(MobType.NECROMANCER));
@@ -395,13 +429,7 @@ public class NPCFactory {
     Entity fireWizard = createBaseNPC();
     ArrayList<Currency> drops = new ArrayList<>();
 
-    AnimationRenderComponent animator =
-            new AnimationRenderComponent(
-                    ServiceLocator.getResourceService().getAsset("images/mobs/firewizard.atlas", TextureAtlas.class));
-    animator.addAnimation("firewizard_move", 0.1f, Animation.PlayMode.LOOP);
-    animator.addAnimation("firewizard_attack", 0.1f);
-    animator.addAnimation("firewizard_death", 0.1f);
-    animator.addAnimation(DEFAULT, 0.1f);
+    AnimationRenderComponent animator = createAnimator("FireWizard");
 
     AITaskComponent aiTaskComponent = new AITaskComponent()
             .addTask(new MobTask(MobType.FIREWIZARD));
@@ -422,14 +450,7 @@ public class NPCFactory {
     Entity coat = createBaseNPC();
     ArrayList<Currency> drops = new ArrayList<>();
 
-    AnimationRenderComponent animator =
-            new AnimationRenderComponent(
-                    ServiceLocator.getResourceService().getAsset("images/mobs/arcane_archer.atlas", TextureAtlas.class));
-    animator.addAnimation("arcane_archer_run", 0.1f, Animation.PlayMode.LOOP);
-    animator.addAnimation("arcane_archer_attack", 0.1f);
-    animator.addAnimation("arcane_archer_death", 0.1f);
-    animator.addAnimation("arcane_archer_dodge", 0.1f);
-    animator.addAnimation(DEFAULT, 0.1f);
+    AnimationRenderComponent animator = createAnimator("ArcaneArcher");
 
     AITaskComponent aiTaskComponent = new AITaskComponent()
             .addTask(new MobTask(MobType.ARCANE_ARCHER));
@@ -450,13 +471,7 @@ public class NPCFactory {
     Entity fireWorm = createBaseNPC();
     ArrayList<Currency> drops = new ArrayList<>();
 
-    AnimationRenderComponent animator =
-            new AnimationRenderComponent(
-                    ServiceLocator.getResourceService().getAsset("images/mobs/fire_worm.atlas", TextureAtlas.class));
-    animator.addAnimation("fire_worm_walk", 0.1f, Animation.PlayMode.LOOP);
-    animator.addAnimation("fire_worm_attack", 0.1f);
-    animator.addAnimation("fire_worm_death", 0.1f);
-    animator.addAnimation(DEFAULT, 0.1f);
+    AnimationRenderComponent animator = createAnimator("FireWorm");
 
     AITaskComponent aiTaskComponent = new AITaskComponent()
             .addTask(new MobTask(MobType.FIRE_WORM));
@@ -487,16 +502,7 @@ public class NPCFactory {
     ArrayList<ProjectileConfig> projectiles = new ArrayList<>(Arrays.asList(PredefinedWeapons.FIREBALL, PredefinedWeapons.FROSTBALL));
     ArrayList<Currency> drops = new ArrayList<>();
 
-    AnimationRenderComponent animator =
-            new AnimationRenderComponent(
-                    ServiceLocator.getResourceService().getAsset("images/mobs/xenoGrunt.atlas", TextureAtlas.class));
-    animator.addAnimation("xeno_run", 0.1f, Animation.PlayMode.LOOP);
-    animator.addAnimation("xeno_hurt", 0.1f, Animation.PlayMode.LOOP);
-    animator.addAnimation("xeno_shoot", 0.1f);
-    animator.addAnimation("xeno_melee_1", 0.1f);
-    animator.addAnimation("xeno_melee_2", 0.1f);
-    animator.addAnimation("xeno_die", 0.1f);
-    animator.addAnimation(DEFAULT, 0.1f);
+    AnimationRenderComponent animator = createAnimator("Xeno");
     xenoGrunt
             .addComponent(new CombatStatsComponent(health, config.baseAttack, drops, melee, projectiles))
             .addComponent(animator)
@@ -516,7 +522,8 @@ public class NPCFactory {
                     .addComponent(new ColliderComponent())
                     .addComponent(new EffectComponent(true))
                     .addComponent(new HitboxComponent().setLayer(PhysicsLayer.NPC))
-                    .addComponent(new TouchAttackComponent(PhysicsLayer.HUMANS));
+                    .addComponent(new TouchAttackComponent(PhysicsLayer.HUMANS))
+                    .addComponent(new LaneOccupantComponent());
     PhysicsUtils.setScaledCollider(npc, 0.3f, 0.5f);
     return npc;
   }
@@ -11,6 +11,7 @@ import com.csse3200.game.entities.configs.BaseEntityConfig;
 import com.csse3200.game.entities.configs.NPCConfigs;
 import com.csse3200.game.files.FileLoader;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityPool;
 import com.csse3200.game.rendering.AnimationRenderComponent;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.physics.PhysicsLayer;
@@ -20,9 +21,16 @@ import com.csse3200.game.physics.components.HitboxComponent;
 import com.csse3200.game.physics.components.PhysicsComponent;
 import com.csse3200.game.physics.components.PhysicsMovementComponent;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntMap;
 
 /**
  * Responsible for creating projectiles within the game.
+ *
+ * <p>Tower and effect projectiles can be pooled by turning on {@link #setPooling(boolean)}. While
+ * pooling, a projectile which is deleted is kept and handed out again by the next call for the same
+ * kind of projectile, instead of building a new entity, physics body and animations each shot.
+ * Callers use the returned projectile the same way either way: set its position and scale, then
+ * register it.
  */
 public class ProjectileFactory {
   /**
@@ -37,6 +45,21 @@ public class ProjectileFactory {
   private static final NPCConfigs configs =
           FileLoader.readClass(NPCConfigs.class, "configs/NPCs.json");
 
+  /** Maximum number of free projectiles kept for each kind of projectile */
+  private static final int POOL_CAPACITY = 64;
+
+  /** Kinds of projectile which can be pooled, since each is built with different components */
+  private enum PooledProjectile {
+    FIREBALL, EFFECT_FIREBALL, BURN, SLOW, STUN, PIERCE, RICOCHET, SPLIT_FIREWORKS, FIREWORKS
+  }
+
+  /**
+   * Pools keyed by projectile kind and target layer. Callers set the scale after taking a
+   * projectile, so a reused projectile's collider is refitted to it when registered again.
+   */
+  private static final IntMap<EntityPool> pools = new IntMap<>();
+  private static boolean pooling = false;
+
   /**
    * Creates a single-targeting projectile with specified effect
    *
@@ -47,7 +70,19 @@ public class ProjectileFactory {
    * @return Returns a new single-target projectile entity
    */
   public static Entity createEffectProjectile(short targetLayer, Vector2 destination, Vector2 speed, ProjectileEffects effect, boolean aoe) {
-    Entity projectile = createBaseProjectile(targetLayer, destination, speed);
+    PooledProjectile type = switch (effect) {
+      case FIREBALL -> PooledProjectile.EFFECT_FIREBALL;
+      case BURN -> PooledProjectile.BURN;
+      case SLOW -> PooledProjectile.SLOW;
+      case STUN -> PooledProjectile.STUN;
+    };
+    Entity projectile = obtainPooled(type, targetLayer, destination, speed);
+    if (projectile != null) {
+      projectile.getComponent(EffectsComponent.class).setAoe(aoe);
+      return projectile;
+    }
+
+    projectile = createBaseProjectile(targetLayer, destination, speed);
 
     switch (effect) {
       case FIREBALL -> {
@@ -91,8 +126,6 @@ public class ProjectileFactory {
         // * TEMPORARY
         // .addComponent(new DeleteOnMapEdgeComponent());
         // .addComponent(new SelfDestructOnHitComponent(PhysicsLayer.OBSTACLE));
-
-        return projectile;
       }
       case STUN -> {
         projectile.addComponent(new EffectsComponent(targetLayer, 3, ProjectileEffects.STUN, aoe));
@@ -107,7 +140,7 @@ public class ProjectileFactory {
                 .addComponent(new StunEffectProjectileAnimationController());
       }
     }
-    return projectile;
+    return attachToPool(type, targetLayer, projectile);
   }
 
   /**
@@ -115,11 +148,16 @@ public class ProjectileFactory {
    * Pierce fireball is basically a fireball that does damage but won't self destruct on hit.
    */
   public static Entity createPierceFireBall(short targetLayer, Vector2 destination, Vector2 speed) {
-    Entity fireBall = createPierceBallAnim(targetLayer, destination, speed);
+    Entity fireBall = obtainPooled(PooledProjectile.PIERCE, targetLayer, destination, speed);
+    if (fireBall != null) {
+      return fireBall;
+    }
+
+    fireBall = createPierceBallAnim(targetLayer, destination, speed);
     fireBall.getComponent(TouchAttackComponent.class).setDisposeOnHit(false);
     fireBall.getComponent(TouchAttackComponent.class).setKnockBack(0f);
 
-    return fireBall;
+    return attachToPool(PooledProjectile.PIERCE, targetLayer, fireBall);
   }
 
   /**
@@ -127,21 +165,33 @@ public class ProjectileFactory {
    * Ricochet fireball bounces off specified targets while applying intended effects i.e. damage
    */
   public static Entity createRicochetFireball(short targetLayer, Vector2 destination, Vector2 speed, int bounceCount) {
-    Entity fireBall = createFireBall(targetLayer, destination, speed);
+    Entity fireBall = obtainPooled(PooledProjectile.RICOCHET, targetLayer, destination, speed);
+    if (fireBall != null) {
+      fireBall.getComponent(RicochetComponent.class).setBounceCount(bounceCount);
+      return fireBall;
+    }
+
+    fireBall = buildFireBall(targetLayer, destination, speed);
     fireBall
             .addComponent(new RicochetComponent(targetLayer, bounceCount));
 
     setColliderSize(fireBall, (float) 0.1, (float) 0.1);
 
-    return fireBall;
+    return attachToPool(PooledProjectile.RICOCHET, targetLayer, fireBall);
   }
 
   public static Entity createSplitFireWorksFireball(short targetLayer, Vector2 destination, Vector2 speed, int amount) {
-    Entity fireBall = createFireBall(targetLayer, destination, speed);
+    Entity fireBall = obtainPooled(PooledProjectile.SPLIT_FIREWORKS, targetLayer, destination, speed);
+    if (fireBall != null) {
+      fireBall.getComponent(SplitFireworksComponent.class).setAmount(amount);
+      return fireBall;
+    }
+
+    fireBall = buildFireBall(targetLayer, destination, speed);
     fireBall
             .addComponent(new SplitFireworksComponent(targetLayer, amount));
 
-    return fireBall;
+    return attachToPool(PooledProjectile.SPLIT_FIREWORKS, targetLayer, fireBall);
   }
 
   /**
@@ -153,6 +203,15 @@ public class ProjectileFactory {
    * @return Returns a new fireball projectile entity.
    */
   public static Entity createFireBall(short targetLayer, Vector2 destination, Vector2 speed) {
+    Entity projectile = obtainPooled(PooledProjectile.FIREBALL, targetLayer, destination, speed);
+    if (projectile != null) {
+      return projectile;
+    }
+    return attachToPool(PooledProjectile.FIREBALL, targetLayer, buildFireBall(targetLayer, destination, speed));
+  }
+
+  /** Builds a new fireball, without pooling. Shared by projectiles which extend the fireball. */
+  private static Entity buildFireBall(short targetLayer, Vector2 destination, Vector2 speed) {
     Entity projectile = createBaseProjectile(targetLayer, destination, speed);
 
     AnimationRenderComponent animator =
@@ -181,7 +240,12 @@ public class ProjectileFactory {
    * @return Returns a new fireball projectile entity.
    */
   public static Entity createFireworks(short targetLayer, Vector2 destination, Vector2 speed) {
-    Entity projectile = createBaseProjectile(targetLayer, destination, speed);
+    Entity projectile = obtainPooled(PooledProjectile.FIREWORKS, targetLayer, destination, speed);
+    if (projectile != null) {
+      return projectile;
+    }
+
+    projectile = createBaseProjectile(targetLayer, destination, speed);
 
     AnimationRenderComponent animator =
             new AnimationRenderComponent(
@@ -192,7 +256,7 @@ public class ProjectileFactory {
             .addComponent(animator)
             .addComponent(new FireworkAnimationController());
 
-    return projectile;
+    return attachToPool(PooledProjectile.FIREWORKS, targetLayer, projectile);
   }
 
   public static Entity createPierceBallAnim(short targetLayer, Vector2 destination, Vector2 speed) {
@@ -354,6 +418,70 @@ public class ProjectileFactory {
     return projectile;
   }
 
+  /**
+   * Turn projectile pooling on or off. Turning it off disposes every pooled projectile, so this must
+   * be called before the physics world is disposed, e.g. when leaving the game screen.
+   *
+   * @param enabled true to reuse deleted projectiles, false to build a new projectile each time
+   */
+  public static void setPooling(boolean enabled) {
+    if (pooling == enabled) {
+      return;
+    }
+    pooling = enabled;
+    for (EntityPool pool : pools.values()) {
+      pool.close();
+    }
+    pools.clear();
+  }
+
+  /** @return true if deleted projectiles are being reused */
+  public static boolean isPooling() {
+    return pooling;
+  }
+
+  /**
+   * Take a free projectile from its pool and set it up for a new shot.
+   *
+   * @return the reused projectile, or null if pooling is off or there are no free projectiles
+   */
+  private static Entity obtainPooled(PooledProjectile type, short targetLayer, Vector2 destination, Vector2 speed) {
+    if (!pooling) {
+      return null;
+    }
+    EntityPool pool = pools.get(poolKey(type, targetLayer));
+    Entity projectile = pool == null ? null : pool.obtain();
+    if (projectile == null) {
+      return null;
+    }
+
+    BaseEntityConfig config = configs.fireBall;
+    projectile.getComponent(AITaskComponent.class).getTask(TrajectTask.class).setDestination(destination);
+    projectile.getComponent(PhysicsMovementComponent.class).setSpeed(speed);
+    CombatStatsComponent combatStats = projectile.getComponent(CombatStatsComponent.class);
+    combatStats.setHealth(config.health);
+    combatStats.setBaseAttack(config.baseAttack);
+    return projectile;
+  }
+
+  /** Attach a newly built projectile to its pool, so it is kept when deleted. */
+  private static Entity attachToPool(PooledProjectile type, short targetLayer, Entity projectile) {
+    if (pooling) {
+      int key = poolKey(type, targetLayer);
+      EntityPool pool = pools.get(key);
+      if (pool == null) {
+        pool = new EntityPool(type.name(), POOL_CAPACITY);
+        pools.put(key, pool);
+      }
+      pool.attach(projectile);
+    }
+    return projectile;
+  }
+
+  private static int poolKey(PooledProjectile type, short targetLayer) {
+    return (type.ordinal() << 16) | (targetLayer & 0xFFFF);
+  }
+
   /**
    * Sets the projectile collider so that the collider size can be altered for flexibility.
    * @param projectile Projectile's size collider to be scaled upon.
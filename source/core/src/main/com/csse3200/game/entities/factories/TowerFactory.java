@@ -13,6 +13,7 @@ import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
 import com.csse3200.game.ai.tasks.AITaskComponent;
 import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.components.CostComponent;
+import com.csse3200.game.components.npc.LaneOccupantComponent;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.PhysicsUtils;
@@ -21,6 +22,8 @@ import com.csse3200.game.physics.components.HitboxComponent;
 import com.csse3200.game.physics.components.PhysicsComponent;
 import com.csse3200.game.files.FileLoader;
 import com.csse3200.game.rendering.AnimationRenderComponent;
+import com.csse3200.game.screens.TowerType;
+import com.csse3200.game.services.LaneService;
 import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -109,6 +112,26 @@ public class TowerFactory {
     private static final BaseTowerConfigs configs =
             FileLoader.readClass(BaseTowerConfigs.class, "configs/tower.json");
 
+    /**
+     * Creates a tower of the given type
+     * @param type type of tower to create
+     * @return tower entity
+     */
+    public static Entity createTower(TowerType type) {
+        return switch (type) {
+            case WEAPON -> createWeaponTower();
+            case INCOME -> createIncomeTower();
+            case TNT -> createTNTTower();
+            case DROID -> createDroidTower();
+            case WALL -> createWallTower();
+            case FIRE -> createFireTower();
+            case STUN -> createStunTower();
+            case PIERCE -> createPierceTower();
+            case FIREWORK -> createFireworksTower();
+            case RICOCHET -> createRicochetTower();
+        };
+    }
+
     /**
      * Creates an income tower that generates scrap
      * @return income
@@ -452,7 +475,8 @@ public class TowerFactory {
                 .addComponent(new EffectComponent(false))
                 .addComponent(new HitboxComponent().setLayer(PhysicsLayer.TOWER)) // TODO: we might have to change the names of the layers
                 .addComponent(new PhysicsComponent().setBodyType(BodyType.StaticBody))
-                .addComponent(new TowerUpgraderComponent());
+                .addComponent(new TowerUpgraderComponent())
+                .addComponent(new LaneOccupantComponent(LaneService.Kind.TOWER));
 
         tower.setLayer(1); // Set priority to 1, which is 1 below scrap (which is 0)
 
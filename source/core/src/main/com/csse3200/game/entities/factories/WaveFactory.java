@@ -1,6 +1,7 @@
 package com.csse3200.game.entities.factories;
 
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.ObjectSet;
 import com.csse3200.game.ai.tasks.AITaskComponent;
 import com.csse3200.game.components.tasks.waves.LevelWaves;
 import com.csse3200.game.components.tasks.waves.WaveClass;
@@ -83,22 +84,68 @@ public class WaveFactory {
    * The function will create the waves depending on the level selected by the user.
    */
   public static Entity createWaves() {
-    int chosenLevel = GameLevelData.getSelectedLevel();
-    int difficulty;
-    switch (chosenLevel) {
+    int difficulty = getDifficulty(GameLevelData.getSelectedLevel());
+
+    LevelWaves level = createLevel(difficulty);
+    AITaskComponent aiComponent = new AITaskComponent().addTask(new WaveTask());
+    return level.addComponent(aiComponent);
+  }
+
+  /**
+   * Get the difficulty of the waves for a level selected on the level select screen.
+   *
+   * @param selectedLevel level selected by the user (0 desert, 1 ice, 2 lava)
+   * @return difficulty to create the level with (1 easy, 2 medium, 3 hard)
+   */
+  public static int getDifficulty(int selectedLevel) {
+    switch (selectedLevel) {
       case 0:
-        difficulty = 2;
-        break;
+        return 2;
       case 2:
-        difficulty = 3;
-        break;
+        return 3;
       default:
-        difficulty = 1;
+        return 1;
     }
+  }
 
-    LevelWaves level = createLevel(difficulty);
-    AITaskComponent aiComponent = new AITaskComponent().addTask(new WaveTask());
-    return level.addComponent(aiComponent);
+  /**
+   * Get every type of mob that can be spawned by the waves of a level, including its boss. Used to
+   * work out which assets a level needs before it is created.
+   *
+   * @param chosenLevel - the difficulty of the level (1 easy, 2 medium, 3 hard)
+   * @return the names of the mobs, as passed to the spawnWave event
+   */
+  public static ObjectSet<String> getMobTypes(int chosenLevel) {
+    ObjectSet<String> mobTypes = new ObjectSet<>();
+    for (ArrayList<String> wave : getStructure(chosenLevel)) {
+      for (String mob : wave) {
+        mobTypes.add(mob);
+      }
+    }
+    mobTypes.add(getBoss(chosenLevel));
+    return mobTypes;
+  }
+
+  private static ArrayList<ArrayList<String>> getStructure(int chosenLevel) {
+    switch (chosenLevel) {
+      case 2:
+        return LVL2_STRUCTURE;
+      case 3:
+        return LVL3_STRUCTURE;
+      default:
+        return LVL1_STRUCTURE;
+    }
+  }
+
+  private static String getBoss(int chosenLevel) {
+    switch (chosenLevel) {
+      case 2:
+        return PATRICK_BOSS;
+      case 3:
+        return FIRE_BOSS;
+      default:
+        return ICE_BOSS;
+    }
   }
 
   /**
@@ -128,7 +175,7 @@ public class WaveFactory {
 
     // set the possible mobs and boss for the level
     ArrayList<ArrayList<String>> possibleMobs;
-    String boss = "";
+    String boss;
     int bossHealth;
     int minMobs;
     // Base health of the bosses
@@ -136,23 +183,19 @@ public class WaveFactory {
     final int LVL2_BOSS_BASE_HEALTH = 1000;
     final int LVL3_BOSS_BASE_HEALTH = 2000;
 
+    boss = getBoss(chosenLevel);
+    possibleMobs = getStructure(chosenLevel);
     switch (chosenLevel) {
       case 2:
-        boss = PATRICK_BOSS;
         bossHealth = LVL2_BOSS_BASE_HEALTH;
-        possibleMobs = LVL2_STRUCTURE;
         minMobs = 6;
         break;
       case 3:
-        boss = FIRE_BOSS;
         bossHealth = LVL3_BOSS_BASE_HEALTH;
-        possibleMobs = LVL3_STRUCTURE;
         minMobs = 8;
         break;
       default:
-        boss = ICE_BOSS;
         bossHealth = LVL1_BOSS_BASE_HEALTH;
-        possibleMobs = LVL1_STRUCTURE;
         minMobs = 5;
         break;
     }
@@ -174,7 +217,7 @@ public class WaveFactory {
           num = minMobs - currentMobs;
         } else {
           num = MathUtils.random(minMobs - currentMobs - (2 * leftToSort) - 2) + 2;
-          System.out.println(num + " for " + mob + " at wave " + atWave);
+          logger.debug("{} {} mobs in wave {}", num, mob, atWave);
           currentMobs += num;
         }
 
@@ -1,14 +1,12 @@
 package com.csse3200.game.events;
 
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
 import com.csse3200.game.events.listeners.*;
+import com.csse3200.game.logging.LogGate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.function.Consumer;
-
 /**
  * Send and receive events between objects. EventHandler provides an implementation of the Observer
  * pattern, also known as an event system or publish/subscribe. When an event is triggered with
@@ -19,14 +17,19 @@ import java.util.function.Consumer;
  *
  * <p>If you get a ClassCastException from an event, trigger is being called with different
  * arguments than the listeners expect.
+ *
+ * <p>Event names are interned to integer IDs by {@link EventKey}, and listeners are stored in a map
+ * keyed by ID. IDs are global, so the map only holds the events this handler listens to rather than
+ * a slot for every event in the game. Events which fire frequently should be triggered by ID to skip
+ * the name lookup. The name based methods are kept for convenience and behave identically.
  */
 public class EventHandler {
   private static final Logger logger = LoggerFactory.getLogger(EventHandler.class);
-  Map<String, Array<EventListener>> listeners;
+  IntMap<Array<EventListener>> listeners;
 
   public EventHandler() {
     // Assume no events by default, which will be the case for most entities
-    listeners = new HashMap<>(0);
+    listeners = null;
   }
 
   /**
@@ -36,7 +39,17 @@ public class EventHandler {
    * @param listener function to call when event fires
    */
   public void addListener(String eventName, EventListener0 listener) {
-    registerListener(eventName, listener);
+    registerListener(EventKey.intern(eventName), listener);
+  }
+
+  /**
+   * Add a listener to an event with zero arguments
+   *
+   * @param eventId ID of the event, from {@link EventKey#intern(String)}
+   * @param listener function to call when event fires
+   */
+  public void addListener(int eventId, EventListener0 listener) {
+    registerListener(eventId, listener);
   }
 
   /**
@@ -47,7 +60,18 @@ public class EventHandler {
    * @param <T> argument type
    */
   public <T> void addListener(String eventName, EventListener1<T> listener) {
-    registerListener(eventName, listener);
+    registerListener(EventKey.intern(eventName), listener);
+  }
+
+  /**
+   * Add a listener to an event with one argument
+   *
+   * @param eventId ID of the event, from {@link EventKey#intern(String)}
+   * @param listener function to call when event fires
+   * @param <T> argument type
+   */
+  public <T> void addListener(int eventId, EventListener1<T> listener) {
+    registerListener(eventId, listener);
   }
 
   /**
@@ -59,7 +83,19 @@ public class EventHandler {
    * @param <T1> Type of arg 1
    */
   public <T0, T1> void addListener(String eventName, EventListener2<T0, T1> listener) {
-    registerListener(eventName, listener);
+    registerListener(EventKey.intern(eventName), listener);
+  }
+
+  /**
+   * Add a listener to an event with two arguments
+   *
+   * @param eventId ID of the event, from {@link EventKey#intern(String)}
+   * @param listener function to call when event fires
+   * @param <T0> Type of arg 0
+   * @param <T1> Type of arg 1
+   */
+  public <T0, T1> void addListener(int eventId, EventListener2<T0, T1> listener) {
+    registerListener(eventId, listener);
   }
 
   /**
@@ -72,7 +108,20 @@ public class EventHandler {
    * @param <T2> Type of arg 2
    */
   public <T0, T1, T2> void addListener(String eventName, EventListener3<T0, T1, T2> listener) {
-    registerListener(eventName, listener);
+    registerListener(EventKey.intern(eventName), listener);
+  }
+
+  /**
+   * Add a listener to an event with three arguments
+   *
+   * @param eventId ID of the event, from {@link EventKey#intern(String)}
+   * @param listener function to call when event fires
+   * @param <T0> Type of arg 0
+   * @param <T1> Type of arg 1
+   * @param <T2> Type of arg 2
+   */
+  public <T0, T1, T2> void addListener(int eventId, EventListener3<T0, T1, T2> listener) {
+    registerListener(eventId, listener);
   }
 
   /**
@@ -81,8 +130,23 @@ public class EventHandler {
    * @param eventName name of the event
    */
   public void trigger(String eventName) {
-    logTrigger(eventName);
-    forEachListener(eventName, (EventListener listener) -> ((EventListener0) listener).handle());
+    trigger(EventKey.find(eventName));
+  }
+
+  /**
+   * Trigger an event with no arguments
+   *
+   * @param eventId ID of the event
+   */
+  public void trigger(int eventId) {
+    Array<EventListener> eventListeners = getListeners(eventId);
+    if (eventListeners == null) {
+      return;
+    }
+    logTrigger(eventId);
+    for (int i = 0; i < eventListeners.size; i++) {
+      ((EventListener0) eventListeners.get(i)).handle();
+    }
   }
 
   /**
@@ -92,32 +156,65 @@ public class EventHandler {
    * @param arg0 arg to pass to event
    * @param <T> argument type
    */
-  @SuppressWarnings("unchecked")
   public <T> void trigger(String eventName, T arg0) {
-    logTrigger(eventName);
-    forEachListener(
-        eventName, (EventListener listener) -> ((EventListener1<T>) listener).handle(arg0));
+    trigger(EventKey.find(eventName), arg0);
   }
 
   /**
    * Trigger an event with one argument
    *
+   * @param eventId ID of the event
+   * @param arg0 arg to pass to event
+   * @param <T> argument type
+   */
+  @SuppressWarnings("unchecked")
+  public <T> void trigger(int eventId, T arg0) {
+    Array<EventListener> eventListeners = getListeners(eventId);
+    if (eventListeners == null) {
+      return;
+    }
+    logTrigger(eventId);
+    for (int i = 0; i < eventListeners.size; i++) {
+      ((EventListener1<T>) eventListeners.get(i)).handle(arg0);
+    }
+  }
+
+  /**
+   * Trigger an event with two arguments
+   *
    * @param eventName name of the event
    * @param arg0 arg 0 to pass to event
    * @param arg1 arg 1 to pass to event
    * @param <T0> Type of arg 0
    * @param <T1> Type of arg 1
    */
-  @SuppressWarnings("unchecked")
   public <T0, T1> void trigger(String eventName, T0 arg0, T1 arg1) {
-    logTrigger(eventName);
-    forEachListener(
-        eventName,
-        (EventListener listener) -> ((EventListener2<T0, T1>) listener).handle(arg0, arg1));
+    trigger(EventKey.find(eventName), arg0, arg1);
   }
 
   /**
-   * Trigger an event with one argument
+   * Trigger an event with two arguments
+   *
+   * @param eventId ID of the event
+   * @param arg0 arg 0 to pass to event
+   * @param arg1 arg 1 to pass to event
+   * @param <T0> Type of arg 0
+   * @param <T1> Type of arg 1
+   */
+  @SuppressWarnings("unchecked")
+  public <T0, T1> void trigger(int eventId, T0 arg0, T1 arg1) {
+    Array<EventListener> eventListeners = getListeners(eventId);
+    if (eventListeners == null) {
+      return;
+    }
+    logTrigger(eventId);
+    for (int i = 0; i < eventListeners.size; i++) {
+      ((EventListener2<T0, T1>) eventListeners.get(i)).handle(arg0, arg1);
+    }
+  }
+
+  /**
+   * Trigger an event with three arguments
    *
    * @param eventName name of the event
    * @param arg0 arg 0 to pass to event
@@ -127,33 +224,58 @@ public class EventHandler {
    * @param <T1> Type of arg 1
    * @param <T2> Type of arg 2
    */
-  @SuppressWarnings("unchecked")
   public <T0, T1, T2> void trigger(String eventName, T0 arg0, T1 arg1, T2 arg2) {
-    logTrigger(eventName);
-    forEachListener(
-        eventName,
-        (EventListener listener) ->
-            ((EventListener3<T0, T1, T2>) listener).handle(arg0, arg1, arg2));
+    trigger(EventKey.find(eventName), arg0, arg1, arg2);
+  }
+
+  /**
+   * Trigger an event with three arguments
+   *
+   * @param eventId ID of the event
+   * @param arg0 arg 0 to pass to event
+   * @param arg1 arg 1 to pass to event
+   * @param arg2 arg 2 to pass to event
+   * @param <T0> Type of arg 0
+   * @param <T1> Type of arg 1
+   * @param <T2> Type of arg 2
+   */
+  @SuppressWarnings("unchecked")
+  public <T0, T1, T2> void trigger(int eventId, T0 arg0, T1 arg1, T2 arg2) {
+    Array<EventListener> eventListeners = getListeners(eventId);
+    if (eventListeners == null) {
+      return;
+    }
+    logTrigger(eventId);
+    for (int i = 0; i < eventListeners.size; i++) {
+      ((EventListener3<T0, T1, T2>) eventListeners.get(i)).handle(arg0, arg1, arg2);
+    }
   }
 
-  private void registerListener(String eventName, EventListener listener) {
-    logger.debug("Adding listener {} to event {}", listener, eventName);
-    Array<EventListener> eventListeners = listeners.getOrDefault(eventName, null);
+  private void registerListener(int eventId, EventListener listener) {
+    if (LogGate.HOT_PATHS && logger.isDebugEnabled()) {
+      logger.debug("Adding listener {} to event {}", listener, EventKey.nameOf(eventId));
+    }
+    if (listeners == null) {
+      listeners = new IntMap<>(4);
+    }
+    Array<EventListener> eventListeners = listeners.get(eventId);
     if (eventListeners == null) {
       eventListeners = new Array<>(1);
-      listeners.put(eventName, eventListeners);
+      listeners.put(eventId, eventListeners);
     }
     eventListeners.add(listener);
   }
 
-  private void forEachListener(String eventName, Consumer<EventListener> func) {
-    Array<EventListener> eventListeners = listeners.getOrDefault(eventName, null);
-    if (eventListeners != null) {
-      eventListeners.forEach(func);
+  private Array<EventListener> getListeners(int eventId) {
+    if (listeners == null) {
+      return null;
     }
+    return listeners.get(eventId);
   }
 
-  private static void logTrigger(String eventName) {
-    logger.debug("Triggering event {}", eventName);
+  private static void logTrigger(int eventId) {
+    if (LogGate.HOT_PATHS && logger.isDebugEnabled()) {
+      logger.debug("Triggering event {}", EventKey.nameOf(eventId));
+    }
   }
 }
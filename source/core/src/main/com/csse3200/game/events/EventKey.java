@@ -0,0 +1,78 @@
+package com.csse3200.game.events;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry which interns event names to small integer IDs. Event handlers store listeners in int
+ * keyed maps, so triggering an event by ID skips hashing the name string.
+ *
+ * <p>Events which fire many times per frame should intern their name once and trigger by ID:
+ *
+ * <pre>
+ * private static final int COLLISION_START = EventKey.intern("collisionStart");
+ * ...
+ * entity.getEvents().trigger(COLLISION_START, me, other);
+ * </pre>
+ *
+ * The same ID is returned for a name no matter where it is interned, so listeners added by name
+ * are still notified when the event is triggered by ID, and vice versa.
+ *
+ * <p>Names can be interned off the render thread, e.g. by factories whose static fields are
+ * initialised by a loading job, so {@link #intern(String)} is synchronized. Lookups run on every
+ * trigger by name and don't lock: the name to ID map is concurrent, and the ID to name table is
+ * replaced with a copy whenever a name is added.
+ */
+public class EventKey {
+  public static final int NOT_FOUND = -1;
+  private static final Map<String, Integer> ids = new ConcurrentHashMap<>();
+  private static volatile String[] names = new String[0];
+
+  /**
+   * Get the ID for an event name, allocating a new ID if this name has not been seen before.
+   *
+   * @param eventName name of the event
+   * @return ID of the event
+   */
+  public static synchronized int intern(String eventName) {
+    Integer id = ids.get(eventName);
+    if (id == null) {
+      id = names.length;
+      // Publish the name before the ID, so any ID a reader can find already has its name
+      String[] grown = Arrays.copyOf(names, id + 1);
+      grown[id] = eventName;
+      names = grown;
+      ids.put(eventName, id);
+    }
+    return id;
+  }
+
+  /**
+   * Get the ID for an event name without registering it.
+   *
+   * @param eventName name of the event
+   * @return ID of the event, or {@link #NOT_FOUND} if it has never been interned
+   */
+  public static int find(String eventName) {
+    Integer id = ids.get(eventName);
+    return id == null ? NOT_FOUND : id;
+  }
+
+  /**
+   * @param eventId ID of an interned event
+   * @return name of the event
+   */
+  public static String nameOf(int eventId) {
+    return names[eventId];
+  }
+
+  /** @return number of interned event names */
+  public static int size() {
+    return names.length;
+  }
+
+  private EventKey() {
+    throw new IllegalStateException("Instantiating static util class");
+  }
+}
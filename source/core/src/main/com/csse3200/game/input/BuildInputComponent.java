@@ -204,18 +204,7 @@ public class BuildInputComponent extends InputComponent {
         if (tower == null) {
             return;
         }
-        Entity newTower = switch (tower) {
-            case WEAPON -> TowerFactory.createWeaponTower();
-            case INCOME -> TowerFactory.createIncomeTower();
-            case TNT -> TowerFactory.createTNTTower();
-            case DROID -> TowerFactory.createDroidTower();
-            case WALL -> TowerFactory.createWallTower();
-            case FIRE -> TowerFactory.createFireTower();
-            case STUN -> TowerFactory.createStunTower();
-            case PIERCE -> TowerFactory.createPierceTower();
-            case FIREWORK -> TowerFactory.createFireworksTower();
-            case RICOCHET -> TowerFactory.createRicochetTower();
-        };
+        Entity newTower = TowerFactory.createTower(tower);
         // build the selected tower
         newTower.setPosition(x, y);
         entityService.register(newTower);
@@ -0,0 +1,182 @@
+package com.csse3200.game.logging;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.csse3200.game.concurrency.JobSystem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A record of the latest game events, e.g. mobs dying and currency being spent, for working out
+ * what happened before a crash. Events are kept in a fixed size ring buffer of primitives, so
+ * recording one doesn't create garbage or format anything, and the oldest events are overwritten.
+ *
+ * <p>The log is written to disk by {@link #flush()}, formatting and writing it on a background job,
+ * e.g. when a level ends. If the game crashes, the handler set by {@link #installCrashHandler()}
+ * writes it before the game exits.
+ *
+ * <p>Events should only be recorded from the render thread.
+ *
+ * <p>Example use:
+ *
+ * <pre>
+ * GameEventLog.record(GameEventLog.Type.ENEMY_DIED, GameEventLog.NO_ENTITY, enemyCount);
+ * </pre>
+ */
+public class GameEventLog {
+  private static final Logger logger = LoggerFactory.getLogger(GameEventLog.class);
+  /** Number of events kept */
+  public static final int CAPACITY = 4096;
+  /** Entity id for events which don't belong to an entity */
+  public static final int NO_ENTITY = -1;
+  static final String LOG_FILE = "CSSE3200Game" + File.separator + "events.log";
+
+  private static final long[] times = new long[CAPACITY];
+  private static final Type[] types = new Type[CAPACITY];
+  private static final int[] entityIds = new int[CAPACITY];
+  private static final long[] values = new long[CAPACITY];
+  private static long recordedCount = 0;
+
+  /**
+   * Record an event, overwriting the oldest event if the log is full.
+   *
+   * @param type type of event
+   * @param entityId id of the entity the event happened to, or {@link #NO_ENTITY}
+   * @param value value of the event, see {@link Type}
+   */
+  public static void record(Type type, int entityId, long value) {
+    int i = (int) (recordedCount % CAPACITY);
+    times[i] = System.currentTimeMillis();
+    types[i] = type;
+    entityIds[i] = entityId;
+    values[i] = value;
+    recordedCount++;
+  }
+
+  /** @return number of events in the log */
+  public static int size() {
+    return (int) Math.min(recordedCount, CAPACITY);
+  }
+
+  /** @return number of events recorded since the game started, including overwritten ones */
+  public static long getRecordedCount() {
+    return recordedCount;
+  }
+
+  /**
+   * Write the log to disk on a background job. Only copying the events is done on the calling
+   * thread.
+   *
+   * @return job which finishes once the log is written
+   */
+  public static CompletableFuture<Void> flush() {
+    Snapshot snapshot = new Snapshot();
+    return JobSystem.launchBlocking(() -> {
+      write(snapshot);
+      return null;
+    });
+  }
+
+  /** Write the log to disk straight away, e.g. while the game is crashing. */
+  public static void flushNow() {
+    write(new Snapshot());
+  }
+
+  /**
+   * Write the log to disk when a thread dies from an exception, before passing the exception on to
+   * the handler set before, if any.
+   */
+  public static void installCrashHandler() {
+    Thread.UncaughtExceptionHandler previous = Thread.getDefaultUncaughtExceptionHandler();
+    Thread.setDefaultUncaughtExceptionHandler((thread, e) -> {
+      try {
+        flushNow();
+      } catch (Exception flushError) {
+        logger.error("Could not write the event log", flushError);
+      }
+      if (previous != null) {
+        previous.uncaughtException(thread, e);
+      } else {
+        System.err.print("Exception in thread \"" + thread.getName() + "\" ");
+        e.printStackTrace();
+      }
+    });
+  }
+
+  /**
+   * Write the events in the log, oldest first, one per line.
+   *
+   * @param out builder to write to
+   */
+  static void appendTo(StringBuilder out) {
+    new Snapshot().appendTo(out);
+  }
+
+  /** Forget every event. */
+  static void clear() {
+    recordedCount = 0;
+  }
+
+  private static void write(Snapshot snapshot) {
+    StringBuilder out = new StringBuilder(snapshot.size * 48);
+    snapshot.appendTo(out);
+    FileHandle file = Gdx.files.external(LOG_FILE);
+    file.writeString(out.toString(), false);
+    logger.info("Wrote {} game events to {}", snapshot.size, file.path());
+  }
+
+  /** Types of event, and what their value means. */
+  public enum Type {
+    /** A wave's mob died. Value: enemies left in the wave */
+    ENEMY_DIED,
+    /** Every wave has been beaten. Value: unused */
+    LEVEL_COMPLETED,
+    /** A currency was earnt or spent. Value: amount added */
+    CURRENCY_MODIFIED,
+    /** A tower's fire rate changed. Value: new fire rate in shots per 5 seconds */
+    FIRE_RATE_CHANGED
+  }
+
+  /** A copy of the events in the log, oldest first, which can be written on another thread. */
+  private static class Snapshot {
+    private final int size;
+    private final long[] times;
+    private final Type[] types;
+    private final int[] entityIds;
+    private final long[] values;
+
+    private Snapshot() {
+      size = size();
+      times = new long[size];
+      types = new Type[size];
+      entityIds = new int[size];
+      values = new long[size];
+      // Oldest event first, which is the one the next event will overwrite once the log is full
+      int start = (int) ((recordedCount - size) % CAPACITY);
+      for (int i = 0; i < size; i++) {
+        int from = (start + i) % CAPACITY;
+        times[i] = GameEventLog.times[from];
+        types[i] = GameEventLog.types[from];
+        entityIds[i] = GameEventLog.entityIds[from];
+        values[i] = GameEventLog.values[from];
+      }
+    }
+
+    private void appendTo(StringBuilder out) {
+      for (int i = 0; i < size; i++) {
+        out.append(String.format("%tT.%<tL", times[i]))
+            .append(' ').append(types[i])
+            .append(" entity=").append(entityIds[i])
+            .append(" value=").append(values[i])
+            .append('\n');
+      }
+    }
+  }
+
+  private GameEventLog() {
+    throw new IllegalStateException("Instantiating static util class");
+  }
+}
@@ -0,0 +1,25 @@
+package com.csse3200.game.logging;
+
+/**
+ * Switches logging on paths which run every frame or on every event, e.g. triggering events or
+ * attaching components. Such logging should be written inside a check of {@link #HOT_PATHS}:
+ *
+ * <pre>
+ * if (LogGate.HOT_PATHS) {
+ *   logger.debug("Changing to task {}", task);
+ * }
+ * </pre>
+ *
+ * <p>The flag is static final, so when it's off the JIT compiler removes the whole block, and no
+ * strings are built, arguments boxed or log levels checked. Turn it on by starting the game with
+ * {@code -Dgame.logHotPaths=true}, and set the classes' log level to FINE in logging.properties.
+ * For a record of what happened in a game which costs almost nothing, see {@link GameEventLog}.
+ */
+public class LogGate {
+  /** True if hot path logging is switched on */
+  public static final boolean HOT_PATHS = Boolean.getBoolean("game.logHotPaths");
+
+  private LogGate() {
+    throw new IllegalStateException("Instantiating static util class");
+  }
+}
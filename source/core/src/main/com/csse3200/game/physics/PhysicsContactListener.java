@@ -1,6 +1,7 @@
 package com.csse3200.game.physics;
 
 import com.badlogic.gdx.physics.box2d.*;
+import com.csse3200.game.events.EventKey;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -16,17 +17,19 @@ import org.slf4j.LoggerFactory;
  */
 public class PhysicsContactListener implements ContactListener {
   private static final Logger logger = LoggerFactory.getLogger(PhysicsContactListener.class);
+  private static final int COLLISION_START = EventKey.intern("collisionStart");
+  private static final int COLLISION_END = EventKey.intern("collisionEnd");
 
   @Override
   public void beginContact(Contact contact) {
-    triggerEventOn(contact.getFixtureA(), "collisionStart", contact.getFixtureB());
-    triggerEventOn(contact.getFixtureB(), "collisionStart", contact.getFixtureA());
+    triggerEventOn(contact.getFixtureA(), COLLISION_START, contact.getFixtureB());
+    triggerEventOn(contact.getFixtureB(), COLLISION_START, contact.getFixtureA());
   }
 
   @Override
   public void endContact(Contact contact) {
-    triggerEventOn(contact.getFixtureA(), "collisionEnd", contact.getFixtureB());
-    triggerEventOn(contact.getFixtureB(), "collisionEnd", contact.getFixtureA());
+    triggerEventOn(contact.getFixtureA(), COLLISION_END, contact.getFixtureB());
+    triggerEventOn(contact.getFixtureB(), COLLISION_END, contact.getFixtureA());
   }
 
   @Override
@@ -39,10 +42,12 @@ public class PhysicsContactListener implements ContactListener {
     // Nothing to do after resolving contact
   }
 
-  private void triggerEventOn(Fixture fixture, String evt, Fixture otherFixture) {
+  private void triggerEventOn(Fixture fixture, int evt, Fixture otherFixture) {
     BodyUserData userData = (BodyUserData) fixture.getBody().getUserData();
     if (userData != null && userData.entity != null) {
-      logger.debug("{} on entity {}", evt, userData.entity);
+      if (logger.isDebugEnabled()) {
+        logger.debug("{} on entity {}", EventKey.nameOf(evt), userData.entity);
+      }
       userData.entity.getEvents().trigger(evt, fixture, otherFixture);
     }
   }
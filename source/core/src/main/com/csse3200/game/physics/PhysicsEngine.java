@@ -2,14 +2,15 @@ package com.csse3200.game.physics;
 
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
-import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
-import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityService;
 import com.csse3200.game.physics.raycast.AllHitCallback;
 import com.csse3200.game.physics.raycast.RaycastHit;
 import com.csse3200.game.physics.raycast.SingleHitCallback;
 import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ProfilerService;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.SimulationClock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -21,7 +22,8 @@ public class
 PhysicsEngine implements Disposable {
   private static final Logger logger = LoggerFactory.getLogger(PhysicsEngine.class);
   private static final float MAX_UPDATE_TIME = 0.25f;
-  private static final float PHYSICS_TIMESTEP = 0.016f;
+  // Matches the default simulation tick, so each tick steps the world exactly once
+  private static final float PHYSICS_TIMESTEP = SimulationClock.DEFAULT_TICK_LENGTH;
   private static final Vector2 GRAVITY = new Vector2(0f, -0f);
   private static final int VELOCITY_ITERATIONS = 6;
   private static final int POSITION_ITERATIONS = 2;
@@ -43,9 +45,6 @@ PhysicsEngine implements Disposable {
   }
 
   public void update() {
-    // Check for deleted bodies and joints
-    checkAndDeleteBodies();
-
     // Updating physics isn't as easy as triggering an update every frame. Each frame could take a
     // different amount of time to run, but physics simulations are only stable if computed at a
     // consistent frame rate! See: https://gafferongames.com/post/fix_your_timestep/
@@ -55,9 +54,30 @@ PhysicsEngine implements Disposable {
 
     // Depending on how much time has passed, we may compute 0 or more physics steps in one go. If
     // we need to catch up, we'll compute multiple in a row before getting to rendering.
+    ProfilerService profiler = ServiceLocator.getProfilerService();
     while (accumulator >= PHYSICS_TIMESTEP) {
+      if (profiler != null) {
+        profiler.begin(ProfilerService.PHYSICS);
+      }
       world.step(PHYSICS_TIMESTEP, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
       accumulator -= PHYSICS_TIMESTEP;
+      if (profiler != null) {
+        profiler.end(ProfilerService.PHYSICS);
+        profiler.begin(ProfilerService.DESTROY_ENTITIES);
+      }
+      destroyFlaggedEntities();
+      if (profiler != null) {
+        profiler.end(ProfilerService.DESTROY_ENTITIES);
+      }
+    }
+  }
+
+  // Bodies can't be destroyed while the world is stepping, so entities flagged for deletion (often
+  // from collision events during the step) are disposed once it has finished.
+  private void destroyFlaggedEntities() {
+    EntityService entityService = ServiceLocator.getEntityService();
+    if (entityService != null) {
+      entityService.destroyFlaggedEntities();
     }
   }
 
@@ -81,29 +101,6 @@ PhysicsEngine implements Disposable {
     world.destroyJoint(joint);
   }
 
-  // This is needed since it's not possible to destroy bodies or joints while
-  // the world is stepping/simulating.
-  // FIXME : THIS
-  public void checkAndDeleteBodies() {
-    Array<Body> bodies = new Array<Body>();
-
-    world.getBodies(bodies);
-
-    // ! CANNOT USE ITERATOR HERE
-    // ! If you do: "ERROR: #ITERATOR CAN'T BE NESTED"
-    for(int i = 0; i < bodies.size; i++) {
-      if(bodies.get(i) != null 
-          && bodies.get(i).getUserData() != null 
-          && (BodyUserData) bodies.get(i).getUserData() != null) {
-            Entity entity = ((BodyUserData) bodies.get(i).getUserData()).entity;
-
-            if(entity.getFlagForDelete()) {
-              entity.dispose();
-            }
-      }
-    }
-  }
-
   public World getWorld() {
     return world;
   }
@@ -19,6 +19,8 @@ public class ColliderComponent extends Component {
 
   private final FixtureDef fixtureDef;
   private Fixture fixture;
+  // Entity scale the default bounding box was made for, or null if the shape was set
+  private Vector2 boundingBoxScale;
 
   public ColliderComponent() {
     fixtureDef = new FixtureDef();
@@ -29,12 +31,42 @@ public class ColliderComponent extends Component {
     if (fixtureDef.shape == null) {
       logger.trace("{} Setting default bounding box", this);
       fixtureDef.shape = makeBoundingBox();
+      boundingBoxScale = entity.getScale();
     }
 
     Body physBody = entity.getComponent(PhysicsComponent.class).getBody();
     fixture = physBody.createFixture(fixtureDef);
   }
 
+  /**
+   * Refit the default bounding box if a pooled entity is reused at a different scale, e.g. a
+   * projectile fired by a different tower.
+   */
+  @Override
+  public void reuse() {
+    Vector2 scale = entity.getScale();
+    if (boundingBoxScale == null || boundingBoxScale.equals(scale)) {
+      return;
+    }
+    Body physBody = fixture.getBody();
+    if (physBody.getWorld().isLocked()) {
+      // Fixtures can't be replaced during a physics step, e.g. when spawned by a collision
+      logger.debug("{} Reused during a physics step, keeping the old bounding box", this);
+      return;
+    }
+    // Keep anything changed on the fixture since it was created
+    fixtureDef.filter.set(fixture.getFilterData());
+    fixtureDef.isSensor = fixture.isSensor();
+    fixtureDef.friction = fixture.getFriction();
+    fixtureDef.density = fixture.getDensity();
+    fixtureDef.restitution = fixture.getRestitution();
+    physBody.destroyFixture(fixture);
+    fixtureDef.shape.dispose();
+    fixtureDef.shape = makeBoundingBox();
+    boundingBoxScale = scale;
+    fixture = physBody.createFixture(fixtureDef);
+  }
+
   /**
    * Set physics as a box with a given size. Box is centered around the entity.
    *
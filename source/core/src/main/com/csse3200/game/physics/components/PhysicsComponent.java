@@ -21,6 +21,7 @@ public class PhysicsComponent extends Component {
   private static final float GROUND_FRICTION = 5f;
   private final PhysicsEngine physics;
   private final Body body;
+  private final Vector2 position = new Vector2();
 
   /** Create a physics component with default settings. */
   public PhysicsComponent() {
@@ -92,6 +93,19 @@ public class PhysicsComponent extends Component {
     physics.destroyBody(body);
   }
 
+  /** Keep the body for reuse, but take it out of the simulation. */
+  @Override
+  public void reset() {
+    body.setLinearVelocity(0f, 0f);
+    body.setActive(false);
+  }
+
+  @Override
+  public void reuse() {
+    body.setTransform(entity.getPosition(position), 0f);
+    body.setActive(true);
+  }
+
   @Override
   public void setEnabled(boolean enabled) {
     super.setEnabled(enabled);
@@ -4,6 +4,9 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.csse3200.game.ai.movement.MovementController;
 import com.csse3200.game.components.Component;
+import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.SimulationClock;
 import com.csse3200.game.utils.math.Vector2Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,18 +19,25 @@ public class PhysicsMovementComponent extends Component implements MovementContr
   private float skipMovementTime = 0f;  // in seconds, for knockback
 
   private PhysicsComponent physicsComponent;
+  private GameTime timeSource;
   private Vector2 targetPosition;
   private boolean movementEnabled = true;
+  // Reused every frame to avoid allocating while steering
+  private final Vector2 position = new Vector2();
+  private final Vector2 direction = new Vector2();
+  private final Vector2 impulse = new Vector2();
 
   @Override
   public void create() {
     physicsComponent = entity.getComponent(PhysicsComponent.class);
+    timeSource = ServiceLocator.getTimeSource();
   }
 
   @Override
   public void update() {
     if (skipMovementTime > 0) {
-      skipMovementTime -= 0.02f;
+      // Count down by the length of the tick, so knockback lasts the same time at any frame rate
+      skipMovementTime -= timeSource != null ? timeSource.getDeltaTime() : SimulationClock.DEFAULT_TICK_LENGTH;
       return;
     }
     if (movementEnabled && targetPosition != null) {
@@ -36,6 +46,14 @@ public class PhysicsMovementComponent extends Component implements MovementContr
     }
   }
 
+  @Override
+  public void reset() {
+    skipMovementTime = 0f;
+    targetPosition = null;
+    movementEnabled = true;
+    normalSpeed = null;
+  }
+
   /**
    * Applies knock-back to the entity by disabling its movement for a specified duration.
    * @param duration  The time (in seconds) for which the entity's movement will be disabled.
@@ -89,13 +107,13 @@ public class PhysicsMovementComponent extends Component implements MovementContr
   private void setToVelocity(Body body, Vector2 desiredVelocity) {
     // impulse force = (desired velocity - current velocity) * mass
     Vector2 velocity = body.getLinearVelocity();
-    Vector2 impulse = desiredVelocity.cpy().sub(velocity).scl(body.getMass());
+    impulse.set(desiredVelocity).sub(velocity).scl(body.getMass());
     body.applyLinearImpulse(impulse, body.getWorldCenter(), true);
   }
 
   private Vector2 getDirection() {
     // Move towards targetPosition based on our current position
-    return targetPosition.cpy().sub(entity.getPosition()).nor();
+    return direction.set(targetPosition).sub(entity.getPosition(position)).nor();
   }
 
   public void setSpeed(Vector2 speed) {
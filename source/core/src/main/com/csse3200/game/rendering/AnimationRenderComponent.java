@@ -1,5 +1,6 @@
 package com.csse3200.game.rendering;
 
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
@@ -8,6 +9,7 @@ import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
@@ -38,10 +40,13 @@ public class AnimationRenderComponent extends RenderComponent {
   private final GameTime timeSource;
   private final TextureAtlas atlas;
   private final TextureAtlas atlas2;
+  private final TextureRegion defaultRegion;
   private final Map<String, Animation<TextureRegion>> animations;
   private Animation<TextureRegion> currentAnimation;
   private String currentAnimationName;
   private float animationPlayTime;
+  private final Vector2 position = new Vector2();
+  private final Vector2 scale = new Vector2();
 
   /**
    * Create the component for a given texture atlas.
@@ -50,6 +55,7 @@ public class AnimationRenderComponent extends RenderComponent {
   public AnimationRenderComponent(TextureAtlas atlas) {
     this.atlas = atlas;
     this.atlas2 = null;
+    this.defaultRegion = null;
     this.animations = new HashMap<>(4);
     timeSource = ServiceLocator.getTimeSource();
   }
@@ -57,10 +63,27 @@ public class AnimationRenderComponent extends RenderComponent {
   public AnimationRenderComponent(TextureAtlas atlas1, TextureAtlas atlas2) {
     this.atlas = atlas1;
     this.atlas2 = atlas2;
+    this.defaultRegion = null;
     this.animations = new HashMap<>(4);
     timeSource = ServiceLocator.getTimeSource();
   }
 
+  /**
+   * Create the component with the animations of a table shared between entities of the same type,
+   * which were already found in the atlas. More animations can still be added from the atlas.
+   * @param table animations to start with
+   */
+  public AnimationRenderComponent(AnimationTable table) {
+    this.atlas = table.getAtlas();
+    this.atlas2 = null;
+    this.defaultRegion = table.getDefaultRegion();
+    this.animations = new HashMap<>(table.size() * 2);
+    for (ObjectMap.Entry<String, Animation<TextureRegion>> entry : table.getAnimations()) {
+      animations.put(entry.key, entry.value);
+    }
+    timeSource = ServiceLocator.getTimeSource();
+  }
+
   /**
    * Register an animation from the texture atlas. Will play once when called with startAnimation()
    * @param name Name of the animation. Must match the name of this animation inside the texture
@@ -117,7 +140,7 @@ public class AnimationRenderComponent extends RenderComponent {
 
   /** Scale the entity to a width of 1 and a height matching the texture's ratio */
   public void scaleEntity() {
-    TextureRegion defaultTexture = this.atlas.findRegion("default");
+    TextureRegion defaultTexture = defaultRegion != null ? defaultRegion : atlas.findRegion("default");
     entity.setScale(1f, (float) defaultTexture.getRegionHeight() / defaultTexture.getRegionWidth());
   }
 
@@ -191,18 +214,33 @@ public class AnimationRenderComponent extends RenderComponent {
     return currentAnimation != null && currentAnimation.isAnimationFinished(animationPlayTime);
   }
 
+  @Override
+  public Texture getTexture() {
+    if (currentAnimation == null) {
+      return null;
+    }
+    return currentAnimation.getKeyFrame(animationPlayTime).getTexture();
+  }
+
   @Override
   protected void draw(SpriteBatch batch) {
     if (currentAnimation == null) {
       return;
     }
     TextureRegion region = currentAnimation.getKeyFrame(animationPlayTime);
-    Vector2 pos = entity.getPosition();
-    Vector2 scale = entity.getScale();
-    batch.draw(region, pos.x, pos.y, scale.x, scale.y);
+    getRenderPosition(position);
+    entity.getScale(scale);
+    batch.draw(region, position.x, position.y, scale.x, scale.y);
     animationPlayTime += timeSource.getDeltaTime();
   }
 
+  /** Stop any animation from the last use. Registered animations are kept. */
+  @Override
+  public void reset() {
+    super.reset();
+    stopAnimation();
+  }
+
   @Override
   public void dispose() {
    // atlas.dispose(); // this has to be disabled to keep the atlas file for other entities that rely on it
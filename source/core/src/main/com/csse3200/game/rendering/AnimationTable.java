@@ -0,0 +1,78 @@
+package com.csse3200.game.rendering;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The animations of one type of entity, built from its texture atlas once and shared by every
+ * entity of that type. An {@link AnimationRenderComponent} created from a table doesn't need to
+ * search the atlas for each of its animations. Animations aren't changed by playing them, so can be
+ * shared.
+ *
+ * <p>Example usage:
+ *
+ * <pre>
+ *   AnimationTable table = new AnimationTable(atlas);
+ *   table.addAnimation("walk", 0.1f, PlayMode.LOOP);
+ *   // For each entity
+ *   entity.addComponent(new AnimationRenderComponent(table));
+ * </pre>
+ */
+public class AnimationTable {
+  private static final Logger logger = LoggerFactory.getLogger(AnimationTable.class);
+  private final TextureAtlas atlas;
+  private final TextureRegion defaultRegion;
+  private final ObjectMap<String, Animation<TextureRegion>> animations = new ObjectMap<>();
+
+  /**
+   * @param atlas libGDX-supported texture atlas containing the animations
+   */
+  public AnimationTable(TextureAtlas atlas) {
+    this.atlas = atlas;
+    this.defaultRegion = atlas.findRegion("default");
+  }
+
+  /**
+   * Add an animation from the texture atlas.
+   * @param name Name of the animation. Must match the name of this animation inside the texture
+   *             atlas.
+   * @param frameDuration How long, in seconds, to show each frame of the animation for when playing
+   * @param playMode How the animation should be played (e.g. looping, backwards)
+   * @return true if added successfully, false otherwise
+   */
+  public boolean addAnimation(String name, float frameDuration, PlayMode playMode) {
+    Array<AtlasRegion> regions = atlas.findRegions(name);
+    if (regions == null || regions.size == 0) {
+      logger.warn("Animation {} not found in texture atlas", name);
+      return false;
+    }
+    animations.put(name, new Animation<>(frameDuration, regions, playMode));
+    return true;
+  }
+
+  /** @return the atlas the animations are from */
+  public TextureAtlas getAtlas() {
+    return atlas;
+  }
+
+  /** @return the atlas's "default" region, used to scale entities, or null if there isn't one */
+  public TextureRegion getDefaultRegion() {
+    return defaultRegion;
+  }
+
+  /** @return number of animations in the table */
+  public int size() {
+    return animations.size;
+  }
+
+  ObjectMap<String, Animation<TextureRegion>> getAnimations() {
+    return animations;
+  }
+}
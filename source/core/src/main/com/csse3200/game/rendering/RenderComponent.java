@@ -1,6 +1,8 @@
 package com.csse3200.game.rendering;
 
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Disposable;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.services.ServiceLocator;
@@ -11,6 +13,7 @@ import com.csse3200.game.services.ServiceLocator;
  */
 public abstract class RenderComponent extends Component implements Renderable, Disposable {
   private static final int DEFAULT_LAYER = 1;
+  private final Vector2 zPosition = new Vector2();
 
   @Override
   public void create() {
@@ -22,14 +25,36 @@ public abstract class RenderComponent extends Component implements Renderable, D
     ServiceLocator.getRenderService().unregister(this);
   }
 
+  @Override
+  public void reset() {
+    ServiceLocator.getRenderService().unregister(this);
+  }
+
+  @Override
+  public void reuse() {
+    ServiceLocator.getRenderService().register(this);
+  }
+
   @Override
   public void render(SpriteBatch batch) {
     draw(batch);
   }
 
+  /**
+   * Renderables are drawn in z order. Ones with the same z index, e.g. entities standing on the same
+   * row, are then grouped by texture so they can be drawn in one batch.
+   */
   @Override
   public int compareTo(Renderable o) {
-    return Float.compare(getZIndex(), o.getZIndex());
+    int z = Float.compare(getZIndex(), o.getZIndex());
+    if (z != 0) {
+      return z;
+    }
+    return Integer.compare(getTextureKey(getTexture()), getTextureKey(o.getTexture()));
+  }
+
+  private static int getTextureKey(Texture texture) {
+    return texture == null ? 0 : texture.getTextureObjectHandle();
   }
 
   @Override
@@ -40,7 +65,20 @@ public abstract class RenderComponent extends Component implements Renderable, D
   @Override
   public float getZIndex() {
     // The smaller the Y value, the higher the Z index, so that closer entities are drawn in front
-    return -entity.getPosition().y;
+    return -entity.getPosition(zPosition).y;
+  }
+
+  /**
+   * Get the position to draw the entity at. Game logic runs in fixed ticks, so this is interpolated
+   * between the entity's last two tick positions to keep movement smooth between ticks.
+   *
+   * @param out vector to store the position in
+   * @return out, for chaining
+   */
+  protected Vector2 getRenderPosition(Vector2 out) {
+    RenderService renderService = ServiceLocator.getRenderService();
+    float alpha = renderService == null ? 1f : renderService.getInterpolationAlpha();
+    return entity.getInterpolatedPosition(out, alpha);
   }
 
   /**
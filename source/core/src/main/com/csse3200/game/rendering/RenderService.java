@@ -1,9 +1,11 @@
 package com.csse3200.game.rendering;
 
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.csse3200.game.utils.SortedIntMap;
 
 /**
@@ -15,12 +17,14 @@ public class RenderService implements Disposable {
   private static final int INITIAL_CAPACITY = 4;
   private Stage stage;
   private DebugRenderer debugRenderer;
+  private float interpolationAlpha = 1f;
+  private int lastTextureSwitches = 0;
+  private int lastDrawCalls = 0;
 
   /**
    * Map from layer to list of renderables, allows us to render each layer in the correct order
    */
-  private final SortedIntMap<Array<Renderable>> renderables =
-      new SortedIntMap<>(INITIAL_LAYER_CAPACITY);
+  private final SortedIntMap<RenderLayer> renderables = new SortedIntMap<>(INITIAL_LAYER_CAPACITY);
 
   /**
    * Register a new renderable.
@@ -29,11 +33,13 @@ public class RenderService implements Disposable {
    */
   public void register(Renderable renderable) {
     int layerIndex = renderable.getLayer();
-    if (!renderables.containsKey(layerIndex)) {
-      renderables.put(layerIndex, new Array<>(INITIAL_CAPACITY));
+    RenderLayer layer = renderables.get(layerIndex);
+    if (layer == null) {
+      layer = new RenderLayer();
+      renderables.put(layerIndex, layer);
     }
-    Array<Renderable> layer = renderables.get(layerIndex);
-    layer.add(renderable);
+    layer.renderables.add(renderable);
+    layer.dirty = true;
   }
 
   /**
@@ -42,27 +48,144 @@ public class RenderService implements Disposable {
    * @param renderable renderable to unregister.
    */
   public void unregister(Renderable renderable) {
-    Array<Renderable> layer = renderables.get(renderable.getLayer());
+    RenderLayer layer = renderables.get(renderable.getLayer());
     if (layer != null) {
-      layer.removeValue(renderable, true);
+      // Ordered removal, so the rest of the layer stays sorted
+      layer.renderables.removeValue(renderable, true);
+    }
+  }
+
+  /**
+   * Let the service know that a renderable's z index has changed in a way that may not be picked up
+   * by the per-frame order check, so its layer is fully re-sorted before the next render.
+   *
+   * @param renderable renderable whose z index changed.
+   */
+  public void invalidateOrder(Renderable renderable) {
+    RenderLayer layer = renderables.get(renderable.getLayer());
+    if (layer != null) {
+      layer.dirty = true;
     }
   }
 
   /**
    * Trigger rendering on the given batch. This should be called only from the main renderer.
    *
+   * <p>Layers are only sorted when a renderable has been added, or when a single linear pass finds
+   * two renderables out of order (e.g. an entity moved across another in y). Static scenes skip the
+   * sort entirely.
+   *
    * @param batch batch to render to.
    */
   public void render(SpriteBatch batch) {
+    Texture lastTexture = null;
+    int textureSwitches = 0;
+    for (RenderLayer layer : renderables) {
+      long start = TimeUtils.nanoTime();
+      Array<Renderable> layerRenderables = layer.renderables;
 
-    for (Array<Renderable> layer : renderables) {
       // Sort into rendering order
-      layer.sort();
+      if (layer.dirty || !isSorted(layerRenderables)) {
+        layerRenderables.sort();
+        layer.dirty = false;
+        layer.sortCount++;
+      }
 
-      for (Renderable renderable : layer) {
+      for (int i = 0; i < layerRenderables.size; i++) {
+        Renderable renderable = layerRenderables.get(i);
+        Texture texture = renderable.getTexture();
+        if (texture != null && texture != lastTexture) {
+          textureSwitches++;
+          lastTexture = texture;
+        }
         renderable.render(batch);
       }
+      layer.lastRenderNanos = TimeUtils.nanoTime() - start;
+      layer.totalRenderNanos += layer.lastRenderNanos;
     }
+    lastTextureSwitches = textureSwitches;
+  }
+
+  /**
+   * Number of times the texture changed between renderables on the last frame. Each change makes
+   * the batch flush, so this is roughly the number of draw calls renderables needed.
+   *
+   * @return texture switches
+   */
+  public int getLastTextureSwitches() {
+    return lastTextureSwitches;
+  }
+
+  /**
+   * Record the number of draw calls the batch made rendering the last frame, e.g. from {@link
+   * SpriteBatch#renderCalls}. Should be called only from the main renderer.
+   *
+   * @param drawCalls draw calls
+   */
+  public void setLastDrawCalls(int drawCalls) {
+    this.lastDrawCalls = drawCalls;
+  }
+
+  /** @return number of draw calls made rendering renderables on the last frame */
+  public int getLastDrawCalls() {
+    return lastDrawCalls;
+  }
+
+  /**
+   * Time taken to sort and render a layer on the last frame.
+   *
+   * @param layerIndex render layer
+   * @return time in nanoseconds, or 0 if nothing has been registered on the layer
+   */
+  public long getLastRenderTime(int layerIndex) {
+    RenderLayer layer = renderables.get(layerIndex);
+    return layer == null ? 0L : layer.lastRenderNanos;
+  }
+
+  /**
+   * Total time spent sorting and rendering a layer since the service was created.
+   *
+   * @param layerIndex render layer
+   * @return time in nanoseconds, or 0 if nothing has been registered on the layer
+   */
+  public long getTotalRenderTime(int layerIndex) {
+    RenderLayer layer = renderables.get(layerIndex);
+    return layer == null ? 0L : layer.totalRenderNanos;
+  }
+
+  /**
+   * Number of times a layer has been sorted.
+   *
+   * @param layerIndex render layer
+   * @return sort count, or 0 if nothing has been registered on the layer
+   */
+  public int getSortCount(int layerIndex) {
+    RenderLayer layer = renderables.get(layerIndex);
+    return layer == null ? 0 : layer.sortCount;
+  }
+
+  private static boolean isSorted(Array<Renderable> layer) {
+    for (int i = 1; i < layer.size; i++) {
+      if (layer.get(i - 1).compareTo(layer.get(i)) > 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Set how far between simulation ticks the next frame is drawn. Entities are drawn at their
+   * position interpolated by this between their last two ticks.
+   *
+   * @param alpha fraction of a tick, from 0 (previous tick) to 1 (latest tick)
+   */
+  public void setInterpolationAlpha(float alpha) {
+    this.interpolationAlpha = alpha;
+  }
+
+  /** @return fraction of a tick to interpolate rendered positions by */
+  public float getInterpolationAlpha() {
+    return interpolationAlpha;
   }
 
   public void setStage(Stage stage) {
@@ -85,4 +208,13 @@ public class RenderService implements Disposable {
   public void dispose() {
     renderables.clear();
   }
+
+  /** Renderables on a single layer, with their sort state and timing. */
+  private static class RenderLayer {
+    private final Array<Renderable> renderables = new Array<>(INITIAL_CAPACITY);
+    private boolean dirty = false;
+    private int sortCount = 0;
+    private long lastRenderNanos = 0L;
+    private long totalRenderNanos = 0L;
+  }
 }
@@ -1,5 +1,6 @@
 package com.csse3200.game.rendering;
 
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 
 /**
@@ -23,4 +24,13 @@ public interface Renderable extends Comparable<Renderable> {
    * @return layer
    */
   int getLayer();
+
+  /**
+   * Texture the renderable will draw with next. Renderables at the same depth are grouped by
+   * texture, so the batch doesn't have to flush between them.
+   * @return texture, or null if unknown or nothing is drawn
+   */
+  default Texture getTexture() {
+    return null;
+  }
 }
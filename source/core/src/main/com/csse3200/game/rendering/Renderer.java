@@ -8,6 +8,7 @@ import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.csse3200.game.components.CameraComponent;
+import com.csse3200.game.services.ProfilerService;
 import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -96,13 +97,25 @@ public class Renderer implements Disposable {
     camera.update();
     batch.setProjectionMatrix(projMatrix);
 
+    ProfilerService profiler = ServiceLocator.getProfilerService();
+    if (profiler != null) {
+      profiler.begin(ProfilerService.RENDER);
+    }
     batch.begin();
     renderService.render(batch);
     batch.end();
+    renderService.setLastDrawCalls(batch.renderCalls);
     debugRenderer.render(projMatrix);
+    if (profiler != null) {
+      profiler.end(ProfilerService.RENDER);
+      profiler.begin(ProfilerService.STAGE);
+    }
 
     stage.act();
     stage.draw();
+    if (profiler != null) {
+      profiler.end(ProfilerService.STAGE);
+    }
   }
 
   /**
@@ -0,0 +1,178 @@
+package com.csse3200.game.rendering;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.Texture.TextureFilter;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FileTextureData;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Packs the small pages of the loaded sprite atlases (mobs, towers, projectiles and effects) into a
+ * few large pages when a level starts, so entities drawn one after another usually share a texture
+ * and the sprite batch can draw them in one call instead of flushing on every texture change.
+ *
+ * <p>The atlases' regions are moved onto the packed pages in place, so animations created from them
+ * before or after packing draw from the packed pages. Disposing the packer moves them back, so it
+ * must be disposed before the atlases are unloaded.
+ *
+ * <p>Only pages using nearest filtering and no larger than {@link #MAX_SOURCE_SIZE} are packed.
+ * Larger sheets, such as the bosses', already fill a page of their own.
+ *
+ * <p>Example use:
+ *
+ * <pre>
+ * SpritePagePacker packer = new SpritePagePacker();
+ * packer.add(resourceService.getAsset("images/mobs/skeleton.atlas", TextureAtlas.class));
+ * packer.finish();
+ * </pre>
+ */
+public class SpritePagePacker implements Disposable {
+  private static final Logger logger = LoggerFactory.getLogger(SpritePagePacker.class);
+  /** Width and height of each packed page in pixels */
+  public static final int PAGE_SIZE = 2048;
+  /** Largest width or height of a page which is packed */
+  public static final int MAX_SOURCE_SIZE = 1024;
+  private static final int PADDING = 2;
+
+  private final PixmapPacker packer =
+      new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, PADDING, true);
+  private final ObjectMap<Texture, String> sourcePages = new ObjectMap<>();
+  private final Array<PackedRegion> packedRegions = new Array<>(false, 64);
+  private boolean finished = false;
+
+  /**
+   * Add the pages of an atlas to be packed. Pages already added, e.g. from the same atlas, are
+   * skipped.
+   *
+   * @param atlas loaded atlas
+   */
+  public void add(TextureAtlas atlas) {
+    if (finished) {
+      throw new IllegalStateException("Atlases can't be added once packing has finished");
+    }
+    for (Texture texture : atlas.getTextures()) {
+      if (!sourcePages.containsKey(texture) && canPack(texture)) {
+        packPage(texture);
+      }
+    }
+    for (AtlasRegion region : atlas.getRegions()) {
+      String pageName = sourcePages.get(region.getTexture());
+      if (pageName != null) {
+        packedRegions.add(new PackedRegion(region, pageName));
+      }
+    }
+  }
+
+  private boolean canPack(Texture texture) {
+    return texture.getWidth() <= MAX_SOURCE_SIZE
+        && texture.getHeight() <= MAX_SOURCE_SIZE
+        && texture.getMinFilter() == TextureFilter.Nearest
+        && texture.getMagFilter() == TextureFilter.Nearest
+        && texture.getTextureData() instanceof FileTextureData;
+  }
+
+  private void packPage(Texture texture) {
+    TextureData data = texture.getTextureData();
+    String pageName = "page" + sourcePages.size;
+    Pixmap pixmap = new Pixmap(((FileTextureData) data).getFileHandle());
+    try {
+      packer.pack(pageName, pixmap);
+      sourcePages.put(texture, pageName);
+    } catch (GdxRuntimeException e) {
+      logger.error("Couldn't pack atlas page {}", ((FileTextureData) data).getFileHandle(), e);
+    } finally {
+      pixmap.dispose();
+    }
+  }
+
+  /**
+   * Upload the packed pages and move every added atlas region onto them. Should be called once,
+   * after every atlas has been added.
+   */
+  public void finish() {
+    if (finished) {
+      return;
+    }
+    finished = true;
+    packer.updatePageTextures(TextureFilter.Nearest, TextureFilter.Nearest, false);
+    for (PackedRegion packed : packedRegions) {
+      Rectangle rect = packer.getRect(packed.pageName);
+      Texture page = packer.getPages().get(packer.getPageIndex(packed.pageName)).getTexture();
+      packed.moveTo(page, (int) rect.x, (int) rect.y);
+    }
+    logger.info("Packed {} atlas pages into {} pages", sourcePages.size, getPageCount());
+  }
+
+  /** @return number of atlas pages packed */
+  public int getSourcePageCount() {
+    return sourcePages.size;
+  }
+
+  /** @return number of pages they were packed into */
+  public int getPageCount() {
+    return sourcePages.size == 0 ? 0 : packer.getPages().size;
+  }
+
+  @Override
+  public void dispose() {
+    if (finished) {
+      for (PackedRegion packed : packedRegions) {
+        packed.restore();
+      }
+    }
+    packedRegions.clear();
+    sourcePages.clear();
+    packer.dispose();
+  }
+
+  /** An atlas region moved onto a packed page, and where it was on its own page. */
+  private static class PackedRegion {
+    private final TextureRegion region;
+    private final String pageName;
+    private final Texture texture;
+    private final int x;
+    private final int y;
+    private final int width;
+    private final int height;
+    private final boolean flipX;
+    private final boolean flipY;
+
+    private PackedRegion(TextureRegion region, String pageName) {
+      this.region = region;
+      this.pageName = pageName;
+      texture = region.getTexture();
+      flipX = region.isFlipX();
+      flipY = region.isFlipY();
+      width = region.getRegionWidth();
+      height = region.getRegionHeight();
+      // A flipped region's position is its opposite edge
+      x = flipX ? region.getRegionX() - width : region.getRegionX();
+      y = flipY ? region.getRegionY() - height : region.getRegionY();
+    }
+
+    private void moveTo(Texture page, int offsetX, int offsetY) {
+      set(page, offsetX + x, offsetY + y);
+    }
+
+    private void restore() {
+      set(texture, x, y);
+    }
+
+    private void set(Texture page, int regionX, int regionY) {
+      region.setTexture(page);
+      region.setRegion(regionX, regionY, width, height);
+      region.flip(flipX, flipY);
+    }
+  }
+}
@@ -8,6 +8,8 @@ import com.csse3200.game.services.ServiceLocator;
 /** Render a static texture. */
 public class TextureRenderComponent extends RenderComponent {
   private final Texture texture;
+  private final Vector2 position = new Vector2();
+  private final Vector2 scale = new Vector2();
 
   /**
    * @param texturePath Internal path of static texture to render.
@@ -27,10 +29,15 @@ public class TextureRenderComponent extends RenderComponent {
     entity.setScale(1f, (float) texture.getHeight() / texture.getWidth());
   }
 
+  @Override
+  public Texture getTexture() {
+    return texture;
+  }
+
   @Override
   protected void draw(SpriteBatch batch) {
-    Vector2 position = entity.getPosition();
-    Vector2 scale = entity.getScale();
+    getRenderPosition(position);
+    entity.getScale(scale);
     batch.draw(texture, position.x, position.y, scale.x, scale.y);
   }
 }
@@ -6,12 +6,8 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
-import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Set;
 
 public class AssetLoader {
-    private static final Set<String> loadedAssets = new HashSet<>();
     // Define your asset file paths here
     public static final String[] textures = {
             "images/desert_bg.png",
@@ -244,10 +240,22 @@ public class AssetLoader {
 
     public static boolean areAllAssetsLoaded() {
         ResourceService resourceService = ServiceLocator.getResourceService();
+        if (resourceService == null) {
+            return false;
+        }
+
+        return areLoaded(resourceService, textures) &&
+                areLoaded(resourceService, textureAtlases) &&
+                areLoaded(resourceService, Sounds) &&
+                areLoaded(resourceService, music);
+    }
 
-        return loadedAssets.containsAll(Arrays.asList(textures)) &&
-                loadedAssets.containsAll(Arrays.asList(textureAtlases)) &&
-                loadedAssets.containsAll(Arrays.asList(Sounds)) &&
-                loadedAssets.containsAll(Arrays.asList(music));
+    private static boolean areLoaded(ResourceService resourceService, String[] assetPaths) {
+        for (String assetPath : assetPaths) {
+            if (!resourceService.isLoaded(assetPath)) {
+                return false;
+            }
+        }
+        return true;
     }
 }
@@ -13,6 +13,7 @@ import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.csse3200.game.GdxGame;
+import com.csse3200.game.services.ResourceService;
 /**
  * A screen that displays information about boss characters in the game.
  */
@@ -20,6 +21,8 @@ public class BossDescriptionHelpScreen extends ScreenAdapter {
     private final GdxGame game;
     private Stage stage;
     private SpriteBatch spriteBatch;
+    // Skin, fonts and images are shared with the other screens
+    private final ResourceService resourceService;
 
     /**
      * Creates a new BossDescriptionHelpScreen.
@@ -28,6 +31,7 @@ public class BossDescriptionHelpScreen extends ScreenAdapter {
      */
     public BossDescriptionHelpScreen(GdxGame game) {
         this.game = game;
+        resourceService = new ResourceService(game.getAssetCache());
         stage = new Stage(new FitViewport(Gdx.graphics.getWidth(), Gdx.graphics.getHeight()));
         spriteBatch = new SpriteBatch();
 
@@ -36,7 +40,7 @@ public class BossDescriptionHelpScreen extends ScreenAdapter {
         table.setFillParent(true); // Makes the table the size of the stage
 
         // Create one image placeholder
-        Image image = new Image(new Texture("images/lose-screen/desktop-wallpaper-simple-stars-video-background-loop-black-and-white-aesthetic-space.jpg"));
+        Image image = new Image(resourceService.borrowAsset("images/lose-screen/desktop-wallpaper-simple-stars-video-background-loop-black-and-white-aesthetic-space.jpg", Texture.class));
 
         // Add the image placeholder to the table
         table.add(image).expand().fill();
@@ -44,7 +48,7 @@ public class BossDescriptionHelpScreen extends ScreenAdapter {
         // Add the table to the stage
         stage.addActor(table);
 
-        Skin skin = new Skin(Gdx.files.internal("images/ui/buttons/glass.json"));
+        Skin skin = resourceService.borrowAsset("images/ui/buttons/glass.json", Skin.class);
         TextButton BackButton = new TextButton("Back", skin);
         BackButton.addListener(new ClickListener() {
             @Override
@@ -54,7 +58,7 @@ public class BossDescriptionHelpScreen extends ScreenAdapter {
             }
         });
 
-        Texture imageTexture = new Texture("images/ui/Sprites/UI_Glass_Arrow_Large_01a - Copy.png");
+        Texture imageTexture = resourceService.borrowAsset("images/ui/Sprites/UI_Glass_Arrow_Large_01a - Copy.png", Texture.class);
         Drawable drawable = new TextureRegionDrawable(new TextureRegion(imageTexture));
         ImageButton MobsButton = new ImageButton(drawable);
         MobsButton.addListener(new ClickListener() {
@@ -104,20 +108,21 @@ public class BossDescriptionHelpScreen extends ScreenAdapter {
                 "Demon boss is able to shoot burn projectiles and do AOE damage. Demon boss is also able to regenerate health once it hits half health.",
         };
 
+        // Every description uses the same style
+        Label.LabelStyle labelStyle = new Label.LabelStyle();
+        labelStyle.font = resourceService.borrowAsset("images/ui/buttons/dot_gothic_16.fnt", BitmapFont.class);
+
         // Add images and text to the table
         for (int i = 0; i < imageFileNames.length; i++) {
             // Create an image from the file
-            Image imager = new Image(new Texture(imageFileNames[i]));
+            Image imager = new Image(resourceService.borrowAsset(imageFileNames[i], Texture.class));
             float imageSize = 200f;
             imager.setSize(imageSize, imageSize);
 
             // Create a label for text description
-            Label.LabelStyle labelStyle = new Label.LabelStyle();
-            BitmapFont customFont = new BitmapFont(Gdx.files.internal("images/ui/buttons/dot_gothic_16.fnt")); // Replace "your-font.fnt" with your font file path
-            customFont.getData().setScale(1.2f); // Adjust the scale factor to change the text size
-            labelStyle.font = customFont;
-
             Label label = new Label(textDescriptions[i], labelStyle);
+            // Scaled per label, since the font is shared
+            label.setFontScale(1.2f);
             label.setWrap(true);
 
             // Add the image and label to the table in two columns
@@ -160,5 +165,6 @@ public class BossDescriptionHelpScreen extends ScreenAdapter {
     public void dispose() {
         stage.dispose();
         spriteBatch.dispose();
+        resourceService.dispose();
     }
 }
\ No newline at end of file
@@ -12,6 +12,7 @@ import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.csse3200.game.GdxGame;
+import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.entities.factories.PauseMenuFactory;
 /**
  * A screen that provides a description of the game and its components.
@@ -21,6 +22,8 @@ public class GameDescriptionHelpScreen extends ScreenAdapter {
     private final GdxGame game;
     private Stage stage;
     private SpriteBatch spriteBatch;
+    // Skin, fonts and images are shared with the other screens
+    private final ResourceService resourceService;
 
     /**
      * Creates a new GameDescriptionHelpScreen.
@@ -29,12 +32,13 @@ public class GameDescriptionHelpScreen extends ScreenAdapter {
      */
     public GameDescriptionHelpScreen(GdxGame game) {
         this.game = game;
+        resourceService = new ResourceService(game.getAssetCache());
         stage = new Stage(new FitViewport(Gdx.graphics.getWidth(), Gdx.graphics.getHeight()));
         spriteBatch = new SpriteBatch();
-        Skin skin = new Skin(Gdx.files.internal("images/ui/buttons/glass.json"));
+        Skin skin = resourceService.borrowAsset("images/ui/buttons/glass.json", Skin.class);
 
         Label.LabelStyle labelStyle = new Label.LabelStyle();
-        BitmapFont customFont = new BitmapFont(Gdx.files.internal("images/ui/buttons/dot_gothic_16.fnt"));
+        BitmapFont customFont = resourceService.borrowAsset("images/ui/buttons/dot_gothic_16.fnt", BitmapFont.class);
         labelStyle.font = customFont;
 
         // Create a table to organize the image placeholder
@@ -42,7 +46,7 @@ public class GameDescriptionHelpScreen extends ScreenAdapter {
         table.setFillParent(true); // Makes the table the size of the stage
 
         // Create one image placeholder
-        Image image = new Image(new Texture("images/lose-screen/desktop-wallpaper-simple-stars-video-background-loop-black-and-white-aesthetic-space.jpg"));
+        Image image = new Image(resourceService.borrowAsset("images/lose-screen/desktop-wallpaper-simple-stars-video-background-loop-black-and-white-aesthetic-space.jpg", Texture.class));
 
         // Add the image placeholder to the table
         table.add(image).expand().fill();
@@ -87,7 +91,7 @@ public class GameDescriptionHelpScreen extends ScreenAdapter {
 // Create and add the rows with images and text
         for (int i = 0; i < imagePaths.length; i++) {
             // Create an image placeholder for each row
-            Image image1 = new Image(new Texture(imagePaths[i])); // Use the appropriate image path
+            Image image1 = new Image(resourceService.borrowAsset(imagePaths[i], Texture.class)); // Use the appropriate image path
             float imageWidth = 150f; // Change this to your desired width
             float imageHeight = 150f; // Change this to your desired height
 
@@ -210,5 +214,6 @@ public class GameDescriptionHelpScreen extends ScreenAdapter {
     public void dispose() {
         stage.dispose();
         spriteBatch.dispose();
+        resourceService.dispose();
     }
 }
\ No newline at end of file
@@ -14,6 +14,7 @@ import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.csse3200.game.GdxGame;
+import com.csse3200.game.services.ResourceService;
 /**
  * A screen that provides information on how to play the game.
  */
@@ -21,6 +22,8 @@ public class HowToPlay extends ScreenAdapter {
     private final GdxGame game;
     private Stage stage;
     private SpriteBatch spriteBatch;
+    // Skin, fonts and images are shared with the other screens
+    private final ResourceService resourceService;
     /**
      * Creates a new HowToPlay screen.
      *
@@ -29,15 +32,16 @@ public class HowToPlay extends ScreenAdapter {
 
     public HowToPlay(GdxGame game) {
         this.game = game;
+        resourceService = new ResourceService(game.getAssetCache());
         stage = new Stage(new FitViewport(Gdx.graphics.getWidth(), Gdx.graphics.getHeight()));
         spriteBatch = new SpriteBatch();
-        Skin skin = new Skin(Gdx.files.internal("images/ui/buttons/glass.json"));
+        Skin skin = resourceService.borrowAsset("images/ui/buttons/glass.json", Skin.class);
 
         Label.LabelStyle labelStyle = new Label.LabelStyle();
-        BitmapFont customFont = new BitmapFont(Gdx.files.internal("images/ui/buttons/dot_gothic_16.fnt"));
+        BitmapFont customFont = resourceService.borrowAsset("images/ui/buttons/dot_gothic_16.fnt", BitmapFont.class);
         labelStyle.font = customFont;
 
-        Texture backgroundTexture = new Texture("images/lose-screen/desktop-wallpaper-simple-stars-video-background-loop-black-and-white-aesthetic-space.jpg");
+        Texture backgroundTexture = resourceService.borrowAsset("images/lose-screen/desktop-wallpaper-simple-stars-video-background-loop-black-and-white-aesthetic-space.jpg", Texture.class);
         Drawable backgroundDrawable = new TextureRegionDrawable(new TextureRegion(backgroundTexture));
 
         // Create a table to hold the background image
@@ -52,7 +56,7 @@ public class HowToPlay extends ScreenAdapter {
         table.setFillParent(true); // Makes the table the size of the stage
 
         // Create one image placeholder
-        Image image = new Image(new Texture("images/HelpScreen/HTP.png"));
+        Image image = new Image(resourceService.borrowAsset("images/HelpScreen/HTP.png", Texture.class));
 
         // Add the image placeholder to the table
         table.add(image).expand().fill();
@@ -71,7 +75,7 @@ public class HowToPlay extends ScreenAdapter {
             }
         });
 
-        Texture imageTexture = new Texture("images/ui/Sprites/UI_Glass_Arrow_Large_01a - Copy.png");
+        Texture imageTexture = resourceService.borrowAsset("images/ui/Sprites/UI_Glass_Arrow_Large_01a - Copy.png", Texture.class);
         Drawable drawable = new TextureRegionDrawable(new TextureRegion(imageTexture));
         ImageButton HelpButton = new ImageButton(drawable);
         HelpButton.addListener(new ClickListener() {
@@ -128,5 +132,6 @@ public class HowToPlay extends ScreenAdapter {
     public void dispose() {
         stage.dispose();
         spriteBatch.dispose();
+        resourceService.dispose();
     }
 }
\ No newline at end of file
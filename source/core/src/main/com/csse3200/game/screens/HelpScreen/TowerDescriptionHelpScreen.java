@@ -14,6 +14,7 @@ import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.csse3200.game.GdxGame;
+import com.csse3200.game.services.ResourceService;
 /**
  * The `TowerDescriptionHelpScreen` class represents a screen that displays information about various tower types in the game.
  * It includes tower images and descriptions.
@@ -22,6 +23,8 @@ public class TowerDescriptionHelpScreen extends ScreenAdapter {
     private final GdxGame game;
     private Stage stage;
     private SpriteBatch spriteBatch;
+    // Skin, fonts and images are shared with the other screens
+    private final ResourceService resourceService;
     /**
      * Constructs a new `TowerDescriptionHelpScreen`.
      *
@@ -30,6 +33,7 @@ public class TowerDescriptionHelpScreen extends ScreenAdapter {
 
     public TowerDescriptionHelpScreen(GdxGame game) {
         this.game = game;
+        resourceService = new ResourceService(game.getAssetCache());
         stage = new Stage(new FitViewport(Gdx.graphics.getWidth(), Gdx.graphics.getHeight()));
         spriteBatch = new SpriteBatch();
 
@@ -38,7 +42,7 @@ public class TowerDescriptionHelpScreen extends ScreenAdapter {
         table.setFillParent(true); // Makes the table the size of the stage
 
         // Create one image placeholder
-        Image image1 = new Image(new Texture("images/lose-screen/desktop-wallpaper-simple-stars-video-background-loop-black-and-white-aesthetic-space.jpg"));
+        Image image1 = new Image(resourceService.borrowAsset("images/lose-screen/desktop-wallpaper-simple-stars-video-background-loop-black-and-white-aesthetic-space.jpg", Texture.class));
 
         // Add the image placeholder to the table
         table.add(image1).expand().fill();
@@ -46,7 +50,7 @@ public class TowerDescriptionHelpScreen extends ScreenAdapter {
         // Add the table to the stage
         stage.addActor(table);
 
-        Skin skin = new Skin(Gdx.files.internal("images/ui/buttons/glass.json"));
+        Skin skin = resourceService.borrowAsset("images/ui/buttons/glass.json", Skin.class);
         TextButton BackButton = new TextButton("Back", skin);
         BackButton.addListener(new ClickListener() {
             public void clicked(com.badlogic.gdx.scenes.scene2d.InputEvent event, float x, float y) {
@@ -55,7 +59,7 @@ public class TowerDescriptionHelpScreen extends ScreenAdapter {
             }
         });
 
-        Texture imageTexture = new Texture("images/ui/Sprites/UI_Glass_Arrow_Large_01a.png");
+        Texture imageTexture = resourceService.borrowAsset("images/ui/Sprites/UI_Glass_Arrow_Large_01a.png", Texture.class);
         Drawable drawable = new TextureRegionDrawable(new TextureRegion(imageTexture));
         ImageButton MobsButton = new ImageButton(drawable);
         MobsButton.addListener(new ClickListener() {
@@ -112,20 +116,21 @@ public class TowerDescriptionHelpScreen extends ScreenAdapter {
                 "The Weapon Tower is a simple and basic turret that fires rapid shots at enemies dealing damage over time."
         };
 
+        // Every description uses the same style
+        Label.LabelStyle labelStyle = new Label.LabelStyle();
+        labelStyle.font = resourceService.borrowAsset("images/ui/buttons/dot_gothic_16.fnt", BitmapFont.class);
+
         // Add images and text to the table
         for (int i = 0; i < imageFileNames.length; i++) {
             // Create an image from the file
-            Image image = new Image(new Texture( imageFileNames[i]));
+            Image image = new Image(resourceService.borrowAsset(imageFileNames[i], Texture.class));
             float imageSize = 200f;
             image.setSize(imageSize, imageSize);
 
             // Create a label for text description
-            Label.LabelStyle labelStyle = new Label.LabelStyle();
-            BitmapFont customFont = new BitmapFont(Gdx.files.internal("images/ui/buttons/dot_gothic_16.fnt")); // Replace "your-font.fnt" with your font file path
-            customFont.getData().setScale(1.2f); // Adjust the scale factor to change the text size
-            labelStyle.font = customFont;
-
             Label label = new Label(textDescriptions[i], labelStyle);
+            // Scaled per label, since the font is shared
+            label.setFontScale(1.2f);
             label.setWrap(true);
 
             // Add the image and label to the table in two columns
@@ -171,5 +176,6 @@ public class TowerDescriptionHelpScreen extends ScreenAdapter {
     public void dispose() {
         stage.dispose();
         spriteBatch.dispose();
+        resourceService.dispose();
     }
 }
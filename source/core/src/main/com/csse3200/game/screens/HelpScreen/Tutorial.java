@@ -80,6 +80,7 @@ public class Tutorial extends ScreenAdapter {
     private final GdxGame game;
     private final Renderer renderer;
     private final PhysicsEngine physicsEngine;
+    private final SimulationClock simulationClock = new SimulationClock();
     private final InputComponent buildHandler;
     private final InputComponent upgradedInputHandler;
     static int screenWidth = Gdx.graphics.getWidth();
@@ -120,6 +121,10 @@ public class Tutorial extends ScreenAdapter {
         ServiceLocator.registerRenderService(new RenderService());
         ServiceLocator.registerGameEndService(new GameEndService());
         ServiceLocator.registerWaveService(new WaveService());
+        ServiceLocator.registerLaneService(new LaneService());
+        ServiceLocator.registerAreaDamageService(new AreaDamageService());
+        ServiceLocator.registerProfilerService(game.getProfiler());
+        ServiceLocator.registerTimerService(new TimerService(ServiceLocator.getTimeSource()));
 
         renderer = RenderFactory.createRenderer();
         renderer.getCamera().getEntity().setPosition(CAMERA_POSITION);
@@ -200,15 +205,27 @@ public class Tutorial extends ScreenAdapter {
         // End the batch
         batch.end();
 
-        // Continue with other rendering logic
-        physicsEngine.update();
-        ServiceLocator.getEntityService().update();
+        // Run game logic in fixed ticks, so game time (and so pausing) works as in the main game
+        GameTime timeSource = ServiceLocator.getTimeSource();
+        EntityService entityService = ServiceLocator.getEntityService();
+        AreaDamageService areaDamageService = ServiceLocator.getAreaDamageService();
+        TimerService timerService = ServiceLocator.getTimerService();
+        int ticks = simulationClock.advance(timeSource.getDeltaTime(), timeSource.getTimeScale());
+        for (int i = 0; i < ticks; i++) {
+            timeSource.beginTick(simulationClock.getTickLength());
+            entityService.savePreviousPositions();
+            physicsEngine.update();
+            entityService.update();
+            timerService.update();
+            areaDamageService.resolve();
+            timeSource.endTick();
+        }
+        ServiceLocator.getRenderService().setInterpolationAlpha(simulationClock.getAlpha());
 
         // Checks if tower selected is dead
         this.getUpgradedInputHandler().checkForDispose();
 
         ServiceLocator.getWaveService().getDisplay().updateTimerButton();
-        ServiceLocator.getWaveService().getDisplay().updateMobCount();
         renderer.render();
 
         // Check if the game has ended
@@ -1,11 +1,9 @@
 package com.csse3200.game.screens.HelpScreen;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.GridPoint2;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
-import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
@@ -65,7 +63,6 @@ public class TutorialForestGameArea extends GameArea {
     private Entity waves;
     private Table table;
     private Stage stage;
-    Skin skin = new Skin(Gdx.files.internal("images/ui/buttons/glass.json"));
 
     public TutorialForestGameArea() {
         super();
@@ -144,7 +141,7 @@ public class TutorialForestGameArea extends GameArea {
         waves.getEvents().addListener("spawnWave", this::spawnMob);
 
         spawnScrap();
-        spawnGapScanners();
+        spawnEngineersInUndefendedLanes();
 
 //    spawnTNTTower();
 //    spawnWeaponTower();
@@ -253,16 +250,5 @@ public class TutorialForestGameArea extends GameArea {
         }
     }
 
-    /**
-     * Creates the scanners (one per lane) that detect absence of towers and presence of mobs,
-     * and trigger engineer spawning
-     */
-    private void spawnGapScanners() {
-        for (int i = 0; i < terrain.getMapBounds(0).y; i++) {
-            Entity scanner = GapScannerFactory.createScanner();
-            spawnEntityAt(scanner, new GridPoint2(0, i), true, true);
-        }
-    }
-
 
 }
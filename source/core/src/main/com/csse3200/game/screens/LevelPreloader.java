@@ -0,0 +1,162 @@
+package com.csse3200.game.screens;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.csse3200.game.areas.LevelAssets;
+import com.csse3200.game.concurrency.JobSystem;
+import com.csse3200.game.entities.factories.BombshipFactory;
+import com.csse3200.game.entities.factories.EngineerFactory;
+import com.csse3200.game.entities.factories.MobBossFactory;
+import com.csse3200.game.entities.factories.NPCFactory;
+import com.csse3200.game.entities.factories.ProjectileFactory;
+import com.csse3200.game.entities.factories.TowerFactory;
+import com.csse3200.game.services.AssetCache;
+import com.csse3200.game.services.ResourceService;
+import com.csse3200.game.services.StagedAssetLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Gets a level ready while the screens before it (the story, level select and turret selection
+ * screens) are showing, so the loading screen has little left to do once the player picks their
+ * turrets.
+ *
+ * <p>The factories read their configs the first time they're used, and the level asset manifest is
+ * read when a level is first resolved. This is done once by a blocking background job from the
+ * {@link JobSystem}, since it reads files. Then the level's assets are streamed into the shared asset cache a little each
+ * frame. The loading screen references the same assets, which are then already loaded, and calls
+ * {@link #release()} to hand them over.
+ *
+ * <p>Creating the level's entities, physics and textures stays on the render thread, since they use
+ * GL and the services in the service locator.
+ */
+public class LevelPreloader implements Disposable {
+    private static final Logger logger = LoggerFactory.getLogger(LevelPreloader.class);
+    private static final int NO_LEVEL = -1;
+    /** Classes which read their configs when first used */
+    private static final Class<?>[] WARM_UP_CLASSES = {
+        NPCFactory.class, MobBossFactory.class, TowerFactory.class, EngineerFactory.class,
+        BombshipFactory.class, ProjectileFactory.class
+    };
+
+    private final AssetCache assetCache;
+    private CompletableFuture<Void> warmUp;
+    private ResourceService resourceService;
+    private StagedAssetLoader loader;
+    private int level = NO_LEVEL;
+    private boolean levelQueued = false;
+
+    /**
+     * @param assetCache cache shared between screens, which the assets are loaded into
+     */
+    public LevelPreloader(AssetCache assetCache) {
+        this.assetCache = assetCache;
+    }
+
+    /**
+     * Start reading the factories' configs in the background, if it hasn't been started already.
+     */
+    public void warmUp() {
+        if (warmUp != null) {
+            return;
+        }
+        warmUp = JobSystem.launchBlocking(() -> {
+            long start = System.currentTimeMillis();
+            LevelAssets.loadManifest();
+            for (Class<?> type : WARM_UP_CLASSES) {
+                try {
+                    // Only initialises the class, the same as using it for the first time would
+                    Class.forName(type.getName(), true, type.getClassLoader());
+                } catch (ClassNotFoundException | ExceptionInInitializerError e) {
+                    logger.error("Could not warm up {}", type.getSimpleName(), e);
+                }
+            }
+            logger.debug("Warmed up level configs in {} ms", System.currentTimeMillis() - start);
+            return null;
+        });
+    }
+
+    /** @return true once the factories' configs have been read */
+    public boolean isWarmedUp() {
+        return warmUp != null && warmUp.isDone();
+    }
+
+    /**
+     * Start getting a level ready. Preloading a different level replaces the last one, keeping the
+     * assets the levels share.
+     *
+     * @param selectedLevel level to get ready (0 desert, 1 ice, 2 lava)
+     */
+    public void preload(int selectedLevel) {
+        warmUp();
+        if (selectedLevel == level) {
+            return;
+        }
+        logger.debug("Preloading level {}", selectedLevel);
+        level = selectedLevel;
+        levelQueued = false;
+    }
+
+    /**
+     * Stream the level's assets for about the given time. Called every frame by the game.
+     *
+     * @param millis time to spend loading in milliseconds
+     */
+    public void update(int millis) {
+        if (level == NO_LEVEL) {
+            return;
+        }
+        if (!levelQueued) {
+            // Wait for the manifest, rather than reading it on the render thread
+            if (!isWarmedUp()) {
+                return;
+            }
+            queueLevel();
+        }
+        if (!loader.isFinished()) {
+            loader.update(millis);
+        }
+    }
+
+    /**
+     * Release the preloaded assets. Called by the loading screen once it has referenced the assets
+     * itself, so they stay loaded.
+     */
+    public void release() {
+        if (resourceService != null) {
+            resourceService.dispose();
+        }
+        resourceService = null;
+        loader = null;
+        level = NO_LEVEL;
+        levelQueued = false;
+    }
+
+    @Override
+    public void dispose() {
+        release();
+    }
+
+    private void queueLevel() {
+        ResourceService previous = resourceService;
+        resourceService = new ResourceService(assetCache);
+        loader = new StagedAssetLoader(resourceService);
+
+        // The turrets aren't picked yet, so only the default towers are included
+        LevelAssets levelAssets = LevelAssets.resolve(level, new Array<>());
+        MainGameScreen.queueLevelAssets(loader.addStage("level"), level);
+        levelAssets.getDependencies().queue(loader.addStage("enemies"));
+        StagedAssetLoader.Stage shared = loader.addStage("interface");
+        levelAssets.getShared().queue(shared);
+        MainGameScreen.queueAssets(shared);
+        loader.start();
+        levelQueued = true;
+
+        // Released after the new level's assets are referenced, so the assets they share stay loaded
+        if (previous != null) {
+            previous.dispose();
+        }
+    }
+}
@@ -5,9 +5,12 @@ import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -57,11 +60,24 @@ public class LevelSelectScreen extends ScreenAdapter {
 
     private Sprite background;
     private final Music music;
+    private final ResourceService resourceService;
+
+    // Planet animations, in colour or black and white depending on whether the level is unlocked
+    private final Animation<TextureRegion> iceAnimation;
+    private final Animation<TextureRegion> desertAnimation;
+    private final Animation<TextureRegion> lavaAnimation;
+    private final Texture planetBorder;
+    // Reused each frame for checking if the mouse is over a planet
+    private final Rectangle planetRect = new Rectangle();
+    private final Vector3 mousePos = new Vector3();
 
     // Stores a time to determine the frame of the planet
     float timeCounter = 0;
 
     private static final String BG_PATH = "planets/background.png";
+    private static final String BORDER_PATH = "planets/planetBorder.png";
+    private static final String[] textures = {BG_PATH, BORDER_PATH};
+    private static final String[] atlases = {PlanetAnimations.ATLAS};
     String[] bgm = {
             "sounds/background/pre_game/Sci-Fi8Loop_story.ogg"
     };
@@ -87,10 +103,12 @@ public class LevelSelectScreen extends ScreenAdapter {
         font = getSkin().getFont(defaultFont);
         text = new AnimatedText(INTRO_TEXT, font, 0.05f);
         this.game = game;
+        // Shared with the game, so the planets don't need loading again when returning after a level
+        resourceService = new ResourceService(game.getAssetCache());
 
         stage = new Stage(new FitViewport(Gdx.graphics.getWidth(), Gdx.graphics.getHeight()));
 
-        Skin skin = new Skin(Gdx.files.internal("images/ui/buttons/glass.json"));
+        Skin skin = resourceService.borrowAsset("images/ui/buttons/glass.json", Skin.class);
         TextButton BackButton = new TextButton("Back", skin);
         BackButton.addListener(new ClickListener() {
             @Override
@@ -117,16 +135,30 @@ public class LevelSelectScreen extends ScreenAdapter {
         descriptionTable.setVisible(false); // Initially, the description box is hidden
         stage.addActor(descriptionTable);
 
-        ServiceLocator.registerResourceService(new ResourceService());
-        ServiceLocator.getResourceService().loadMusic(bgm);
-        ServiceLocator.getResourceService().loadAll();
-        music = ServiceLocator.getResourceService().getAsset(bgm[0], Music.class);
+        ServiceLocator.registerResourceService(resourceService);
+        resourceService.loadMusic(bgm);
+        resourceService.loadTextures(textures);
+        resourceService.loadTextureAtlases(atlases);
+        resourceService.loadAll();
+        game.getAssetCache().retain(PlanetAnimations.ATLAS);
+        music = resourceService.getAsset(bgm[0], Music.class);
+        planetBorder = resourceService.getAsset(BORDER_PATH, Texture.class);
+
+        PlanetAnimations planets =
+                new PlanetAnimations(resourceService.getAsset(PlanetAnimations.ATLAS, TextureAtlas.class));
+        // ICE is level 0, DESERT is level 1 and LAVA is level 2
+        iceAnimation = planets.create("Barren_or_Moon", 2, !isUnlocked(0), 35);
+        desertAnimation = planets.create("Desert", 1, !isUnlocked(1), 60);
+        lavaAnimation = planets.create("Lava", 1, !isUnlocked(2), 15);
+
+        // Get the newest unlocked planet ready, as the one most likely to be picked
+        game.getLevelPreloader().preload(mapToConventional(Math.min(currentLevel + 1, 2)));
     }
 
     @Override
     public void show() {
         batch = new SpriteBatch();
-        background = new Sprite(new Texture(BG_PATH));
+        background = new Sprite(resourceService.getAsset(BG_PATH, Texture.class));
         ServiceLocator.registerGameEndService(new GameEndService());
         Gdx.input.setInputProcessor(stage);
 
@@ -144,11 +176,11 @@ public class LevelSelectScreen extends ScreenAdapter {
      */
     private void spawnPlanets() {
         // ICE is level 0
-        spawnPlanet(150, 150, Planets.ICE[0], Planets.ICE[1],"Barren_or_Moon", 2, (int) (timeCounter * 35) % 60 + 1, 1);
+        spawnPlanet(150, 150, Planets.ICE[0], Planets.ICE[1], iceAnimation);
         // DESERT is level 1
-        spawnPlanet(150, 150, Planets.DESERT[0], Planets.DESERT[1], "Desert", 1, (int) (timeCounter * 60) % 60 + 1, 0);
+        spawnPlanet(150, 150, Planets.DESERT[0], Planets.DESERT[1], desertAnimation);
         // LAVA is level 2
-        spawnPlanet(200, 200, Planets.LAVA[0], Planets.LAVA[1],"Lava", 1, (int) (timeCounter * 15) % 60 + 1, 2);
+        spawnPlanet(200, 200, Planets.LAVA[0], Planets.LAVA[1], lavaAnimation);
 
         spawnPlanetBorders();
     }
@@ -160,30 +192,20 @@ public class LevelSelectScreen extends ScreenAdapter {
      * @param height The height of the planet
      * @param posx The x position of the planet
      * @param posy The y position of the planet
-     * @param planetName The name of the planet
-     * @param version The different type of planet
-     * @param frame The frame of the planet
-     * @param levelNumber The level associated with the planet
+     * @param animation The planet's animation
      */
-    private void spawnPlanet(int width, int height, int posx, int posy, String planetName, int version, int frame, int levelNumber) {
-        int highestLevelReached = currentLevel;
-        Texture planet;
-
-        levelNumber = mapToConventional(levelNumber);
-        if (levelNumber == 0 && highestLevelReached >= -1)  { // ICE planet, which is always unlocked initially
-            planet = new Texture(String.format("planets/%s/%d/%d.png", planetName, version, frame));
-        } else if (levelNumber == 1 && highestLevelReached >= 0) { // DESERT planet, unlocked only when highestLevelReached is 0
-            planet = new Texture(String.format("planets/%s/%d/%d.png", planetName, version, frame));
-        } else if (levelNumber == 2 && highestLevelReached >= 1) { // LAVA planet, unlocked after DESERT
-            planet = new Texture(String.format("planets/%s/%d/%d.png", planetName, version, frame));
-        } else {
-            // Display the planet in b&w if it's locked
-            planet = new Texture(String.format("planets/%s_bw/%d/%d.png", planetName, version, frame));
-        }
+    private void spawnPlanet(int width, int height, int posx, int posy, Animation<TextureRegion> animation) {
+        batch.draw(animation.getKeyFrame(timeCounter), posx, posy, width, height);
+    }
 
-        Sprite planetSprite = new Sprite(planet);
-        planetSprite.setSize(width, height);
-        batch.draw(planetSprite, posx, posy, width, height);
+    /**
+     * Checks whether the player has reached a level. ICE planet is always unlocked initially,
+     * DESERT planet is unlocked when the highest level reached is 0, and LAVA planet after DESERT.
+     * @param conventionalLevel The level, as returned by {@link #mapToConventional(int)}
+     * @return true if the level can be played
+     */
+    private boolean isUnlocked(int conventionalLevel) {
+        return currentLevel >= conventionalLevel - 1;
     }
 
 
@@ -193,15 +215,14 @@ public class LevelSelectScreen extends ScreenAdapter {
      * the planet.
      */
     private void spawnPlanetBorders() {
-        Vector3 mousePos = new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
+        mousePos.set(Gdx.input.getX(), Gdx.input.getY(), 0);
         int highestLevelReached = currentLevel;
 
         // Iterates through the planets checking for the bounding box
         for (int[] planet : Planets.PLANETS) {
-            Rectangle planetRect = new Rectangle(planet[0], planet[1], planet[2], planet[3]);
+            planetRect.set(planet[0], planet[1], planet[2], planet[3]);
             if (planetRect.contains(mousePos.x, (float) Gdx.graphics.getHeight() - mousePos.y)) {
                 // If the mouse is over a planet, draw the planet border
-                Sprite planetBorder = new Sprite(new Texture("planets/planetBorder.png"));
                 batch.draw(planetBorder, planet[0] - 2.0f, planet[1] - 2.0f, planet[2] + 3.0f, planet[3] + 3.0f);
 
                 int conventionalPlanetLevel = mapToConventional(planet[4]);
@@ -237,6 +258,7 @@ public class LevelSelectScreen extends ScreenAdapter {
     private void loadPlanetLevel(int[] planet) {
         logger.info("Loading level {}", planet[4]);
         GameLevelData.setSelectedLevel(planet[4]);
+        game.getLevelPreloader().preload(planet[4]);
         music.stop();
         game.setScreen(GdxGame.ScreenType.TURRET_SELECTION);
     }
@@ -311,10 +333,10 @@ public class LevelSelectScreen extends ScreenAdapter {
         text.draw(batch, 100, 700);
         batch.end();
         boolean isMouseOverPlanetNow = false;
-        Vector3 mousePos = new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
+        mousePos.set(Gdx.input.getX(), Gdx.input.getY(), 0);
 
         for (int[] planet : Planets.PLANETS) {
-            Rectangle planetRect = new Rectangle(planet[0], planet[1], planet[2], planet[3]);
+            planetRect.set(planet[0], planet[1], planet[2], planet[3]);
             if (planetRect.contains(mousePos.x, (float) Gdx.graphics.getHeight() - mousePos.y)) {
                 isMouseOverPlanetNow = true;
                 int conventionalPlanetLevel = mapToConventional(planet[4]);
@@ -366,9 +388,10 @@ public class LevelSelectScreen extends ScreenAdapter {
      */
     @Override
     public void dispose() {
-        ServiceLocator.getResourceService().unloadAssets(bgm);
+        music.stop();
+        // Releases the music and textures, which the asset cache unloads unless they're retained
+        resourceService.dispose();
         stage.dispose();
         batch.dispose();
-        music.dispose();
     }
 }
\ No newline at end of file
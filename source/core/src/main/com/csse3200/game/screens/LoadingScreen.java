@@ -1,34 +1,45 @@
 package com.csse3200.game.screens;
 
-import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.TextureData;
-import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-import com.badlogic.gdx.math.GridPoint2;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.csse3200.game.GdxGame;
+import com.csse3200.game.areas.LevelAssets;
+import com.csse3200.game.services.ProfilerService;
+import com.csse3200.game.services.ResourceService;
+import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.StagedAssetLoader;
 
 /**
- * Represents the loading screen of the game.
+ * Represents the loading screen of the game. Loads the main game's assets a little each frame, the
+ * selected level's assets first, and shows how far along loading is. The loaded assets are handed
+ * to the main game screen, see {@link #takePreloadedResources()}. Assets preloaded while the menus
+ * were showing are already loaded, see {@link LevelPreloader}.
  */
 public class LoadingScreen implements Screen {
+    /** Time in milliseconds spent loading each frame */
+    private static final int LOAD_BUDGET_MS = 12;
+    private static ResourceService preloadedResources;
+
     private final GdxGame game;
+    private final ResourceService resourceService;
+    // This screen's own background and skin, which aren't handed to the game screen
+    private final ResourceService screenResources;
+    private final StagedAssetLoader loader;
+    private final StringBuilder labelText = new StringBuilder();
+    private boolean handedOff = false;
     private SpriteBatch spriteBatch;
     private Texture backgroundTexture; // Background image
     private Texture loadingTexture; // Loading animation
-    private float elapsedTime = 0;
-    private boolean transitionToMainGame = false;
     private Stage stage;
+    private Skin skin;
     private Label loadingLabel;
-    private float dotTimer;
 
     /**
      * Initializes a new instance of the LoadingScreen class.
@@ -37,15 +48,47 @@ public class LoadingScreen implements Screen {
      */
     public LoadingScreen(GdxGame game) {
         this.game = game;
+        resourceService = new ResourceService(game.getAssetCache());
+        loader = new StagedAssetLoader(resourceService);
         spriteBatch = new SpriteBatch();
-        backgroundTexture = new Texture("images/LoadingScreen.png");
+        screenResources = new ResourceService(game.getAssetCache());
+        backgroundTexture = screenResources.borrowAsset("images/LoadingScreen.png", Texture.class);
 
         // loadingTexture = new Texture("images/mobboss/patrick.png");
         stage = new Stage(new ScreenViewport());
-        Skin skin = new Skin(Gdx.files.internal("uiskin.json")); // Use your own skin file
+        skin = screenResources.borrowAsset("images/ui/buttons/glass.json", Skin.class);
         loadingLabel = new Label("Loading", skin);
         loadingLabel.setPosition((float) Gdx.graphics.getWidth() / 2 - 50f, (float) Gdx.graphics.getHeight() / 2);
         stage.addActor(loadingLabel);
+
+        // Loaded in order, so the level can start drawing and playing music as soon as possible
+        int level = GameLevelData.getSelectedLevel();
+        LevelAssets levelAssets = LevelAssets.resolve(level, ServiceLocator.getTowerTypes());
+        MainGameScreen.queueLevelAssets(loader.addStage("level"), level);
+        levelAssets.getDependencies().queue(loader.addStage("enemies and towers"));
+        StagedAssetLoader.Stage shared = loader.addStage("interface");
+        levelAssets.getShared().queue(shared);
+        MainGameScreen.queueAssets(shared);
+        // Every level uses these, so keep them loaded for the next one
+        levelAssets.getShared().retain(game.getAssetCache());
+        // Reference the assets before the previous screen's unused assets are unloaded
+        loader.start();
+        // Most of them were already preloaded by the menus, and are now referenced here instead
+        LevelPreloader preloader = game.getLevelPreloader();
+        preloader.release();
+        preloader.warmUp();
+    }
+
+    /**
+     * Take the resources loaded by the last loading screen, if there are any. The caller becomes
+     * responsible for disposing them.
+     *
+     * @return the loaded resources, or null if nothing has been loaded
+     */
+    public static ResourceService takePreloadedResources() {
+        ResourceService resources = preloadedResources;
+        preloadedResources = null;
+        return resources;
     }
 
     /**
@@ -64,8 +107,6 @@ public class LoadingScreen implements Screen {
      */
     @Override
     public void render(float delta) {
-        elapsedTime += delta;
-
         // Clear the screen
         spriteBatch.begin();
 
@@ -77,22 +118,21 @@ public class LoadingScreen implements Screen {
 
         spriteBatch.end();
 
-        if (AssetLoader.areAllAssetsLoaded() || elapsedTime >= 1.5) {
-            transitionToMainGame = true;
-        }
-
-        if (transitionToMainGame) {
+        ProfilerService profiler = game.getProfiler();
+        profiler.begin(ProfilerService.ASSETS);
+        boolean loaded = loader.update(LOAD_BUDGET_MS);
+        profiler.end(ProfilerService.ASSETS);
+        if (loaded && game.getLevelPreloader().isWarmedUp()) {
             // Transition to the main game screen
+            preloadedResources = resourceService;
+            handedOff = true;
             game.setScreen(GdxGame.ScreenType.MAIN_GAME);
+            return;
         }
-        dotTimer += delta;
-        int numDots = (int) (dotTimer % 1 * 3); // Add a dot every second
 
-        // Add dots to the label text
-        StringBuilder labelText = new StringBuilder("Loading");
-        for (int i = 0; i < numDots; i++) {
-            labelText.append('.');
-        }
+        labelText.setLength(0);
+        labelText.append("Loading ").append(loader.getCurrentStageName())
+                .append("... ").append((int) (loader.getProgress() * 100)).append('%');
         loadingLabel.setText(labelText);
         stage.act();
         stage.draw();
@@ -139,7 +179,11 @@ public class LoadingScreen implements Screen {
     @Override
     public void dispose() {
         spriteBatch.dispose();
-        backgroundTexture.dispose();
+        stage.dispose();
+        screenResources.dispose();
+        if (!handedOff) {
+            resourceService.dispose();
+        }
         // loadingTexture.dispose();
     }
 }
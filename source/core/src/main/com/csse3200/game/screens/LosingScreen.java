@@ -10,7 +10,6 @@ import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
-import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
@@ -55,7 +54,7 @@ public class LosingScreen extends ScreenAdapter {
         BitmapFont font = new BitmapFont();
         text = new AnimatedText(INTRO_TEXT, font, 0.05f);
         font.getData().setScale(3, 2);
-        resourceService = new ResourceService();
+        resourceService = new ResourceService(game.getAssetCache());
         ServiceLocator.registerResourceService(resourceService);
         resourceService.loadSounds(lossSounds);
         resourceService.loadAll();
@@ -68,14 +67,13 @@ public class LosingScreen extends ScreenAdapter {
     @Override
     public void show() {
         batch = new SpriteBatch();
-        introImage = new Texture(TEXTURE);
+        introImage = resourceService.borrowAsset(TEXTURE, Texture.class);
         introSprite = new Sprite(introImage);
         introSprite.setSize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
 
         stage = new Stage(new ScreenViewport());
         Gdx.input.setInputProcessor(stage);
 
-        Skin skin = new Skin(Gdx.files.internal("images/ui/buttons/glass.json"));
         TextButton exitButton = ButtonFactory.createButton("Exit Game");
         exitButton.addListener(new ClickListener() {
             public void clicked(InputEvent even, float x, float y) {
@@ -134,7 +132,7 @@ public class LosingScreen extends ScreenAdapter {
     @Override
     public void dispose() {
         batch.dispose();
-        introImage.dispose();
         stage.dispose();
+        resourceService.dispose();
     }
 }
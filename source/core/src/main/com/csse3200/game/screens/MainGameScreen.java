@@ -18,12 +18,15 @@ import com.csse3200.game.components.maingame.MainGameActions;
 import com.csse3200.game.components.maingame.MainGameDisplay;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.EntityService;
+import com.csse3200.game.entities.factories.ProjectileFactory;
 import com.csse3200.game.entities.factories.RenderFactory;
 import com.csse3200.game.input.*;
+import com.csse3200.game.logging.GameEventLog;
 import com.csse3200.game.physics.PhysicsEngine;
 import com.csse3200.game.physics.PhysicsService;
 import com.csse3200.game.rendering.RenderService;
 import com.csse3200.game.rendering.Renderer;
+import com.csse3200.game.rendering.SpritePagePacker;
 import com.csse3200.game.services.*;
 import com.csse3200.game.ui.terminal.Terminal;
 import com.csse3200.game.ui.terminal.TerminalDisplay;
@@ -82,6 +85,8 @@ public class MainGameScreen extends ScreenAdapter {
   private final GdxGame game;
   private final Renderer renderer;
   private final PhysicsEngine physicsEngine;
+  private final SimulationClock simulationClock = new SimulationClock();
+  private final SpritePagePacker spritePacker = new SpritePagePacker();
   private final InputComponent buildHandler;
   private final InputComponent upgradedInputHandler;
   static int screenWidth = Gdx.graphics.getWidth();
@@ -114,7 +119,10 @@ public class MainGameScreen extends ScreenAdapter {
     physicsEngine = physicsService.getPhysics();
 
     ServiceLocator.registerInputService(new InputService());
-    ServiceLocator.registerResourceService(new ResourceService());
+    // Assets are usually already loaded by the loading screen
+    ResourceService resourceService = LoadingScreen.takePreloadedResources();
+    ServiceLocator.registerResourceService(
+        resourceService != null ? resourceService : new ResourceService(game.getAssetCache()));
 
     ServiceLocator.registerCurrencyService(new CurrencyService());
 
@@ -122,6 +130,11 @@ public class MainGameScreen extends ScreenAdapter {
     ServiceLocator.registerRenderService(new RenderService());
     ServiceLocator.registerGameEndService(new GameEndService());
     ServiceLocator.registerWaveService(new WaveService());
+    ServiceLocator.registerLaneService(new LaneService());
+    ServiceLocator.registerAreaDamageService(new AreaDamageService());
+    ServiceLocator.registerProfilerService(game.getProfiler());
+    ServiceLocator.registerTimerService(new TimerService(ServiceLocator.getTimeSource()));
+    ProjectileFactory.setPooling(true);
 
     renderer = RenderFactory.createRenderer();
     renderer.getCamera().getEntity().setPosition(CAMERA_POSITION);
@@ -142,6 +155,7 @@ public class MainGameScreen extends ScreenAdapter {
     ServiceLocator.registerMapService(new MapService(renderer.getCamera(),camera));
     logger.debug("Initialising main game screen entities");
     ForestGameArea forestGameArea = new ForestGameArea();
+    forestGameArea.setSpritePacker(spritePacker);
     forestGameArea.create();
   }
 
@@ -202,15 +216,28 @@ public class MainGameScreen extends ScreenAdapter {
     // End the batch
     batch.end();
 
-    // Continue with other rendering logic
-    physicsEngine.update();
-    ServiceLocator.getEntityService().update();
+    // Run game logic in fixed ticks, so it runs at the same speed at any frame rate
+    GameTime timeSource = ServiceLocator.getTimeSource();
+    EntityService entityService = ServiceLocator.getEntityService();
+    AreaDamageService areaDamageService = ServiceLocator.getAreaDamageService();
+    TimerService timerService = ServiceLocator.getTimerService();
+    int ticks = simulationClock.advance(timeSource.getDeltaTime(), timeSource.getTimeScale());
+    for (int i = 0; i < ticks; i++) {
+      timeSource.beginTick(simulationClock.getTickLength());
+      entityService.savePreviousPositions();
+      physicsEngine.update();
+      entityService.update();
+      timerService.update();
+      areaDamageService.resolve();
+      timeSource.endTick();
+    }
+    // Draw entities part way between their last two ticks
+    ServiceLocator.getRenderService().setInterpolationAlpha(simulationClock.getAlpha());
 
     // Checks if tower selected is dead
     this.getUpgradedInputHandler().checkForDispose();
 
     ServiceLocator.getWaveService().getDisplay().updateTimerButton();
-    ServiceLocator.getWaveService().getDisplay().updateMobCount();
     renderer.render();
 
     // Check if the game has ended
@@ -249,17 +276,52 @@ public class MainGameScreen extends ScreenAdapter {
   @Override
   public void dispose() {
     logger.debug("Disposing main game screen");
+    // Keep a record of how the level went, without holding up the next screen
+    GameEventLog.flush();
 
     renderer.dispose();
     unloadAssets();
 
+    // Pooled projectiles hold physics bodies, so release them while the world still exists
+    ProjectileFactory.setPooling(false);
     ServiceLocator.getEntityService().dispose();
     ServiceLocator.getRenderService().dispose();
+    // Moves atlas regions back onto their own pages, before the atlases can be unloaded
+    spritePacker.dispose();
     ServiceLocator.getResourceService().dispose();
 
     ServiceLocator.clear();
   }
 
+  /**
+   * Add the assets a level needs as soon as it starts, its backdrop, music and ambient sounds, to a
+   * loading stage.
+   *
+   * @param stage stage to load the assets in
+   * @param level selected level, as in {@link GameLevelData}
+   */
+  public static void queueLevelAssets(StagedAssetLoader.Stage stage, int level) {
+    switch (level) {
+      case 1 -> stage.textures(ICE_BACKDROP).music(ICE_BGM).sounds(iceSounds);
+      case 2 -> stage.textures(LAVA_BACKDROP).music(LAVA_BGM).sounds(lavaSounds);
+      default -> stage.textures(DESERT_BACKDROP).music(DESERT_BGM).sounds(desertSounds);
+    }
+  }
+
+  /**
+   * Add the rest of this screen's assets to a loading stage.
+   *
+   * @param stage stage to load the assets in
+   */
+  public static void queueAssets(StagedAssetLoader.Stage stage) {
+    stage.textures(mainGameTextures)
+        .music(backgroundMusic)
+        .sounds(iceSounds)
+        .sounds(desertSounds)
+        .sounds(lavaSounds)
+        .sounds(uiSounds);
+  }
+
   private void loadAssets() {
     logger.debug("Loading assets");
     ResourceService resourceService = ServiceLocator.getResourceService();
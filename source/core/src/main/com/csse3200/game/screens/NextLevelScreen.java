@@ -6,26 +6,24 @@ package com.csse3200.game.screens;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.ScreenAdapter;
-import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
-import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.csse3200.game.GdxGame;
 import com.badlogic.gdx.Preferences;
+import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.ui.ButtonFactory;
 
 public class NextLevelScreen extends ScreenAdapter {
     private final SpriteBatch batch;
     private final Texture backgroundTexture;
-    private final BitmapFont font;
+    private final ResourceService resourceService;
     private final Stage stage;
     private int currentLevel;
     private Preferences preferences;
@@ -47,13 +45,12 @@ public class NextLevelScreen extends ScreenAdapter {
         }
 
         batch = new SpriteBatch();
-        backgroundTexture = new Texture("images/ui/Screen/Nextlevel.png");
-        font = new BitmapFont();
+        resourceService = new ResourceService(game.getAssetCache());
+        backgroundTexture = resourceService.borrowAsset("images/ui/Screen/Nextlevel.png", Texture.class);
 
         stage = new Stage(new ScreenViewport());
         Gdx.input.setInputProcessor(stage);
 
-        Skin skin = new Skin(Gdx.files.internal("images/ui/buttons/glass.json"));
         TextButton nextLevelButton = ButtonFactory.createButton("Next Level");
         nextLevelButton.addListener(new ClickListener() {
             @Override
@@ -100,12 +97,6 @@ public class NextLevelScreen extends ScreenAdapter {
         batch.begin();
         batch.draw(backgroundTexture, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
 
-        // Customize font size, color, and style
-        BitmapFont font = new BitmapFont();
-        font.getData().setScale(3.0f); // Set font size to 2x the default size
-        Color textColor = new Color(200 / 255f, 246 / 255f, 244 / 255f, 1f); // Convert RGB values to 0-1 range
-        font.setColor(textColor);
-
         // GlyphLayout layout = new GlyphLayout(font, "Congratulations on completing the level!");
         // float textX = (Gdx.graphics.getWidth() - layout.width) / 2; // Center the text horizontally
         // float textY = 750; // Customize the vertical position
@@ -135,7 +126,7 @@ public class NextLevelScreen extends ScreenAdapter {
     @Override
     public void dispose() {
         batch.dispose();
-        backgroundTexture.dispose();
+        resourceService.dispose();
         stage.dispose();
     }
 }
\ No newline at end of file
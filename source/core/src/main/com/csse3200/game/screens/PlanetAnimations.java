@@ -0,0 +1,45 @@
+package com.csse3200.game.screens;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * The spinning planet animations shown on the level select screen. Every frame of the planets in
+ * colour and in black and white (for locked levels) is packed into one atlas page, with the regions
+ * named "&lt;planet&gt;/&lt;version&gt;" and indexed by frame, e.g. "Lava_bw/1". The animations
+ * are built once when the screen is created, so drawing a planet doesn't load or allocate anything.
+ */
+public class PlanetAnimations {
+    public static final String ATLAS = "planets/planets.atlas";
+    private static final String LOCKED_SUFFIX = "_bw";
+
+    private final TextureAtlas atlas;
+
+    /**
+     * @param atlas the loaded planet atlas, see {@link #ATLAS}
+     */
+    public PlanetAnimations(TextureAtlas atlas) {
+        this.atlas = atlas;
+    }
+
+    /**
+     * Create a looping animation of a planet.
+     *
+     * @param planetName name of the planet, e.g. "Lava"
+     * @param version which variant of the planet to show
+     * @param locked true to show the planet in black and white
+     * @param framesPerSecond speed of the animation
+     * @return the planet's animation
+     * @throws IllegalArgumentException if the planet isn't in the atlas
+     */
+    public Animation<TextureRegion> create(String planetName, int version, boolean locked, float framesPerSecond) {
+        String regionName = planetName + (locked ? LOCKED_SUFFIX : "") + "/" + version;
+        Array<TextureAtlas.AtlasRegion> frames = atlas.findRegions(regionName);
+        if (frames.isEmpty()) {
+            throw new IllegalArgumentException("No planet frames in " + ATLAS + " for " + regionName);
+        }
+        return new Animation<>(1f / framesPerSecond, frames, Animation.PlayMode.LOOP);
+    }
+}
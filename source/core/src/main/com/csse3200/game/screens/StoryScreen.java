@@ -37,6 +37,7 @@ public class StoryScreen extends ScreenAdapter {
             "sounds/background/pre_game/Sci-Fi8Loop_story.ogg"
     };
     private Music music;
+    private final ResourceService resourceService;
     private Preferences preferences;
     private BitmapFont font;
     private static final String defaultFont = "determination_mono_22";
@@ -91,13 +92,18 @@ public class StoryScreen extends ScreenAdapter {
 
         this.elapsedTime = 0f;
 
+        resourceService = new ResourceService(game.getAssetCache());
+        ServiceLocator.registerResourceService(resourceService);
+        resourceService.loadTextures(IMAGE_PATHS);
+        resourceService.loadMusic(bgm);
+        resourceService.loadAll();
         for (int i = 0; i < IMAGE_PATHS.length; i++) {
-            images[i] = new Texture(IMAGE_PATHS[i]);
+            images[i] = resourceService.getAsset(IMAGE_PATHS[i], Texture.class);
         }
-        ServiceLocator.registerResourceService(new ResourceService());
-        ServiceLocator.getResourceService().loadMusic(bgm);
-        ServiceLocator.getResourceService().loadAll();
-        music = ServiceLocator.getResourceService().getAsset(bgm[0], Music.class);
+        music = resourceService.getAsset(bgm[0], Music.class);
+
+        // A new game starts on the ice planet, so get it ready while the story is read
+        game.getLevelPreloader().preload(1);
     }
 
     /**
@@ -114,8 +120,7 @@ public class StoryScreen extends ScreenAdapter {
         font = getSkin().getFont(defaultFont);
         layout = new GlyphLayout();
 
-        Skin skin = new Skin(Gdx.
-                files.internal("images/ui/buttons/glass.json"));
+        Skin skin = resourceService.borrowAsset("images/ui/buttons/glass.json", Skin.class);
 
         continueButton = new TextButton("Continue", skin);
         continueButton.addListener(new ClickListener() {
@@ -219,11 +224,9 @@ public class StoryScreen extends ScreenAdapter {
     @Override
     public void dispose() {
         batch.dispose();
-        for (Texture texture : images) {
-            texture.dispose();
-        }
         stage.dispose();
-        music.dispose();
-        font.dispose();
+        music.stop();
+        // Releases the images, music and skin. The font belongs to the UI skin, so isn't disposed
+        resourceService.dispose();
     }
 }
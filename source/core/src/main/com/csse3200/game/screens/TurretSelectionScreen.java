@@ -64,6 +64,7 @@ public class TurretSelectionScreen extends ScreenAdapter {
     };
     private static final String defaultFont = "determination_mono_18";
     private Music music;
+    private final ResourceService resourceService;
     private static final Logger logger = LoggerFactory.getLogger(MainMenuScreen.class);
 
     /**
@@ -75,16 +76,17 @@ public class TurretSelectionScreen extends ScreenAdapter {
         stage = new Stage(new ScreenViewport());
         table = new Table();
 
+        resourceService = new ResourceService(game.getAssetCache());
+        ServiceLocator.registerResourceService(resourceService);
         loadSounds();
 
-        ServiceLocator.registerResourceService(new ResourceService());
         ServiceLocator.getResourceService().loadMusic(bgm);
         ServiceLocator.getResourceService().loadAll();
         music = ServiceLocator.getResourceService().getAsset(bgm[0], Music.class);
 
         // Set up the background
         batch = new SpriteBatch();
-        Texture backgroundImage = new Texture(TEXTURE);
+        Texture backgroundImage = resourceService.borrowAsset(TEXTURE, Texture.class);
         introSprite = new Sprite(backgroundImage);
         introSprite.setSize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
 
@@ -94,8 +96,6 @@ public class TurretSelectionScreen extends ScreenAdapter {
         turretList.addAll(Arrays.asList(TowerType.values()));
         // Restrictions can be added to the arrays i.e. map == "Forest" && level == 1 using for loop
 
-        Skin skin = new Skin(Gdx.files.internal("images/ui/buttons/glass.json"));
-
         backButton = ButtonFactory.createButton("Back");
         backButton.setPosition(10, Gdx.graphics.getHeight() - backButton.getHeight() - 10); // Adjust position as needed
         backButton.addListener(new ClickListener() {
@@ -275,8 +275,8 @@ public class TurretSelectionScreen extends ScreenAdapter {
      */
     private TextButton createButton(String defaultImageFilePath, String alternateImageFilePath, String cost,
                                     String towerName, String turretDesc) {
-        Drawable defaultDrawable = new TextureRegionDrawable(new TextureRegion(new Texture(defaultImageFilePath)));
-        Drawable alternateDrawable = new TextureRegionDrawable(new TextureRegion(new Texture(alternateImageFilePath)));
+        Drawable defaultDrawable = new TextureRegionDrawable(new TextureRegion(resourceService.borrowAsset(defaultImageFilePath, Texture.class)));
+        Drawable alternateDrawable = new TextureRegionDrawable(new TextureRegion(resourceService.borrowAsset(alternateImageFilePath, Texture.class)));
 
         TextButton.TextButtonStyle buttonStyle = new TextButton.TextButtonStyle();
         buttonStyle.font = getSkin().getFont(defaultFont); // Set your desired font
@@ -360,8 +360,10 @@ public class TurretSelectionScreen extends ScreenAdapter {
     @Override
     public void dispose() {
         stage.dispose();
-        music.dispose();
+        music.stop();
         unloadSounds();
+        // Releases the background and turret images
+        resourceService.dispose();
     }
 
 }
@@ -10,7 +10,6 @@ import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
-import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
@@ -46,7 +45,7 @@ public class WinningScreen extends ScreenAdapter {
     public WinningScreen(GdxGame game) {
         this.game = game;
         font = new BitmapFont();
-        resourceService = new ResourceService();
+        resourceService = new ResourceService(game.getAssetCache());
         ServiceLocator.registerResourceService(resourceService);
       //  resourceService.loadSounds(winSounds);
         resourceService.loadAll();
@@ -60,14 +59,13 @@ public class WinningScreen extends ScreenAdapter {
     @Override
     public void show() {
         batch = new SpriteBatch();
-        backgroundTexture = new Texture(BACKGROUND_TEXTURE);
+        backgroundTexture = resourceService.borrowAsset(BACKGROUND_TEXTURE, Texture.class);
         backgroundSprite = new Sprite(backgroundTexture);
         backgroundSprite.setSize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
 
         stage = new Stage(new ScreenViewport());
         Gdx.input.setInputProcessor(stage);
 
-        Skin skin = new Skin(Gdx.files.internal("images/ui/buttons/glass.json"));
         TextButton exitButton = ButtonFactory.createButton("Exit Game");
         exitButton.addListener(new ClickListener(){
             public void clicked(InputEvent event, float x, float y) {
@@ -121,7 +119,7 @@ public class WinningScreen extends ScreenAdapter {
     @Override
     public void dispose() {
         batch.dispose();
-        backgroundTexture.dispose();
         stage.dispose();
+        resourceService.dispose();
     }
 }
@@ -0,0 +1,203 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+import com.csse3200.game.components.CombatStatsComponent;
+import com.csse3200.game.components.EffectComponent;
+import com.csse3200.game.components.ProjectileEffects;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityService;
+import com.csse3200.game.physics.components.PhysicsComponent;
+import com.csse3200.game.physics.components.PhysicsMovementComponent;
+
+/**
+ * Resolves area of effect attacks, such as TNT explosions and area effect projectiles, once per
+ * tick. Components submit a request describing the area and what to apply, and the requests are
+ * all resolved together after entities have updated. Targets are found through the entity
+ * service's spatial index, so an explosion only looks at the entities near it.
+ *
+ * <p>Requests are pooled, so submitting one every tick does not create garbage.
+ *
+ * <p>Example use:
+ *
+ * <pre>
+ * ServiceLocator.getAreaDamageService()
+ *     .submit(entity, radius, 1f, PhysicsLayer.NPC)
+ *     .setDamage(combatStats)
+ *     .setKnockback(knockbackForce);
+ * </pre>
+ */
+public class AreaDamageService {
+  /** Lane band which accepts targets at any height */
+  public static final float ANY_LANE = Float.MAX_VALUE;
+  /** Time in seconds a knocked back target can't move for */
+  private static final float KNOCKBACK_DURATION = 0.5f;
+
+  private final Array<AreaDamage> pending = new Array<>(false, 16, AreaDamage.class);
+  private final Array<Entity> targets = new Array<>(false, 16);
+  private final Vector2 scratch = new Vector2();
+  private final Pool<AreaDamage> pool =
+      new Pool<>() {
+        @Override
+        protected AreaDamage newObject() {
+          return new AreaDamage();
+        }
+      };
+
+  /**
+   * Request an area of effect attack, centred on the source entity's position. The returned
+   * request can be given damage, knockback and an effect to apply to each target. It is resolved at
+   * the end of the tick, and must not be kept after that.
+   *
+   * @param source entity causing the attack, which is never targeted
+   * @param radius distance from the source's position that targets must be within
+   * @param laneBand vertical distance from the source's position that targets must be within, or
+   *     {@link #ANY_LANE}
+   * @param layer physics layer mask of the targets
+   * @return the request
+   */
+  public AreaDamage submit(Entity source, float radius, float laneBand, short layer) {
+    AreaDamage request = pool.obtain();
+    request.source = source;
+    // Copied, since the source may be disposed before the request is resolved
+    source.getPosition(request.position);
+    source.getCenterPosition(request.center);
+    request.radius = radius;
+    request.laneBand = laneBand;
+    request.layer = layer;
+    pending.add(request);
+    return request;
+  }
+
+  /** @return number of requests waiting to be resolved */
+  public int getPendingCount() {
+    return pending.size;
+  }
+
+  /**
+   * Apply every submitted request. Should be called once per tick from the main game loop, after
+   * entities have updated.
+   */
+  public void resolve() {
+    ProfilerService profiler = ServiceLocator.getProfilerService();
+    if (profiler != null) {
+      profiler.begin(ProfilerService.AREA_DAMAGE);
+    }
+    resolvePending();
+    if (profiler != null) {
+      profiler.end(ProfilerService.AREA_DAMAGE);
+    }
+  }
+
+  private void resolvePending() {
+    if (pending.size == 0) {
+      return;
+    }
+    EntityService entityService = ServiceLocator.getEntityService();
+    // Resolving can cause more requests, e.g. a mob exploding on death, which are resolved next tick
+    int count = pending.size;
+    AreaDamage[] requests = pending.items;
+    for (int i = 0; i < count; i++) {
+      AreaDamage request = requests[i];
+      targets.clear();
+      entityService.getEntitiesInLayer(
+          request.position, request.radius, request.layer, request.source, targets);
+      for (int j = 0; j < targets.size; j++) {
+        Entity target = targets.get(j);
+        if (Math.abs(target.getPosition(scratch).y - request.position.y) <= request.laneBand) {
+          apply(request, target);
+        }
+      }
+    }
+    targets.clear();
+    for (int i = 0; i < count; i++) {
+      pool.free(requests[i]);
+    }
+    pending.removeRange(0, count - 1);
+  }
+
+  private void apply(AreaDamage request, Entity target) {
+    if (request.attacker != null) {
+      CombatStatsComponent targetStats = target.getComponent(CombatStatsComponent.class);
+      if (targetStats != null) {
+        targetStats.hit(request.attacker);
+      }
+    }
+
+    if (request.knockback > 0f) {
+      PhysicsComponent physicsComponent = target.getComponent(PhysicsComponent.class);
+      if (physicsComponent != null) {
+        // Disable regular movement temporarily
+        PhysicsMovementComponent movementComponent =
+            target.getComponent(PhysicsMovementComponent.class);
+        if (movementComponent != null) {
+          movementComponent.applyKnockback(KNOCKBACK_DURATION);
+        }
+        Body targetBody = physicsComponent.getBody();
+        Vector2 direction = target.getCenterPosition(scratch).sub(request.center).nor();
+        direction.y = 0;
+        targetBody.applyLinearImpulse(
+            direction.scl(request.knockback), targetBody.getWorldCenter(), true);
+      }
+    }
+
+    if (request.effect != null) {
+      EffectComponent effectComponent = target.getComponent(EffectComponent.class);
+      if (effectComponent != null) {
+        effectComponent.applyEffect(request.effect, request.source, target);
+      }
+    }
+  }
+
+  /** An area of effect attack waiting to be resolved. */
+  public static class AreaDamage implements Pool.Poolable {
+    private final Vector2 position = new Vector2();
+    private final Vector2 center = new Vector2();
+    private Entity source;
+    private float radius;
+    private float laneBand;
+    private short layer;
+    private CombatStatsComponent attacker;
+    private float knockback;
+    private ProjectileEffects effect;
+
+    private AreaDamage() {}
+
+    /**
+     * @param attacker stats used to damage each target, or null for no damage
+     * @return self
+     */
+    public AreaDamage setDamage(CombatStatsComponent attacker) {
+      this.attacker = attacker;
+      return this;
+    }
+
+    /**
+     * @param knockback impulse pushing each target away from the source horizontally
+     * @return self
+     */
+    public AreaDamage setKnockback(float knockback) {
+      this.knockback = knockback;
+      return this;
+    }
+
+    /**
+     * @param effect effect applied to each target, from the source entity
+     * @return self
+     */
+    public AreaDamage setEffect(ProjectileEffects effect) {
+      this.effect = effect;
+      return this;
+    }
+
+    @Override
+    public void reset() {
+      source = null;
+      attacker = null;
+      knockback = 0f;
+      effect = null;
+    }
+  }
+}
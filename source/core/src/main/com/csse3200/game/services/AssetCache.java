@@ -0,0 +1,130 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An asset manager shared between screens, which counts how many resource services are using each
+ * asset. An asset which is no longer used is only unloaded once the next screen has been created,
+ * so assets used by both screens are never unloaded and loaded again. Retained assets, such as the
+ * interface assets every level uses, stay loaded while unused so they are ready for the next level.
+ *
+ * <p>Owned by the game, see {@link ResourceService#ResourceService(AssetCache)}. Screens borrow
+ * their skins, fonts and backgrounds from it too, see {@link ResourceService#borrowAsset}, so moving
+ * between menu screens doesn't parse or upload them again.
+ */
+public class AssetCache implements Disposable {
+  private static final Logger logger = LoggerFactory.getLogger(AssetCache.class);
+
+  private final AssetManager assetManager;
+  private final ObjectIntMap<String> references = new ObjectIntMap<>();
+  private final ObjectSet<String> retained = new ObjectSet<>();
+  private final Array<String> unused = new Array<>(false, 16);
+  private int hitCount = 0;
+  private int loadCount = 0;
+
+  public AssetCache() {
+    this(new AssetManager());
+  }
+
+  /**
+   * @param assetManager asset manager to load assets with
+   */
+  public AssetCache(AssetManager assetManager) {
+    this.assetManager = assetManager;
+  }
+
+  /** @return the shared asset manager */
+  public AssetManager getAssetManager() {
+    return assetManager;
+  }
+
+  /**
+   * Add a reference to an asset, loading it if it isn't already loaded or queued.
+   *
+   * @param assetName asset name
+   * @param type asset type
+   * @param <T> type
+   */
+  public <T> void acquire(String assetName, Class<T> type) {
+    int count = references.getAndIncrement(assetName, 0, 1);
+    if (assetManager.contains(assetName)) {
+      hitCount++;
+    } else {
+      loadCount++;
+      assetManager.load(assetName, type);
+    }
+  }
+
+  /**
+   * Remove a reference to an asset. Once nothing references it, it is unloaded by the next call to
+   * {@link #unloadUnused()}, unless it is retained.
+   *
+   * @param assetName asset name
+   */
+  public void release(String assetName) {
+    int count = references.get(assetName, 0);
+    if (count <= 1) {
+      references.remove(assetName, 0);
+      unused.add(assetName);
+    } else {
+      references.put(assetName, count - 1);
+    }
+  }
+
+  /**
+   * Keep an asset loaded while nothing references it, e.g. because the next level will need it too.
+   *
+   * @param assetName asset name
+   */
+  public void retain(String assetName) {
+    retained.add(assetName);
+  }
+
+  /**
+   * @param assetName asset name
+   * @return number of references to the asset
+   */
+  public int getReferenceCount(String assetName) {
+    return references.get(assetName, 0);
+  }
+
+  /** @return number of times an asset was acquired which was already loaded or queued */
+  public int getHitCount() {
+    return hitCount;
+  }
+
+  /** @return number of times an asset was acquired which had to be loaded */
+  public int getLoadCount() {
+    return loadCount;
+  }
+
+  /** Unload every asset that has been released and not used again since, unless it is retained. */
+  public void unloadUnused() {
+    int unloaded = 0;
+    for (int i = 0; i < unused.size; i++) {
+      String assetName = unused.get(i);
+      if (!references.containsKey(assetName)
+          && !retained.contains(assetName)
+          && assetManager.contains(assetName)) {
+        assetManager.unload(assetName);
+        unloaded++;
+      }
+    }
+    unused.clear();
+    logger.debug("Unloaded {} unused assets", unloaded);
+  }
+
+  @Override
+  public void dispose() {
+    references.clear();
+    retained.clear();
+    unused.clear();
+    assetManager.clear();
+  }
+}
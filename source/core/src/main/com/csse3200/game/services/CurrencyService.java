@@ -3,17 +3,28 @@ package com.csse3200.game.services;
 import com.csse3200.game.components.gamearea.CurrencyDisplay;
 import com.csse3200.game.currency.Crystal;
 import com.csse3200.game.currency.Scrap;
+import com.csse3200.game.events.EventHandler;
 
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import com.csse3200.game.currency.Currency;
 import com.csse3200.game.screens.TowerType;
 
+/**
+ * Holds the player's currencies and the tower selected for building. Changes to the currencies are
+ * announced through {@link #getEvents()}:
+ *
+ * <ul>
+ *   <li>scrapsChanged (Integer): new amount of scrap
+ *   <li>crystalsChanged (Integer): new amount of crystals
+ * </ul>
+ */
 public class CurrencyService {
 
     private ArrayList<Currency> currencies;
     private CurrencyDisplay display;
     private TowerType tower = null;
+    private final EventHandler events = new EventHandler();
 
     /**
      * Constructor for the CurrencyService class
@@ -22,6 +33,10 @@ public class CurrencyService {
         this.currencies = new ArrayList<>(); // Creates an array list of currencies
         this.currencies.add(new Scrap()); // Adds a scrap currency to the array list
         this.currencies.add(new Crystal());
+        getScrap().getEvents().addListener("amountChanged",
+                (Integer amount) -> events.trigger("scrapsChanged", amount));
+        getCrystal().getEvents().addListener("amountChanged",
+                (Integer amount) -> events.trigger("crystalsChanged", amount));
         this.display = new CurrencyDisplay(); // Creates a new currency display
     }
 
@@ -49,6 +64,13 @@ public class CurrencyService {
         return display;
     }
 
+    /**
+     * @return events announcing changes to the currencies
+     */
+    public EventHandler getEvents() {
+        return events;
+    }
+
     /**
      * Sets the tower type to build - triggered by pressing a tower build button in-game
      * newTower can be a towertype or a null value to indicate clearing the value?
@@ -1,7 +1,16 @@
 package com.csse3200.game.services;
 
 import com.csse3200.game.components.gamearea.EngineerCountDisplay;
-
+import com.csse3200.game.events.EventHandler;
+
+/**
+ * Keeps track of the engineers left, and ends the game when they run out. Changes are announced
+ * through {@link #getEvents()}:
+ *
+ * <ul>
+ *   <li>engineerCountChanged (Integer): number of engineers left
+ * </ul>
+ */
 public class GameEndService {
 
     private int remainingEngineerCount;
@@ -11,6 +20,7 @@ public class GameEndService {
     private boolean gameOver = false;
     private static final int STARTING_COUNT = 5;
     private final EngineerCountDisplay display;
+    private final EventHandler events = new EventHandler();
 
     /**
      * Constructor for the Game End Service
@@ -25,9 +35,9 @@ public class GameEndService {
      * @param newLimit as an integer representing the maximum number of engineer deaths
      */
     public void setEngineerCount(int newLimit) {
-        if (newLimit > 0 && newLimit < 1000) {
+        if (newLimit > 0 && newLimit < 1000 && newLimit != remainingEngineerCount) {
             remainingEngineerCount = newLimit;
-            display.updateCount();
+            events.trigger("engineerCountChanged", remainingEngineerCount);
         }
     }
 
@@ -46,7 +56,7 @@ public class GameEndService {
      */
     public void updateEngineerCount() {
         remainingEngineerCount -= 1;
-        display.updateCount();
+        events.trigger("engineerCountChanged", remainingEngineerCount);
 
         if (remainingEngineerCount == 0) {
             gameOver = true;
@@ -76,6 +86,13 @@ public class GameEndService {
         return display;
     }
 
+    /**
+     * @return events announcing changes to the engineer count
+     */
+    public EventHandler getEvents() {
+        return events;
+    }
+
     /**
      * Returns the number of spawned engineers
      * @return (int) number of spawned engineers
@@ -1,24 +1,25 @@
 package com.csse3200.game.services;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.utils.TimeUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** Controls the game time */
+/**
+ * Controls the game time. Game time only moves forward during simulation ticks, so pausing or
+ * scaling the frame time given to the {@link SimulationClock} pauses or speeds up everything timed
+ * by it (physics, AI tasks, wave timers and animations) without touching any entities.
+ */
 public class GameTime {
   private static final Logger logger = LoggerFactory.getLogger(GameTime.class);
-  private final long startTime;
   private float timeScale = 1f;
   private boolean paused = false;
-
-  public GameTime() {
-    startTime = TimeUtils.millis();
-    logger.debug("Setting game start time to {}", startTime);
-  }
+  private boolean inTick = false;
+  private float tickDelta = 0f;
+  private double seconds = 0;
 
   /**
-   * Set the speed of time passing. This affects getDeltaTime()
+   * Set the speed of time passing. This affects getDeltaTime(), and so how many simulation ticks
+   * run each frame, e.g. 2 to run the game at double speed.
    *
    * @param timeScale Time scale, where normal speed is 1.0, no time passing is 0.0
    */
@@ -27,30 +28,82 @@ public class GameTime {
     this.timeScale = timeScale;
   }
 
-  /** @return time passed since the last frame in seconds, scaled by time scale. */
+  /** @return speed of time passing, where normal speed is 1.0 */
+  public float getTimeScale() {
+    return timeScale;
+  }
+
+  /**
+   * @return time passed since the last frame in seconds, scaled by time scale, or 0 while paused.
+   *     During a simulation tick, this is the fixed length of the tick instead.
+   */
   public float getDeltaTime() {
+    if (inTick) {
+      return tickDelta;
+    }
+    if (paused) {
+      return 0f;
+    }
     return Gdx.graphics.getDeltaTime() * timeScale;
   }
 
+  /**
+   * Start a fixed length simulation tick. Until {@link #endTick()} is called, getDeltaTime() returns
+   * the tick length rather than the frame time. See {@link SimulationClock}.
+   *
+   * @param delta length of the tick in seconds
+   */
+  public void beginTick(float delta) {
+    inTick = true;
+    tickDelta = delta;
+    seconds += delta;
+  }
+
+  /** End the current simulation tick, so getDeltaTime() returns the frame time again. */
+  public void endTick() {
+    inTick = false;
+  }
+
+  /** @return length of the current or last simulation tick in seconds, or 0 before the first */
+  public float getTickDelta() {
+    return tickDelta;
+  }
+
+  /** @return true if a simulation tick is running */
+  public boolean isInTick() {
+    return inTick;
+  }
+
   /** @return time passed since the last frame in seconds, not affected by time scale. */
   public float getRawDeltaTime() {
     return Gdx.graphics.getDeltaTime();
   }
 
-  /** @return time passed since the game started in milliseconds */
+  /**
+   * @return game time passed since this was created in milliseconds. Only simulation ticks move it
+   *     forward, so it stands still while paused.
+   */
   public long getTime() {
-    return TimeUtils.timeSinceMillis(startTime);
+    return (long) (seconds * 1000);
   }
 
   public long getTimeSince(long lastTime) {
     return getTime() - lastTime;
   }
 
+  /** @return true if the game is paused */
   public boolean getPaused() {
     return paused;
   }
 
+  /**
+   * Pause or resume the game. While paused, no simulation ticks run and animations stop, since
+   * getDeltaTime() is 0 outside of ticks. Timers resume exactly where they were.
+   *
+   * @param status true to pause
+   */
   public void setPaused(boolean status) {
+    logger.debug("Setting paused to {}", status);
     paused = status;
   }
 }
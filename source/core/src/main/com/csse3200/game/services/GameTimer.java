@@ -0,0 +1,80 @@
+package com.csse3200.game.services;
+
+/**
+ * A callback which runs after a delay of game time, once or repeatedly, see {@link TimerService}.
+ * A timer can be rescheduled as often as needed, so a task can keep one timer rather than creating
+ * one each time.
+ *
+ * <p>Example use:
+ *
+ * <pre>
+ * GameTimer fireTimer = ServiceLocator.getTimerService().create(this::fire);
+ * fireTimer.scheduleRepeating(0.5f, fireRateInterval);
+ * // When the task stops
+ * fireTimer.cancel();
+ * </pre>
+ */
+public class GameTimer {
+  private final TimerService service;
+  private final Runnable callback;
+
+  // Managed by the timer service
+  long deadline;
+  long deadlineSlot;
+  long interval;
+  boolean scheduled = false;
+  boolean due = false;
+  GameTimer previous;
+  GameTimer next;
+
+  GameTimer(TimerService service, Runnable callback) {
+    this.service = service;
+    this.callback = callback;
+  }
+
+  /**
+   * Run the callback once, after a delay. Replaces any earlier schedule.
+   *
+   * @param delay delay in seconds of game time
+   * @return self
+   */
+  public GameTimer schedule(float delay) {
+    return scheduleRepeating(delay, 0f);
+  }
+
+  /**
+   * Run the callback after a delay, then repeatedly at an interval until cancelled. Replaces any
+   * earlier schedule.
+   *
+   * @param delay delay before the first run in seconds of game time
+   * @param interval time between runs in seconds of game time, or 0 to run once
+   * @return self
+   */
+  public GameTimer scheduleRepeating(float delay, float interval) {
+    cancel();
+    this.interval = toMillis(interval);
+    service.add(this, service.getTime() + toMillis(delay));
+    return this;
+  }
+
+  /** Stop the callback from running, if it is scheduled. */
+  public void cancel() {
+    due = false;
+    if (scheduled) {
+      service.remove(this);
+    }
+  }
+
+  /** @return true if the callback is waiting to run */
+  public boolean isScheduled() {
+    return scheduled || due;
+  }
+
+  void run() {
+    callback.run();
+  }
+
+  private static long toMillis(float seconds) {
+    return Math.round(seconds * 1000);
+  }
+}
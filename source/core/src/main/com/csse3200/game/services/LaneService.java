@@ -0,0 +1,377 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.events.EventHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps track of which mobs are in each lane of the map, sorted by x position. This lets towers ask
+ * "is there a mob ahead of me within range" with a binary search, rather than casting rays through
+ * the physics world every time they scan for targets.
+ *
+ * <p>Mobs are added to the index by a {@link com.csse3200.game.components.npc.LaneOccupantComponent},
+ * which keeps their position up to date as they move and removes them when they are disposed. A
+ * lane is only re-sorted when it is next queried after one of its mobs has moved, and since mobs
+ * rarely overtake each other this is close to linear.
+ *
+ * <p>Towers and engineers are also added, but only counted. Each lane keeps a count of each kind of
+ * occupant near the engineers' end of the map, so whether a lane has mobs but nothing defending it
+ * is known without scanning. When that changes, an event is triggered on {@link #getEvents()}:
+ *
+ * <ul>
+ *   <li>undefendedChanged (Integer, Boolean): lane index and whether it is now undefended
+ * </ul>
+ */
+public class LaneService {
+  private static final Logger logger = LoggerFactory.getLogger(LaneService.class);
+  private static final int DEFAULT_LANES = 8;
+  /** Occupants count towards a lane's presence when their x position is within this range */
+  private static final float PRESENCE_RANGE = 10.5f;
+  private static final int KIND_COUNT = Kind.values().length;
+
+  /** What an occupant of a lane is */
+  public enum Kind {
+    /** Mobs, which are indexed by x position to be targeted */
+    MOB,
+    /** Towers, which defend a lane */
+    TOWER,
+    /** Engineers, which defend a lane */
+    ENGINEER
+  }
+
+  private final Array<Lane> lanes = new Array<>(false, DEFAULT_LANES, Lane.class);
+  private final EventHandler events = new EventHandler();
+
+  public LaneService() {
+    for (int i = 0; i < DEFAULT_LANES; i++) {
+      lanes.add(new Lane());
+    }
+  }
+
+  /**
+   * Get the lane containing a y position. Mobs are spawned with their bottom edge on the lane, so
+   * this should be given the entity's position rather than its center.
+   *
+   * @param y y position in world units
+   * @return lane index
+   */
+  public static int getLane(float y) {
+    return MathUtils.round(y);
+  }
+
+  /**
+   * Add a mob to the index.
+   *
+   * @param entity entity to add
+   * @param x x position used to order the entity within its lane
+   * @param y y position used to find the entity's lane
+   * @return handle used to move and remove the entity
+   */
+  public Occupant add(Entity entity, float x, float y) {
+    return add(entity, Kind.MOB, x, y);
+  }
+
+  /**
+   * Add an entity to the index.
+   *
+   * @param entity entity to add
+   * @param kind what the entity is
+   * @param x x position of the entity
+   * @param y y position used to find the entity's lane
+   * @return handle used to move and remove the entity
+   */
+  public Occupant add(Entity entity, Kind kind, float x, float y) {
+    Occupant occupant = new Occupant(entity, kind);
+    occupant.x = x;
+    occupant.lane = getLane(y);
+    enter(occupant);
+    logger.debug("Added {} {} to lane {}", kind, entity, occupant.lane);
+    return occupant;
+  }
+
+  /**
+   * Update the position of an entity in the index, moving it between lanes if needed.
+   *
+   * @param occupant handle returned by {@link #add(Entity, float, float)}
+   * @param x new x position
+   * @param y new y position
+   */
+  public void move(Occupant occupant, float x, float y) {
+    if (occupant.removed) {
+      return;
+    }
+    int laneIndex = getLane(y);
+    if (laneIndex != occupant.lane) {
+      leave(occupant);
+      occupant.x = x;
+      occupant.lane = laneIndex;
+      enter(occupant);
+    } else if (occupant.x != x) {
+      occupant.x = x;
+      Lane lane = getLaneOrNull(laneIndex);
+      if (lane == null) {
+        return;
+      }
+      if (occupant.kind == Kind.MOB) {
+        lane.dirty = true;
+      }
+      if (occupant.present != x <= PRESENCE_RANGE) {
+        occupant.present = !occupant.present;
+        lane.presence[occupant.kind.ordinal()] += occupant.present ? 1 : -1;
+        updateDefended(laneIndex, lane);
+      }
+    }
+  }
+
+  /**
+   * Remove an entity from the index.
+   *
+   * @param occupant handle returned by {@link #add(Entity, float, float)}
+   */
+  public void remove(Occupant occupant) {
+    if (occupant.removed) {
+      return;
+    }
+    occupant.removed = true;
+    leave(occupant);
+    logger.debug("Removed {} from lane {}", occupant.entity, occupant.lane);
+  }
+
+  /**
+   * Check whether any entity in a lane is between two x positions.
+   *
+   * @param lane lane index
+   * @param fromX lowest x position, inclusive
+   * @param toX highest x position, inclusive
+   * @return true if an entity is in range
+   */
+  public boolean hasTargetInRange(int lane, float fromX, float toX) {
+    return getFirstInRange(lane, fromX, toX) != null;
+  }
+
+  /**
+   * Get the entity in a lane closest to fromX, between two x positions.
+   *
+   * @param lane lane index
+   * @param fromX lowest x position, inclusive
+   * @param toX highest x position, inclusive
+   * @return entity with the lowest x position in range, or null if there is none
+   */
+  public Entity getFirstInRange(int lane, float fromX, float toX) {
+    Lane occupants = getLaneOrNull(lane);
+    if (occupants == null) {
+      return null;
+    }
+    int index = occupants.lowerBound(fromX);
+    if (index < occupants.size() && occupants.get(index).x <= toX) {
+      return occupants.get(index).entity;
+    }
+    return null;
+  }
+
+  /**
+   * Count the entities in a lane between two x positions.
+   *
+   * @param lane lane index
+   * @param fromX lowest x position, inclusive
+   * @param toX highest x position, inclusive
+   * @return number of entities in range
+   */
+  public int countInRange(int lane, float fromX, float toX) {
+    Lane occupants = getLaneOrNull(lane);
+    if (occupants == null) {
+      return 0;
+    }
+    int from = occupants.lowerBound(fromX);
+    int to = occupants.lowerBound(Math.nextUp(toX));
+    return to - from;
+  }
+
+  /**
+   * @param lane lane index
+   * @return number of entities in the lane
+   */
+  public int getOccupantCount(int lane) {
+    Lane occupants = getLaneOrNull(lane);
+    return occupants == null ? 0 : occupants.size();
+  }
+
+  /**
+   * Get the number of occupants of a kind near the engineers' end of a lane.
+   *
+   * @param lane lane index
+   * @param kind kind of occupant
+   * @return number of occupants
+   */
+  public int getPresence(int lane, Kind kind) {
+    Lane occupants = getLaneOrNull(lane);
+    return occupants == null ? 0 : occupants.presence[kind.ordinal()];
+  }
+
+  /**
+   * @param lane lane index
+   * @return true if there are mobs near the engineers' end of the lane, but no towers or engineers
+   */
+  public boolean isUndefended(int lane) {
+    Lane occupants = getLaneOrNull(lane);
+    return occupants != null && occupants.undefended;
+  }
+
+  /**
+   * @return events announcing changes to whether lanes are defended
+   */
+  public EventHandler getEvents() {
+    return events;
+  }
+
+  private void enter(Occupant occupant) {
+    Lane lane = getOrCreateLane(occupant.lane);
+    if (lane == null) {
+      return;
+    }
+    if (occupant.kind == Kind.MOB) {
+      lane.add(occupant);
+    }
+    if (occupant.x <= PRESENCE_RANGE) {
+      occupant.present = true;
+      lane.presence[occupant.kind.ordinal()]++;
+      updateDefended(occupant.lane, lane);
+    }
+  }
+
+  private void leave(Occupant occupant) {
+    Lane lane = getLaneOrNull(occupant.lane);
+    if (lane == null) {
+      return;
+    }
+    if (occupant.kind == Kind.MOB) {
+      lane.remove(occupant);
+    }
+    if (occupant.present) {
+      occupant.present = false;
+      lane.presence[occupant.kind.ordinal()]--;
+      updateDefended(occupant.lane, lane);
+    }
+  }
+
+  private void updateDefended(int laneIndex, Lane lane) {
+    int[] presence = lane.presence;
+    boolean undefended = presence[Kind.MOB.ordinal()] > 0
+        && presence[Kind.TOWER.ordinal()] == 0
+        && presence[Kind.ENGINEER.ordinal()] == 0;
+    if (undefended != lane.undefended) {
+      lane.undefended = undefended;
+      logger.debug("Lane {} undefended: {}", laneIndex, undefended);
+      events.trigger("undefendedChanged", laneIndex, undefended);
+    }
+  }
+
+  private Lane getLaneOrNull(int lane) {
+    if (lane < 0 || lane >= lanes.size) {
+      return null;
+    }
+    return lanes.get(lane);
+  }
+
+  private Lane getOrCreateLane(int lane) {
+    if (lane < 0) {
+      // Off the bottom of the map, can't be targeted by any tower
+      return null;
+    }
+    while (lanes.size <= lane) {
+      lanes.add(new Lane());
+    }
+    return lanes.get(lane);
+  }
+
+  /** An entity in the index. Kept by the owner of the entry to move and remove it cheaply. */
+  public static class Occupant {
+    private final Entity entity;
+    private final Kind kind;
+    private float x;
+    private int lane;
+    private boolean present = false;
+    private boolean removed = false;
+
+    private Occupant(Entity entity, Kind kind) {
+      this.entity = entity;
+      this.kind = kind;
+    }
+
+    public Entity getEntity() {
+      return entity;
+    }
+
+    public Kind getKind() {
+      return kind;
+    }
+
+    public int getLane() {
+      return lane;
+    }
+  }
+
+  /** Mobs in a single lane, sorted by x when queried, and counts of what is near its end. */
+  private static class Lane {
+    private final Array<Occupant> occupants = new Array<>(true, 16, Occupant.class);
+    private final int[] presence = new int[KIND_COUNT];
+    private boolean dirty = false;
+    private boolean undefended = false;
+
+    void add(Occupant occupant) {
+      occupants.add(occupant);
+      dirty = true;
+    }
+
+    void remove(Occupant occupant) {
+      // Ordered removal keeps the rest of the lane sorted
+      occupants.removeValue(occupant, true);
+    }
+
+    int size() {
+      return occupants.size;
+    }
+
+    Occupant get(int index) {
+      return occupants.items[index];
+    }
+
+    /** @return index of the first occupant with x >= the given x */
+    int lowerBound(float x) {
+      sort();
+      Occupant[] items = occupants.items;
+      int low = 0;
+      int high = occupants.size;
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (items[mid].x < x) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+      return low;
+    }
+
+    /** Insertion sort, which is linear when the lane is already nearly sorted. */
+    private void sort() {
+      if (!dirty) {
+        return;
+      }
+      Occupant[] items = occupants.items;
+      for (int i = 1; i < occupants.size; i++) {
+        Occupant occupant = items[i];
+        int j = i - 1;
+        while (j >= 0 && items[j].x > occupant.x) {
+          items[j + 1] = items[j];
+          j--;
+        }
+        items[j + 1] = occupant;
+      }
+      dirty = false;
+    }
+  }
+}
@@ -0,0 +1,273 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.csse3200.game.components.Component;
+
+import java.util.Arrays;
+
+/**
+ * Times named scopes of each frame, such as physics, entity updates and rendering, so it is
+ * possible to tell which subsystem is taking up the frame. The time spent in each scope is added up
+ * over a frame, and the totals of the last {@link #WINDOW} frames are kept in a preallocated ring
+ * buffer, from which the minimum, average and 99th percentile are worked out. Timing a scope does
+ * not create garbage.
+ *
+ * <p>The common scopes have fixed ids. Other scopes, e.g. one per component class while timing
+ * components, are added by name. Owned by the game and shared between screens.
+ *
+ * <p>Example use:
+ *
+ * <pre>
+ * profiler.begin(ProfilerService.PHYSICS);
+ * world.step(...);
+ * profiler.end(ProfilerService.PHYSICS);
+ * </pre>
+ */
+public class ProfilerService {
+  /** Number of frames kept for each scope */
+  public static final int WINDOW = 240;
+
+  public static final int FRAME = 0;
+  public static final int PHYSICS = 1;
+  public static final int DESTROY_ENTITIES = 2;
+  public static final int ENTITIES = 3;
+  public static final int AREA_DAMAGE = 4;
+  public static final int RENDER = 5;
+  public static final int STAGE = 6;
+  public static final int ASSETS = 7;
+  private static final String[] FIXED_SCOPES = {
+    "frame", "physics", "destroy entities", "entities", "area damage", "render", "stage", "assets"
+  };
+
+  private final Array<Scope> scopes = new Array<>(false, 32, Scope.class);
+  private final ObjectIntMap<String> scopeIds = new ObjectIntMap<>();
+  private final ObjectIntMap<Class<?>> componentScopes = new ObjectIntMap<>();
+  private final long[] sorted = new long[WINDOW];
+  private boolean componentTiming = false;
+  private long frameStart = 0L;
+
+  public ProfilerService() {
+    for (String name : FIXED_SCOPES) {
+      getScope(name);
+    }
+  }
+
+  /**
+   * Get the id of a scope, adding it if it doesn't exist yet. Ids should be looked up once and
+   * kept, rather than every frame.
+   *
+   * @param name scope name
+   * @return scope id
+   */
+  public int getScope(String name) {
+    int id = scopeIds.get(name, -1);
+    if (id == -1) {
+      id = scopes.size;
+      scopes.add(new Scope(name));
+      scopeIds.put(name, id);
+    }
+    return id;
+  }
+
+  /**
+   * Get the id of the scope timing updates of a class of component.
+   *
+   * @param component component
+   * @return scope id
+   */
+  public int getScope(Component component) {
+    Class<?> type = component.getClass();
+    int id = componentScopes.get(type, -1);
+    if (id == -1) {
+      id = getScope(type.getSimpleName());
+      componentScopes.put(type, id);
+    }
+    return id;
+  }
+
+  /** @return true if entity updates are timed by component class, which adds some overhead */
+  public boolean isComponentTiming() {
+    return componentTiming;
+  }
+
+  /** @param componentTiming true to time entity updates by component class */
+  public void setComponentTiming(boolean componentTiming) {
+    this.componentTiming = componentTiming;
+  }
+
+  /**
+   * Start timing a scope. Every begin must be followed by an end for the same scope.
+   *
+   * @param scope scope id
+   */
+  public void begin(int scope) {
+    scopes.items[scope].start = TimeUtils.nanoTime();
+  }
+
+  /**
+   * Stop timing a scope, adding the time since it began to this frame's total.
+   *
+   * @param scope scope id
+   */
+  public void end(int scope) {
+    Scope s = scopes.items[scope];
+    s.frameNanos += TimeUtils.nanoTime() - s.start;
+    s.used = true;
+  }
+
+  /**
+   * Finish the frame, storing each scope's total for the frame. Should be called once at the end of
+   * every frame by the game.
+   */
+  public void endFrame() {
+    long now = TimeUtils.nanoTime();
+    Scope frame = scopes.items[FRAME];
+    if (frameStart != 0L) {
+      frame.frameNanos = now - frameStart;
+      frame.used = true;
+    }
+    frameStart = now;
+
+    for (int i = 0; i < scopes.size; i++) {
+      Scope scope = scopes.items[i];
+      // Scopes which didn't run at all, e.g. physics on the menus, keep their last results
+      if (scope.used) {
+        scope.add(scope.frameNanos);
+      }
+      scope.frameNanos = 0L;
+      scope.used = false;
+    }
+  }
+
+  /** @return number of scopes */
+  public int getScopeCount() {
+    return scopes.size;
+  }
+
+  /**
+   * @param scope scope id
+   * @return scope name
+   */
+  public String getName(int scope) {
+    return scopes.get(scope).name;
+  }
+
+  /**
+   * @param scope scope id
+   * @return number of frames recorded, up to {@link #WINDOW}
+   */
+  public int getSampleCount(int scope) {
+    return scopes.get(scope).count;
+  }
+
+  /**
+   * @param scope scope id
+   * @return shortest time in the scope per frame in nanoseconds, or 0 if never recorded
+   */
+  public long getMin(int scope) {
+    Scope s = scopes.get(scope);
+    if (s.count == 0) {
+      return 0L;
+    }
+    long min = Long.MAX_VALUE;
+    for (int i = 0; i < s.count; i++) {
+      min = Math.min(min, s.samples[i]);
+    }
+    return min;
+  }
+
+  /**
+   * @param scope scope id
+   * @return average time in the scope per frame in nanoseconds, or 0 if never recorded
+   */
+  public long getAverage(int scope) {
+    Scope s = scopes.get(scope);
+    if (s.count == 0) {
+      return 0L;
+    }
+    long total = 0L;
+    for (int i = 0; i < s.count; i++) {
+      total += s.samples[i];
+    }
+    return total / s.count;
+  }
+
+  /**
+   * @param scope scope id
+   * @param percentile percentile from 0 to 100, e.g. 99
+   * @return time in the scope per frame in nanoseconds that the given percentage of frames are
+   *     within, or 0 if never recorded
+   */
+  public long getPercentile(int scope, float percentile) {
+    Scope s = scopes.get(scope);
+    if (s.count == 0) {
+      return 0L;
+    }
+    System.arraycopy(s.samples, 0, sorted, 0, s.count);
+    Arrays.sort(sorted, 0, s.count);
+    int index = (int) Math.ceil(percentile / 100f * s.count) - 1;
+    return sorted[Math.max(0, Math.min(index, s.count - 1))];
+  }
+
+  /** Forget every recorded frame. */
+  public void reset() {
+    for (int i = 0; i < scopes.size; i++) {
+      Scope scope = scopes.items[i];
+      scope.count = 0;
+      scope.next = 0;
+      scope.frameNanos = 0L;
+      scope.used = false;
+    }
+    frameStart = 0L;
+  }
+
+  /**
+   * Write every recorded scope's results as CSV, with times in milliseconds.
+   *
+   * @param csv builder to write to
+   */
+  public void writeCsv(StringBuilder csv) {
+    csv.append("scope,frames,min_ms,avg_ms,p99_ms\n");
+    for (int i = 0; i < scopes.size; i++) {
+      if (getSampleCount(i) == 0) {
+        continue;
+      }
+      csv.append(getName(i)).append(',')
+          .append(getSampleCount(i)).append(',')
+          .append(toMillis(getMin(i))).append(',')
+          .append(toMillis(getAverage(i))).append(',')
+          .append(toMillis(getPercentile(i, 99f))).append('\n');
+    }
+  }
+
+  /**
+   * @param nanos time in nanoseconds
+   * @return time in milliseconds
+   */
+  public static float toMillis(long nanos) {
+    return nanos / 1000000f;
+  }
+
+  /** A named scope's totals for the last frames. */
+  private static class Scope {
+    private final String name;
+    private final long[] samples = new long[WINDOW];
+    private int count = 0;
+    private int next = 0;
+    private long start = 0L;
+    private long frameNanos = 0L;
+    private boolean used = false;
+
+    private Scope(String name) {
+      this.name = name;
+    }
+
+    private void add(long nanos) {
+      samples[next] = nanos;
+      next = (next + 1) % WINDOW;
+      count = Math.min(count + 1, WINDOW);
+    }
+  }
+}
@@ -6,6 +6,7 @@ import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectIntMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,6 +20,9 @@ public class ResourceService implements Disposable {
 
   private static final Logger logger = LoggerFactory.getLogger(ResourceService.class);
   private final AssetManager assetManager;
+  private final AssetCache assetCache;
+  /** Assets this service has referenced in the shared cache, with how many times */
+  private final ObjectIntMap<String> acquired = new ObjectIntMap<>();
 
   public ResourceService() {
     this(new AssetManager());
@@ -31,6 +35,18 @@ public class ResourceService implements Disposable {
    */
   public ResourceService(AssetManager assetManager) {
     this.assetManager = assetManager;
+    this.assetCache = null;
+  }
+
+  /**
+   * Initialise this ResourceService to load assets into a cache shared with other screens. Unloading
+   * or disposing only releases this service's references, so assets other screens use stay loaded.
+   * @param assetCache shared cache to use in this service.
+   * @requires assetCache != null
+   */
+  public ResourceService(AssetCache assetCache) {
+    this.assetManager = assetCache.getAssetManager();
+    this.assetCache = assetCache;
   }
 
   /**
@@ -45,6 +61,23 @@ public class ResourceService implements Disposable {
     return assetManager.get(filename, type);
   }
 
+  /**
+   * Load an asset and wait for it to finish loading, for screens which need a few assets straight
+   * away, such as their skin, fonts and background. With a shared asset cache, an asset another
+   * screen already loaded is returned without loading it again. Released when this service is
+   * disposed, so the asset mustn't be disposed by the caller, or changed in ways other screens would
+   * see (e.g. scaling a font).
+   * @param filename Asset path
+   * @param type     Class to load into
+   * @param <T>      Type of class to load into
+   * @return the loaded asset
+   * @see AssetManager#finishLoadingAsset(String)
+   */
+  public <T> T borrowAsset(String filename, Class<T> type) {
+    loadAsset(filename, type);
+    return assetManager.finishLoadingAsset(filename);
+  }
+
   /**
    * Check if an asset has been loaded already
    * @param resourceName path of the asset
@@ -57,6 +90,16 @@ public class ResourceService implements Disposable {
     return assetManager.contains(resourceName, type);
   }
 
+  /**
+   * Check if an asset has finished loading
+   * @param resourceName path of the asset
+   * @return true if the asset is loaded and ready to use, false otherwise
+   * @see AssetManager#isLoaded(String)
+   */
+  public boolean isLoaded(String resourceName) {
+    return assetManager.isLoaded(resourceName);
+  }
+
   /**
    * Returns the loading completion progress as a percentage.
    *
@@ -104,6 +147,10 @@ public class ResourceService implements Disposable {
    */
   public void clearAllAssets() {
     logger.debug("Clearing all assets");
+    if (assetCache != null) {
+      releaseAll();
+      return;
+    }
     assetManager.clear();
   }
 
@@ -117,6 +164,11 @@ public class ResourceService implements Disposable {
   public <T> void loadAsset(String assetName, Class<T> type) {
     logger.debug("Loading {}: {}", type.getSimpleName(), assetName);
     try {
+      if (assetCache != null) {
+        assetCache.acquire(assetName, type);
+        acquired.getAndIncrement(assetName, 0, 1);
+        return;
+      }
       assetManager.load(assetName, type);
     } catch (Exception e) {
       logger.error("Could not load {}: {}", type.getSimpleName(), assetName);
@@ -176,6 +228,10 @@ public class ResourceService implements Disposable {
     for (String assetName : assetNames) {
       logger.debug("Unloading {}", assetName);
       try {
+        if (assetCache != null) {
+          release(assetName);
+          continue;
+        }
         assetManager.unload(assetName);
       } catch (Exception e) {
         logger.error("Could not unload {}", assetName);
@@ -183,8 +239,34 @@ public class ResourceService implements Disposable {
     }
   }
 
+  private void release(String assetName) {
+    int count = acquired.get(assetName, 0);
+    if (count == 0) {
+      return;
+    }
+    if (count == 1) {
+      acquired.remove(assetName, 0);
+    } else {
+      acquired.put(assetName, count - 1);
+    }
+    assetCache.release(assetName);
+  }
+
+  private void releaseAll() {
+    for (ObjectIntMap.Entry<String> entry : acquired) {
+      for (int i = 0; i < entry.value; i++) {
+        assetCache.release(entry.key);
+      }
+    }
+    acquired.clear();
+  }
+
   @Override
   public void dispose() {
+    if (assetCache != null) {
+      releaseAll();
+      return;
+    }
     assetManager.clear();
   }
 
@@ -32,6 +32,10 @@ public class ServiceLocator {
   private static GameEndService gameEndService;
   private static WaveService waveService;
   private static MapService mapService;
+  private static LaneService laneService;
+  private static AreaDamageService areaDamageService;
+  private static ProfilerService profilerService;
+  private static TimerService timerService;
 
   private static Array<TowerType> towerTypes = new Array<>();
 
@@ -71,6 +75,14 @@ public class ServiceLocator {
 
   public static MapService getMapService() { return mapService; }
 
+  public static LaneService getLaneService() { return laneService; }
+
+  public static AreaDamageService getAreaDamageService() { return areaDamageService; }
+
+  public static ProfilerService getProfilerService() { return profilerService; }
+
+  public static TimerService getTimerService() { return timerService; }
+
   public static void registerCurrencyService(CurrencyService service) {
     logger.debug("Registering currency service {}", service);
     currencyService = service;
@@ -120,6 +132,26 @@ public class ServiceLocator {
     mapService = source;
   }
 
+  public static void registerLaneService(LaneService source) {
+    logger.debug("Registering lane service {}", source);
+    laneService = source;
+  }
+
+  public static void registerAreaDamageService(AreaDamageService source) {
+    logger.debug("Registering area damage service {}", source);
+    areaDamageService = source;
+  }
+
+  public static void registerProfilerService(ProfilerService source) {
+    logger.debug("Registering profiler service {}", source);
+    profilerService = source;
+  }
+
+  public static void registerTimerService(TimerService source) {
+    logger.debug("Registering timer service {}", source);
+    timerService = source;
+  }
+
   public static void setTowerTypes(Array<TowerType> selectedTowers) {
 
     towerTypes.clear();
@@ -140,6 +172,10 @@ public class ServiceLocator {
     gameEndService = null;
     waveService = null;
     mapService = null;
+    laneService = null;
+    areaDamageService = null;
+    profilerService = null;
+    timerService = null;
     towerTypes.clear();
   }
 
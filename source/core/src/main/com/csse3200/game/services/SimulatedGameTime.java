@@ -0,0 +1,21 @@
+package com.csse3200.game.services;
+
+/**
+ * Game time which doesn't read the frame time, since there are no frames when the game is run
+ * headless as fast as the CPU allows, e.g. by {@link com.csse3200.game.simulation.WaveSimulation}.
+ * Time is moved forward by simulation ticks, the same as in the game, so everything which reads the
+ * time source, such as wave timers and tower fire rates, sees the simulated time.
+ */
+public class SimulatedGameTime extends GameTime {
+  /** @return length of the current or last simulation tick in seconds */
+  @Override
+  public float getDeltaTime() {
+    return getTickDelta();
+  }
+
+  /** @return length of the current or last simulation tick in seconds */
+  @Override
+  public float getRawDeltaTime() {
+    return getTickDelta();
+  }
+}
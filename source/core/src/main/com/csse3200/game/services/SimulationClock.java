@@ -0,0 +1,118 @@
+package com.csse3200.game.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Splits frame time into fixed length simulation ticks, so game logic runs at the same speed
+ * regardless of frame rate. See: https://gafferongames.com/post/fix_your_timestep/
+ *
+ * <p>Each frame, {@link #advance(float)} returns how many ticks to run. Time left over is carried to
+ * the next frame, and {@link #getAlpha()} says how far the simulation is between its last tick and
+ * the next, which is used to interpolate rendered positions. If the game falls so far behind that
+ * more than the maximum number of ticks are due in one frame, the extra time is dropped rather than
+ * letting the simulation spiral further behind. The maximum is scaled up with the game's time scale,
+ * since a sped up game is expected to run more ticks per frame without having fallen behind.
+ */
+public class SimulationClock {
+  private static final Logger logger = LoggerFactory.getLogger(SimulationClock.class);
+  /** Default tick length, matching the physics timestep */
+  public static final float DEFAULT_TICK_LENGTH = 1 / 60f;
+  /** Default maximum ticks to run in one frame before dropping time */
+  public static final int DEFAULT_MAX_TICKS = 5;
+
+  private final float tickLength;
+  private final int maxTicksPerFrame;
+  private float accumulator = 0f;
+  private long tickCount = 0;
+  private long droppedTicks = 0;
+  private boolean fallingBehind = false;
+
+  public SimulationClock() {
+    this(DEFAULT_TICK_LENGTH, DEFAULT_MAX_TICKS);
+  }
+
+  /**
+   * @param tickLength length of a simulation tick in seconds, e.g. 1/30f to run logic at 30 Hz
+   * @param maxTicksPerFrame maximum number of ticks to catch up on in one frame at normal speed.
+   *     Must be positive.
+   */
+  public SimulationClock(float tickLength, int maxTicksPerFrame) {
+    this.tickLength = tickLength;
+    this.maxTicksPerFrame = maxTicksPerFrame;
+  }
+
+  /**
+   * Add a frame's worth of time to the clock.
+   *
+   * @param delta time passed since the last frame in seconds
+   * @return number of ticks the simulation should run this frame
+   */
+  public int advance(float delta) {
+    return advance(delta, 1f);
+  }
+
+  /**
+   * Add a frame's worth of time to the clock, when the game is running at a different speed.
+   *
+   * @param delta time passed since the last frame in seconds, already scaled by the time scale
+   * @param timeScale game speed the delta was scaled by, which scales the maximum ticks per frame.
+   *     Speeds below normal use the normal maximum.
+   * @return number of ticks the simulation should run this frame
+   */
+  public int advance(float delta, float timeScale) {
+    if (delta > 0f) {
+      accumulator += delta;
+    }
+    int maxTicks = getMaxTicksPerFrame(timeScale);
+    int ticks = (int) (accumulator / tickLength);
+    if (ticks > maxTicks) {
+      int dropped = ticks - maxTicks;
+      if (!fallingBehind) {
+        logger.warn("Simulation fell behind, dropping {} ticks", dropped);
+      } else {
+        logger.debug("Simulation still behind, dropping {} ticks", dropped);
+      }
+      fallingBehind = true;
+      droppedTicks += dropped;
+      accumulator -= dropped * tickLength;
+      ticks = maxTicks;
+    } else {
+      fallingBehind = false;
+    }
+    accumulator -= ticks * tickLength;
+    tickCount += ticks;
+    return ticks;
+  }
+
+  /**
+   * @return fraction of a tick which has passed since the last one, between 0 and 1. Rendered
+   *     positions are interpolated by this between the last two ticks.
+   */
+  public float getAlpha() {
+    return Math.min(accumulator / tickLength, 1f);
+  }
+
+  /**
+   * @param timeScale game speed, where normal speed is 1.0
+   * @return maximum ticks to run in one frame at that speed
+   */
+  public int getMaxTicksPerFrame(float timeScale) {
+    return (int) Math.ceil(maxTicksPerFrame * Math.max(timeScale, 1f));
+  }
+
+  /** @return length of a tick in seconds */
+  public float getTickLength() {
+    return tickLength;
+  }
+
+  /** @return total number of ticks run */
+  public long getTickCount() {
+    return tickCount;
+  }
+
+  /** @return total number of ticks dropped because the simulation fell too far behind */
+  public long getDroppedTicks() {
+    return droppedTicks;
+  }
+}
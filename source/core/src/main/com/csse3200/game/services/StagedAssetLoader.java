@@ -0,0 +1,183 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loads assets into a {@link ResourceService} in ordered stages, a little at a time, so a loading
+ * screen can keep drawing and show real progress. Stages are loaded in the order they are added, so
+ * the assets needed first (e.g. the selected level's backdrop and music) should go in the first
+ * stage.
+ *
+ * <p>Files are read and decoded on the asset manager's loading thread. Each call to {@link
+ * #update(int)} spends at most about the given time on the calling thread, which must be the GL
+ * thread, finishing assets off, e.g. uploading decoded images as textures.
+ *
+ * <p>Example use:
+ *
+ * <pre>
+ * StagedAssetLoader loader = new StagedAssetLoader(resourceService);
+ * loader.addStage("level").textures(backdrop).music(levelMusic);
+ * loader.addStage("shared").textures(AssetLoader.textures);
+ * // Each frame
+ * if (loader.update(10)) { startGame(); }
+ * </pre>
+ */
+public class StagedAssetLoader {
+  private static final Logger logger = LoggerFactory.getLogger(StagedAssetLoader.class);
+
+  private final ResourceService resourceService;
+  private final Array<Stage> stages = new Array<>();
+  private boolean started = false;
+  private int currentStage = 0;
+  private int assetCount = 0;
+  private int loadedCount = 0;
+
+  /**
+   * @param resourceService service to load assets into
+   */
+  public StagedAssetLoader(ResourceService resourceService) {
+    this.resourceService = resourceService;
+  }
+
+  /**
+   * Add a stage, which is loaded after every stage added before it.
+   *
+   * @param name name of the stage, for logging and display
+   * @return the stage, to add assets to
+   */
+  public Stage addStage(String name) {
+    if (started) {
+      throw new IllegalStateException("Stages can't be added once loading has started");
+    }
+    Stage stage = new Stage(name);
+    stages.add(stage);
+    return stage;
+  }
+
+  /**
+   * Load assets for about the given time. Starts loading on the first call.
+   *
+   * @param millis time to spend loading in milliseconds
+   * @return true once every stage has finished
+   */
+  public boolean update(int millis) {
+    start();
+    boolean finished = resourceService.loadForMillis(millis);
+    updateLoadedCount();
+    if (finished && loadedCount < assetCount) {
+      // Every queued asset was processed, so the rest failed to load
+      logger.error("{} of {} assets failed to load", assetCount - loadedCount, assetCount);
+      loadedCount = assetCount;
+      currentStage = stages.size;
+    }
+    return finished;
+  }
+
+  /** @return true once every stage has finished */
+  public boolean isFinished() {
+    return started && currentStage >= stages.size;
+  }
+
+  /** @return fraction of assets loaded, from 0 to 1 */
+  public float getProgress() {
+    return assetCount == 0 ? (started ? 1f : 0f) : (float) loadedCount / assetCount;
+  }
+
+  /** @return name of the stage being loaded, or null if finished or not started */
+  public String getCurrentStageName() {
+    return started && currentStage < stages.size ? stages.get(currentStage).name : null;
+  }
+
+  /**
+   * Queue every stage's assets, in order, so they're loaded in that order. Called by the first
+   * update if it hasn't been called already.
+   */
+  public void start() {
+    if (started) {
+      return;
+    }
+    started = true;
+    for (Stage stage : stages) {
+      for (int i = 0; i < stage.assets.size; i++) {
+        resourceService.loadAsset(stage.assets.get(i), stage.types.get(i));
+      }
+      assetCount += stage.assets.size;
+      logger.debug("Queued loading stage {} with {} assets", stage.name, stage.assets.size);
+    }
+  }
+
+  /** Count the assets loaded so far. Assets finish in queue order, so only the current stage is checked. */
+  private void updateLoadedCount() {
+    while (currentStage < stages.size) {
+      Stage stage = stages.get(currentStage);
+      while (stage.loaded < stage.assets.size
+          && resourceService.isLoaded(stage.assets.get(stage.loaded))) {
+        stage.loaded++;
+        loadedCount++;
+      }
+      if (stage.loaded < stage.assets.size) {
+        return;
+      }
+      logger.info("Finished loading stage {}", stage.name);
+      currentStage++;
+    }
+  }
+
+  /** A group of assets loaded together. Assets are loaded in the order they're added. */
+  public static class Stage {
+    private final String name;
+    private final Array<String> assets = new Array<>();
+    private final Array<Class<?>> types = new Array<>();
+    private int loaded = 0;
+
+    private Stage(String name) {
+      this.name = name;
+    }
+
+    /**
+     * @param textureNames texture filenames
+     * @return self
+     */
+    public Stage textures(String... textureNames) {
+      return add(textureNames, Texture.class);
+    }
+
+    /**
+     * @param textureAtlasNames texture atlas filenames
+     * @return self
+     */
+    public Stage textureAtlases(String... textureAtlasNames) {
+      return add(textureAtlasNames, TextureAtlas.class);
+    }
+
+    /**
+     * @param soundNames sound filenames
+     * @return self
+     */
+    public Stage sounds(String... soundNames) {
+      return add(soundNames, Sound.class);
+    }
+
+    /**
+     * @param musicNames music filenames
+     * @return self
+     */
+    public Stage music(String... musicNames) {
+      return add(musicNames, Music.class);
+    }
+
+    private Stage add(String[] names, Class<?> type) {
+      for (String name : names) {
+        assets.add(name);
+        types.add(type);
+      }
+      return this;
+    }
+  }
+}
@@ -0,0 +1,178 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.utils.Array;
+
+import java.util.Comparator;
+
+/**
+ * Runs callbacks after delays of game time, e.g. a tower's next shot or a boss's next attack. Timers
+ * are kept in a timer wheel: each slot holds the timers due in one short span of game time, so each
+ * tick only the slots which have come due are looked at, and entities whose timers aren't due cost
+ * nothing. Since it follows game time, timers stop while the game is paused and speed up with the
+ * time scale.
+ *
+ * <p>Scheduling, cancelling and running timers does not create garbage. Should be updated once per
+ * simulation tick from the main game loop.
+ *
+ * <p>Example use:
+ *
+ * <pre>
+ * ServiceLocator.getTimerService().schedule(() -> entity.getEvents().trigger("landed"), 1.8f);
+ * </pre>
+ */
+public class TimerService {
+  /** Length of game time covered by each slot of the wheel in milliseconds */
+  static final long SLOT_MILLIS = 16L;
+  // Slots in the wheel. A power of two, covering about 8 seconds
+  private static final int WHEEL_SIZE = 512;
+  private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+  private static final Comparator<GameTimer> BY_DEADLINE =
+      (a, b) -> Long.compare(a.deadline, b.deadline);
+
+  private final GameTime timeSource;
+  private final GameTimer[] slots = new GameTimer[WHEEL_SIZE];
+  private final Array<GameTimer> dueTimers = new Array<>(false, 32, GameTimer.class);
+  private long lastSlot;
+  private int scheduledCount = 0;
+
+  /**
+   * @param timeSource game time to follow
+   */
+  public TimerService(GameTime timeSource) {
+    this.timeSource = timeSource;
+    lastSlot = timeSource.getTime() / SLOT_MILLIS;
+  }
+
+  /**
+   * Create a timer for a callback, which can be scheduled and rescheduled.
+   *
+   * @param callback callback to run when the timer is due
+   * @return unscheduled timer
+   */
+  public GameTimer create(Runnable callback) {
+    return new GameTimer(this, callback);
+  }
+
+  /**
+   * Run a callback once, after a delay.
+   *
+   * @param callback callback to run
+   * @param delay delay in seconds of game time
+   * @return the scheduled timer, which can be cancelled
+   */
+  public GameTimer schedule(Runnable callback, float delay) {
+    return create(callback).schedule(delay);
+  }
+
+  /** @return number of timers waiting to run */
+  public int getScheduledCount() {
+    return scheduledCount;
+  }
+
+  /**
+   * Run every timer which has come due, in the order they were due. Repeating timers are scheduled
+   * again before they run, so they can cancel themselves.
+   */
+  public void update() {
+    long currentSlot = timeSource.getTime() / SLOT_MILLIS;
+    if (currentSlot <= lastSlot) {
+      return;
+    }
+    // If more than a full turn of the wheel has passed, each slot only needs visiting once
+    long firstSlot = Math.max(lastSlot + 1, currentSlot - WHEEL_SIZE + 1);
+    for (long s = firstSlot; s <= currentSlot; s++) {
+      collectDue(slots[(int) (s & WHEEL_MASK)], currentSlot);
+    }
+    lastSlot = currentSlot;
+
+    if (dueTimers.size > 1) {
+      dueTimers.sort(BY_DEADLINE);
+    }
+    for (int i = 0; i < dueTimers.size; i++) {
+      GameTimer timer = dueTimers.get(i);
+      // Skip timers cancelled by an earlier callback
+      if (!timer.due) {
+        continue;
+      }
+      timer.due = false;
+      if (timer.interval > 0) {
+        add(timer, timer.deadline + timer.interval);
+      }
+      timer.run();
+    }
+    dueTimers.clear();
+  }
+
+  /** Cancel every timer. */
+  public void clear() {
+    for (int i = 0; i < WHEEL_SIZE; i++) {
+      while (slots[i] != null) {
+        remove(slots[i]);
+      }
+    }
+    for (int i = 0; i < dueTimers.size; i++) {
+      dueTimers.get(i).due = false;
+    }
+  }
+
+  /** @return game time in milliseconds */
+  long getTime() {
+    return timeSource.getTime();
+  }
+
+  /**
+   * Add a timer to the wheel. Timers whose deadline has passed run on the next update.
+   *
+   * @param timer unscheduled timer
+   * @param deadline game time to run it at in milliseconds
+   */
+  void add(GameTimer timer, long deadline) {
+    // Rounded up, so a timer never runs before its deadline
+    long slot = Math.max((deadline + SLOT_MILLIS - 1) / SLOT_MILLIS, lastSlot + 1);
+    timer.deadline = deadline;
+    timer.deadlineSlot = slot;
+    int index = (int) (slot & WHEEL_MASK);
+    timer.previous = null;
+    timer.next = slots[index];
+    if (slots[index] != null) {
+      slots[index].previous = timer;
+    }
+    slots[index] = timer;
+    timer.scheduled = true;
+    scheduledCount++;
+  }
+
+  /**
+   * Remove a scheduled timer from the wheel.
+   *
+   * @param timer scheduled timer
+   */
+  void remove(GameTimer timer) {
+    if (timer.previous != null) {
+      timer.previous.next = timer.next;
+    } else {
+      slots[(int) (timer.deadlineSlot & WHEEL_MASK)] = timer.next;
+    }
+    if (timer.next != null) {
+      timer.next.previous = timer.previous;
+    }
+    timer.previous = null;
+    timer.next = null;
+    timer.scheduled = false;
+    scheduledCount--;
+  }
+
+  private void collectDue(GameTimer head, long currentSlot) {
+    GameTimer timer = head;
+    while (timer != null) {
+      GameTimer next = timer.next;
+      // Timers further than a turn of the wheel away share the slot, but aren't due yet
+      if (timer.deadlineSlot <= currentSlot) {
+        remove(timer);
+        timer.due = true;
+        dueTimers.add(timer);
+      }
+      timer = next;
+    }
+  }
+}
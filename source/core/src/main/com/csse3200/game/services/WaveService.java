@@ -1,9 +1,20 @@
 package com.csse3200.game.services;
 
 import com.csse3200.game.components.maingame.UIElementsDisplay;
+import com.csse3200.game.events.EventHandler;
+import com.csse3200.game.logging.GameEventLog;
+import com.csse3200.game.logging.LogGate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Keeps track of the state of the current level's waves. Changes which the HUD shows are announced
+ * through {@link #getEvents()}, so displays only update when a value actually changes:
+ *
+ * <ul>
+ *   <li>enemyCountChanged (Integer): number of enemies left in the wave
+ * </ul>
+ */
 public class WaveService {
     private static final Logger logger = LoggerFactory.getLogger(WaveService.class);
     private int enemyCount;
@@ -16,12 +27,12 @@ public class WaveService {
 
     private long nextWaveTime;
     private final UIElementsDisplay display;
+    private final EventHandler events = new EventHandler();
 
     private int spawnDelay;
 
     private boolean skipDelay = false;
     private boolean gamePaused = false;
-    private long pauseBeginTime = 0;
 
     private int levelEnemyCount = 0;
     private int remainingLevelEnemyCount = 0;
@@ -40,9 +51,9 @@ public class WaveService {
      * @param newLimit as an integer representing the maximum number of enemy deaths
      */
     public void setEnemyCount(int newLimit) {
-        if (newLimit > 0) {
+        if (newLimit > 0 && newLimit != enemyCount) {
             enemyCount = newLimit;
-            display.updateMobCount();
+            events.trigger("enemyCountChanged", enemyCount);
         }
     }
 
@@ -62,7 +73,11 @@ public class WaveService {
     public void updateEnemyCount() {
         enemyCount -= 1;
         remainingLevelEnemyCount -= 1;
-        logger.info("{} enemies remaining in wave", getEnemyCount());
+        GameEventLog.record(GameEventLog.Type.ENEMY_DIED, GameEventLog.NO_ENTITY, enemyCount);
+        if (LogGate.HOT_PATHS) {
+            logger.debug("{} enemies remaining in wave", enemyCount);
+        }
+        events.trigger("enemyCountChanged", enemyCount);
     }
 
     /**
@@ -71,6 +86,7 @@ public class WaveService {
     public void setLevelCompleted() {
         if (!levelCompleted) {
             logger.info("Level set to completed");
+            GameEventLog.record(GameEventLog.Type.LEVEL_COMPLETED, GameEventLog.NO_ENTITY, 0);
             levelCompleted = true;
         }
     }
@@ -154,6 +170,13 @@ public class WaveService {
         return this.display;
     }
 
+    /**
+     * @return events announcing changes to the wave state
+     */
+    public EventHandler getEvents() {
+        return events;
+    }
+
     /**
      * This will invert the value of the skipDelay boolean
      * */
@@ -175,17 +198,10 @@ public class WaveService {
     public boolean getGamePaused() {return this.gamePaused;}
 
     /**
-     * Toggles whether the game is paused or not, to keep track of how long the game is paused.
-     * When unpaused, offsets the NextWaveTime by however long the game has been paused.
+     * Toggles whether the game is paused or not. Game time stands still while paused, so the next
+     * wave time doesn't need adjusting, see {@link GameTime#setPaused(boolean)}.
      */
     public void toggleGamePause() {
-        if (gamePaused) {
-            long pauseDuration = ServiceLocator.getTimeSource().getTime() - pauseBeginTime;
-            long updatedNextWaveTime = getNextWaveTime() + pauseDuration;
-            setNextWaveTime(updatedNextWaveTime);
-        } else {
-            pauseBeginTime = ServiceLocator.getTimeSource().getTime();
-        }
         gamePaused = !gamePaused;
     }
 
@@ -0,0 +1,183 @@
+package com.csse3200.game.simulation;
+
+import com.badlogic.gdx.utils.FloatArray;
+
+/**
+ * Results of a single {@link WaveSimulation} run: how the level ended, how the towers did against
+ * each wave, and how long each part of the simulation took to run.
+ */
+public class SimulationReport {
+  /** Column names for {@link #toCsvRow()} */
+  public static final String CSV_HEADER =
+      "seed,level,outcome,wavesCleared,simulatedSeconds,ticks,mobsSpawned,mobsKilled,damageDealt,"
+          + "engineersRemaining,physicsMicrosPerTick,entitiesMicrosPerTick,tickMicrosPerTick,"
+          + "maxTickMicros,wallMillis";
+
+  /** How a simulated level ended */
+  public enum Outcome {
+    /** Every wave was cleared */
+    WON,
+    /** The engineers were all lost */
+    LOST,
+    /** The simulation ran out of time before the level ended */
+    TIMED_OUT
+  }
+
+  private final long seed;
+  private final int level;
+  private final FloatArray waveDurations = new FloatArray();
+  private Outcome outcome = Outcome.TIMED_OUT;
+  private float simulatedSeconds = 0f;
+  private long ticks = 0;
+  private int mobsSpawned = 0;
+  private int mobsKilled = 0;
+  private long damageDealt = 0;
+  private int engineersRemaining = 0;
+  private long physicsNanos = 0;
+  private long entitiesNanos = 0;
+  private long tickNanos = 0;
+  private long maxTickNanos = 0;
+  private long wallNanos = 0;
+
+  SimulationReport(long seed, int level) {
+    this.seed = seed;
+    this.level = level;
+  }
+
+  void recordTick(long physics, long entities, long total) {
+    ticks++;
+    physicsNanos += physics;
+    entitiesNanos += entities;
+    tickNanos += total;
+    maxTickNanos = Math.max(maxTickNanos, total);
+  }
+
+  void recordWaveCleared(float duration) {
+    waveDurations.add(duration);
+  }
+
+  void recordMobSpawned() {
+    mobsSpawned++;
+  }
+
+  void recordDamage(int damage, boolean killed) {
+    damageDealt += damage;
+    if (killed) {
+      mobsKilled++;
+    }
+  }
+
+  void finish(Outcome outcome, float simulatedSeconds, int engineersRemaining, long wallNanos) {
+    this.outcome = outcome;
+    this.simulatedSeconds = simulatedSeconds;
+    this.engineersRemaining = engineersRemaining;
+    this.wallNanos = wallNanos;
+  }
+
+  public long getSeed() {
+    return seed;
+  }
+
+  public int getLevel() {
+    return level;
+  }
+
+  public Outcome getOutcome() {
+    return outcome;
+  }
+
+  /** @return number of waves whose mobs were all killed */
+  public int getWavesCleared() {
+    return waveDurations.size;
+  }
+
+  /**
+   * @param wave index of a cleared wave
+   * @return simulated seconds from the wave starting to its last mob dying
+   */
+  public float getWaveDuration(int wave) {
+    return waveDurations.get(wave);
+  }
+
+  public float getSimulatedSeconds() {
+    return simulatedSeconds;
+  }
+
+  public long getTicks() {
+    return ticks;
+  }
+
+  public int getMobsSpawned() {
+    return mobsSpawned;
+  }
+
+  public int getMobsKilled() {
+    return mobsKilled;
+  }
+
+  /** @return total health taken from mobs */
+  public long getDamageDealt() {
+    return damageDealt;
+  }
+
+  public int getEngineersRemaining() {
+    return engineersRemaining;
+  }
+
+  /** @return average time spent stepping physics per tick, in microseconds */
+  public double getPhysicsMicrosPerTick() {
+    return perTick(physicsNanos);
+  }
+
+  /** @return average time spent updating entities per tick, in microseconds */
+  public double getEntitiesMicrosPerTick() {
+    return perTick(entitiesNanos);
+  }
+
+  /** @return average time spent on a whole tick, in microseconds */
+  public double getTickMicrosPerTick() {
+    return perTick(tickNanos);
+  }
+
+  /** @return longest tick, in microseconds */
+  public double getMaxTickMicros() {
+    return maxTickNanos / 1000.0;
+  }
+
+  /** @return real time taken to run the simulation, including setup, in milliseconds */
+  public long getWallMillis() {
+    return wallNanos / 1_000_000;
+  }
+
+  /** @return the report as a row of comma separated values, in the order of {@link #CSV_HEADER} */
+  public String toCsvRow() {
+    return String.format(
+        "%d,%d,%s,%d,%.2f,%d,%d,%d,%d,%d,%.2f,%.2f,%.2f,%.2f,%d",
+        seed,
+        level,
+        outcome,
+        getWavesCleared(),
+        simulatedSeconds,
+        ticks,
+        mobsSpawned,
+        mobsKilled,
+        damageDealt,
+        engineersRemaining,
+        getPhysicsMicrosPerTick(),
+        getEntitiesMicrosPerTick(),
+        getTickMicrosPerTick(),
+        getMaxTickMicros(),
+        getWallMillis());
+  }
+
+  private double perTick(long nanos) {
+    return ticks == 0 ? 0 : nanos / 1000.0 / ticks;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "SimulationReport{seed=%d, level=%d, outcome=%s, wavesCleared=%d, simulatedSeconds=%.1f}",
+        seed, level, outcome, getWavesCleared(), simulatedSeconds);
+  }
+}
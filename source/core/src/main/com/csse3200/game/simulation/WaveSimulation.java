@@ -0,0 +1,255 @@
+package com.csse3200.game.simulation;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.areas.ForestGameArea;
+import com.csse3200.game.components.CameraComponent;
+import com.csse3200.game.components.CombatStatsComponent;
+import com.csse3200.game.components.npc.LaneOccupantComponent;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityService;
+import com.csse3200.game.entities.factories.ProjectileFactory;
+import com.csse3200.game.entities.factories.TowerFactory;
+import com.csse3200.game.input.InputService;
+import com.csse3200.game.physics.PhysicsEngine;
+import com.csse3200.game.physics.PhysicsService;
+import com.csse3200.game.rendering.RenderService;
+import com.csse3200.game.screens.GameLevelData;
+import com.csse3200.game.screens.TowerType;
+import com.csse3200.game.services.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Plays a level of waves without rendering, as fast as the CPU allows, for balancing waves. Boots
+ * the same services, game area, waves, towers and mobs as the main game screen, except for anything
+ * which draws to the screen, then steps simulated game time in fixed ticks until the level is won,
+ * lost or runs out of time.
+ *
+ * <p>Requires libGDX to be running with a headless backend, with OpenGL calls stubbed out so that
+ * textures can be loaded. Services are global, so only one simulation can run at a time in a
+ * process. Run several processes with different seeds to run trials in parallel.
+ *
+ * <p>Example use:
+ *
+ * <pre>
+ * WaveSimulation simulation = new WaveSimulation(seed, 1);
+ * simulation.addTower(TowerType.WEAPON, 2, 3);
+ * SimulationReport report = simulation.run();
+ * </pre>
+ */
+public class WaveSimulation {
+  private static final Logger logger = LoggerFactory.getLogger(WaveSimulation.class);
+  private static final float DEFAULT_MAX_SECONDS = 30 * 60f;
+
+  private final long seed;
+  private final int level;
+  private final Array<TowerPlacement> towers = new Array<>();
+  private float maxSeconds = DEFAULT_MAX_SECONDS;
+  private float tickLength = SimulationClock.DEFAULT_TICK_LENGTH;
+
+  /**
+   * @param seed seed for the random mob lanes, wave makeup and drops
+   * @param level level to play, as selected on the level select screen (0 desert, 1 ice, 2 lava)
+   */
+  public WaveSimulation(long seed, int level) {
+    this.seed = seed;
+    this.level = level;
+  }
+
+  /**
+   * Place a tower before the level starts.
+   *
+   * @param type type of tower
+   * @param x tile column
+   * @param lane tile row
+   * @return self
+   */
+  public WaveSimulation addTower(TowerType type, int x, int lane) {
+    towers.add(new TowerPlacement(type, x, lane));
+    return this;
+  }
+
+  /**
+   * @param maxSeconds simulated seconds after which to give up on the level
+   * @return self
+   */
+  public WaveSimulation setMaxSeconds(float maxSeconds) {
+    this.maxSeconds = maxSeconds;
+    return this;
+  }
+
+  /**
+   * @param tickLength length of a simulation tick in seconds
+   * @return self
+   */
+  public WaveSimulation setTickLength(float tickLength) {
+    this.tickLength = tickLength;
+    return this;
+  }
+
+  /**
+   * Play the level through. Registers its own services, and clears them once finished.
+   *
+   * @return results of the level
+   */
+  public SimulationReport run() {
+    long wallStart = System.nanoTime();
+    SimulationReport report = new SimulationReport(seed, level);
+    MathUtils.random.setSeed(seed);
+    GameLevelData.setSelectedLevel(level);
+
+    SimulatedGameTime time = new SimulatedGameTime();
+    PhysicsEngine physicsEngine = registerServices(time);
+    EntityService entityService = ServiceLocator.getEntityService();
+    AreaDamageService areaDamageService = ServiceLocator.getAreaDamageService();
+    TimerService timerService = ServiceLocator.getTimerService();
+    WaveService waveService = ServiceLocator.getWaveService();
+    GameEndService gameEndService = ServiceLocator.getGameEndService();
+    ProjectileFactory.setPooling(true);
+
+    try {
+      // The game area only loads the assets of the towers the player can build
+      Array<TowerType> towerTypes = new Array<>();
+      for (TowerPlacement placement : towers) {
+        towerTypes.add(placement.type);
+      }
+      ServiceLocator.setTowerTypes(towerTypes);
+      SimulationArea area = new SimulationArea(report);
+      area.create();
+      for (TowerPlacement placement : towers) {
+        Entity tower = TowerFactory.createTower(placement.type);
+        tower.setPosition(placement.x, placement.lane);
+        entityService.register(tower);
+      }
+
+      SimulationReport.Outcome outcome = SimulationReport.Outcome.TIMED_OUT;
+      int waveCount = waveService.getWaveCount();
+      float waveStart = 0f;
+      boolean waveCleared = false;
+      float seconds = 0f;
+      while (seconds < maxSeconds) {
+        long tickStart = System.nanoTime();
+        time.beginTick(tickLength);
+        physicsEngine.update();
+        long physicsDone = System.nanoTime();
+        entityService.update();
+        timerService.update();
+        areaDamageService.resolve();
+        time.endTick();
+        long tickDone = System.nanoTime();
+        report.recordTick(physicsDone - tickStart, tickDone - physicsDone, tickDone - tickStart);
+        seconds += tickLength;
+
+        if (waveService.getWaveCount() != waveCount) {
+          waveCount = waveService.getWaveCount();
+          waveStart = seconds;
+          waveCleared = false;
+        }
+        if (!waveCleared && waveService.getEnemyCount() == 0) {
+          report.recordWaveCleared(seconds - waveStart);
+          waveCleared = true;
+        }
+
+        if (gameEndService.hasGameEnded()) {
+          outcome = SimulationReport.Outcome.LOST;
+          break;
+        } else if (waveService.isLevelCompleted()) {
+          outcome = SimulationReport.Outcome.WON;
+          break;
+        }
+      }
+      report.finish(
+          outcome, seconds, gameEndService.getEngineerCount(), System.nanoTime() - wallStart);
+      logger.info("Finished simulation {}", report);
+      return report;
+    } finally {
+      ProjectileFactory.setPooling(false);
+      entityService.dispose();
+      ServiceLocator.getResourceService().dispose();
+      physicsEngine.dispose();
+      ServiceLocator.clear();
+    }
+  }
+
+  private static PhysicsEngine registerServices(GameTime time) {
+    ServiceLocator.registerTimeSource(time);
+    PhysicsService physicsService = new PhysicsService();
+    ServiceLocator.registerPhysicsService(physicsService);
+    ServiceLocator.registerInputService(new InputService());
+    ServiceLocator.registerResourceService(new ResourceService());
+    ServiceLocator.registerCurrencyService(new CurrencyService());
+    ServiceLocator.registerEntityService(new EntityService());
+    // Render components still register themselves, but are never drawn
+    ServiceLocator.registerRenderService(new RenderService());
+    ServiceLocator.registerGameEndService(new GameEndService());
+    ServiceLocator.registerWaveService(new WaveService());
+    ServiceLocator.registerLaneService(new LaneService());
+    ServiceLocator.registerAreaDamageService(new AreaDamageService());
+    ServiceLocator.registerTimerService(new TimerService(time));
+    ServiceLocator.registerMapService(new MapService(new CameraComponent(), new OrthographicCamera()));
+    return physicsService.getPhysics();
+  }
+
+  /** The main game area without UI, which keeps track of the mobs spawned into it. */
+  private static class SimulationArea extends ForestGameArea {
+    private final SimulationReport report;
+
+    SimulationArea(SimulationReport report) {
+      super(true);
+      this.report = report;
+    }
+
+    @Override
+    protected void spawnEntity(Entity entity) {
+      super.spawnEntity(entity);
+      LaneOccupantComponent occupant = entity.getComponent(LaneOccupantComponent.class);
+      if (occupant == null || occupant.getKind() != LaneService.Kind.MOB) {
+        return;
+      }
+      CombatStatsComponent combatStats = entity.getComponent(CombatStatsComponent.class);
+      if (combatStats != null) {
+        report.recordMobSpawned();
+        new MobTracker(report, combatStats.getHealth()).track(entity);
+      }
+    }
+  }
+
+  /** Adds the damage a mob takes to the report. */
+  private static class MobTracker {
+    private final SimulationReport report;
+    private int lastHealth;
+    private boolean dead = false;
+
+    MobTracker(SimulationReport report, int health) {
+      this.report = report;
+      this.lastHealth = health;
+    }
+
+    void track(Entity mob) {
+      mob.getEvents().addListener("updateHealth", this::onHealthChanged);
+    }
+
+    private void onHealthChanged(Integer health) {
+      if (dead) {
+        return;
+      }
+      dead = health <= 0;
+      report.recordDamage(Math.max(0, lastHealth - health), dead);
+      lastHealth = health;
+    }
+  }
+
+  private static class TowerPlacement {
+    private final TowerType type;
+    private final int x;
+    private final int lane;
+
+    TowerPlacement(TowerType type, int x, int lane) {
+      this.type = type;
+      this.x = x;
+      this.lane = lane;
+    }
+  }
+}
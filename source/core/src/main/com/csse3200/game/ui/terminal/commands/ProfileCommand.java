@@ -0,0 +1,95 @@
+package com.csse3200.game.ui.terminal.commands;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.csse3200.game.services.ProfilerService;
+import com.csse3200.game.services.ServiceLocator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+
+/**
+ * A command for controlling the profiler. 'profile components on/off' toggles timing entity updates
+ * by component class, 'profile reset' forgets the recorded frames and 'profile dump' writes the
+ * results to a CSV file in the game's folder.
+ */
+public class ProfileCommand implements Command {
+  private static final Logger logger = LoggerFactory.getLogger(ProfileCommand.class);
+  private static final String DUMP_FILE = "CSSE3200Game/profile.csv";
+
+  /**
+   * Actions the profiler command if the arguments are valid.
+   * @param args command arguments
+   */
+  public boolean action(ArrayList<String> args) {
+    ProfilerService profiler = ServiceLocator.getProfilerService();
+    if (!isValid(args) || profiler == null) {
+      logger.debug("Invalid arguments received for 'profile' command: {}", args);
+      return false;
+    }
+
+    switch (args.get(0)) {
+      case "components":
+        return setComponentTiming(profiler, args);
+      case "reset":
+        profiler.reset();
+        return true;
+      case "dump":
+        return dump(profiler, Gdx.files.external(DUMP_FILE));
+      default:
+        logger.debug("Unrecognised argument received for 'profile' command: {}", args);
+        return false;
+    }
+  }
+
+  /**
+   * Turns timing entity updates by component class on or off.
+   * @param profiler profiler to configure
+   * @param args command arguments, where the second is 'on' or 'off'
+   * @return true if the argument was recognised
+   */
+  private boolean setComponentTiming(ProfilerService profiler, ArrayList<String> args) {
+    String arg = args.size() == 2 ? args.get(1) : "";
+    switch (arg) {
+      case "on":
+        profiler.setComponentTiming(true);
+        return true;
+      case "off":
+        profiler.setComponentTiming(false);
+        return true;
+      default:
+        logger.debug("Unrecognised argument received for 'profile' command: {}", args);
+        return false;
+    }
+  }
+
+  /**
+   * Write the profiler's results to a file.
+   * @param profiler profiler to write the results of
+   * @param file CSV file to write
+   * @return true if the file was written
+   */
+  boolean dump(ProfilerService profiler, FileHandle file) {
+    StringBuilder csv = new StringBuilder();
+    profiler.writeCsv(csv);
+    try {
+      file.writeString(csv.toString(), false);
+    } catch (GdxRuntimeException e) {
+      logger.error("Couldn't write profile to {}", file, e);
+      return false;
+    }
+    logger.info("Wrote profile to {}", file);
+    return true;
+  }
+
+  /**
+   * Validates the command arguments.
+   * @param args command arguments
+   * @return is valid
+   */
+  boolean isValid(ArrayList<String> args) {
+    return args.size() == 1 || args.size() == 2;
+  }
+}
@@ -0,0 +1,51 @@
+package com.csse3200.game.ui.terminal.commands;
+
+import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ServiceLocator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+
+/**
+ * A command for changing the speed of the game, e.g. 'speed 2' to run it at double speed.
+ */
+public class SpeedCommand implements Command {
+  private static final Logger logger = LoggerFactory.getLogger(SpeedCommand.class);
+  private static final float MAX_SPEED = 4f;
+
+  /**
+   * Sets the game's time scale if a valid speed is received.
+   * @param args command arguments
+   */
+  public boolean action(ArrayList<String> args) {
+    GameTime timeSource = ServiceLocator.getTimeSource();
+    if (!isValid(args) || timeSource == null) {
+      logger.debug("Invalid arguments received for 'speed' command: {}", args);
+      return false;
+    }
+
+    float speed;
+    try {
+      speed = Float.parseFloat(args.get(0));
+    } catch (NumberFormatException e) {
+      logger.debug("Unrecognised argument received for 'speed' command: {}", args);
+      return false;
+    }
+    if (speed <= 0f || speed > MAX_SPEED) {
+      logger.debug("Speed must be above 0 and at most {}: {}", MAX_SPEED, speed);
+      return false;
+    }
+    timeSource.setTimeScale(speed);
+    return true;
+  }
+
+  /**
+   * Validates the command arguments.
+   * @param args command arguments
+   * @return is valid
+   */
+  boolean isValid(ArrayList<String> args) {
+    return args.size() == 1;
+  }
+}
@@ -1,11 +1,17 @@
 package com.csse3200.game.ai.tasks;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.csse3200.game.entities.Entity;
 import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.GameTimer;
+import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.TimerService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
@@ -79,4 +85,141 @@ class AITaskComponentTest {
 
     verify(task).stop();
   }
+
+  @Test
+  void shouldCachePriorityUntilIntervalPasses() {
+    GameTime gameTime = mock(GameTime.class);
+    when(gameTime.getTime()).thenReturn(0L);
+    ServiceLocator.registerTimeSource(gameTime);
+
+    AITaskComponent taskComponent = new AITaskComponent();
+    PriorityTask task = mock(PriorityTask.class);
+    when(task.getPriority()).thenReturn(1);
+    when(task.getPriorityInterval()).thenReturn(1f);
+    when(task.getStatus()).thenReturn(Task.Status.ACTIVE);
+    taskComponent.addTask(task);
+
+    taskComponent.update();
+    taskComponent.update();
+    verify(task, times(1)).getPriority();
+    verify(task, times(2)).update();
+
+    when(gameTime.getTime()).thenReturn(999L);
+    taskComponent.update();
+    verify(task, times(1)).getPriority();
+
+    when(gameTime.getTime()).thenReturn(1000L);
+    taskComponent.update();
+    verify(task, times(2)).getPriority();
+    assertEquals(2, taskComponent.getEvaluationCount());
+  }
+
+  @Test
+  void shouldReevaluateWhenInvalidated() {
+    GameTime gameTime = mock(GameTime.class);
+    when(gameTime.getTime()).thenReturn(0L);
+    ServiceLocator.registerTimeSource(gameTime);
+
+    AITaskComponent taskComponent = new AITaskComponent();
+    PriorityTask cachedTask = mock(PriorityTask.class);
+    when(cachedTask.getPriority()).thenReturn(2);
+    when(cachedTask.getPriorityInterval()).thenReturn(1f);
+    when(cachedTask.getStatus()).thenReturn(Task.Status.ACTIVE);
+    PriorityTask otherTask = mock(PriorityTask.class);
+    when(otherTask.getPriority()).thenReturn(1);
+    when(otherTask.getStatus()).thenReturn(Task.Status.ACTIVE);
+    taskComponent.addTask(cachedTask).addTask(otherTask);
+
+    Entity entity = new Entity().addComponent(taskComponent);
+    entity.create();
+
+    taskComponent.update();
+    verify(cachedTask).start();
+
+    // Still cached, so the drop in priority goes unnoticed
+    when(cachedTask.getPriority()).thenReturn(0);
+    taskComponent.update();
+    verify(otherTask, times(0)).start();
+
+    entity.getEvents().trigger(AITaskComponent.INVALIDATE_PRIORITY);
+    taskComponent.update();
+    verify(cachedTask).stop();
+    verify(otherTask).start();
+  }
+
+  @Test
+  void shouldStopScanningWhenStunnedThenDisposed() {
+    GameTime gameTime = mock(GameTime.class);
+    when(gameTime.getTime()).thenReturn(0L);
+    ServiceLocator.registerTimeSource(gameTime);
+    TimerService timerService = new TimerService(gameTime);
+    ServiceLocator.registerTimerService(timerService);
+
+    AITaskComponent taskComponent = new AITaskComponent();
+    ScanningTask task = new ScanningTask();
+    taskComponent.addTask(task);
+    taskComponent.update();
+    assertEquals(1, timerService.getScheduledCount());
+
+    // Stunned
+    taskComponent.disposeAll();
+    assertEquals(0, timerService.getScheduledCount());
+    when(gameTime.getTime()).thenReturn(1000L);
+    timerService.update();
+    assertEquals(0, task.scans);
+
+    // Dies while stunned
+    taskComponent.dispose();
+    when(gameTime.getTime()).thenReturn(2000L);
+    timerService.update();
+    assertEquals(0, task.scans);
+    assertEquals(0, timerService.getScheduledCount());
+  }
+
+  @Test
+  void shouldRestartScanningWhenRestored() {
+    GameTime gameTime = mock(GameTime.class);
+    when(gameTime.getTime()).thenReturn(0L);
+    ServiceLocator.registerTimeSource(gameTime);
+    TimerService timerService = new TimerService(gameTime);
+    ServiceLocator.registerTimerService(timerService);
+
+    AITaskComponent taskComponent = new AITaskComponent();
+    ScanningTask task = new ScanningTask();
+    taskComponent.addTask(task);
+    taskComponent.update();
+    taskComponent.disposeAll();
+
+    taskComponent.restore();
+    assertEquals(1, timerService.getScheduledCount());
+    when(gameTime.getTime()).thenReturn(1000L);
+    timerService.update();
+    assertEquals(1, task.scans);
+  }
+
+  /** Scans on a repeating timer while running, like the combat tasks. */
+  private static class ScanningTask extends DefaultTask implements PriorityTask {
+    private GameTimer scanTimer;
+    private int scans = 0;
+
+    @Override
+    public int getPriority() {
+      return 1;
+    }
+
+    @Override
+    public void start() {
+      super.start();
+      if (scanTimer == null) {
+        scanTimer = ServiceLocator.getTimerService().create(() -> scans++);
+      }
+      scanTimer.scheduleRepeating(0.5f, 1f);
+    }
+
+    @Override
+    public void stop() {
+      super.stop();
+      scanTimer.cancel();
+    }
+  }
 }
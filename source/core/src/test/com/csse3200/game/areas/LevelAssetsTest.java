@@ -0,0 +1,58 @@
+package com.csse3200.game.areas;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.entities.configs.AssetGroupConfig;
+import com.csse3200.game.entities.configs.LevelAssetsConfig;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.screens.TowerType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class LevelAssetsTest {
+  @Test
+  void shouldOnlyIncludeTheLevelsMobsAndTowers() {
+    Array<TowerType> towers = new Array<>();
+    towers.add(TowerType.FIRE);
+    // Ice level
+    LevelAssets assets = LevelAssets.resolve(1, towers);
+
+    assertTrue(assets.getMobs().contains("IceBoss"));
+    assertTrue(assets.getDependencies().contains("images/mobboss/iceBaby.atlas"));
+    assertTrue(assets.getDependencies().contains("images/mobs/coat.atlas"));
+    assertFalse(assets.getDependencies().contains("images/mobboss/patrick.atlas"));
+    assertFalse(assets.getDependencies().contains("images/mobs/skeleton.atlas"));
+
+    assertTrue(assets.getDependencies().contains("images/towers/fire_tower_atlas.atlas"));
+    assertTrue(assets.getDependencies().contains("images/towers/turret01.atlas"));
+    assertFalse(assets.getDependencies().contains("images/towers/PierceTower.atlas"));
+    assertTrue(assets.getShared().contains("images/projectiles/basic_projectile.atlas"));
+  }
+
+  @Test
+  void shouldIncludeSpawnedAndDefaultMobs() {
+    LevelAssetsConfig config = new LevelAssetsConfig();
+    config.mobs.put("Xeno", group("xeno.atlas"));
+    config.mobs.put("Slime", group("slime.atlas"));
+    AssetGroupConfig boss = group("boss.atlas");
+    boss.mobs = new String[] {"Slime"};
+    config.mobs.put("Boss", boss);
+
+    LevelAssets assets = new LevelAssets(config);
+    assets.addMob("Boss");
+    assets.addMob("Unknown");
+
+    assertTrue(assets.getDependencies().contains("boss.atlas"));
+    assertTrue(assets.getDependencies().contains("slime.atlas"));
+    assertTrue(assets.getDependencies().contains("xeno.atlas"));
+    assertEquals(3, assets.getDependencies().size());
+  }
+
+  private static AssetGroupConfig group(String atlas) {
+    AssetGroupConfig group = new AssetGroupConfig();
+    group.textureAtlases = new String[] {atlas};
+    return group;
+  }
+}
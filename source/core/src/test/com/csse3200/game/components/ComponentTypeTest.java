@@ -31,6 +31,25 @@ class ComponentTypeTest {
     assertNotEquals(type2.getId(), type3.getId());
   }
 
+  @Test
+  void shouldKnowWhichTypesUpdate() {
+    assertFalse(ComponentType.getFrom(Component.class).hasUpdate());
+    assertFalse(ComponentType.getFrom(TestComponent1.class).hasEarlyUpdate());
+    assertTrue(ComponentType.getFrom(UpdatingComponent.class).hasUpdate());
+    assertFalse(ComponentType.getFrom(UpdatingComponent.class).hasEarlyUpdate());
+    // Inherited from the parent
+    assertTrue(ComponentType.getFrom(UpdatingChildComponent.class).hasUpdate());
+  }
+
   static class TestComponent1 extends Component {}
   static class TestComponent2 extends TestComponent1 {}
+
+  static class UpdatingComponent extends Component {
+    @Override
+    public void update() {
+      // Updates
+    }
+  }
+
+  static class UpdatingChildComponent extends UpdatingComponent {}
 }
\ No newline at end of file
@@ -4,12 +4,14 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,6 +35,7 @@ import com.csse3200.game.rendering.RenderService;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.TimerService;
 
 @ExtendWith(GameExtension.class)
 class DeflectingComponentTest {
@@ -53,6 +56,7 @@ class DeflectingComponentTest {
     GameTime gameTime = mock(GameTime.class);
     when(gameTime.getDeltaTime()).thenReturn(0.02f);
     ServiceLocator.registerTimeSource(gameTime);
+    ServiceLocator.registerTimerService(new TimerService(ServiceLocator.getTimeSource()));
 
     ServiceLocator.registerPhysicsService(new PhysicsService());
 
@@ -72,6 +76,11 @@ class DeflectingComponentTest {
         VALID_POSITION_Y);
   }
 
+  @AfterEach
+  public void tearDown() {
+    ProjectileFactory.setPooling(false);
+  }
+
   @Test
   void shouldNotBeNull() {
     assertNotNull("Deflecting component does not exist",
@@ -219,6 +228,24 @@ class DeflectingComponentTest {
         baseMob.getComponent(CombatStatsComponent.class).getHealth());
   }
 
+  @Test
+  void shouldNotReturnDeflectedProjectileToPool() {
+    ProjectileFactory.setPooling(true);
+    Entity projectile = ProjectileFactory.createFireBall(PhysicsLayer.NPC,
+        new Vector2(100, BASE_Y_COORD), new Vector2(2f, 2f));
+    projectile.getComponent(PhysicsMovementComponent.class)
+        .setTarget(new Vector2(100, BASE_Y_COORD));
+    projectile.setPosition(VALID_POSITION_X, VALID_POSITION_Y);
+    ServiceLocator.getEntityService().register(projectile);
+
+    triggerCollisionStart(baseMob, projectile);
+    projectile.dispose();
+
+    assertNotSame("Deflected projectile was handed out again", projectile,
+        ProjectileFactory.createFireBall(PhysicsLayer.NPC,
+            new Vector2(100, BASE_Y_COORD), new Vector2(2f, 2f)));
+  }
+
   Entity createDeflectMob(int amount, float posX, float posY) {
     Entity mob = NPCFactory.createRangedBaseNPC();
     mob.addComponent(new DeflectingComponent(PhysicsLayer.PROJECTILE,
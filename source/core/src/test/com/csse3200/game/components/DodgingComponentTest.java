@@ -30,6 +30,7 @@ import com.csse3200.game.rendering.RenderService;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.TimerService;
 
 @ExtendWith(GameExtension.class)
 class DodgingComponentTest {
@@ -44,6 +45,7 @@ class DodgingComponentTest {
     GameTime gameTime = mock(GameTime.class);
     when(gameTime.getDeltaTime()).thenReturn(0.02f);
     ServiceLocator.registerTimeSource(gameTime);
+    ServiceLocator.registerTimerService(new TimerService(ServiceLocator.getTimeSource()));
     ServiceLocator.registerPhysicsService(new PhysicsService());
 
     ServiceLocator.registerEntityService(new EntityService());
@@ -36,6 +36,7 @@ import com.csse3200.game.services.GameEndService;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.TimerService;
 import com.csse3200.game.services.WaveService;
 
 @ExtendWith(GameExtension.class)
@@ -54,6 +55,7 @@ class SplitMoblingsTest {
     GameTime gameTime = mock(GameTime.class);
     when(gameTime.getDeltaTime()).thenReturn(0.02f);
     ServiceLocator.registerTimeSource(gameTime);
+    ServiceLocator.registerTimerService(new TimerService(ServiceLocator.getTimeSource()));
 
     ServiceLocator.registerPhysicsService(new PhysicsService());
 
@@ -78,6 +78,23 @@ class TouchAttackComponentTest {
     assertTrue("Delete flag is not set to null", entity.getFlagForDelete());
   }
 
+  @Test
+  void shouldTargetInitialLayerAfterReset() {
+    short targetLayer = (1 << 3);
+    short otherLayer = (1 << 4);
+    Entity entity = createAttacker(otherLayer);
+    Entity target = createTarget(targetLayer);
+
+    entity.getComponent(TouchAttackComponent.class).setTargetLayer(targetLayer);
+    entity.getComponent(TouchAttackComponent.class).reset();
+
+    Fixture entityFixture = entity.getComponent(HitboxComponent.class).getFixture();
+    Fixture targetFixture = target.getComponent(HitboxComponent.class).getFixture();
+    entity.getEvents().trigger("collisionStart", entityFixture, targetFixture);
+
+    assertEquals(10, target.getComponent(CombatStatsComponent.class).getHealth());
+  }
+
   Entity createAttacker(short targetLayer) {
     Entity entity =
         new Entity()
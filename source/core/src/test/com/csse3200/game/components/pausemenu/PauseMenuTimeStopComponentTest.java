@@ -32,24 +32,24 @@ public class PauseMenuTimeStopComponentTest {
     }
 
     @Test
-    void pausesEntities() {
+    void pausesGameTime() {
         ServiceLocator.getEntityService().register(pauseMenu);
-        verify(entity).setEnabled(false);
+        verify(ServiceLocator.getTimeSource()).setPaused(true);
     }
 
     @Test
-    void unpausesEntitiesWhenDisposed() {
+    void resumesGameTimeWhenDisposed() {
         ServiceLocator.getEntityService().register(pauseMenu);
         pauseMenu.dispose();
-        verify(entity).setEnabled(true);
+        verify(ServiceLocator.getTimeSource()).setPaused(false);
     }
 
     @Test
-    void doesNotPauseNewEntities() {
+    void doesNotDisableEntities() {
         ServiceLocator.getEntityService().register(pauseMenu);
         Entity lateEntity = mock(Entity.class);
-        when(entity.getId()).thenReturn(-1); //Ensure it does not coincide with the pause menu's ID
         ServiceLocator.getEntityService().register(lateEntity);
+        verify(entity, times(0)).setEnabled(false);
         verify(lateEntity, times(0)).setEnabled(false);
     }
 
@@ -10,6 +10,7 @@ import com.csse3200.game.rendering.RenderService;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.TimerService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -48,6 +49,7 @@ class HumanAnimationControllerTest {
     void setUp() {
         gameTime = mock(GameTime.class);
         ServiceLocator.registerTimeSource(gameTime);
+        ServiceLocator.registerTimerService(new TimerService(ServiceLocator.getTimeSource()));
         ServiceLocator.registerPhysicsService(new PhysicsService());
         RenderService render = new RenderService();
         render.setDebug(mock(DebugRenderer.class));
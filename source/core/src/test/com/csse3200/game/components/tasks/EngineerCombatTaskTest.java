@@ -18,6 +18,7 @@ import com.csse3200.game.rendering.RenderService;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.TimerService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -55,6 +56,7 @@ class EngineerCombatTaskTest {
         when(gameTime.getDeltaTime()).thenReturn(0.02f);
         
         ServiceLocator.registerTimeSource(gameTime);
+        ServiceLocator.registerTimerService(new TimerService(ServiceLocator.getTimeSource()));
         ServiceLocator.registerPhysicsService(new PhysicsService());
         ServiceLocator.registerEntityService(new EntityService());
         RenderService render = new RenderService();
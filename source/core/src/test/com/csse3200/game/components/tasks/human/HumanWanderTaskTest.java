@@ -13,6 +13,7 @@ import com.csse3200.game.rendering.RenderService;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.TimerService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -42,6 +43,7 @@ class HumanWanderTaskTest {
         GameTime gameTime = new GameTime();
         PhysicsService physics = new PhysicsService();
         ServiceLocator.registerTimeSource(gameTime);
+        ServiceLocator.registerTimerService(new TimerService(ServiceLocator.getTimeSource()));
         ServiceLocator.registerPhysicsService(physics);
         RenderService render = new RenderService();
         render.setDebug(mock(DebugRenderer.class));
@@ -12,6 +12,7 @@ import com.csse3200.game.physics.components.HitboxComponent;
 import com.csse3200.game.physics.components.PhysicsComponent;
 import com.csse3200.game.rendering.DebugRenderer;
 import com.csse3200.game.rendering.RenderService;
+import com.csse3200.game.services.AreaDamageService;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
@@ -22,6 +23,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 @ExtendWith(GameExtension.class)
 class TNTDamageComponentTest {
     private GameTime gameTime;
+    private AreaDamageService areaDamageService;
     private Entity Attacker;
     private Entity Target_1;
     private Entity Target_2;
@@ -36,6 +38,8 @@ class TNTDamageComponentTest {
         ServiceLocator.registerTimeSource(gameTime);
         ServiceLocator.registerPhysicsService(new PhysicsService());
         ServiceLocator.registerEntityService(new EntityService());
+        areaDamageService = new AreaDamageService();
+        ServiceLocator.registerAreaDamageService(areaDamageService);
         RenderService render = new RenderService();
         render.setDebug(mock(DebugRenderer.class));
         ServiceLocator.registerRenderService(render);
@@ -60,6 +64,7 @@ class TNTDamageComponentTest {
         Target_1.setPosition(12,10);// Same lane and inside radius
 
         Attacker.getEvents().trigger("TNTDamageStart");
+        areaDamageService.resolve();
 
         assertEquals(80, Target_1.getComponent(CombatStatsComponent.class).getHealth());
     }
@@ -71,6 +76,7 @@ class TNTDamageComponentTest {
         Target_2.setPosition(11,12); // inside the radius but outside the lane
 
         Attacker.getEvents().trigger("TNTDamageStart");
+        areaDamageService.resolve();
         //Nothing should happen
         assertEquals(100, Target_2.getComponent(CombatStatsComponent.class).getHealth());
         assertEquals(100, Target_1.getComponent(CombatStatsComponent.class).getHealth());
@@ -82,6 +88,7 @@ class TNTDamageComponentTest {
         Entity_3.setPosition(12,10); // on the same lane and inside the radius but different target layer
 
         Attacker.getEvents().trigger("TNTDamageStart");
+        areaDamageService.resolve();
         //Nothing should happen
         assertEquals(100, Entity_3.getComponent(CombatStatsComponent.class).getHealth());
 
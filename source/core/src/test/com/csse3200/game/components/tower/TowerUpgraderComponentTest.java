@@ -9,6 +9,7 @@ import com.csse3200.game.extensions.GameExtension;
 import com.csse3200.game.physics.PhysicsService;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.TimerService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -54,6 +55,7 @@ class TowerUpgraderComponentTest {
         AITaskComponent aiTaskComponent = new AITaskComponent();
         ServiceLocator.registerPhysicsService(mock(PhysicsService.class));
         ServiceLocator.registerTimeSource(mock(GameTime.class));
+        ServiceLocator.registerTimerService(new TimerService(ServiceLocator.getTimeSource()));
         TowerCombatTask towerCombatTask = new TowerCombatTask(10, 10, 1);
         aiTaskComponent.addTask(towerCombatTask);
         entity.addComponent(aiTaskComponent);
@@ -70,6 +72,7 @@ class TowerUpgraderComponentTest {
         AITaskComponent aiTaskComponent = new AITaskComponent();
         ServiceLocator.registerPhysicsService(mock(PhysicsService.class));
         ServiceLocator.registerTimeSource(mock(GameTime.class));
+        ServiceLocator.registerTimerService(new TimerService(ServiceLocator.getTimeSource()));
         TowerCombatTask towerCombatTask = new TowerCombatTask(10, 10, 1);
         aiTaskComponent.addTask(towerCombatTask);
         entity.addComponent(aiTaskComponent);
@@ -85,6 +88,7 @@ class TowerUpgraderComponentTest {
         entity.addComponent(towerUpgraderComponent);
         AITaskComponent aiTaskComponent = new AITaskComponent();
         ServiceLocator.registerTimeSource(mock(GameTime.class));
+        ServiceLocator.registerTimerService(new TimerService(ServiceLocator.getTimeSource()));
         CurrencyTask currencyTask = new CurrencyTask(10, 10);
         aiTaskComponent.addTask(currencyTask);
         entity.addComponent(aiTaskComponent);
@@ -0,0 +1,146 @@
+package com.csse3200.game.entities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.physics.PhysicsService;
+import com.csse3200.game.physics.components.PhysicsComponent;
+import com.csse3200.game.physics.components.PhysicsMovementComponent;
+import com.csse3200.game.rendering.AnimationRenderComponent;
+import com.csse3200.game.rendering.RenderService;
+import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ServiceLocator;
+import java.lang.management.ManagementFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.objenesis.ObjenesisStd;
+
+/**
+ * Checks that a frame of mobs which are only moving and animating does not allocate once warmed up.
+ * Nothing in the measured frames is a mock, since every call to a mock allocates.
+ */
+@ExtendWith(GameExtension.class)
+class EntityAllocationTest {
+  private static final int LANES = 6;
+  private static final int MOBS_PER_LANE = 8;
+  private static final int WARMUP_FRAMES = 500;
+  private static final int MEASURED_FRAMES = 200;
+  private static final float TIMESTEP = 0.016f;
+
+  @Test
+  void movingAnimatedMobsShouldNotAllocate() {
+    com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    assumeTrue(threads.isThreadAllocatedMemorySupported());
+    threads.setThreadAllocatedMemoryEnabled(true);
+    long threadId = Thread.currentThread().getId();
+
+    ServiceLocator.registerTimeSource(new GameTime());
+    PhysicsService physicsService = new PhysicsService();
+    ServiceLocator.registerPhysicsService(physicsService);
+    EntityService entityService = new EntityService();
+    ServiceLocator.registerEntityService(entityService);
+    RenderService renderService = new RenderService();
+    ServiceLocator.registerRenderService(renderService);
+
+    TextureAtlas atlas = createAtlas();
+    for (int lane = 0; lane < LANES; lane++) {
+      for (int i = 0; i < MOBS_PER_LANE; i++) {
+        // Two tiles apart, so mobs never share a spatial index cell
+        spawnMob(entityService, atlas, 20f + i * 2f, lane);
+      }
+    }
+
+    World world = physicsService.getPhysics().getWorld();
+    SpriteBatch batch = new ObjenesisStd().newInstance(NoOpBatch.class);
+    for (int i = 0; i < WARMUP_FRAMES; i++) {
+      frame(world, entityService, renderService, batch);
+    }
+
+    long before = threads.getThreadAllocatedBytes(threadId);
+    for (int i = 0; i < MEASURED_FRAMES; i++) {
+      frame(world, entityService, renderService, batch);
+    }
+    long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+    // Reading the counter may allocate once, e.g. an array for the thread id, which is well under a
+    // byte per frame. Anything allocated each frame is at least one whole object.
+    long bytesPerFrame = allocated / MEASURED_FRAMES;
+    assertEquals(
+        0L,
+        bytesPerFrame,
+        () -> String.format(
+            "Expected no allocation, but allocated %.1f bytes/frame",
+            allocated / (double) MEASURED_FRAMES));
+  }
+
+  private static void frame(
+      World world, EntityService entityService, RenderService renderService, SpriteBatch batch) {
+    world.step(TIMESTEP, 6, 2);
+    entityService.update();
+    renderService.render(batch);
+  }
+
+  private static void spawnMob(EntityService entityService, TextureAtlas atlas, float x, int lane) {
+    PhysicsMovementComponent movement = new PhysicsMovementComponent();
+    AnimationRenderComponent animator = new AnimationRenderComponent(atlas);
+    animator.addAnimation("walk", 0.1f, PlayMode.LOOP);
+
+    Entity mob =
+        new Entity().addComponent(new PhysicsComponent()).addComponent(movement).addComponent(animator);
+    mob.setPosition(x, lane);
+    entityService.register(mob);
+
+    movement.setTarget(new Vector2(0f, lane));
+    animator.startAnimation("walk");
+  }
+
+  private static TextureAtlas createAtlas() {
+    TextureAtlas atlas = mock(TextureAtlas.class);
+    Texture texture = new ObjenesisStd().newInstance(NoOpTexture.class);
+    Array<AtlasRegion> regions = new Array<>();
+    for (int i = 0; i < 4; i++) {
+      regions.add(new AtlasRegion(texture, i * 16, 0, 16, 16));
+    }
+    when(atlas.findRegions("walk")).thenReturn(regions);
+    return atlas;
+  }
+
+  /** Texture with no pixels. Created without its constructor, so no GL resources are needed. */
+  static class NoOpTexture extends Texture {
+    NoOpTexture() {
+      super((TextureData) null);
+    }
+
+    @Override
+    public int getWidth() {
+      return 64;
+    }
+
+    @Override
+    public int getHeight() {
+      return 16;
+    }
+  }
+
+  /** Batch which draws nothing. Created without its constructor, so no GL resources are needed. */
+  static class NoOpBatch extends SpriteBatch {
+    @Override
+    public void draw(TextureRegion region, float x, float y, float width, float height) {
+      // Nothing to draw in a headless test
+    }
+  }
+}
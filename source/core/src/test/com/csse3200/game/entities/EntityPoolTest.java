@@ -0,0 +1,136 @@
+package com.csse3200.game.entities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.csse3200.game.components.Component;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class EntityPoolTest {
+  private EntityService entityService;
+
+  @BeforeEach
+  void beforeEach() {
+    entityService = new EntityService();
+    ServiceLocator.registerEntityService(entityService);
+  }
+
+  @Test
+  void shouldReuseDisposedEntity() {
+    EntityPool pool = new EntityPool("test", 4);
+    assertNull(pool.obtain());
+
+    CountingComponent component = new CountingComponent();
+    Entity entity = new Entity().addComponent(component);
+    pool.attach(entity);
+    entityService.register(entity);
+    entity.setScale(2f, 2f);
+    entity.setFlagForDelete(true);
+
+    entity.dispose();
+    assertEquals(1, component.resets);
+    assertEquals(0, component.disposes);
+    assertEquals(0, entityService.getEntities().size);
+    assertEquals(1, pool.getFreeCount());
+    assertFalse(entity.getFlagForDelete());
+    assertEquals(1f, entity.getScale().x);
+
+    Entity reused = pool.obtain();
+    assertSame(entity, reused);
+    entityService.register(reused);
+    assertEquals(1, component.creates);
+    assertEquals(1, component.reuses);
+    assertEquals(1, entityService.getEntities().size);
+    assertEquals(2, pool.getObtainCount());
+    assertEquals(1, pool.getReuseCount());
+  }
+
+  @Test
+  void shouldDisposeWhenFull() {
+    EntityPool pool = new EntityPool("test", 1);
+    CountingComponent kept = new CountingComponent();
+    CountingComponent overflow = new CountingComponent();
+    Entity first = createPooled(pool, kept);
+    Entity second = createPooled(pool, overflow);
+
+    first.dispose();
+    second.dispose();
+    assertEquals(0, kept.disposes);
+    assertEquals(1, overflow.disposes);
+    assertEquals(1, pool.getFreeCount());
+  }
+
+  @Test
+  void shouldOnlyReturnOnce() {
+    EntityPool pool = new EntityPool("test", 4);
+    CountingComponent component = new CountingComponent();
+    Entity entity = createPooled(pool, component);
+
+    entity.dispose();
+    entity.dispose();
+    assertEquals(1, component.resets);
+    assertEquals(1, pool.getFreeCount());
+  }
+
+  @Test
+  void shouldDisposeFreeEntitiesOnClose() {
+    EntityPool pool = new EntityPool("test", 4);
+    CountingComponent free = new CountingComponent();
+    CountingComponent inUse = new CountingComponent();
+    createPooled(pool, free).dispose();
+    Entity active = createPooled(pool, inUse);
+
+    pool.close();
+    assertFalse(pool.isOpen());
+    assertEquals(1, free.disposes);
+    assertEquals(0, pool.getFreeCount());
+    assertNull(pool.obtain());
+
+    active.dispose();
+    assertEquals(0, inUse.resets);
+    assertEquals(1, inUse.disposes);
+    assertTrue(entityService.getEntities().isEmpty());
+  }
+
+  private Entity createPooled(EntityPool pool, Component component) {
+    Entity entity = new Entity().addComponent(component);
+    pool.attach(entity);
+    entityService.register(entity);
+    return entity;
+  }
+
+  static class CountingComponent extends Component {
+    int creates = 0;
+    int resets = 0;
+    int reuses = 0;
+    int disposes = 0;
+
+    @Override
+    public void create() {
+      creates++;
+    }
+
+    @Override
+    public void reset() {
+      resets++;
+    }
+
+    @Override
+    public void reuse() {
+      reuses++;
+    }
+
+    @Override
+    public void dispose() {
+      disposes++;
+    }
+  }
+}
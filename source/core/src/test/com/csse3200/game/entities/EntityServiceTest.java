@@ -1,11 +1,16 @@
 package com.csse3200.game.entities;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.csse3200.game.components.Component;
 import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.ServiceLocator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
@@ -22,23 +27,41 @@ class EntityServiceTest {
   @Test
   void shouldUpdateEntities() {
     EntityService entityService = new EntityService();
-    Entity entity = spy(Entity.class);
-    entityService.register(entity);
+    UpdatingComponent component = new UpdatingComponent();
+    entityService.register(new Entity().addComponent(component));
     entityService.update();
 
-    verify(entity).update();
-    verify(entity).earlyUpdate();
+    assertEquals(1, component.updates);
+    assertEquals(1, component.earlyUpdates);
   }
 
   @Test
   void shouldNotUpdateUnregisteredEntities() {
     EntityService entityService = new EntityService();
-    Entity entity = spy(Entity.class);
+    UpdatingComponent component = new UpdatingComponent();
+    Entity entity = new Entity().addComponent(component);
     entityService.register(entity);
     entityService.unregister(entity);
     entityService.update();
-    verify(entity, times(0)).update();
-    verify(entity, times(0)).earlyUpdate();
+    assertEquals(0, component.updates);
+    assertEquals(0, component.earlyUpdates);
+  }
+
+  @Test
+  void shouldOnlyScheduleComponentsWhichUpdate() {
+    EntityService entityService = new EntityService();
+    UpdatingComponent component = new UpdatingComponent();
+    Entity entity = new Entity().addComponent(new Component()).addComponent(component);
+    entityService.register(entity);
+    // The updating component's update and early update
+    assertEquals(2, entityService.getScheduledCount());
+
+    entity.setEnabled(false);
+    entityService.update();
+    assertEquals(0, component.updates);
+
+    entityService.unregister(entity);
+    assertEquals(0, entityService.getScheduledCount());
   }
 
   @Test
@@ -49,4 +72,162 @@ class EntityServiceTest {
     entityService.dispose();
     verify(entity).dispose();
   }
-}
\ No newline at end of file
+
+  @Test
+  void shouldSwapRemoveOnUnregister() {
+    EntityService entityService = new EntityService();
+    Entity first = new Entity();
+    Entity middle = new Entity();
+    Entity last = new Entity();
+    entityService.register(first);
+    entityService.register(middle);
+    entityService.register(last);
+
+    entityService.unregister(middle);
+    assertEquals(2, entityService.getEntities().size);
+    assertSame(last, entityService.getEntities().get(1));
+
+    // Unregistering twice, or an unknown entity, does nothing
+    entityService.unregister(middle);
+    entityService.unregister(new Entity());
+    assertEquals(2, entityService.getEntities().size);
+
+    entityService.unregister(last);
+    entityService.unregister(first);
+    assertTrue(entityService.getEntities().isEmpty());
+  }
+
+  @Test
+  void shouldDestroyFlaggedEntities() {
+    EntityService entityService = new EntityService();
+    ServiceLocator.registerEntityService(entityService);
+    Entity flagged = spy(Entity.class);
+    Entity unflagged = spy(Entity.class);
+    Entity alive = spy(Entity.class);
+    entityService.register(flagged);
+    entityService.register(unflagged);
+    entityService.register(alive);
+
+    flagged.setFlagForDelete(true);
+    flagged.setFlagForDelete(true);
+    unflagged.setFlagForDelete(true);
+    unflagged.setFlagForDelete(false);
+    entityService.destroyFlaggedEntities();
+
+    verify(flagged, times(1)).dispose();
+    verify(unflagged, times(0)).dispose();
+    verify(alive, times(0)).dispose();
+    assertEquals(2, entityService.getEntities().size);
+
+    // Already handled, so nothing more is disposed
+    entityService.destroyFlaggedEntities();
+    verify(flagged, times(1)).dispose();
+  }
+
+  @Test
+  void shouldFindLowestLayerWithoutReordering() {
+    EntityService entityService = new EntityService();
+    Entity top = new Entity();
+    top.setLayer(2);
+    Entity bottom = new Entity();
+    bottom.setLayer(1);
+    Entity away = new Entity();
+    away.setLayer(0);
+    away.setPosition(5f, 5f);
+    entityService.register(top);
+    entityService.register(bottom);
+    entityService.register(away);
+
+    assertSame(bottom, entityService.getEntityAtPosition(0.5f, 0.5f));
+    assertSame(bottom, entityService.checkEntityAtPosition(0, 0));
+    assertSame(top, entityService.getEntities().get(0));
+
+    // Every entity can still be unregistered
+    entityService.unregister(bottom);
+    entityService.unregister(top);
+    entityService.unregister(away);
+    assertTrue(entityService.getEntities().isEmpty());
+  }
+
+  @Test
+  void shouldUpdateEveryComponentWhenOneIsRemovedDuringUpdate() {
+    EntityService entityService = new EntityService();
+    RemovingComponent first = new RemovingComponent(entityService);
+    RemovingComponent second = new RemovingComponent(entityService);
+    RemovingComponent third = new RemovingComponent(entityService);
+    Entity firstEntity = new Entity().addComponent(first);
+    entityService.register(firstEntity);
+    entityService.register(new Entity().addComponent(second));
+    entityService.register(new Entity().addComponent(third));
+
+    // The first entity unregisters itself, which would move the third into its place
+    first.toRemove = firstEntity;
+    entityService.update();
+    assertEquals(1, first.updates);
+    assertEquals(1, second.updates);
+    assertEquals(1, third.updates);
+    assertEquals(2, entityService.getScheduledCount());
+
+    entityService.update();
+    assertEquals(1, first.updates);
+    assertEquals(2, third.updates);
+  }
+
+  @Test
+  void shouldKeepUpdatingEntityRegisteredAgainDuringUpdate() {
+    EntityService entityService = new EntityService();
+    RemovingComponent remover = new RemovingComponent(entityService);
+    UpdatingComponent component = new UpdatingComponent();
+    Entity entity = new Entity().addComponent(component);
+    entityService.register(new Entity().addComponent(remover));
+    entityService.register(entity);
+
+    remover.toRemove = entity;
+    remover.registerAgain = true;
+    entityService.update();
+    assertEquals(3, entityService.getScheduledCount());
+
+    entityService.update();
+    assertEquals(2, component.updates);
+    assertEquals(2, component.earlyUpdates);
+  }
+
+  static class UpdatingComponent extends Component {
+    int updates = 0;
+    int earlyUpdates = 0;
+
+    @Override
+    public void earlyUpdate() {
+      earlyUpdates++;
+    }
+
+    @Override
+    public void update() {
+      updates++;
+    }
+  }
+
+  /** Unregisters an entity, optionally registering it again, the next time it updates. */
+  static class RemovingComponent extends Component {
+    private final EntityService entityService;
+    Entity toRemove;
+    boolean registerAgain = false;
+    int updates = 0;
+
+    RemovingComponent(EntityService entityService) {
+      this.entityService = entityService;
+    }
+
+    @Override
+    public void update() {
+      updates++;
+      if (toRemove != null) {
+        entityService.unregister(toRemove);
+        if (registerAgain) {
+          entityService.register(toRemove);
+        }
+        toRemove = null;
+      }
+    }
+  }
+}
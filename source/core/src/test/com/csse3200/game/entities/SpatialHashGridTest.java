@@ -0,0 +1,150 @@
+package com.csse3200.game.entities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@ExtendWith(GameExtension.class)
+class SpatialHashGridTest {
+  private static final Logger logger = LoggerFactory.getLogger(SpatialHashGridTest.class);
+
+  @Test
+  void shouldFindEntitiesInRadius() {
+    SpatialHashGrid grid = new SpatialHashGrid(1f);
+    Entity near = createAt(grid, 1.5f, 1.5f);
+    Entity edge = createAt(grid, 3f, 1f);
+    createAt(grid, 5f, 5f);
+
+    Array<Entity> found = new Array<>();
+    grid.query(1f, 1f, 2f, null, (short) 0, found);
+    assertEquals(2, found.size);
+    assertTrue(found.contains(near, true));
+    assertTrue(found.contains(edge, true));
+  }
+
+  @Test
+  void shouldExcludeSource() {
+    SpatialHashGrid grid = new SpatialHashGrid(1f);
+    Entity source = createAt(grid, 1f, 1f);
+    createAt(grid, 1.2f, 1f);
+
+    Array<Entity> found = new Array<>();
+    grid.query(1f, 1f, 1f, source, (short) 0, found);
+    assertEquals(1, found.size);
+    assertFalse(found.contains(source, true));
+  }
+
+  @Test
+  void shouldTrackMovement() {
+    SpatialHashGrid grid = new SpatialHashGrid(1f);
+    Entity entity = createAt(grid, 0f, 0f);
+    entity.spatialIndex = grid;
+    entity.setPosition(10f, 4f);
+
+    Array<Entity> found = new Array<>();
+    grid.query(0f, 0f, 1f, null, (short) 0, found);
+    assertEquals(0, found.size);
+    grid.query(10f, 4f, 1f, null, (short) 0, found);
+    assertEquals(1, found.size);
+  }
+
+  @Test
+  void shouldRemove() {
+    SpatialHashGrid grid = new SpatialHashGrid(1f);
+    Entity entity = createAt(grid, 2f, 2f);
+    grid.remove(entity);
+
+    Array<Entity> found = new Array<>();
+    grid.query(2f, 2f, 1f, null, (short) 0, found);
+    assertEquals(0, found.size);
+    assertEquals(0, grid.size());
+  }
+
+  @Test
+  void shouldFindClosest() {
+    SpatialHashGrid grid = new SpatialHashGrid(1f);
+    Entity source = createAt(grid, 0f, 2f);
+    createAt(grid, 4f, 2f);
+    Entity closest = createAt(grid, 2f, 3f);
+
+    assertSame(closest, grid.closest(0f, 2f, 50f, source, (short) 0));
+    assertNull(grid.closest(0f, 2f, 1f, source, (short) 0));
+  }
+
+  @Test
+  void shouldMatchEntityServiceQueries() {
+    EntityService entityService = new EntityService();
+    Entity source = new Entity();
+    source.setPosition(5f, 2f);
+    entityService.register(source);
+
+    Entity inRange = new Entity();
+    inRange.setPosition(6f, 2f);
+    entityService.register(inRange);
+
+    Entity movedAway = new Entity();
+    movedAway.setPosition(5.5f, 2f);
+    entityService.register(movedAway);
+    movedAway.setPosition(15f, 2f);
+
+    Array<Entity> nearby = entityService.getNearbyEntities(source, 2f);
+    assertEquals(1, nearby.size);
+    assertSame(inRange, nearby.get(0));
+
+    entityService.unregister(inRange);
+    assertEquals(0, entityService.getNearbyEntities(source, 2f).size);
+  }
+
+  /**
+   * Not a strict benchmark, but shows that query cost depends on local density rather than the
+   * total entity count. Entities are spread at a constant density, so the number of candidates a
+   * fixed radius query examines should stay flat as the world fills up.
+   */
+  @Test
+  void queryCostShouldStayFlatAsEntityCountGrows() {
+    int[] counts = {100, 1000, 10000};
+    int[] candidates = new int[counts.length];
+    Array<Entity> found = new Array<>();
+
+    for (int c = 0; c < counts.length; c++) {
+      SpatialHashGrid grid = new SpatialHashGrid(1f);
+      int count = counts[c];
+      // 6 lanes, ~2 entities per tile
+      int width = count / 12;
+      for (int i = 0; i < count; i++) {
+        createAt(grid, (i / 6) % width + 0.5f, i % 6 + 0.25f);
+      }
+
+      float queryX = width / 2f;
+      int queries = 1000;
+      long start = System.nanoTime();
+      for (int q = 0; q < queries; q++) {
+        found.clear();
+        grid.query(queryX, 3f, 2f, null, (short) 0, found);
+      }
+      long perQuery = (System.nanoTime() - start) / queries;
+      candidates[c] = grid.getLastCandidateCount();
+      logger.info("{} entities: {} candidates, {}ns per query", count, candidates[c], perQuery);
+    }
+
+    for (int c = 1; c < counts.length; c++) {
+      assertEquals(candidates[0], candidates[c]);
+    }
+  }
+
+  private static Entity createAt(SpatialHashGrid grid, float x, float y) {
+    Entity entity = new Entity();
+    entity.setPosition(x, y);
+    grid.insert(entity);
+    return entity;
+  }
+}
@@ -24,6 +24,7 @@ import com.csse3200.game.rendering.RenderService;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.TimerService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -87,6 +88,7 @@ class NPCFactoryTest {
         GameTime gameTime = mock(GameTime.class);
         when(gameTime.getDeltaTime()).thenReturn(0.02f);
         ServiceLocator.registerTimeSource(gameTime);
+        ServiceLocator.registerTimerService(new TimerService(ServiceLocator.getTimeSource()));
         ServiceLocator.registerPhysicsService(new PhysicsService());
         RenderService render = new RenderService();
         render.setDebug(mock(DebugRenderer.class));
@@ -360,5 +362,24 @@ class NPCFactoryTest {
                 "skeleton should have an Animation Controller");
     }
 
+    @Test
+    void shouldCreateMobByWaveName() {
+        Entity mob = NPCFactory.createMob("Skeleton", 40);
+        assertNotNull(mob.getComponent(SkeletonAnimationController.class));
+        assertEquals(40, mob.getComponent(CombatStatsComponent.class).getHealth());
+    }
+
+    @Test
+    void shouldShareArchetypeAnimations() {
+        AnimationRenderComponent animator = skeleton.getComponent(AnimationRenderComponent.class);
+        assertTrue(animator.hasAnimation("skeleton_walk"));
+        assertTrue(animator.hasAnimation("skeleton_death"));
+
+        // Every skeleton has its own animator, playing independently
+        Entity other = NPCFactory.createSkeleton(60);
+        assertNotSame(animator, other.getComponent(AnimationRenderComponent.class));
+        assertTrue(other.getComponent(AnimationRenderComponent.class).hasAnimation("skeleton_walk"));
+    }
+
 
 }
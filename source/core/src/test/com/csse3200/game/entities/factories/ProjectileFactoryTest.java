@@ -8,6 +8,7 @@ import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.components.*;
 import com.csse3200.game.components.projectile.*;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityService;
 import com.csse3200.game.extensions.GameExtension;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.PhysicsService;
@@ -21,6 +22,7 @@ import com.csse3200.game.rendering.RenderService;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -61,6 +63,11 @@ class ProjectileFactoryTest {
         resourceService.loadTextureAtlases(atlas);
         resourceService.loadAll();      
     }
+
+    @AfterEach
+    public void tearDown() {
+        ProjectileFactory.setPooling(false);
+    }
     
     @Test
     void createBaseProjectile() {
@@ -285,5 +292,49 @@ class ProjectileFactoryTest {
         assertNotNull(fireworkProjectile.getComponent(FireworkAnimationController.class),
                 "Fire Projectile does not have Animation Controller");
     }
-}
 
+    @Test
+    void shouldReuseDeletedProjectilesWhenPooling() {
+        ServiceLocator.registerEntityService(new EntityService());
+        ProjectileFactory.setPooling(true);
+
+        Entity fireBall = ProjectileFactory.createFireBall(PhysicsLayer.NPC, new Vector2(10f, 1f), new Vector2(2f, 2f));
+        ServiceLocator.getEntityService().register(fireBall);
+        fireBall.setFlagForDelete(true);
+        fireBall.dispose();
+
+        Vector2 speed = new Vector2(3f, 3f);
+        Entity reused = ProjectileFactory.createFireBall(PhysicsLayer.NPC, new Vector2(10f, 2f), speed);
+        assertSame(fireBall, reused, "Deleted fireball was not reused");
+        assertFalse(reused.getFlagForDelete());
+        assertEquals(speed, reused.getComponent(PhysicsMovementComponent.class).getSpeed());
+        assertNotSame(fireBall, ProjectileFactory.createFireBall(PhysicsLayer.NPC, new Vector2(10f, 1f), speed),
+                "Projectile in use was handed out again");
+    }
+
+    @Test
+    void shouldPoolByProjectileKind() {
+        ServiceLocator.registerEntityService(new EntityService());
+        ProjectileFactory.setPooling(true);
+
+        Entity stun = ProjectileFactory.createEffectProjectile(PhysicsLayer.NPC, new Vector2(10f, 1f),
+                new Vector2(2f, 2f), ProjectileEffects.STUN, false);
+        ServiceLocator.getEntityService().register(stun);
+        stun.dispose();
+
+        Entity burn = ProjectileFactory.createEffectProjectile(PhysicsLayer.NPC, new Vector2(10f, 1f),
+                new Vector2(2f, 2f), ProjectileEffects.BURN, false);
+        assertNotSame(stun, burn);
+        assertNotNull(burn.getComponent(BurnEffectProjectileAnimationController.class));
+    }
+
+    @Test
+    void shouldNotReuseWithoutPooling() {
+        ServiceLocator.registerEntityService(new EntityService());
+        Entity fireBall = ProjectileFactory.createFireBall(PhysicsLayer.NPC, new Vector2(10f, 1f), new Vector2(2f, 2f));
+        ServiceLocator.getEntityService().register(fireBall);
+        fireBall.dispose();
+
+        assertNotSame(fireBall, ProjectileFactory.createFireBall(PhysicsLayer.NPC, new Vector2(10f, 1f), new Vector2(2f, 2f)));
+    }
+}
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
@@ -92,4 +93,86 @@ class EventHandlerTest {
       handler.trigger("stringEvent", true);
     });
   }
-}
\ No newline at end of file
+
+  @Test
+  void shouldTriggerById() {
+    int eventId = EventKey.intern("idEvent");
+    EventListener1<String> listener = (EventListener1<String>)mock(EventListener1.class);
+    handler.addListener(eventId, listener);
+    handler.trigger(eventId, "argument");
+    verify(listener).handle("argument");
+  }
+
+  @Test
+  void shouldShareIdsWithNames() {
+    EventListener0 byName = mock(EventListener0.class);
+    EventListener0 byId = mock(EventListener0.class);
+    handler.addListener("sharedEvent", byName);
+    handler.addListener(EventKey.intern("sharedEvent"), byId);
+
+    handler.trigger(EventKey.intern("sharedEvent"));
+    handler.trigger("sharedEvent");
+    verify(byName, times(2)).handle();
+    verify(byId, times(2)).handle();
+  }
+
+  @Test
+  void shouldOnlyStoreEventsListenedTo() {
+    for (int i = 0; i < 100; i++) {
+      EventKey.intern("unusedEvent" + i);
+    }
+    int eventId = EventKey.intern("lateEvent");
+    EventListener0 listener = mock(EventListener0.class);
+    handler.addListener(eventId, listener);
+
+    assertEquals(1, handler.listeners.size);
+    handler.trigger(eventId);
+    verify(listener).handle();
+  }
+
+  @Test
+  void shouldInternConsistently() {
+    int id = EventKey.intern("internedEvent");
+    assertEquals(id, EventKey.intern("internedEvent"));
+    assertEquals(id, EventKey.find("internedEvent"));
+    assertEquals("internedEvent", EventKey.nameOf(id));
+    assertEquals(EventKey.NOT_FOUND, EventKey.find("never-interned-event"));
+  }
+
+  @Test
+  void shouldInternConsistentlyAcrossThreads() throws InterruptedException {
+    int threadCount = 4;
+    int nameCount = 200;
+    int[][] ids = new int[threadCount][nameCount];
+    Thread[] threads = new Thread[threadCount];
+    for (int t = 0; t < threadCount; t++) {
+      int[] threadIds = ids[t];
+      threads[t] = new Thread(() -> {
+        for (int i = 0; i < nameCount; i++) {
+          threadIds[i] = EventKey.intern("threadedEvent" + i);
+        }
+      });
+      threads[t].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    for (int i = 0; i < nameCount; i++) {
+      assertEquals("threadedEvent" + i, EventKey.nameOf(ids[0][i]));
+      for (int t = 1; t < threadCount; t++) {
+        assertEquals(ids[0][i], ids[t][i]);
+      }
+    }
+  }
+
+  @Test
+  void shouldAllowNestedTriggers() {
+    EventListener0 inner = mock(EventListener0.class);
+    handler.addListener("outer", () -> handler.trigger("inner"));
+    handler.addListener("inner", () -> handler.trigger("innermost"));
+    handler.addListener("innermost", inner);
+    handler.trigger("outer");
+    verify(inner).handle();
+  }
+}
@@ -0,0 +1,102 @@
+package com.csse3200.game.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.events.listeners.EventListener;
+import com.csse3200.game.events.listeners.EventListener2;
+import com.csse3200.game.extensions.GameExtension;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares trigger throughput of the previous string keyed dispatch with the name shim and the
+ * interned ID path. JMH is not part of this build, so this is a simple warmed-up timing loop which
+ * logs its results rather than asserting on them.
+ */
+@ExtendWith(GameExtension.class)
+class EventHandlerThroughputTest {
+  private static final Logger logger = LoggerFactory.getLogger(EventHandlerThroughputTest.class);
+  private static final int ROUNDS = 5;
+  private static final int TRIGGERS = 200_000;
+  private static final String EVENT = "collisionStart";
+
+  private int handled = 0;
+
+  @Test
+  void compareTriggerThroughput() {
+    EventListener2<Object, Object> listener = (a, b) -> handled++;
+    Object arg0 = new Object();
+    Object arg1 = new Object();
+
+    LegacyEventHandler legacy = new LegacyEventHandler();
+    legacy.addListener(EVENT, listener);
+    EventHandler handler = new EventHandler();
+    handler.addListener(EVENT, listener);
+    int eventId = EventKey.intern(EVENT);
+
+    long legacyNanos = 0;
+    long nameNanos = 0;
+    long idNanos = 0;
+    for (int round = 0; round < ROUNDS; round++) {
+      long start = System.nanoTime();
+      for (int i = 0; i < TRIGGERS; i++) {
+        legacy.trigger(EVENT, arg0, arg1);
+      }
+      long legacyDone = System.nanoTime();
+      for (int i = 0; i < TRIGGERS; i++) {
+        handler.trigger(EVENT, arg0, arg1);
+      }
+      long nameDone = System.nanoTime();
+      for (int i = 0; i < TRIGGERS; i++) {
+        handler.trigger(eventId, arg0, arg1);
+      }
+      long idDone = System.nanoTime();
+
+      // Treat the first round as warm-up
+      if (round > 0) {
+        legacyNanos += legacyDone - start;
+        nameNanos += nameDone - legacyDone;
+        idNanos += idDone - nameDone;
+      }
+    }
+
+    long measured = (long) TRIGGERS * (ROUNDS - 1);
+    logger.info(
+        "Trigger cost per call: legacy {}ns, by name {}ns, by id {}ns",
+        (double) legacyNanos / measured,
+        (double) nameNanos / measured,
+        (double) idNanos / measured);
+    assertEquals(TRIGGERS * ROUNDS * 3, handled);
+  }
+
+  /** The string keyed dispatch EventHandler used before event IDs were interned. */
+  private static class LegacyEventHandler {
+    private static final Logger legacyLogger = LoggerFactory.getLogger(LegacyEventHandler.class);
+    private final Map<String, Array<EventListener>> listeners = new HashMap<>(0);
+
+    void addListener(String eventName, EventListener listener) {
+      listeners.computeIfAbsent(eventName, name -> new Array<>(1)).add(listener);
+    }
+
+    @SuppressWarnings("unchecked")
+    <T0, T1> void trigger(String eventName, T0 arg0, T1 arg1) {
+      legacyLogger.debug("Triggering event {}", eventName);
+      forEachListener(
+          eventName,
+          (EventListener listener) -> ((EventListener2<T0, T1>) listener).handle(arg0, arg1));
+    }
+
+    private void forEachListener(String eventName, Consumer<EventListener> func) {
+      Array<EventListener> eventListeners = listeners.getOrDefault(eventName, null);
+      if (eventListeners != null) {
+        eventListeners.forEach(func);
+      }
+    }
+  }
+}
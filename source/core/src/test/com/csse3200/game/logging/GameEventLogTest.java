@@ -0,0 +1,50 @@
+package com.csse3200.game.logging;
+
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.logging.GameEventLog.Type;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class GameEventLogTest {
+  @BeforeEach
+  void beforeEach() {
+    GameEventLog.clear();
+  }
+
+  @Test
+  void shouldRecordEvents() {
+    GameEventLog.record(Type.ENEMY_DIED, GameEventLog.NO_ENTITY, 4);
+    GameEventLog.record(Type.FIRE_RATE_CHANGED, 12, 3);
+    assertEquals(2, GameEventLog.size());
+
+    String[] lines = write();
+    assertEquals(2, lines.length);
+    assertTrue(lines[0].endsWith("ENEMY_DIED entity=-1 value=4"));
+    assertTrue(lines[1].endsWith("FIRE_RATE_CHANGED entity=12 value=3"));
+  }
+
+  @Test
+  void shouldOverwriteOldestEvents() {
+    int extra = 10;
+    for (int i = 0; i < GameEventLog.CAPACITY + extra; i++) {
+      GameEventLog.record(Type.CURRENCY_MODIFIED, GameEventLog.NO_ENTITY, i);
+    }
+    assertEquals(GameEventLog.CAPACITY, GameEventLog.size());
+    assertEquals(GameEventLog.CAPACITY + extra, GameEventLog.getRecordedCount());
+
+    String[] lines = write();
+    assertEquals(GameEventLog.CAPACITY, lines.length);
+    assertTrue(lines[0].endsWith("value=" + extra));
+    assertTrue(lines[lines.length - 1].endsWith("value=" + (GameEventLog.CAPACITY + extra - 1)));
+  }
+
+  private static String[] write() {
+    StringBuilder out = new StringBuilder();
+    GameEventLog.appendTo(out);
+    return out.toString().split("\n");
+  }
+}
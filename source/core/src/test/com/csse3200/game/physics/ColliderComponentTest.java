@@ -123,6 +123,41 @@ class ColliderComponentTest {
     testAlignedBox(AlignX.CENTER, AlignY.CENTER, new Vector2(1f, 1f));
   }
 
+  @Test
+  void shouldRefitBoundingBoxWhenReusedAtNewScale() {
+    Entity entity = new Entity();
+    entity.addComponent(new PhysicsComponent());
+    ColliderComponent component = new ColliderComponent();
+    entity.addComponent(component);
+
+    entity.setScale(2f, 2f);
+    entity.create();
+    component.setLayer(PhysicsLayer.NPC);
+    component.setSensor(true);
+
+    entity.setScale(1f, 0.5f);
+    component.reuse();
+    PhysicsTestUtils.checkPolygonCollider(component, new Vector2(1f, 0.5f));
+    assertEquals(PhysicsLayer.NPC, component.getLayer());
+    assertTrue(component.getFixture().isSensor());
+  }
+
+  @Test
+  void shouldNotRefitSetBoxWhenReused() {
+    Entity entity = new Entity();
+    entity.addComponent(new PhysicsComponent());
+    ColliderComponent component = new ColliderComponent();
+    entity.addComponent(component);
+
+    Vector2 box = new Vector2(2f, 2f);
+    component.setAsBox(box, Vector2.Zero);
+    entity.create();
+
+    entity.setScale(4f, 4f);
+    component.reuse();
+    PhysicsTestUtils.checkPolygonCollider(component, box);
+  }
+
   private static void testAlignedBox(AlignX alignX, AlignY alignY, Vector2 position) {
     Entity entity = new Entity();
     entity.addComponent(new PhysicsComponent());
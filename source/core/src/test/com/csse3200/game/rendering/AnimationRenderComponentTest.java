@@ -1,5 +1,6 @@
 package com.csse3200.game.rendering;
 
+import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
@@ -126,6 +127,24 @@ class AnimationRenderComponentTest {
     assertNull(animator.getCurrentAnimation());
   }
 
+  @Test
+  void shouldStartWithTableAnimations() {
+    TextureAtlas atlas = createMockAtlas("test_name", 2);
+    AnimationTable table = new AnimationTable(atlas);
+    assertTrue(table.addAnimation("test_name", 0.1f, Animation.PlayMode.LOOP));
+    assertFalse(table.addAnimation("missing", 0.1f, Animation.PlayMode.LOOP));
+
+    AnimationRenderComponent animator = new AnimationRenderComponent(table);
+    AnimationRenderComponent other = new AnimationRenderComponent(table);
+    assertTrue(animator.hasAnimation("test_name"));
+    assertFalse(animator.hasAnimation("missing"));
+    // The atlas is only searched when building the table
+    verify(atlas, times(1)).findRegions("test_name");
+
+    animator.removeAnimation("test_name");
+    assertTrue(other.hasAnimation("test_name"));
+  }
+
   static TextureAtlas createMockAtlas(String animationName, int numRegions) {
     TextureAtlas atlas = mock(TextureAtlas.class);
     Array<AtlasRegion> regions = new Array<>(numRegions);
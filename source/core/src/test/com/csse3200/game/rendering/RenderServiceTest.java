@@ -1,11 +1,14 @@
 package com.csse3200.game.rendering;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.csse3200.game.extensions.GameExtension;
 import org.junit.jupiter.api.Test;
@@ -80,4 +83,109 @@ class RenderServiceTest {
     inOrder.verify(renderable1).render(any());
     inOrder.verify(renderable2).render(any());
   }
+
+  @Test
+  void shouldOnlySortWhenOrderChanges() {
+    RenderService renderService = new RenderService();
+    SpriteBatch spriteBatch = mock(SpriteBatch.class);
+    TestRenderable back = new TestRenderable(0f);
+    TestRenderable front = new TestRenderable(1f);
+    renderService.register(front);
+    renderService.register(back);
+
+    renderService.render(spriteBatch);
+    assertEquals(1, renderService.getSortCount(1));
+
+    // Nothing moved, so no sort is needed
+    renderService.render(spriteBatch);
+    assertEquals(1, renderService.getSortCount(1));
+
+    // Back renderable moved in front
+    back.zIndex = 2f;
+    renderService.render(spriteBatch);
+    assertEquals(2, renderService.getSortCount(1));
+    assertTrue(front.renderOrder < back.renderOrder);
+
+    renderService.invalidateOrder(back);
+    renderService.render(spriteBatch);
+    assertEquals(3, renderService.getSortCount(1));
+  }
+
+  @Test
+  void shouldTrackLayerRenderTime() {
+    RenderService renderService = new RenderService();
+    SpriteBatch spriteBatch = mock(SpriteBatch.class);
+    renderService.register(new TestRenderable(0f));
+    assertEquals(0L, renderService.getTotalRenderTime(1));
+
+    renderService.render(spriteBatch);
+    long firstFrame = renderService.getLastRenderTime(1);
+    assertEquals(firstFrame, renderService.getTotalRenderTime(1));
+
+    renderService.render(spriteBatch);
+    assertEquals(
+        firstFrame + renderService.getLastRenderTime(1), renderService.getTotalRenderTime(1));
+    assertEquals(0L, renderService.getLastRenderTime(5));
+  }
+
+  @Test
+  void shouldCountTextureSwitches() {
+    RenderService renderService = new RenderService();
+    SpriteBatch spriteBatch = mock(SpriteBatch.class);
+    Texture page1 = mock(Texture.class);
+    Texture page2 = mock(Texture.class);
+    renderService.register(new TestRenderable(0f, page1));
+    renderService.register(new TestRenderable(1f, page1));
+    renderService.register(new TestRenderable(2f, null));
+    renderService.register(new TestRenderable(3f, page2));
+
+    renderService.render(spriteBatch);
+    assertEquals(2, renderService.getLastTextureSwitches());
+
+    renderService.setLastDrawCalls(3);
+    assertEquals(3, renderService.getLastDrawCalls());
+  }
+
+  /** Renderable on layer 1 with a settable z index, which records when it was rendered. */
+  private static class TestRenderable implements Renderable {
+    private static int renderCount = 0;
+    float zIndex;
+    int renderOrder;
+
+    Texture texture;
+
+    TestRenderable(float zIndex) {
+      this(zIndex, null);
+    }
+
+    TestRenderable(float zIndex, Texture texture) {
+      this.zIndex = zIndex;
+      this.texture = texture;
+    }
+
+    @Override
+    public void render(SpriteBatch batch) {
+      renderOrder = renderCount++;
+    }
+
+    @Override
+    public float getZIndex() {
+      return zIndex;
+    }
+
+    @Override
+    public int getLayer() {
+      return 1;
+    }
+
+    @Override
+    public Texture getTexture() {
+      return texture;
+    }
+
+    @Override
+    public int compareTo(Renderable o) {
+      return Float.compare(getZIndex(), o.getZIndex());
+    }
+  }
 }
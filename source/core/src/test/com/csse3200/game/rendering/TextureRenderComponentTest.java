@@ -1,11 +1,12 @@
 package com.csse3200.game.rendering;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.extensions.GameExtension;
 import org.junit.jupiter.api.Test;
@@ -18,16 +19,41 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class TextureRenderComponentTest {
   @Mock Texture texture;
   @Mock SpriteBatch spriteBatch;
-  @Mock Entity entity;
 
   @Test
   void shouldDrawTexture() {
-    when(entity.getPosition()).thenReturn(new Vector2(2f, 2f));
-    when(entity.getScale()).thenReturn(new Vector2(1f, 1f));
+    Entity entity = new Entity();
+    entity.setPosition(2f, 2f);
+    entity.setScale(1f, 1f);
     TextureRenderComponent component = new TextureRenderComponent(texture);
     component.setEntity(entity);
     component.render(spriteBatch);
 
     verify(spriteBatch).draw(texture, 2f, 2f, 1f, 1f);
   }
-}
\ No newline at end of file
+
+  @Test
+  void shouldSortByDepthBeforeTexture() {
+    Texture laterTexture = mock(Texture.class);
+    lenient().when(texture.getTextureObjectHandle()).thenReturn(5);
+    lenient().when(laterTexture.getTextureObjectHandle()).thenReturn(1);
+    TextureRenderComponent behind = createAt(texture, 1.2f);
+    TextureRenderComponent inFront = createAt(laterTexture, 1.05f);
+
+    // Overlapping sprites with different textures are still drawn back to front
+    assertTrue(behind.compareTo(inFront) < 0);
+    assertTrue(inFront.compareTo(behind) > 0);
+
+    // Sprites on the same row are grouped by texture
+    TextureRenderComponent sameRow = createAt(laterTexture, 1.2f);
+    assertTrue(sameRow.compareTo(behind) < 0);
+  }
+
+  private static TextureRenderComponent createAt(Texture texture, float y) {
+    Entity entity = new Entity();
+    entity.setPosition(0f, y);
+    TextureRenderComponent component = new TextureRenderComponent(texture);
+    component.setEntity(entity);
+    return component;
+  }
+}
@@ -0,0 +1,129 @@
+package com.csse3200.game.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.csse3200.game.components.CombatStatsComponent;
+import com.csse3200.game.components.ProjectileEffects;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityService;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.physics.PhysicsLayer;
+import com.csse3200.game.physics.PhysicsService;
+import com.csse3200.game.physics.components.HitboxComponent;
+import com.csse3200.game.physics.components.PhysicsComponent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class AreaDamageServiceTest {
+  private AreaDamageService areaDamageService;
+
+  @BeforeEach
+  void setUp() {
+    GameTime gameTime = mock(GameTime.class);
+    when(gameTime.getDeltaTime()).thenReturn(0.02f);
+    ServiceLocator.registerTimeSource(gameTime);
+    ServiceLocator.registerPhysicsService(new PhysicsService());
+    ServiceLocator.registerEntityService(new EntityService());
+    areaDamageService = new AreaDamageService();
+    ServiceLocator.registerAreaDamageService(areaDamageService);
+  }
+
+  @AfterEach
+  void tearDown() {
+    ServiceLocator.clear();
+  }
+
+  @Test
+  void shouldDamageTargetsWhenResolved() {
+    Entity attacker = createEntity(PhysicsLayer.TOWER, 10, 10);
+    Entity target = createEntity(PhysicsLayer.NPC, 12, 10);
+
+    areaDamageService
+        .submit(attacker, 4f, 1f, PhysicsLayer.NPC)
+        .setDamage(attacker.getComponent(CombatStatsComponent.class));
+    assertEquals(100, getHealth(target));
+    assertEquals(1, areaDamageService.getPendingCount());
+
+    areaDamageService.resolve();
+    assertEquals(80, getHealth(target));
+    assertEquals(0, areaDamageService.getPendingCount());
+  }
+
+  @Test
+  void shouldOnlyHitTargetsInAreaLaneAndLayer() {
+    Entity attacker = createEntity(PhysicsLayer.TOWER, 10, 10);
+    Entity inRange = createEntity(PhysicsLayer.NPC, 11, 10);
+    Entity tooFar = createEntity(PhysicsLayer.NPC, 15, 10);
+    Entity otherLane = createEntity(PhysicsLayer.NPC, 11, 12);
+    Entity otherLayer = createEntity(PhysicsLayer.ENGINEER, 11, 10);
+
+    areaDamageService
+        .submit(attacker, 4f, 1f, PhysicsLayer.NPC)
+        .setDamage(attacker.getComponent(CombatStatsComponent.class));
+    areaDamageService.resolve();
+
+    assertEquals(80, getHealth(inRange));
+    assertEquals(100, getHealth(tooFar));
+    assertEquals(100, getHealth(otherLane));
+    assertEquals(100, getHealth(otherLayer));
+  }
+
+  @Test
+  void shouldResolveAllRequestsTogether() {
+    Entity first = createEntity(PhysicsLayer.TOWER, 5, 3);
+    Entity second = createEntity(PhysicsLayer.TOWER, 7, 3);
+    Entity target = createEntity(PhysicsLayer.NPC, 6, 3);
+
+    // Both attackers are disposed before the end of the tick
+    areaDamageService
+        .submit(first, 2f, 1f, PhysicsLayer.NPC)
+        .setDamage(first.getComponent(CombatStatsComponent.class));
+    areaDamageService
+        .submit(second, 2f, 1f, PhysicsLayer.NPC)
+        .setDamage(second.getComponent(CombatStatsComponent.class));
+    first.dispose();
+    second.dispose();
+    areaDamageService.resolve();
+
+    assertEquals(60, getHealth(target));
+  }
+
+  @Test
+  void shouldReleaseRequestsWithNoTargets() {
+    Entity attacker = createEntity(PhysicsLayer.TOWER, 10, 10);
+    Entity tooFar = createEntity(PhysicsLayer.NPC, 20, 10);
+
+    AreaDamageService.AreaDamage request =
+        areaDamageService
+            .submit(attacker, 2f, AreaDamageService.ANY_LANE, PhysicsLayer.NPC)
+            .setDamage(attacker.getComponent(CombatStatsComponent.class))
+            .setEffect(ProjectileEffects.BURN);
+    areaDamageService.resolve();
+
+    assertEquals(100, getHealth(tooFar));
+    assertEquals(0, areaDamageService.getPendingCount());
+    // The released request is handed out again for the next attack
+    assertSame(request, areaDamageService.submit(attacker, 2f, 1f, PhysicsLayer.NPC));
+  }
+
+  private static int getHealth(Entity entity) {
+    return entity.getComponent(CombatStatsComponent.class).getHealth();
+  }
+
+  private static Entity createEntity(short layer, float x, float y) {
+    Entity entity =
+        new Entity()
+            .addComponent(new CombatStatsComponent(100, 20))
+            .addComponent(new PhysicsComponent())
+            .addComponent(new HitboxComponent().setLayer(layer));
+    ServiceLocator.getEntityService().register(entity);
+    entity.setPosition(x, y);
+    return entity;
+  }
+}
@@ -0,0 +1,93 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Texture;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(GameExtension.class)
+class AssetCacheTest {
+  private static final String TEXTURE1 = "test/files/mountain.png";
+  private static final String TEXTURE2 = "test/files/heart.png";
+
+  @Test
+  void shouldKeepAssetsUsedByAnotherService() {
+    AssetManager assetManager = spy(AssetManager.class);
+    AssetCache cache = new AssetCache(assetManager);
+    ResourceService first = new ResourceService(cache);
+    ResourceService second = new ResourceService(cache);
+
+    first.loadTextures(new String[] {TEXTURE1, TEXTURE2});
+    first.loadAll();
+    second.loadTextures(new String[] {TEXTURE1});
+    second.loadAll();
+    assertEquals(2, cache.getReferenceCount(TEXTURE1));
+    verify(assetManager, times(1)).load(TEXTURE1, Texture.class);
+
+    first.dispose();
+    cache.unloadUnused();
+    assertTrue(assetManager.isLoaded(TEXTURE1));
+    assertFalse(assetManager.contains(TEXTURE2));
+
+    second.dispose();
+    cache.unloadUnused();
+    assertFalse(assetManager.contains(TEXTURE1));
+  }
+
+  @Test
+  void shouldNotReloadAssetsUsedByTheNextScreen() {
+    AssetManager assetManager = spy(AssetManager.class);
+    AssetCache cache = new AssetCache(assetManager);
+    ResourceService oldScreen = new ResourceService(cache);
+    oldScreen.loadTextures(new String[] {TEXTURE1});
+    oldScreen.loadAll();
+
+    oldScreen.dispose();
+    ResourceService newScreen = new ResourceService(cache);
+    newScreen.loadTextures(new String[] {TEXTURE1});
+    cache.unloadUnused();
+    newScreen.loadAll();
+
+    assertTrue(assetManager.isLoaded(TEXTURE1));
+    verify(assetManager, times(1)).load(TEXTURE1, Texture.class);
+  }
+
+  @Test
+  void shouldKeepRetainedAssets() {
+    AssetManager assetManager = spy(AssetManager.class);
+    AssetCache cache = new AssetCache(assetManager);
+    ResourceService resourceService = new ResourceService(cache);
+    cache.retain(TEXTURE1);
+    resourceService.loadTextures(new String[] {TEXTURE1, TEXTURE2});
+    resourceService.loadAll();
+
+    resourceService.unloadAssets(new String[] {TEXTURE1, TEXTURE2});
+    cache.unloadUnused();
+    assertTrue(assetManager.isLoaded(TEXTURE1));
+    assertFalse(assetManager.contains(TEXTURE2));
+    assertEquals(0, cache.getReferenceCount(TEXTURE1));
+  }
+
+  @Test
+  void shouldCountLoadsAndHits() {
+    AssetCache cache = new AssetCache(spy(AssetManager.class));
+    ResourceService first = new ResourceService(cache);
+    ResourceService second = new ResourceService(cache);
+
+    Texture texture = first.borrowAsset(TEXTURE1, Texture.class);
+    assertNotNull(texture);
+    assertSame(texture, second.borrowAsset(TEXTURE1, Texture.class));
+    assertEquals(1, cache.getLoadCount());
+    assertEquals(1, cache.getHitCount());
+
+    first.dispose();
+    second.dispose();
+    assertEquals(0, cache.getReferenceCount(TEXTURE1));
+  }
+}
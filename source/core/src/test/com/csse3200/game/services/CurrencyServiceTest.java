@@ -2,12 +2,17 @@ package com.csse3200.game.services;
 
 import com.csse3200.game.components.gamearea.CurrencyDisplay;
 import com.csse3200.game.currency.Scrap;
+import com.csse3200.game.events.listeners.EventListener1;
 import com.csse3200.game.extensions.GameExtension;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(GameExtension.class)
 class CurrencyServiceTest {
@@ -30,4 +35,21 @@ class CurrencyServiceTest {
         CurrencyService currencyService = new CurrencyService();
         assertEquals(CurrencyDisplay.class, currencyService.getDisplay().getClass());
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldAnnounceCurrencyChanges() {
+        CurrencyService currencyService = new CurrencyService();
+        EventListener1<Integer> scraps = mock(EventListener1.class);
+        EventListener1<Integer> crystals = mock(EventListener1.class);
+        currencyService.getEvents().addListener("scrapsChanged", scraps);
+        currencyService.getEvents().addListener("crystalsChanged", crystals);
+
+        int amount = currencyService.getScrap().getAmount();
+        currencyService.getScrap().modify(50);
+        currencyService.getScrap().modify(0);
+        verify(scraps).handle(amount + 50);
+        verify(scraps, never()).handle(amount);
+        verify(crystals, never()).handle(any());
+    }
 }
@@ -47,6 +47,27 @@ class GameTimeTest {
     shouldScale(0f, 0f, 10f);
   }
 
+  @Test
+  void shouldStopWhilePaused() {
+    gameTime.setPaused(true);
+    assertEquals(0f, gameTime.getDeltaTime());
+    assertEquals(10f, gameTime.getRawDeltaTime());
+    gameTime.setPaused(false);
+    assertEquals(10f, gameTime.getDeltaTime());
+  }
+
+  @Test
+  void shouldOnlyAdvanceTimeInTicks() {
+    assertEquals(0L, gameTime.getTime());
+    gameTime.beginTick(0.5f);
+    assertEquals(0.5f, gameTime.getDeltaTime());
+    gameTime.endTick();
+    gameTime.beginTick(0.25f);
+    gameTime.endTick();
+    assertEquals(750L, gameTime.getTime());
+    assertEquals(250L, gameTime.getTimeSince(500L));
+  }
+
   private void shouldScale(float scale, float delta, float rawDelta) {
     gameTime.setTimeScale(scale);
     assertEquals(delta, gameTime.getDeltaTime());
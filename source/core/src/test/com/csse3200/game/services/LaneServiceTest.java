@@ -0,0 +1,222 @@
+package com.csse3200.game.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.csse3200.game.components.npc.LaneOccupantComponent;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityService;
+import com.csse3200.game.events.listeners.EventListener2;
+import com.csse3200.game.extensions.GameExtension;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@ExtendWith(GameExtension.class)
+class LaneServiceTest {
+  private static final Logger logger = LoggerFactory.getLogger(LaneServiceTest.class);
+
+  @AfterEach
+  void tearDown() {
+    ServiceLocator.clear();
+  }
+
+  @Test
+  void shouldFindTargetsInRange() {
+    LaneService laneService = new LaneService();
+    Entity near = new Entity();
+    Entity far = new Entity();
+    laneService.add(far, 8f, 2f);
+    laneService.add(near, 3f, 2f);
+
+    assertTrue(laneService.hasTargetInRange(2, 0f, 4f));
+    assertFalse(laneService.hasTargetInRange(2, 4f, 7f));
+    assertFalse(laneService.hasTargetInRange(1, 0f, 10f));
+    assertEquals(near, laneService.getFirstInRange(2, 0f, 10f));
+    assertEquals(far, laneService.getFirstInRange(2, 3.5f, 10f));
+    assertEquals(2, laneService.countInRange(2, 3f, 8f));
+    assertEquals(1, laneService.countInRange(2, 3.5f, 8f));
+  }
+
+  @Test
+  void shouldKeepOrderWhenMobsMove() {
+    LaneService laneService = new LaneService();
+    Entity first = new Entity();
+    Entity second = new Entity();
+    LaneService.Occupant firstOccupant = laneService.add(first, 5f, 1f);
+    laneService.add(second, 6f, 1f);
+    assertEquals(first, laneService.getFirstInRange(1, 0f, 10f));
+
+    laneService.move(firstOccupant, 7f, 1f);
+    assertEquals(second, laneService.getFirstInRange(1, 0f, 10f));
+    assertEquals(first, laneService.getFirstInRange(1, 6.5f, 10f));
+  }
+
+  @Test
+  void shouldCountPresenceNearEndOfLane() {
+    LaneService laneService = new LaneService();
+    LaneService.Occupant mob = laneService.add(new Entity(), 15f, 3f);
+    assertEquals(0, laneService.getPresence(3, LaneService.Kind.MOB));
+
+    laneService.move(mob, 10f, 3f);
+    assertEquals(1, laneService.getPresence(3, LaneService.Kind.MOB));
+    assertTrue(laneService.isUndefended(3));
+
+    LaneService.Occupant tower = laneService.add(new Entity(), LaneService.Kind.TOWER, 4.5f, 3f);
+    assertEquals(1, laneService.getPresence(3, LaneService.Kind.TOWER));
+    assertFalse(laneService.isUndefended(3));
+    // Towers are counted, but can't be targeted
+    assertEquals(mob.getEntity(), laneService.getFirstInRange(3, 0f, 20f));
+
+    laneService.remove(tower);
+    assertTrue(laneService.isUndefended(3));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldOnlyAnnounceWhenLaneDefenceChanges() {
+    LaneService laneService = new LaneService();
+    EventListener2<Integer, Boolean> listener = mock(EventListener2.class);
+    laneService.getEvents().addListener("undefendedChanged", listener);
+
+    LaneService.Occupant first = laneService.add(new Entity(), 5f, 2f);
+    LaneService.Occupant second = laneService.add(new Entity(), 6f, 2f);
+    laneService.move(first, 4f, 2f);
+    verify(listener, times(1)).handle(2, true);
+
+    laneService.add(new Entity(), LaneService.Kind.ENGINEER, 1.5f, 2f);
+    laneService.remove(first);
+    laneService.remove(second);
+    verify(listener, times(1)).handle(2, false);
+    verify(listener, times(2)).handle(anyInt(), anyBoolean());
+  }
+
+  @Test
+  void shouldMoveBetweenLanes() {
+    LaneService laneService = new LaneService();
+    LaneService.Occupant occupant = laneService.add(new Entity(), 5f, 1f);
+
+    laneService.move(occupant, 5f, 3f);
+    assertEquals(3, occupant.getLane());
+    assertEquals(0, laneService.getOccupantCount(1));
+    assertTrue(laneService.hasTargetInRange(3, 0f, 10f));
+
+    laneService.remove(occupant);
+    assertEquals(0, laneService.getOccupantCount(3));
+    assertNull(laneService.getFirstInRange(3, 0f, 10f));
+  }
+
+  @Test
+  void shouldTrackOccupantComponent() {
+    LaneService laneService = new LaneService();
+    ServiceLocator.registerLaneService(laneService);
+    ServiceLocator.registerEntityService(new EntityService());
+
+    Entity mob = new Entity().addComponent(new LaneOccupantComponent());
+    mob.setPosition(10f, 4f);
+    ServiceLocator.getEntityService().register(mob);
+    assertEquals(4, mob.getComponent(LaneOccupantComponent.class).getLane());
+    assertTrue(laneService.hasTargetInRange(4, 10f, 11f));
+
+    mob.setPosition(2f, 4f);
+    mob.update();
+    assertFalse(laneService.hasTargetInRange(4, 10f, 11f));
+    assertTrue(laneService.hasTargetInRange(4, 2f, 3f));
+
+    mob.dispose();
+    assertEquals(0, laneService.getOccupantCount(4));
+  }
+
+  /**
+   * Compares 50 towers scanning against 500 mobs through the lane index with a scan of every mob.
+   * JMH is not part of this build, so timings are logged and only the results are asserted.
+   */
+  @Test
+  void compareTowerScanCost() {
+    int lanes = 6;
+    int mobCount = 500;
+    int towerCount = 50;
+    int frames = 200;
+    Random random = new Random(3200);
+
+    LaneService laneService = new LaneService();
+    LaneService.Occupant[] occupants = new LaneService.Occupant[mobCount];
+    float[] mobX = new float[mobCount];
+    int[] mobLane = new int[mobCount];
+    for (int i = 0; i < mobCount; i++) {
+      mobX[i] = 10f + random.nextFloat() * 10f;
+      mobLane[i] = random.nextInt(lanes);
+      occupants[i] = laneService.add(new Entity(), mobX[i], mobLane[i]);
+    }
+
+    int[] towerLane = new int[towerCount];
+    float[] towerX = new float[towerCount];
+    float[] towerRange = new float[towerCount];
+    for (int i = 0; i < towerCount; i++) {
+      towerLane[i] = random.nextInt(lanes);
+      towerX[i] = random.nextInt(10);
+      towerRange[i] = 2f + random.nextInt(4);
+    }
+
+    long indexNanos = 0;
+    long scanNanos = 0;
+    int indexHits = 0;
+    int scanHits = 0;
+    for (int frame = 0; frame < frames; frame++) {
+      // Mobs walk left at slightly different speeds, so they occasionally overtake each other
+      for (int i = 0; i < mobCount; i++) {
+        mobX[i] -= 0.02f + (i % 3) * 0.01f;
+        laneService.move(occupants[i], mobX[i], mobLane[i]);
+      }
+
+      long start = System.nanoTime();
+      for (int t = 0; t < towerCount; t++) {
+        if (laneService.hasTargetInRange(towerLane[t], towerX[t], towerX[t] + towerRange[t])) {
+          indexHits++;
+        }
+      }
+      long indexDone = System.nanoTime();
+      for (int t = 0; t < towerCount; t++) {
+        if (scanForTarget(mobX, mobLane, towerLane[t], towerX[t], towerX[t] + towerRange[t])) {
+          scanHits++;
+        }
+      }
+      long scanDone = System.nanoTime();
+
+      // Treat the first frames as warm-up
+      if (frame >= frames / 4) {
+        indexNanos += indexDone - start;
+        scanNanos += scanDone - indexDone;
+      }
+    }
+
+    long measured = (long) towerCount * (frames - frames / 4);
+    logger.info(
+        "Tower scan cost per query with {} mobs: lane index {}ns, scan {}ns",
+        mobCount,
+        (double) indexNanos / measured,
+        (double) scanNanos / measured);
+    assertEquals(scanHits, indexHits);
+    assertTrue(indexHits > 0);
+  }
+
+  private static boolean scanForTarget(float[] mobX, int[] mobLane, int lane, float fromX, float toX) {
+    for (int i = 0; i < mobX.length; i++) {
+      if (mobLane[i] == lane && mobX[i] >= fromX && mobX[i] <= toX) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
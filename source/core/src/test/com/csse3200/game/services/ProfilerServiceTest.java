@@ -0,0 +1,72 @@
+package com.csse3200.game.services;
+
+import com.csse3200.game.components.Component;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class ProfilerServiceTest {
+  @Test
+  void shouldAddScopesByName() {
+    ProfilerService profiler = new ProfilerService();
+    assertEquals(ProfilerService.PHYSICS, profiler.getScope("physics"));
+    int scope = profiler.getScope("custom");
+    assertEquals(scope, profiler.getScope("custom"));
+    assertEquals("custom", profiler.getName(scope));
+
+    int componentScope = profiler.getScope(new Component());
+    assertEquals(componentScope, profiler.getScope(new Component()));
+    assertEquals("Component", profiler.getName(componentScope));
+  }
+
+  @Test
+  void shouldRecordOneSamplePerFrame() {
+    ProfilerService profiler = new ProfilerService();
+    profiler.begin(ProfilerService.PHYSICS);
+    profiler.end(ProfilerService.PHYSICS);
+    profiler.begin(ProfilerService.PHYSICS);
+    profiler.end(ProfilerService.PHYSICS);
+    profiler.endFrame();
+
+    assertEquals(1, profiler.getSampleCount(ProfilerService.PHYSICS));
+    // Scopes which didn't run aren't recorded
+    assertEquals(0, profiler.getSampleCount(ProfilerService.RENDER));
+    assertEquals(0L, profiler.getAverage(ProfilerService.RENDER));
+
+    for (int i = 0; i < ProfilerService.WINDOW * 2; i++) {
+      profiler.begin(ProfilerService.PHYSICS);
+      profiler.end(ProfilerService.PHYSICS);
+      profiler.endFrame();
+    }
+    assertEquals(ProfilerService.WINDOW, profiler.getSampleCount(ProfilerService.PHYSICS));
+
+    profiler.reset();
+    assertEquals(0, profiler.getSampleCount(ProfilerService.PHYSICS));
+  }
+
+  @Test
+  void shouldGiveOrderedStats() throws InterruptedException {
+    ProfilerService profiler = new ProfilerService();
+    for (int i = 0; i < 5; i++) {
+      profiler.begin(ProfilerService.ENTITIES);
+      Thread.sleep(i);
+      profiler.end(ProfilerService.ENTITIES);
+      profiler.endFrame();
+    }
+
+    long min = profiler.getMin(ProfilerService.ENTITIES);
+    long average = profiler.getAverage(ProfilerService.ENTITIES);
+    long p99 = profiler.getPercentile(ProfilerService.ENTITIES, 99f);
+    assertTrue(min <= average);
+    assertTrue(average <= p99);
+    assertTrue(p99 >= 4000000L);
+
+    StringBuilder csv = new StringBuilder();
+    profiler.writeCsv(csv);
+    assertTrue(csv.toString().startsWith("scope,frames,min_ms,avg_ms,p99_ms\n"));
+    assertTrue(csv.toString().contains("\nentities,5,"));
+  }
+}
@@ -0,0 +1,105 @@
+package com.csse3200.game.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class SimulationClockTest {
+  private static final float TICK = 0.25f;
+  private static final float EPSILON = 0.0001f;
+
+  @Test
+  void shouldRunTicksForElapsedTime() {
+    SimulationClock clock = new SimulationClock(TICK, 5);
+    assertEquals(0, clock.advance(0.125f));
+    assertEquals(0.5f, clock.getAlpha(), EPSILON);
+
+    assertEquals(1, clock.advance(0.25f));
+    assertEquals(0.5f, clock.getAlpha(), EPSILON);
+
+    assertEquals(2, clock.advance(0.375f));
+    assertEquals(0f, clock.getAlpha(), EPSILON);
+    assertEquals(3, clock.getTickCount());
+  }
+
+  @Test
+  void shouldCapTicksPerFrame() {
+    SimulationClock clock = new SimulationClock(TICK, 3);
+    assertEquals(3, clock.advance(2.625f));
+    assertEquals(7, clock.getDroppedTicks());
+    // Dropped time is not caught up on later
+    assertEquals(0, clock.advance(0f));
+    assertEquals(0.5f, clock.getAlpha(), EPSILON);
+  }
+
+  @Test
+  void shouldScaleTickCapWithTimeScale() {
+    SimulationClock clock = new SimulationClock(TICK, 3);
+    // A 0.5s frame at 4x speed is 8 ticks, which is within the scaled cap of 12
+    assertEquals(8, clock.advance(2f, 4f));
+    assertEquals(0, clock.getDroppedTicks());
+
+    assertEquals(12, clock.advance(3.5f, 4f));
+    assertEquals(2, clock.getDroppedTicks());
+    // Slower than normal speed keeps the normal cap
+    assertEquals(3, clock.getMaxTicksPerFrame(0.5f));
+  }
+
+  @Test
+  void shouldRunSameTicksAtAnyFrameRate() {
+    SimulationClock slow = new SimulationClock(1 / 30f, 5);
+    SimulationClock fast = new SimulationClock(1 / 30f, 5);
+    int slowTicks = 0;
+    int fastTicks = 0;
+    // One second at 30 fps and at 144 fps
+    for (int i = 0; i < 30; i++) {
+      slowTicks += slow.advance(1 / 30f);
+    }
+    for (int i = 0; i < 144; i++) {
+      fastTicks += fast.advance(1 / 144f);
+    }
+    assertEquals(30, slowTicks, 1);
+    assertEquals(30, fastTicks, 1);
+  }
+
+  @Test
+  void shouldInterpolateEntityPosition() {
+    Entity entity = new Entity();
+    entity.setPosition(1f, 1f);
+    Vector2 position = new Vector2();
+    assertEquals(new Vector2(1f, 1f), entity.getInterpolatedPosition(position, 0.5f));
+
+    // Moved by the simulation, e.g. a physics body, rather than teleported
+    entity.setPosition(new Vector2(3f, 1f), false);
+    assertEquals(new Vector2(2f, 1f), entity.getInterpolatedPosition(position, 0.5f));
+    assertEquals(new Vector2(3f, 1f), entity.getInterpolatedPosition(position, 1f));
+  }
+
+  @Test
+  void shouldUseTickLengthDuringTick() {
+    GameTime gameTime = new GameTime();
+    gameTime.beginTick(TICK);
+    assertEquals(TICK, gameTime.getDeltaTime());
+    gameTime.endTick();
+    assertFalse(gameTime.isInTick());
+  }
+
+  @Test
+  void shouldOnlyAdvanceSimulatedTimeInTicks() {
+    SimulatedGameTime gameTime = new SimulatedGameTime();
+    assertEquals(0, gameTime.getTime());
+    for (int i = 0; i < 2; i++) {
+      gameTime.beginTick(TICK);
+      gameTime.endTick();
+    }
+    assertEquals(500, gameTime.getTime());
+    assertEquals(TICK, gameTime.getDeltaTime());
+    assertEquals(500, gameTime.getTimeSince(0));
+  }
+}
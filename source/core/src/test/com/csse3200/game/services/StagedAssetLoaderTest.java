@@ -0,0 +1,60 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Texture;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.spy;
+
+@ExtendWith(GameExtension.class)
+class StagedAssetLoaderTest {
+  private static final String TEXTURE1 = "test/files/mountain.png";
+  private static final String TEXTURE2 = "test/files/heart.png";
+
+  @Test
+  void shouldLoadStagesInOrder() {
+    AssetManager assetManager = spy(AssetManager.class);
+    StagedAssetLoader loader = new StagedAssetLoader(new ResourceService(assetManager));
+    loader.addStage("first").textures(TEXTURE2);
+    loader.addStage("second").textures(TEXTURE1);
+
+    assertFalse(loader.isFinished());
+    assertEquals(0f, loader.getProgress());
+    while (!loader.update(1)) {
+      assertTrue(loader.getProgress() < 1f);
+    }
+
+    InOrder order = inOrder(assetManager);
+    order.verify(assetManager).load(TEXTURE2, Texture.class);
+    order.verify(assetManager).load(TEXTURE1, Texture.class);
+    assertTrue(loader.isFinished());
+    assertEquals(1f, loader.getProgress());
+    assertNull(loader.getCurrentStageName());
+    assertTrue(assetManager.isLoaded(TEXTURE1));
+    assertTrue(assetManager.isLoaded(TEXTURE2));
+  }
+
+  @Test
+  void shouldFinishWhenAssetsAreMissing() {
+    StagedAssetLoader loader = new StagedAssetLoader(new ResourceService(spy(AssetManager.class)));
+    loader.addStage("first").textures("test/files/missing.png", TEXTURE1);
+
+    while (!loader.update(1)) {
+      ;
+    }
+    assertTrue(loader.isFinished());
+    assertEquals(1f, loader.getProgress());
+  }
+
+  @Test
+  void shouldNotAddStagesOnceStarted() {
+    StagedAssetLoader loader = new StagedAssetLoader(new ResourceService(spy(AssetManager.class)));
+    loader.update(1);
+    assertThrows(IllegalStateException.class, () -> loader.addStage("late"));
+  }
+}
@@ -0,0 +1,100 @@
+package com.csse3200.game.services;
+
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(GameExtension.class)
+class TimerServiceTest {
+  private GameTime gameTime;
+  private TimerService timerService;
+
+  @BeforeEach
+  void beforeEach() {
+    gameTime = mock(GameTime.class);
+    when(gameTime.getTime()).thenReturn(0L);
+    timerService = new TimerService(gameTime);
+  }
+
+  @Test
+  void shouldRunOnceDue() {
+    Runnable callback = mock(Runnable.class);
+    GameTimer timer = timerService.schedule(callback, 0.5f);
+    assertTrue(timer.isScheduled());
+
+    advanceTo(499L);
+    verify(callback, never()).run();
+
+    advanceTo(520L);
+    verify(callback).run();
+    assertFalse(timer.isScheduled());
+    assertEquals(0, timerService.getScheduledCount());
+
+    advanceTo(2000L);
+    verify(callback).run();
+  }
+
+  @Test
+  void shouldRepeat() {
+    Runnable callback = mock(Runnable.class);
+    timerService.create(callback).scheduleRepeating(0.1f, 0.1f);
+
+    for (long time = 0; time < 1050L; time += 20L) {
+      advanceTo(time);
+    }
+    verify(callback, times(10)).run();
+    assertEquals(1, timerService.getScheduledCount());
+  }
+
+  @Test
+  void shouldNotRunCancelled() {
+    Runnable callback = mock(Runnable.class);
+    GameTimer timer = timerService.schedule(callback, 0.1f);
+    timer.cancel();
+    assertFalse(timer.isScheduled());
+
+    advanceTo(1000L);
+    verify(callback, never()).run();
+    assertEquals(0, timerService.getScheduledCount());
+  }
+
+  @Test
+  void shouldRunInDeadlineOrder() {
+    List<Integer> order = new ArrayList<>();
+    timerService.schedule(() -> order.add(3), 0.3f);
+    timerService.schedule(() -> order.add(1), 0.1f);
+    // Further away than a turn of the wheel
+    timerService.schedule(() -> order.add(4), 20f);
+    timerService.schedule(() -> order.add(2), 0.2f);
+
+    advanceTo(1000L);
+    assertEquals(List.of(1, 2, 3), order);
+
+    advanceTo(19999L);
+    assertEquals(List.of(1, 2, 3), order);
+    advanceTo(20000L);
+    assertEquals(List.of(1, 2, 3, 4), order);
+  }
+
+  @Test
+  void shouldLetCallbacksCancelTimers() {
+    Runnable cancelled = mock(Runnable.class);
+    GameTimer other = timerService.schedule(cancelled, 0.2f);
+    timerService.schedule(other::cancel, 0.1f);
+
+    advanceTo(1000L);
+    verify(cancelled, never()).run();
+  }
+
+  private void advanceTo(long time) {
+    when(gameTime.getTime()).thenReturn(time);
+    timerService.update();
+  }
+}
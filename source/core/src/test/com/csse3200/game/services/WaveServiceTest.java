@@ -8,6 +8,10 @@ import com.csse3200.game.physics.PhysicsService;
 import com.csse3200.game.rendering.RenderService;
 import org.junit.jupiter.api.Test;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import com.csse3200.game.events.listeners.EventListener1;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -72,5 +76,19 @@ public class WaveServiceTest {
         assertEquals(!gamePaused, ServiceLocator.getWaveService().getGamePaused());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldOnlyAnnounceEnemyCountChanges() {
+        WaveService waveService = ServiceLocator.getWaveService();
+        EventListener1<Integer> listener = mock(EventListener1.class);
+        waveService.getEvents().addListener("enemyCountChanged", listener);
+
+        waveService.setEnemyCount(3);
+        waveService.setEnemyCount(3);
+        verify(listener, times(1)).handle(3);
 
+        waveService.updateEnemyCount();
+        verify(listener).handle(2);
+        verify(listener, never()).handle(0);
+    }
 }
@@ -40,4 +40,23 @@ class SortedIntMapTest {
     assertNull(map.get(3));
     assertNull(map.get(0));
   }
-}
\ No newline at end of file
+
+  @Test
+  void shouldIterateInKeyOrder() {
+    SortedIntMap<Integer> map = new SortedIntMap<>(2);
+    map.put(5, 50);
+    map.put(-1, -10);
+    map.put(3, 30);
+    map.put(10, 100);
+    map.put(3, 31);
+
+    int[] expected = {-10, 31, 50, 100};
+    int i = 0;
+    for (Integer value : map) {
+      assertEquals(expected[i++], value);
+    }
+    assertEquals(expected.length, i);
+    assertTrue(map.containsKey(10));
+    assertFalse(map.containsKey(4));
+  }
+}
@@ -0,0 +1,148 @@
+package com.csse3200.game.desktop;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import com.csse3200.game.screens.TowerType;
+import com.csse3200.game.simulation.SimulationReport;
+import com.csse3200.game.simulation.WaveSimulation;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+
+/**
+ * Runs seeded wave simulations without a window, and writes a CSV row of results for each one. See
+ * {@link WaveSimulation}. Run with the assets directory as the working directory, e.g. through the
+ * desktop project's simulate task:
+ *
+ * <pre>
+ * ./gradlew desktop:simulate --args="--level 1 --seed 100 --trials 50 --towers WEAPON:2:0,FIRE:3:1"
+ * </pre>
+ *
+ * <p>Options:
+ *
+ * <ul>
+ *   <li>--level: level to play, 0 desert, 1 ice or 2 lava. Defaults to 0.
+ *   <li>--seed: seed of the first trial. Each trial after it uses the next seed. Defaults to 0.
+ *   <li>--trials: number of trials to run one after another. Defaults to 1.
+ *   <li>--towers: comma separated TYPE:column:lane placements. Defaults to a weapon tower in
+ *       column 2 of every lane.
+ *   <li>--max-seconds: simulated seconds before a trial is abandoned. Defaults to 30 minutes.
+ *   <li>--out: file to write results to. Defaults to standard out.
+ * </ul>
+ *
+ * <p>Trials in one process run one at a time, since game services are global. Run several
+ * processes with different seed ranges to use more cores.
+ */
+public class SimulationLauncher {
+  private static final int LANES = 6;
+  private static final int DEFAULT_COLUMN = 2;
+
+  private int level = 0;
+  private long seed = 0;
+  private int trials = 1;
+  private String towers = null;
+  private float maxSeconds = 30 * 60f;
+  private String out = null;
+
+  public static void main(String[] args) {
+    SimulationLauncher launcher = new SimulationLauncher();
+    launcher.parseArgs(args);
+
+    HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+    // Don't run the application loop, the simulation drives its own time
+    config.updatesPerSecond = -1;
+    new HeadlessApplication(new ApplicationAdapter() {}, config);
+    // Textures are still loaded for entities to be built, so stub out OpenGL
+    Gdx.gl20 = createNoOpGl();
+    Gdx.gl = Gdx.gl20;
+
+    int exitCode = 0;
+    try {
+      launcher.runTrials();
+    } catch (IOException e) {
+      System.err.println("Could not write results: " + e.getMessage());
+      exitCode = 1;
+    }
+    Gdx.app.exit();
+    System.exit(exitCode);
+  }
+
+  private void parseArgs(String[] args) {
+    for (int i = 0; i + 1 < args.length; i += 2) {
+      String value = args[i + 1];
+      switch (args[i]) {
+        case "--level" -> level = Integer.parseInt(value);
+        case "--seed" -> seed = Long.parseLong(value);
+        case "--trials" -> trials = Integer.parseInt(value);
+        case "--towers" -> towers = value;
+        case "--max-seconds" -> maxSeconds = Float.parseFloat(value);
+        case "--out" -> out = value;
+        default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+      }
+    }
+  }
+
+  private void runTrials() throws IOException {
+    Writer writer = out == null ? new PrintWriter(System.out) : new FileWriter(out);
+    try (PrintWriter results = new PrintWriter(writer)) {
+      results.println(SimulationReport.CSV_HEADER);
+      for (int i = 0; i < trials; i++) {
+        WaveSimulation simulation = new WaveSimulation(seed + i, level).setMaxSeconds(maxSeconds);
+        addTowers(simulation);
+        results.println(simulation.run().toCsvRow());
+        results.flush();
+      }
+    }
+  }
+
+  private void addTowers(WaveSimulation simulation) {
+    if (towers == null) {
+      for (int lane = 0; lane < LANES; lane++) {
+        simulation.addTower(TowerType.WEAPON, DEFAULT_COLUMN, lane);
+      }
+      return;
+    }
+    for (String placement : towers.split(",")) {
+      String[] parts = placement.split(":");
+      simulation.addTower(
+          TowerType.valueOf(parts[0]), Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+    }
+  }
+
+  /**
+   * Create an OpenGL implementation which does nothing, except report shaders as compiled and
+   * linked so that sprite batches can be created. Methods return 0, false or null.
+   */
+  private static GL20 createNoOpGl() {
+    return (GL20)
+        Proxy.newProxyInstance(
+            GL20.class.getClassLoader(),
+            new Class<?>[] {GL20.class},
+            (proxy, method, methodArgs) -> {
+              String name = method.getName();
+              if (name.equals("glGetShaderiv") || name.equals("glGetProgramiv")) {
+                int pname = (int) methodArgs[1];
+                boolean ok = pname == GL20.GL_COMPILE_STATUS || pname == GL20.GL_LINK_STATUS;
+                ((IntBuffer) methodArgs[2]).put(0, ok ? 1 : 0);
+                return null;
+              }
+              Class<?> type = method.getReturnType();
+              if (type == boolean.class) {
+                return false;
+              } else if (type == int.class) {
+                return 0;
+              } else if (type == float.class) {
+                return 0f;
+              } else if (type == String.class) {
+                return "";
+              }
+              return null;
+            });
+  }
+}